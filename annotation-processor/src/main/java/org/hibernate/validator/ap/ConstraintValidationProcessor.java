@@ -21,6 +21,7 @@
 
 import org.hibernate.validator.ap.internal.ClassVisitor;
 import org.hibernate.validator.ap.internal.ConstraintAnnotationVisitor;
+import org.hibernate.validator.ap.internal.ConstraintIndexGenerator;
 import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.internal.util.Configuration;
 import org.hibernate.validator.ap.internal.util.MessagerAdapter;
@@ -43,6 +44,12 @@
  * set to {@code false} in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is {@code true}.</li>
+ * <li>{@code generateConstraintIndex}: Whether the constraint index, listing the
+ * elements of the compiled classes which hold constraints, shall be generated in
+ * {@code META-INF/hibernate-validator/constraint.index}. Hibernate Validator uses
+ * it to skip the inspection of the other elements when its
+ * {@code hibernate.validator.constraint_index} property is enabled. Must be given
+ * as String parsable by {@link Boolean#parseBoolean}. Default is {@code false}.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -52,7 +59,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_CONSTRAINT_INDEX_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -71,6 +79,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Generates the constraint index if enabled, {@code null} otherwise.
+	 */
+	private ConstraintIndexGenerator constraintIndexGenerator;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -78,6 +91,10 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.isGenerateConstraintIndex() ) {
+			constraintIndexGenerator = new ConstraintIndexGenerator( processingEnv, messager );
+		}
 	}
 
 	@Override
@@ -124,6 +141,15 @@ public boolean process(
 			element.accept( classVisitor, null );
 		}
 
+		if ( constraintIndexGenerator != null ) {
+			for ( Element element : roundEnvironment.getRootElements() ) {
+				constraintIndexGenerator.addRootElement( element );
+			}
+			if ( roundEnvironment.processingOver() ) {
+				constraintIndexGenerator.writeIndex();
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
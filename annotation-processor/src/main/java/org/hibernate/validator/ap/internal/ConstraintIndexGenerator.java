@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.internal;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper;
+import org.hibernate.validator.ap.internal.util.MessagerAdapter;
+import org.hibernate.validator.ap.internal.util.TypeNames.BeanValidationTypes;
+
+/**
+ * Generates the constraint index used by Hibernate Validator when its {@code constraintIndex} option is enabled to
+ * skip the inspection of the elements which do not hold any annotation related to Bean Validation.
+ * <p>
+ * The index lists all the classes compiled by the current compilation, one per line, with the state of the class
+ * itself and of each of its fields, methods and constructors: uppercase if the element holds annotations related to
+ * Bean Validation, including type use annotations and annotations of unknown types, lowercase otherwise. See the
+ * {@code ConstraintIndex} class of the engine for the details of the format.
+ * <p>
+ * The classes which are not part of the compilation, for instance in case of an incremental compilation, are not
+ * listed, so Hibernate Validator inspects them as usual.
+ */
+public class ConstraintIndexGenerator {
+
+	/**
+	 * The location of the index, relative to the class output.
+	 */
+	public static final String CONSTRAINT_INDEX_RESOURCE = "META-INF/hibernate-validator/constraint.index";
+
+	private final ProcessingEnvironment processingEnvironment;
+
+	private final MessagerAdapter messager;
+
+	private final Elements elementUtils;
+
+	private final ConstraintHelper constraintHelper;
+
+	/**
+	 * The description of the indexed classes, sorted by binary name so that the generated index is reproducible.
+	 */
+	private final Map<String, String> classDescriptions = new TreeMap<>();
+
+	public ConstraintIndexGenerator(ProcessingEnvironment processingEnvironment, MessagerAdapter messager) {
+		this.processingEnvironment = processingEnvironment;
+		this.messager = messager;
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.constraintHelper = new ConstraintHelper(
+				processingEnvironment.getTypeUtils(),
+				new AnnotationApiHelper( processingEnvironment.getElementUtils(), processingEnvironment.getTypeUtils() )
+		);
+	}
+
+	/**
+	 * Adds the given root element of the current round, and the types nested in it, to the index.
+	 */
+	public void addRootElement(Element element) {
+		if ( element instanceof TypeElement ) {
+			addType( (TypeElement) element );
+		}
+	}
+
+	/**
+	 * Writes the index to the class output.
+	 */
+	public void writeIndex() {
+		try {
+			FileObject index = processingEnvironment.getFiler().createResource( StandardLocation.CLASS_OUTPUT, "", CONSTRAINT_INDEX_RESOURCE );
+			try ( Writer writer = new OutputStreamWriter( index.openOutputStream(), StandardCharsets.UTF_8 ) ) {
+				writer.write( "# Generated by the Hibernate Validator annotation processor\n" );
+				for ( Map.Entry<String, String> classDescription : classDescriptions.entrySet() ) {
+					writer.write( classDescription.getKey() );
+					writer.write( classDescription.getValue() );
+					writer.write( '\n' );
+				}
+			}
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Diagnostic.Kind.WARNING,
+					"Unable to write the constraint index " + CONSTRAINT_INDEX_RESOURCE + ": " + e.getMessage()
+			);
+		}
+	}
+
+	private void addType(TypeElement typeElement) {
+		if ( typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS ) {
+			// the constructors of the local and anonymous classes also get the captured variables as parameters, which
+			// are unknown here: a constructor could be mistaken for another one with the same parameter count seen
+			// through reflection, so these classes are not indexed and are inspected as usual
+			return;
+		}
+		if ( typeElement.getKind() == ElementKind.ANNOTATION_TYPE || typeElement.getKind() == ElementKind.RECORD ) {
+			// annotation types are not validated and the annotations of the record components are propagated to members
+			// generated by the compiler, so we keep the usual inspection for both and only index their nested types
+			for ( Element enclosedElement : typeElement.getEnclosedElements() ) {
+				if ( enclosedElement instanceof TypeElement ) {
+					addType( (TypeElement) enclosedElement );
+				}
+			}
+			return;
+		}
+
+		StringBuilder description = new StringBuilder();
+		appendToken( description, 't', "", isTypeAnnotated( typeElement ) );
+
+		Map<String, Boolean> methods = new TreeMap<>();
+		for ( Element enclosedElement : typeElement.getEnclosedElements() ) {
+			switch ( enclosedElement.getKind() ) {
+				case FIELD:
+				case ENUM_CONSTANT:
+					appendToken( description, 'f', enclosedElement.getSimpleName().toString(), isAnnotated( enclosedElement, enclosedElement.asType() ) );
+					break;
+				case METHOD:
+					ExecutableElement method = (ExecutableElement) enclosedElement;
+					methods.merge( method.getSimpleName() + "/" + method.getParameters().size(), isAnnotated( method ), Boolean::logicalOr );
+					break;
+				case CONSTRUCTOR:
+					ExecutableElement constructor = (ExecutableElement) enclosedElement;
+					appendToken( description, 'c', String.valueOf( constructor.getParameters().size() + getImplicitParameterCount( typeElement ) ),
+							isAnnotated( constructor ) );
+					break;
+				case CLASS:
+				case INTERFACE:
+				case ENUM:
+				case RECORD:
+				case ANNOTATION_TYPE:
+					addType( (TypeElement) enclosedElement );
+					break;
+				default:
+					break;
+			}
+		}
+		for ( Map.Entry<String, Boolean> method : methods.entrySet() ) {
+			appendToken( description, 'm', method.getKey(), method.getValue() );
+		}
+
+		classDescriptions.put( elementUtils.getBinaryName( typeElement ).toString(), description.toString() );
+	}
+
+	private static void appendToken(StringBuilder description, char kind, String name, boolean annotated) {
+		description.append( ' ' )
+				.append( annotated ? Character.toUpperCase( kind ) : kind )
+				.append( name );
+	}
+
+	/**
+	 * The parameters added by the compiler to the constructors, which are part of the parameter count seen through
+	 * reflection. Only called for the top level and member classes, see {@link #addType(TypeElement)}.
+	 */
+	private static int getImplicitParameterCount(TypeElement typeElement) {
+		if ( typeElement.getKind() == ElementKind.ENUM ) {
+			// the name and the ordinal of the constant
+			return 2;
+		}
+		if ( typeElement.getKind() == ElementKind.CLASS && typeElement.getNestingKind() == NestingKind.MEMBER
+				&& !typeElement.getModifiers().contains( Modifier.STATIC ) ) {
+			// the enclosing instance
+			return 1;
+		}
+		return 0;
+	}
+
+	private boolean isTypeAnnotated(TypeElement typeElement) {
+		if ( hasRelevantAnnotation( typeElement.getAnnotationMirrors() ) ) {
+			return true;
+		}
+		return hasAnnotatedTypeParameter( typeElement.getTypeParameters() );
+	}
+
+	private boolean isAnnotated(ExecutableElement executable) {
+		if ( isAnnotated( executable, executable.getReturnType() ) ) {
+			return true;
+		}
+		if ( hasAnnotatedTypeParameter( executable.getTypeParameters() ) ) {
+			return true;
+		}
+		for ( VariableElement parameter : executable.getParameters() ) {
+			if ( isAnnotated( parameter, parameter.asType() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isAnnotated(Element element, TypeMirror type) {
+		return hasRelevantAnnotation( element.getAnnotationMirrors() ) || isAnnotated( type );
+	}
+
+	private boolean hasAnnotatedTypeParameter(List<? extends TypeParameterElement> typeParameters) {
+		for ( TypeParameterElement typeParameter : typeParameters ) {
+			if ( hasRelevantAnnotation( typeParameter.getAnnotationMirrors() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Looks for the type use annotations in the given type and its type arguments, array components and wildcard
+	 * bounds. The bounds of the type variables are not inspected as they are not taken into account by the engine.
+	 */
+	private boolean isAnnotated(TypeMirror type) {
+		if ( type == null ) {
+			return false;
+		}
+		if ( hasRelevantAnnotation( type.getAnnotationMirrors() ) ) {
+			return true;
+		}
+
+		switch ( type.getKind() ) {
+			case DECLARED:
+				for ( TypeMirror typeArgument : ( (DeclaredType) type ).getTypeArguments() ) {
+					if ( isAnnotated( typeArgument ) ) {
+						return true;
+					}
+				}
+				return false;
+			case ARRAY:
+				return isAnnotated( ( (ArrayType) type ).getComponentType() );
+			case WILDCARD:
+				return isAnnotated( ( (WildcardType) type ).getExtendsBound() ) || isAnnotated( ( (WildcardType) type ).getSuperBound() );
+			case ERROR:
+				// we can't know what the type will be at runtime
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private boolean hasRelevantAnnotation(List<? extends AnnotationMirror> annotationMirrors) {
+		for ( AnnotationMirror annotationMirror : annotationMirrors ) {
+			if ( isRelevant( annotationMirror ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isRelevant(AnnotationMirror annotationMirror) {
+		if ( annotationMirror.getAnnotationType().getKind() == TypeKind.ERROR ) {
+			// the annotation type is not known yet, it might be a constraint
+			return true;
+		}
+
+		switch ( constraintHelper.getAnnotationType( annotationMirror ) ) {
+			case NO_CONSTRAINT_ANNOTATION:
+				String annotationName = ( (TypeElement) annotationMirror.getAnnotationType().asElement() ).getQualifiedName().toString();
+				return BeanValidationTypes.CONVERT_GROUP.equals( annotationName ) || BeanValidationTypes.CONVERT_GROUP_LIST.equals( annotationName );
+			default:
+				return true;
+		}
+	}
+}
@@ -34,6 +34,12 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating the constraint index used by Hibernate Validator to skip the
+	 * inspection of the elements which do not hold any constraint.
+	 */
+	public static final String GENERATE_CONSTRAINT_INDEX_PROCESSOR_OPTION = "generateConstraintIndex";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -45,11 +51,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean generateConstraintIndex;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.generateConstraintIndex = Boolean.parseBoolean( options.get( GENERATE_CONSTRAINT_INDEX_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -80,6 +89,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether the constraint index shall be generated or not.
+	 *
+	 * @return {@code true} if the constraint index shall be generated, {@code false} otherwise
+	 */
+	public boolean isGenerateConstraintIndex() {
+		return generateConstraintIndex;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
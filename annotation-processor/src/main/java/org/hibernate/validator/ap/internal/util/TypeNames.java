@@ -20,6 +20,8 @@ public static class BeanValidationTypes {
 		public static final String CONSTRAINT = JAVAX_VALIDATION + ".Constraint";
 		public static final String CONSTRAINT_TARGET = JAVAX_VALIDATION + ".ConstraintTarget";
 		public static final String CONSTRAINT_VALIDATOR = JAVAX_VALIDATION + ".ConstraintValidator";
+		public static final String CONVERT_GROUP = JAVAX_VALIDATION + ".groups.ConvertGroup";
+		public static final String CONVERT_GROUP_LIST = CONVERT_GROUP + ".List";
 		public static final String GROUP_SEQUENCE = JAVAX_VALIDATION + ".GroupSequence";
 		public static final String PAYLOAD = JAVAX_VALIDATION + ".Payload";
 		public static final String VALID = JAVAX_VALIDATION + ".Valid";
@@ -95,6 +97,7 @@ public static class HibernateValidatorTypes {
 		public static final String NOT_BLANK = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".NotBlank";
 		public static final String NOT_EMPTY = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".NotEmpty";
 		public static final String SCRIPT_ASSERT = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".ScriptAssert";
+		public static final String EXPRESSION_ASSERT = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".ExpressionAssert";
 		public static final String UNIQUE_ELEMENTS = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".UniqueElements";
 		public static final String URL = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".URL";
 		public static final String DURATION_MIN = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".time.DurationMin";
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.validator.ap.internal.ConstraintIndexGenerator;
+import org.hibernate.validator.ap.internal.util.Configuration;
+import org.hibernate.validator.ap.testmodel.constraintindex.ModelWithConstraintIndex;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the generation of the constraint index.
+ */
+public class ConstraintIndexIT extends ConstraintValidationProcessorITBase {
+
+	@Test
+	public void testConstraintIndexGeneration() throws IOException {
+		File indexFile = new File( CompilerTestHelper.getProcessorOutputDir(), ConstraintIndexGenerator.CONSTRAINT_INDEX_RESOURCE );
+		Files.deleteIfExists( indexFile.toPath() );
+
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.GENERATE_CONSTRAINT_INDEX_PROCESSOR_OPTION, "true" ),
+				compilerHelper.getSourceFile( ModelWithConstraintIndex.class )
+		);
+
+		assertTrue( compilationResult );
+
+		Map<String, String> classDescriptions = new TreeMap<>();
+		for ( String line : Files.readAllLines( indexFile.toPath(), StandardCharsets.UTF_8 ) ) {
+			if ( !line.startsWith( "#" ) ) {
+				int classNameEnd = line.indexOf( ' ' );
+				classDescriptions.put( line.substring( 0, classNameEnd ), line.substring( classNameEnd + 1 ) );
+			}
+		}
+
+		String className = ModelWithConstraintIndex.class.getName();
+		Map<String, String> expectedClassDescriptions = new TreeMap<>();
+		expectedClassDescriptions.put( className,
+				"T Fconstrained funconstrained FcontainerElementConstraint Fcascaded c0 C1 manonymous/1 mgetUnconstrained/0 mlocal/1 MmultiValued/0 moverloaded/1 "
+						+ "Moverloaded/2 MwildcardBound/0" );
+		// the enclosing instance is a parameter of the constructors of the inner classes
+		expectedClassDescriptions.put( className + "$Inner", "t funconstrained C2" );
+		// as are the name and the ordinal for the enums
+		expectedClassDescriptions.put( className + "$Status", "t c2 fACTIVE munconstrained/0 mvalueOf/1 mvalues/0" );
+		expectedClassDescriptions.put( className + "$Extended", "t" );
+		// the local and anonymous classes are not indexed as their constructors also get the captured variables
+
+		assertEquals( classDescriptions, expectedClassDescriptions );
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.testmodel.constraintindex;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+@GroupSequence({ ModelWithConstraintIndex.class, ModelWithConstraintIndex.Extended.class })
+public class ModelWithConstraintIndex {
+
+	@NotNull
+	private String constrained;
+
+	private String unconstrained;
+
+	private Map<String, List<@NotNull String>> containerElementConstraint;
+
+	@Valid
+	@ConvertGroup(from = Default.class, to = Extended.class)
+	private ModelWithConstraintIndex cascaded;
+
+	public ModelWithConstraintIndex() {
+	}
+
+	public ModelWithConstraintIndex(@Min(1) int parameterConstraint) {
+	}
+
+	public String getUnconstrained() {
+		return unconstrained;
+	}
+
+	public void overloaded(String unconstrained) {
+	}
+
+	public void overloaded(@NotNull String constrained, int unconstrained) {
+	}
+
+	@Min.List({ @Min(1), @Min(2) })
+	public int multiValued() {
+		return 2;
+	}
+
+	public List<? extends @NotNull String> wildcardBound() {
+		return null;
+	}
+
+	public Object local(String captured) {
+		// the enclosing instance and the captured variables are parameters of the constructors of the local classes
+		class Local {
+
+			Local(@NotNull String constrained) {
+			}
+
+			Local(String unconstrained, int other) {
+			}
+
+			@Override
+			public String toString() {
+				return captured;
+			}
+		}
+
+		return new Local( captured );
+	}
+
+	public Object anonymous(String captured) {
+		return new Object() {
+
+			@NotNull
+			private String constrained = captured;
+		};
+	}
+
+	public class Inner {
+
+		private String unconstrained;
+
+		public Inner(@NotNull String constrained) {
+		}
+	}
+
+	public enum Status {
+
+		ACTIVE;
+
+		public void unconstrained() {
+		}
+	}
+
+	public interface Extended {
+	}
+}
@@ -16,6 +16,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.Processor;
@@ -142,6 +143,26 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 		return compile( annotationProcessor, diagnostics, null, null, null, dependencies, sourceFiles );
 	}
 
+	/**
+	 * Creates and executes a {@link CompilationTask} using the given processor options in addition to the default ones.
+	 *
+	 * @param annotationProcessor An annotation processor to be attached to the task.
+	 * @param diagnostics An diagnostics listener to be attached to the task.
+	 * @param processorOptions The processor options, by name.
+	 * @param sourceFiles The source files to be compiled.
+	 *
+	 * @return True, if the source files could be compiled successfully, false otherwise.
+	 */
+	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, Map<String, String> processorOptions,
+			File... sourceFiles) {
+		List<String> options = new ArrayList<>();
+		for ( Map.Entry<String, String> processorOption : processorOptions.entrySet() ) {
+			options.add( StringHelper.format( "-A%s=%s", processorOption.getKey(), processorOption.getValue() ) );
+		}
+
+		return compile( annotationProcessor, diagnostics, options, EnumSet.allOf( Library.class ), sourceFiles );
+	}
+
 
 	/**
 	 * Creates and executes a {@link CompilationTask} using the given input.
@@ -161,6 +182,11 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 	 */
 	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, Kind diagnosticKind, Boolean verbose, Boolean allowMethodConstraints,
 			EnumSet<Library> dependencies, File... sourceFiles) {
+		return compile( annotationProcessor, diagnostics, extractOptions( diagnosticKind, verbose, allowMethodConstraints ), dependencies, sourceFiles );
+	}
+
+	private boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, List<String> options,
+			EnumSet<Library> dependencies, File... sourceFiles) {
 		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
 		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
 		try {
@@ -171,7 +197,6 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 			throw new RuntimeException( e );
 		}
 
-		final List<String> options = extractOptions( diagnosticKind, verbose, allowMethodConstraints );
 		CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null, compilationUnits );
 		task.setProcessors( Collections.singletonList( annotationProcessor ) );
 
@@ -233,6 +258,15 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * Returns the directory in which the classes and resources generated by the compilation are written.
+	 *
+	 * @return the output directory of the compilation
+	 */
+	public static File getProcessorOutputDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
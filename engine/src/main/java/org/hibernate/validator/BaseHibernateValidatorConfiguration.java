@@ -9,6 +9,8 @@
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.validation.Configuration;
 import jakarta.validation.ConstraintValidatorContext;
@@ -23,8 +25,11 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -179,6 +184,87 @@
 	@Incubating
 	String FAIL_FAST_ON_PROPERTY_VIOLATION = "hibernate.validator.fail_fast_on_property_violation";
 
+	/**
+	 * Property corresponding to the {@link #propertyAccessorStrategy} method.
+	 * Accepts {@code reflection} or {@code generated}. Defaults to {@code reflection}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String PROPERTY_ACCESSOR_STRATEGY = "hibernate.validator.property_accessor_strategy";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadedValidation} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String PARALLEL_CASCADED_VALIDATION = "hibernate.validator.parallel_cascaded_validation";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadedValidationThreshold} method.
+	 * Accepts a strictly positive integer. Defaults to {@code 1000}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String PARALLEL_CASCADED_VALIDATION_THRESHOLD = "hibernate.validator.parallel_cascaded_validation_threshold";
+
+	/**
+	 * Property corresponding to the {@link #lazyConstraintViolations} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String LAZY_CONSTRAINT_VIOLATIONS = "hibernate.validator.lazy_constraint_violations";
+
+	/**
+	 * Property corresponding to the {@link #constraintIndex} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String CONSTRAINT_INDEX = "hibernate.validator.constraint_index";
+
+	/**
+	 * Property corresponding to the {@link #beanMetaDataRetention} method.
+	 * Accepts {@code strong}, {@code soft} or {@code bounded}. Defaults to {@code soft}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String BEAN_METADATA_RETENTION = "hibernate.validator.bean_metadata_retention";
+
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCacheMaxSize} method.
+	 * Accepts a strictly positive integer. Defaults to {@code 1000}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_MAX_SIZE = "hibernate.validator.bean_metadata_cache_max_size";
+
+	/**
+	 * Property corresponding to the {@link #constraintValidatorCacheMaxContexts} method.
+	 * Accepts a strictly positive integer. Defaults to {@code 16}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String CONSTRAINT_VALIDATOR_CACHE_MAX_CONTEXTS = "hibernate.validator.constraint_validator_cache_max_contexts";
+
+	/**
+	 * Property corresponding to the {@link #regularExpressionEngine} method.
+	 * Accepts {@code backtracking} or {@code linear}. Defaults to {@code backtracking}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String REGULAR_EXPRESSION_ENGINE = "hibernate.validator.regular_expression_engine";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -522,4 +608,164 @@ default S locales(Locale... locales) {
 	 */
 	@Incubating
 	S processedBeansTrackingVoter(ProcessedBeansTrackingVoter processedBeanTrackingVoter);
+
+	/**
+	 * Allows setting how the values of the constrained and cascaded fields and getters are read from the validated
+	 * beans.
+	 * <p>
+	 * As the property accessors are created when building the constraint mappings, this setting needs to be applied
+	 * before calling {@link #createConstraintMapping()} for it to be taken into account by programmatic mappings.
+	 *
+	 * @param propertyAccessorStrategy the {@link PropertyAccessorStrategy} to be used
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S propertyAccessorStrategy(PropertyAccessorStrategy propertyAccessorStrategy);
+
+	/**
+	 * En- or disables the parallel validation of the elements of large cascaded containers.
+	 * <p>
+	 * When enabled, the elements of a cascaded {@link java.util.Collection} or array containing at least
+	 * {@link #parallelCascadedValidationThreshold(int) threshold} elements are split into chunks validated
+	 * concurrently using the {@link #parallelCascadedValidationExecutor(Executor) configured executor}. The resulting
+	 * constraint violations are the same as the ones of a sequential validation.
+	 * <p>
+	 * The elements of the containers nested into a container validated in parallel are validated sequentially, as are
+	 * the elements of all containers when the fail fast mode is enabled.
+	 * <p>
+	 * The constraint validators, {@link TraversableResolver} and the other components involved in the validation of
+	 * the elements need to be thread-safe, as required by the specification.
+	 *
+	 * @param enabled {@code true} to enable the parallel validation of large containers, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S parallelCascadedValidation(boolean enabled);
+
+	/**
+	 * Allows setting the minimum number of elements a cascaded container has to contain for its elements to be
+	 * validated in parallel. Defaults to {@code 1000}.
+	 *
+	 * @param threshold the minimum number of elements, strictly positive
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S parallelCascadedValidationThreshold(int threshold);
+
+	/**
+	 * Allows setting the {@link Executor} used to validate the elements of large cascaded containers in parallel.
+	 * <p>
+	 * Any executor might be used, e.g. a dedicated {@link ForkJoinPool} or an executor starting a virtual thread per
+	 * task. If not set, {@link ForkJoinPool#commonPool()} is used.
+	 *
+	 * @param executor the executor used to validate the elements in parallel
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S parallelCascadedValidationExecutor(Executor executor);
+
+	/**
+	 * En- or disables the lazy interpolation of the messages of the constraint violations.
+	 * <p>
+	 * When enabled, the message of a {@link jakarta.validation.ConstraintViolation} is only interpolated the first
+	 * time {@link jakarta.validation.ConstraintViolation#getMessage()} is called, which avoids the cost of the
+	 * interpolation for the violations whose message is never read.
+	 * <p>
+	 * As a consequence, the {@link jakarta.validation.MessageInterpolator} might be called after the validation call
+	 * returned, possibly from another thread, and an exception happening during the interpolation is thrown by
+	 * {@code getMessage()}. Also, two violations are considered equal if, among the other criteria, they share the
+	 * same message template, message parameters and expression variables, instead of the same interpolated message.
+	 *
+	 * @param enabled {@code true} to interpolate the messages lazily, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S lazyConstraintViolations(boolean enabled);
+
+	/**
+	 * En- or disables the use of the constraint index generated at build time by the annotation processor when its
+	 * {@code generateConstraintIndex} option is enabled.
+	 * <p>
+	 * When enabled, the annotations of the fields, methods and constructors listed as unannotated in the
+	 * {@code META-INF/hibernate-validator/constraint.index} resources visible from the class loader of a bean class
+	 * are not inspected when building the metadata of the bean, which reduces the cost of the first validation of a
+	 * given bean type. The classes which are not listed in an index are inspected as usual.
+	 * <p>
+	 * The index must be kept in sync with the compiled classes: an element listed as unannotated while it is
+	 * annotated would not be validated.
+	 *
+	 * @param enabled {@code true} to use the constraint index, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S constraintIndex(boolean enabled);
+
+	/**
+	 * Allows setting how long the metadata of the validated beans are kept once built. Defaults to
+	 * {@link BeanMetaDataRetention#SOFT}.
+	 * <p>
+	 * The statistics of the cache, including the number of evicted metadata, are exposed by
+	 * {@link HibernateValidatorFactory#getBeanMetaDataCacheStatistics()}.
+	 * <p>
+	 * This option is ignored by the predefined scope validator factory, which keeps the metadata of all its beans.
+	 *
+	 * @param beanMetaDataRetention the {@link BeanMetaDataRetention} to be used
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S beanMetaDataRetention(BeanMetaDataRetention beanMetaDataRetention);
+
+	/**
+	 * Allows setting the maximum number of bean types whose metadata are kept when the retention is
+	 * {@link BeanMetaDataRetention#BOUNDED}. Defaults to {@code 1000}.
+	 * <p>
+	 * The limit applies to each combination of parameter name provider, value extractors and method validation
+	 * configuration, as validators created with different ones do not share their metadata.
+	 *
+	 * @param maxSize the maximum number of bean types, strictly positive
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S beanMetaDataCacheMaxSize(int maxSize);
+
+	/**
+	 * Allows setting the maximum number of pairs of constraint validator factory and initialization context, other than
+	 * the default ones, whose constraint validators are cached. Defaults to {@code 16}.
+	 * <p>
+	 * A pair is used when a validator is obtained via {@link HibernateValidatorFactory#usingContext()} with e.g. a
+	 * specific {@link jakarta.validation.ConstraintValidatorFactory}. When the limit is reached, the constraint
+	 * validators of the least recently used pair are released via its factory. The constraint validators created via
+	 * the default factory and context are always cached.
+	 * <p>
+	 * This option is ignored by the predefined scope validator factory, which only uses the default factory and
+	 * context.
+	 *
+	 * @param maxContexts the maximum number of pairs, strictly positive
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S constraintValidatorCacheMaxContexts(int maxContexts);
+
+	/**
+	 * Allows setting the engine matching the regular expressions of the {@code @Pattern} and {@code @Email}
+	 * constraints. Defaults to {@link RegularExpressionEngine#BACKTRACKING}.
+	 * <p>
+	 * The engine may be overridden for a given constraint with the {@link RegularExpressionEngine.Linear} and
+	 * {@link RegularExpressionEngine.Backtracking} payloads.
+	 *
+	 * @param regularExpressionEngine the {@link RegularExpressionEngine} to be used
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S regularExpressionEngine(RegularExpressionEngine regularExpressionEngine);
 }
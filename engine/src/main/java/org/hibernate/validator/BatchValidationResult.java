@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * The result of the validation of a batch of beans with
+ * {@link HibernateValidatorValidator#validateAll(Iterable, Class[])}.
+ * <p>
+ * The beans are identified by their index in the batch, in iteration order. Only the violations of the invalid beans
+ * are kept so the footprint of the result does not depend on the number of valid beans.
+ *
+ * @param <T> the type of the validated beans
+ * @since 9.2
+ */
+@Incubating
+public interface BatchValidationResult<T> {
+
+	/**
+	 * @return the number of beans validated
+	 */
+	int size();
+
+	/**
+	 * @return {@code true} if all the beans of the batch are valid, {@code false} otherwise
+	 */
+	boolean isValid();
+
+	/**
+	 * @param index the index of the bean in the batch
+	 *
+	 * @return {@code true} if the bean at the given index is valid, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of the range of the batch
+	 */
+	boolean isValid(int index);
+
+	/**
+	 * @return the number of invalid beans
+	 */
+	int getInvalidCount();
+
+	/**
+	 * @return the indexes of the invalid beans, in ascending order
+	 */
+	int[] getInvalidIndexes();
+
+	/**
+	 * @param index the index of the bean in the batch
+	 *
+	 * @return the constraint violations of the bean at the given index or an empty set if the bean is valid
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of the range of the batch
+	 */
+	Set<ConstraintViolation<T>> getConstraintViolations(int index);
+}
@@ -6,6 +6,7 @@
 package org.hibernate.validator;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -190,4 +191,57 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnPropertyViolation);
+
+	/**
+	 * En- or disables the parallel validation of the elements of large cascaded containers.
+	 *
+	 * @param enabled {@code true} to enable the parallel validation of large containers, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#parallelCascadedValidation(boolean)
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext parallelCascadedValidation(boolean enabled);
+
+	/**
+	 * Define the minimum number of elements a cascaded container has to contain for its elements to be validated in
+	 * parallel.
+	 *
+	 * @param threshold the minimum number of elements, strictly positive
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#parallelCascadedValidationThreshold(int)
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext parallelCascadedValidationThreshold(int threshold);
+
+	/**
+	 * Define the {@link Executor} used to validate the elements of large cascaded containers in parallel.
+	 *
+	 * @param executor the executor used to validate the elements in parallel
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#parallelCascadedValidationExecutor(Executor)
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext parallelCascadedValidationExecutor(Executor executor);
+
+	/**
+	 * En- or disables the lazy interpolation of the messages of the constraint violations.
+	 *
+	 * @param enabled {@code true} to interpolate the messages lazily, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#lazyConstraintViolations(boolean)
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext lazyConstraintViolations(boolean enabled);
 }
@@ -6,11 +6,15 @@
 package org.hibernate.validator;
 
 import java.time.Duration;
+import java.util.Set;
 
 import jakarta.validation.ValidatorFactory;
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+import org.hibernate.validator.metadata.MetaDataFootprint;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
@@ -67,6 +71,68 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	PropertyNodeNameProvider getPropertyNodeNameProvider();
 
+	/**
+	 * Returns the statistics of the cache holding the metadata of the validated beans, e.g. to check whether metadata
+	 * are evicted and built again with the configured {@link BeanMetaDataRetention}.
+	 *
+	 * @return a snapshot of the statistics of the bean metadata cache of the current {@link ValidatorFactory}
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics();
+
+	/**
+	 * Returns the footprint of the constraint metadata currently kept by the factory: the numbers of constraints and of
+	 * the distinct descriptors, trees and validators they share, and an estimate of the retained heap.
+	 *
+	 * @return a snapshot of the footprint of the constraint metadata of the current {@link ValidatorFactory}
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	MetaDataFootprint getMetaDataFootprint();
+
+	/**
+	 * Eagerly performs the work done by the first validations of the given beans with the validators returned by
+	 * {@link #getValidator()}: builds the metadata of the beans, resolves and initializes their constraint validators,
+	 * resolves the value extractors of their cascaded container elements and interpolates the message templates of
+	 * their constraints, loading the resource bundles.
+	 * <p>
+	 * The first validation of a bean is usually much slower than the following ones. Warming up the beans once the
+	 * factory is built, e.g. before reporting an application as ready, avoids making the first requests pay for it.
+	 * The warm-up can be called several times and only does the work which has not been done yet.
+	 * <p>
+	 * The metadata of the beans not initialized by a predefined scope factory cannot be built by the warm-up.
+	 *
+	 * @param beanClasses the classes of the beans to warm up
+	 * @param options the options of the warm-up
+	 *
+	 * @return the statistics of the warm-up
+	 *
+	 * @throws jakarta.validation.ValidationException if the constraints of a bean are not valid, as the first
+	 * validation of the bean would
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	WarmUpStatistics warmUp(Set<Class<?>> beanClasses, WarmUpOptions options);
+
+	/**
+	 * Warms up the given beans with the {@link WarmUpOptions#defaults() default options}.
+	 *
+	 * @param beanClasses the classes of the beans to warm up
+	 *
+	 * @return the statistics of the warm-up
+	 *
+	 * @see #warmUp(Set, WarmUpOptions)
+	 * @since 9.2
+	 */
+	@Incubating
+	default WarmUpStatistics warmUp(Set<Class<?>> beanClasses) {
+		return warmUp( beanClasses, WarmUpOptions.defaults() );
+	}
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Provides Hibernate Validator extensions to {@link Validator}.
+ * <p>
+ * An instance can be obtained by unwrapping a {@link Validator}:
+ * {@code validator.unwrap( HibernateValidatorValidator.class )}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface HibernateValidatorValidator extends Validator {
+
+	/**
+	 * Checks if all constraints on {@code object} are satisfied.
+	 * <p>
+	 * This is the equivalent of {@code validate( object, groups ).isEmpty()} but the validation stops at the first
+	 * failing constraint and no {@link ConstraintViolation} is created: messages are not interpolated and property
+	 * paths are not built. This makes it the method of choice when the details of the violations are not needed.
+	 *
+	 * @param object object to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 *
+	 * @throws IllegalArgumentException if object is {@code null} or if {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #validate(Object, Class[])
+	 */
+	<T> boolean isValid(T object, Class<?>... groups);
+
+	/**
+	 * Validates all the beans of a batch.
+	 * <p>
+	 * This is the equivalent of calling {@link #validate(Object, Class[])} for each bean but the groups are checked and
+	 * the validation order is resolved only once for the whole batch, and the bean metadata is looked up again only
+	 * when the type of the beans changes. It is thus the method of choice to validate large numbers of beans of the same
+	 * type, for instance the rows of an import.
+	 *
+	 * @param objects the beans to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 *
+	 * @return the result of the validation, identifying the beans by their index in iteration order
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, if it contains {@code null} elements or if
+	 * {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #validate(Object, Class[])
+	 */
+	<T> BatchValidationResult<T> validateAll(Iterable<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Validates all the beans of a stream, consuming it sequentially.
+	 *
+	 * @param objects the beans to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 *
+	 * @return the result of the validation, identifying the beans by their index in encounter order
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, if it contains {@code null} elements or if
+	 * {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #validateAll(Iterable, Class[])
+	 */
+	<T> BatchValidationResult<T> validateAll(Stream<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Checks if all constraints placed on the property of {@code object} named {@code propertyName} are satisfied,
+	 * stopping at the first failing constraint.
+	 *
+	 * @param object object containing the property to validate
+	 * @param propertyName property to validate (i.e. field and getter constraints)
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 *
+	 * @throws IllegalArgumentException if {@code object} is {@code null}, if {@code propertyName} is {@code null},
+	 * empty or not a valid object property or if {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #isValid(Object, Class[])
+	 * @see #validateProperty(Object, String, Class[])
+	 */
+	<T> boolean isValidProperty(T object, String propertyName, Class<?>... groups);
+
+	/**
+	 * Checks if all constraints placed on the property named {@code propertyName} of the class {@code beanType} would
+	 * be satisfied if the property had the value {@code value}, stopping at the first failing constraint.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyName property to validate
+	 * @param value property value to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 *
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null}, if {@code propertyName} is {@code null},
+	 * empty or not a valid object property or if {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #isValid(Object, Class[])
+	 * @see #validateValue(Class, String, Object, Class[])
+	 */
+	<T> boolean isValidValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups);
+
+	/**
+	 * Checks if all constraints placed on the parameters of the given method are satisfied, stopping at the first
+	 * failing constraint.
+	 *
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given method's parameters
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type hosting the method to validate
+	 *
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 *
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters or if parameters don't
+	 * match with each other
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #isValid(Object, Class[])
+	 * @see jakarta.validation.executable.ExecutableValidator#validateParameters(Object, Method, Object[], Class[])
+	 */
+	<T> boolean isValidParameters(T object, Method method, Object[] parameterValues, Class<?>... groups);
+
+	/**
+	 * Checks if all constraints placed on the parameters of the given constructor are satisfied, stopping at the
+	 * first failing constraint.
+	 *
+	 * @param constructor the constructor for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given constructor's parameters
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type hosting the constructor to validate
+	 *
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 *
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters or if parameters don't
+	 * match with each other
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see #isValid(Object, Class[])
+	 * @see jakarta.validation.executable.ExecutableValidator#validateConstructorParameters(Constructor, Object[], Class[])
+	 */
+	<T> boolean isValidConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups);
+}
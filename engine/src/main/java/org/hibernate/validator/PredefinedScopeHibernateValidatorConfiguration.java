@@ -4,6 +4,7 @@
  */
 package org.hibernate.validator;
 
+import java.io.InputStream;
 import java.util.Set;
 
 /**
@@ -35,4 +36,46 @@ public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibe
 	 */
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration includeBeansAndConstraintsDefinedOnlyInXml(boolean include);
+
+	/**
+	 * Specify whether the metadata of the {@link #initializeBeanMetaData(Set) beans to initialize} are built in
+	 * parallel when the validator factory is created.
+	 * <p>
+	 * The metadata of the classes are built independently from each other on the {@link java.util.concurrent.ForkJoinPool}
+	 * the factory is created from or on the common pool if the factory is not created from a fork/join task. The
+	 * resulting metadata are the same as the ones built sequentially. Note that the metadata providers, the
+	 * {@link org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter} and any other user-provided component
+	 * involved in the creation of the metadata are then called concurrently.
+	 * <p>
+	 * This option is disabled by default.
+	 *
+	 * @param enabled Whether to build the metadata of the beans in parallel.
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled);
+
+	/**
+	 * Provides a snapshot of the bean metadata written by
+	 * {@link PredefinedScopeHibernateValidatorFactory#writeBeanMetaDataSnapshot(java.io.OutputStream)}, typically at
+	 * build or deploy time, to speed up the creation of the validator factory.
+	 * <p>
+	 * The snapshot contains the constraint related annotations of the classes: when building the metadata of a class
+	 * of the snapshot, they are restored from the snapshot instead of being read using reflection. The other sources of
+	 * metadata, such as the XML mappings and the programmatic API, are taken into account as usual.
+	 * <p>
+	 * A snapshot written by another version of Hibernate Validator is ignored. A class whose class file has changed
+	 * since the snapshot was written, or which is not part of the snapshot, is inspected using reflection.
+	 * <p>
+	 * The stream is read when calling this method and is not closed.
+	 *
+	 * @param stream The stream to read the snapshot from.
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration beanMetaDataSnapshot(InputStream stream);
 }
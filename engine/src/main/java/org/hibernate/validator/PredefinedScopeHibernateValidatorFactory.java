@@ -5,6 +5,8 @@
 
 package org.hibernate.validator;
 
+import java.io.OutputStream;
+
 import jakarta.validation.ValidatorFactory;
 
 /**
@@ -14,4 +16,19 @@
  */
 @Incubating
 public interface PredefinedScopeHibernateValidatorFactory extends HibernateValidatorFactory {
+
+	/**
+	 * Writes a snapshot of the bean metadata of the classes initialized by this factory, to be provided to
+	 * {@link PredefinedScopeHibernateValidatorConfiguration#beanMetaDataSnapshot(java.io.InputStream)} when creating
+	 * the validator factories of the next runs of the application.
+	 * <p>
+	 * The stream is not closed.
+	 *
+	 * @param stream The stream to write the snapshot to.
+	 * @throws jakarta.validation.ValidationException if the snapshot can't be written
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	void writeBeanMetaDataSnapshot(OutputStream stream);
 }
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.internal.util.Contracts;
+
+/**
+ * The options of a warm-up performed with {@link HibernateValidatorFactory#warmUp(Set, WarmUpOptions)}.
+ * <p>
+ * By default, the warm-up builds the metadata of the beans, of their methods and constructors and of the types they
+ * cascade to, prepares the validation of the {@link Default} group, initializes the constraint validators and
+ * interpolates the message templates of the constraints in the default locale.
+ *
+ * @since 9.2
+ */
+@Incubating
+public final class WarmUpOptions {
+
+	private static final WarmUpOptions DEFAULTS = builder().build();
+
+	private final Set<Locale> locales;
+
+	private final Set<Class<?>> groups;
+
+	private final boolean includeExecutables;
+
+	private final boolean includeCascadedTypes;
+
+	private final boolean interpolateMessages;
+
+	private WarmUpOptions(Builder builder) {
+		this.locales = Collections.unmodifiableSet( new LinkedHashSet<>( builder.locales ) );
+		this.groups = Collections.unmodifiableSet( new LinkedHashSet<>( builder.groups ) );
+		this.includeExecutables = builder.includeExecutables;
+		this.includeCascadedTypes = builder.includeCascadedTypes;
+		this.interpolateMessages = builder.interpolateMessages;
+	}
+
+	/**
+	 * @return the default options
+	 */
+	public static WarmUpOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @return a builder of options, initialized with the default options
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return the locales in which the message templates are interpolated, the default locale of the message
+	 * interpolator being used if empty
+	 */
+	public Set<Locale> getLocales() {
+		return locales;
+	}
+
+	/**
+	 * @return the groups whose validation is prepared
+	 */
+	public Set<Class<?>> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * @return {@code true} if the metadata of the methods and constructors declared by the beans are built
+	 */
+	public boolean isIncludeExecutables() {
+		return includeExecutables;
+	}
+
+	/**
+	 * @return {@code true} if the types the beans cascade to are warmed up as well
+	 */
+	public boolean isIncludeCascadedTypes() {
+		return includeCascadedTypes;
+	}
+
+	/**
+	 * @return {@code true} if the message templates of the constraints are interpolated
+	 */
+	public boolean isInterpolateMessages() {
+		return interpolateMessages;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpOptions{locales=" + locales + ", groups=" + groups + ", includeExecutables=" + includeExecutables
+				+ ", includeCascadedTypes=" + includeCascadedTypes + ", interpolateMessages=" + interpolateMessages + "}";
+	}
+
+	/**
+	 * Builds {@link WarmUpOptions}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	public static final class Builder {
+
+		private final Set<Locale> locales = new LinkedHashSet<>();
+
+		private final Set<Class<?>> groups = new LinkedHashSet<>( Collections.singleton( Default.class ) );
+
+		private boolean includeExecutables = true;
+
+		private boolean includeCascadedTypes = true;
+
+		private boolean interpolateMessages = true;
+
+		private Builder() {
+		}
+
+		/**
+		 * Defines the locales in which the message templates are interpolated. By default, they are interpolated in
+		 * the default locale of the message interpolator.
+		 *
+		 * @param locales the locales
+		 * @return {@code this} following the chaining method pattern
+		 */
+		public Builder locales(Locale... locales) {
+			Contracts.assertNotNull( locales, "The locales cannot be null." );
+			this.locales.clear();
+			this.locales.addAll( Arrays.asList( locales ) );
+			return this;
+		}
+
+		/**
+		 * Defines the groups whose validation is prepared, as they would be passed to
+		 * {@link jakarta.validation.Validator#validate(Object, Class[])}. Defaults to the {@link Default} group.
+		 *
+		 * @param groups the groups
+		 * @return {@code this} following the chaining method pattern
+		 */
+		public Builder groups(Class<?>... groups) {
+			Contracts.assertNotEmpty( groups, "At least one group has to be specified." );
+			this.groups.clear();
+			this.groups.addAll( Arrays.asList( groups ) );
+			return this;
+		}
+
+		/**
+		 * @param includeExecutables whether the metadata of the methods and constructors declared by the beans are
+		 * built, {@code true} by default
+		 * @return {@code this} following the chaining method pattern
+		 */
+		public Builder includeExecutables(boolean includeExecutables) {
+			this.includeExecutables = includeExecutables;
+			return this;
+		}
+
+		/**
+		 * Defines whether the types the beans cascade to, i.e. the declared types of the properties and of the
+		 * container elements marked with {@code @Valid}, are warmed up as well. Subtypes only known at runtime cannot
+		 * be warmed up this way and should be passed explicitly.
+		 *
+		 * @param includeCascadedTypes whether the cascaded types are warmed up, {@code true} by default
+		 * @return {@code this} following the chaining method pattern
+		 */
+		public Builder includeCascadedTypes(boolean includeCascadedTypes) {
+			this.includeCascadedTypes = includeCascadedTypes;
+			return this;
+		}
+
+		/**
+		 * Defines whether the message templates of the constraints are interpolated, which loads the resource bundles
+		 * and caches the parsed templates of the message interpolator.
+		 *
+		 * @param interpolateMessages whether the message templates are interpolated, {@code true} by default
+		 * @return {@code this} following the chaining method pattern
+		 */
+		public Builder interpolateMessages(boolean interpolateMessages) {
+			this.interpolateMessages = interpolateMessages;
+			return this;
+		}
+
+		public WarmUpOptions build() {
+			return new WarmUpOptions( this );
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * The statistics of a warm-up performed with {@link HibernateValidatorFactory#warmUp(Set, WarmUpOptions)}.
+ * <p>
+ * The counts only include the work actually done by the warm-up: the constraint validators already initialized and
+ * the metadata already built, e.g. by a previous validation, are not counted again. The durations measure the
+ * corresponding phases of the warm-up and can be used to decide whether an application is ready to serve requests.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface WarmUpStatistics {
+
+	/**
+	 * @return the number of beans warmed up, including the cascaded types
+	 */
+	int getBeanCount();
+
+	/**
+	 * @return the number of constraints of the beans, their properties and executables
+	 */
+	int getConstraintCount();
+
+	/**
+	 * @return the number of constraint validators initialized by the warm-up
+	 */
+	int getInitializedConstraintValidatorCount();
+
+	/**
+	 * @return the number of value extractors resolved for the cascaded container elements
+	 */
+	int getResolvedValueExtractorCount();
+
+	/**
+	 * @return the number of message templates interpolated, counted once per locale
+	 */
+	int getInterpolatedMessageCount();
+
+	/**
+	 * @return the time spent building the metadata and preparing the validation of the requested groups
+	 */
+	Duration getMetaDataDuration();
+
+	/**
+	 * @return the time spent resolving and initializing the constraint validators
+	 */
+	Duration getConstraintValidatorDuration();
+
+	/**
+	 * @return the time spent resolving the value extractors
+	 */
+	Duration getValueExtractorDuration();
+
+	/**
+	 * @return the time spent loading the resource bundles and interpolating the message templates
+	 */
+	Duration getMessageInterpolationDuration();
+
+	/**
+	 * @return the total duration of the warm-up
+	 */
+	Duration getTotalDuration();
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.cfg.defs;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.cfg.ConstraintDef;
+import org.hibernate.validator.constraints.ExpressionAssert;
+
+/**
+ * An {@link ExpressionAssert} constraint definition.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class ExpressionAssertDef extends ConstraintDef<ExpressionAssertDef, ExpressionAssert> {
+
+	public ExpressionAssertDef() {
+		super( ExpressionAssert.class );
+	}
+
+	public ExpressionAssertDef expression(String expression) {
+		addParameter( "expression", expression );
+		return this;
+	}
+
+	public ExpressionAssertDef reportOn(String reportOn) {
+		addParameter( "reportOn", reportOn );
+		return this;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.constraints;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.constraints.ExpressionAssert.List;
+
+/**
+ * <p>
+ * A class-level constraint, that evaluates a boolean expression against the
+ * annotated element. Contrary to {@link ScriptAssert}, it does not require a
+ * JSR 223 script engine: the expression is written in a small built-in
+ * language, parsed once when the constraint validator is initialized and
+ * evaluated without any interpretation of its text.
+ * </p>
+ * <pre>
+ * {@code @ExpressionAssert(expression = "endDate == null || startDate < endDate", reportOn = "endDate")
+ * public class CalendarEvent {
+ *
+ * 	private LocalDate startDate;
+ *
+ * 	private LocalDate endDate;
+ *
+ * 	//...
+ *
+ * }
+ * }
+ * </pre>
+ * <p>
+ * The expression language supports:
+ * </p>
+ * <ul>
+ * <li>property paths such as {@code startDate} or {@code address.city}, a
+ * property being read through its getter ({@code getX()}, {@code isX()} or
+ * {@code x()}) or, if there is none, through its field, and {@code this}
+ * referring to the annotated element. A property of a {@code null} value is
+ * {@code null};</li>
+ * <li>integer and decimal number literals, string literals between single or
+ * double quotes, {@code true}, {@code false} and {@code null};</li>
+ * <li>the boolean operators {@code &&}, {@code ||} and {@code !};</li>
+ * <li>the comparison operators {@code ==}, {@code !=}, {@code <},
+ * {@code <=}, {@code >} and {@code >=}: numbers are compared by value
+ * whatever their types, an enum is equal to a string holding its name and
+ * other values are compared with {@code equals()} or, for the ordering
+ * operators, {@code compareTo()}. An ordering comparison with a {@code null}
+ * operand is {@code false};</li>
+ * <li>the arithmetic operators {@code +}, {@code -}, {@code *}, {@code /} and
+ * {@code %} on numbers, the result being {@code null} if an operand is
+ * {@code null};</li>
+ * <li>parentheses.</li>
+ * </ul>
+ * <p>
+ * The syntax of the expression is checked when the constraint validator is
+ * initialized: a {@link jakarta.validation.ConstraintDeclarationException} is
+ * thrown at this point if the expression is not valid, e.g. if it does not
+ * evaluate to a boolean.
+ * </p>
+ * <p>
+ * The property names are not checked at this point though: the annotated class
+ * is not known when the constraint validator is initialized, and the properties
+ * are resolved lazily against the runtime class of the validated value, or of
+ * the intermediate values of a property path, the first time they are
+ * evaluated. A {@link jakarta.validation.ConstraintDeclarationException} is
+ * thrown upon validation if a property cannot be found or if the operands of an
+ * operator have unexpected types.
+ * </p>
+ * <p>
+ * Accepts any type.
+ * </p>
+ *
+ * @since 9.2
+ */
+@Documented
+@Constraint(validatedBy = { })
+@Target({ TYPE })
+@Retention(RUNTIME)
+@Repeatable(List.class)
+@Incubating
+public @interface ExpressionAssert {
+
+	String message() default "{org.hibernate.validator.constraints.ExpressionAssert.message}";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	/**
+	 * @return The expression to be evaluated against the annotated element. It
+	 *         must evaluate to {@code true}, if the annotated element could
+	 *         successfully be validated, otherwise {@code false}.
+	 */
+	String expression();
+
+	/**
+	 * @return The name of the property for which you would like to report a validation error.
+	 * If given, the resulting constraint violation will be reported on the specified property.
+	 * If not given, the constraint violation will be reported on the annotated bean.
+	 */
+	String reportOn() default "";
+
+	/**
+	 * Defines several {@code @ExpressionAssert} annotations on the same element.
+	 */
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	@Documented
+	public @interface List {
+		ExpressionAssert[] value();
+	}
+}
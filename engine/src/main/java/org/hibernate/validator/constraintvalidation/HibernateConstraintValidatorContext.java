@@ -7,6 +7,7 @@
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorValidator;
 import org.hibernate.validator.Incubating;
 
 /**
@@ -125,4 +126,18 @@ public interface HibernateConstraintValidatorContext extends ConstraintValidator
 	@Incubating
 	<C> C getConstraintValidatorPayload(Class<C> type);
 
+	/**
+	 * Returns whether the validation only checks if the validated object is valid, as done by
+	 * {@link HibernateValidatorValidator#isValid(Object, Class[])}. No constraint violation is created in this mode, so
+	 * the constraint validators may return as soon as they know the value is invalid, without computing message
+	 * parameters, expression variables or a dynamic payload.
+	 *
+	 * @return {@code true} if no constraint violation will be created from this context, {@code false} otherwise
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	default boolean isValidityCheckModeEnabled() {
+		return false;
+	}
 }
@@ -11,6 +11,7 @@
 import jakarta.validation.ClockProvider;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorNotFoundException;
@@ -58,6 +59,18 @@ public interface HibernateConstraintValidatorInitializationContext {
 	@Incubating
 	Duration getTemporalValidationTolerance();
 
+	/**
+	 * Returns the engine matching the regular expressions of the constraints, unless overridden for a given constraint
+	 * with the {@link RegularExpressionEngine.Linear} or {@link RegularExpressionEngine.Backtracking} payloads.
+	 *
+	 * @return the regular expression engine, never {@code null}. If no specific engine has been configured during
+	 * bootstrap, {@link RegularExpressionEngine#BACKTRACKING} will be returned.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	RegularExpressionEngine getRegularExpressionEngine();
+
 	/**
 	 * Returns an instance of the specified data type or {@code null} if the current context does not
 	 * contain such data.
@@ -12,9 +12,14 @@
 
 import org.hibernate.validator.constraints.URL;
 import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.internal.util.URLScanner;
 
 /**
  * Validate that the character sequence (e.g. string) is a valid URL using a regular expression.
+ * <p>
+ * The common hierarchical URLs are checked by a single-pass character scanner, accepting the URLs matched by the
+ * regular expression with the same protocol, host and port. The other values are still matched by the regular
+ * expression.
  *
  * @author Hardy Ferentschik
  *
@@ -34,6 +39,11 @@ public class RegexpURLValidator implements ConstraintValidator<URL, CharSequence
 							"(?:\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@]))*)*|\\/(?:(?:(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@]))+)(?:\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@]))*)*)?|(?:(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@]))+)(?:\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@]))*)*|(?!(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@])))(?:\\?(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@])|[\\x{E000}-\\x{F8FF}\\x{F0000}-\\x{FFFFD}|\\x{100000}-\\x{10FFFD}\\/\\?])*)?(?:\\#(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\._~\\x{A0}-\\x{D7FF}\\x{F900}-\\x{FDCF}\\x{FDF0}-\\x{FFEF}\\x{10000}-\\x{1FFFD}\\x{20000}-\\x{2FFFD}\\x{30000}-\\x{3FFFD}\\x{40000}-\\x{4FFFD}\\x{50000}-\\x{5FFFD}\\x{60000}-\\x{6FFFD}\\x{70000}-\\x{7FFFD}\\x{80000}-\\x{8FFFD}\\x{90000}-\\x{9FFFD}\\x{A0000}-\\x{AFFFD}\\x{B0000}-\\x{BFFFD}\\x{C0000}-\\x{CFFFD}\\x{D0000}-\\x{DFFFD}\\x{E1000}-\\x{EFFFD}!\\$&'\\(\\)\\*\\+,;=:@])|[\\/\\?])*)?$"
 			);
 
+	/**
+	 * The ports of up to 9 digits always fit in an int.
+	 */
+	private static final int MAX_PORT_DIGITS = 9;
+
 	private String protocol;
 	private String host;
 	private int port;
@@ -51,6 +61,25 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 
+		int schemeEnd = URLScanner.scanScheme( value );
+		if ( schemeEnd < 0 ) {
+			// the regular expression requires a scheme
+			return false;
+		}
+
+		if ( URLScanner.hasAuthority( value, schemeEnd ) ) {
+			int hostStart = schemeEnd + 3;
+			int hostEnd = URLScanner.scanHost( value, hostStart );
+			int portEnd = URLScanner.scanPort( value, hostEnd, MAX_PORT_DIGITS );
+			// an empty port is matched by the regular expression but cannot be parsed, it is left to the complete
+			// implementation
+			if ( hostEnd > hostStart && portEnd >= 0 && portEnd != hostEnd + 1
+					&& URLScanner.isValidPathQueryAndFragment( value, portEnd ) ) {
+				return DomainNameUtil.isValidDomainAddress( value, hostStart, hostEnd )
+						&& matchesAttributes( value, 0, schemeEnd, value, hostStart, hostEnd, URLScanner.getPort( value, hostEnd, portEnd ) );
+			}
+		}
+
 		ValueHolder values = parseUrl( value.toString() );
 		if ( values == null ) {
 			return false;
@@ -60,15 +89,22 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return false;
 		}
 
-		if ( protocol != null && protocol.length() > 0 && !protocol.equals( values.getProtocol() ) ) {
+		String urlProtocol = values.getProtocol();
+		String urlHost = values.getHost();
+		return matchesAttributes( urlProtocol, 0, urlProtocol.length(), urlHost, 0, urlHost.length(), values.getPort() );
+	}
+
+	private boolean matchesAttributes(CharSequence urlProtocol, int protocolStart, int protocolEnd, CharSequence urlHost, int hostStart,
+			int hostEnd, int urlPort) {
+		if ( protocol != null && protocol.length() > 0 && !URLScanner.regionEquals( urlProtocol, protocolStart, protocolEnd, protocol ) ) {
 			return false;
 		}
 
-		if ( host != null && host.length() > 0 && !host.equals( values.getHost() ) ) {
+		if ( host != null && host.length() > 0 && !URLScanner.regionEquals( urlHost, hostStart, hostEnd, host ) ) {
 			return false;
 		}
 
-		if ( port != -1 && values.getPort() != port ) {
+		if ( port != -1 && urlPort != port ) {
 			return false;
 		}
 
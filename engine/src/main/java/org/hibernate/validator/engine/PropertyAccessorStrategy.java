@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Defines how the values of the constrained and cascaded fields and getters are read from the validated beans.
+ * <p>
+ * Beans enhanced with {@link HibernateValidatorEnhancedBean} are always read through the enhanced methods, whatever
+ * the strategy.
+ *
+ * @since 9.2
+ */
+@Incubating
+public enum PropertyAccessorStrategy {
+
+	/**
+	 * Values are read through {@link java.lang.reflect.Field#get(Object)} and
+	 * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+	 * <p>
+	 * This is the default strategy.
+	 */
+	REFLECTION( "reflection" ),
+
+	/**
+	 * Strongly typed accessors are generated when the metadata of a bean is built: getters are bound with
+	 * {@link java.lang.invoke.LambdaMetafactory} and fields are read through method handles.
+	 * <p>
+	 * This requires the packages of the validated beans to be open to Hibernate Validator. If an accessor cannot be
+	 * generated for a given property, reflection is used for this property.
+	 */
+	GENERATED( "generated" );
+
+	private final String externalRepresentation;
+
+	PropertyAccessorStrategy(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static PropertyAccessorStrategy of(String value) {
+		for ( PropertyAccessorStrategy strategy : values() ) {
+			if ( strategy.externalRepresentation.equals( value ) ) {
+				return strategy;
+			}
+		}
+
+		return PropertyAccessorStrategy.valueOf( value );
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Defines how the regular expressions of the {@code @Pattern} and {@code @Email} constraints are matched.
+ * <p>
+ * The engine is set globally when bootstrapping the validator factory and may be overridden for a given constraint
+ * with the {@link Linear} and {@link Backtracking} payloads, e.g.
+ * {@code @Pattern(regexp = "...", payload = RegularExpressionEngine.Linear.class)}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public enum RegularExpressionEngine {
+
+	/**
+	 * Regular expressions are matched by {@link java.util.regex.Pattern}, whose matching time may grow exponentially
+	 * with the length of the input for some expressions.
+	 * <p>
+	 * This is the default engine.
+	 */
+	BACKTRACKING( "backtracking" ),
+
+	/**
+	 * Regular expressions are compiled to an automaton simulated in a time linear in the length of the input.
+	 * <p>
+	 * Only a subset of the {@link java.util.regex.Pattern} syntax is supported: characters, character classes
+	 * without intersections or nested classes, the predefined {@code \d}, {@code \w} and {@code \s} classes and
+	 * their negations, {@code .}, greedy and reluctant quantifiers, capturing and non-capturing groups, alternations
+	 * and the {@code ^}, {@code $}, {@code \A}, {@code \Z} and {@code \z} boundaries. The {@code CASE_INSENSITIVE},
+	 * {@code UNICODE_CASE}, {@code DOTALL} and {@code UNIX_LINES} flags are supported, as is {@code MULTILINE} for the
+	 * expressions without boundaries. The expressions outside of this subset, e.g. with back references, lookarounds
+	 * or possessive quantifiers, are matched by {@link java.util.regex.Pattern}.
+	 */
+	LINEAR( "linear" );
+
+	private final String externalRepresentation;
+
+	RegularExpressionEngine(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static RegularExpressionEngine of(String value) {
+		for ( RegularExpressionEngine engine : values() ) {
+			if ( engine.externalRepresentation.equals( value ) ) {
+				return engine;
+			}
+		}
+
+		return RegularExpressionEngine.valueOf( value );
+	}
+
+	/**
+	 * Set this payload on a constraint to match its regular expression with the {@link #LINEAR} engine, whatever the
+	 * engine set globally.
+	 */
+	public interface Linear extends Payload {
+	}
+
+	/**
+	 * Set this payload on a constraint to match its regular expression with the {@link #BACKTRACKING} engine, whatever
+	 * the engine set globally.
+	 */
+	public interface Backtracking extends Payload {
+	}
+}
@@ -65,7 +65,7 @@ protected Set<MetaConstraint<?>> getConstraints(ConstraintCreationContext constr
 	}
 
 	private <A extends Annotation> MetaConstraint<A> asMetaConstraint(ConfiguredConstraint<A> config, ConstraintCreationContext constraintCreationContext) {
-		ConstraintDescriptorImpl<A> constraintDescriptor = new ConstraintDescriptorImpl<A>(
+		ConstraintDescriptorImpl<A> constraintDescriptor = constraintCreationContext.getConstraintMetaDataInterner().getConstraintDescriptor(
 				constraintCreationContext.getConstraintHelper(),
 				config.getLocation().getConstrainable(),
 				config.createAnnotationDescriptor(),
@@ -73,8 +73,6 @@ private <A extends Annotation> MetaConstraint<A> asMetaConstraint(ConfiguredCons
 				getConstraintType()
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, config.getLocation() );
+		return MetaConstraints.create( constraintCreationContext, constraintDescriptor, config.getLocation() );
 	}
 }
@@ -234,7 +234,7 @@ Set<MetaConstraint<?>> build(ConstraintCreationContext constraintCreationContext
 	}
 
 	private <A extends Annotation> MetaConstraint<A> asMetaConstraint(ConfiguredConstraint<A> config, ConstraintCreationContext constraintCreationContext) {
-		ConstraintDescriptorImpl<A> constraintDescriptor = new ConstraintDescriptorImpl<>(
+		ConstraintDescriptorImpl<A> constraintDescriptor = constraintCreationContext.getConstraintMetaDataInterner().getConstraintDescriptor(
 				constraintCreationContext.getConstraintHelper(),
 				config.getLocation().getConstrainable(),
 				config.createAnnotationDescriptor(),
@@ -242,8 +242,7 @@ private <A extends Annotation> MetaConstraint<A> asMetaConstraint(ConfiguredCons
 				getConstraintType()
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(), constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, config.getLocation() );
+		return MetaConstraints.create( constraintCreationContext, constraintDescriptor, config.getLocation() );
 	}
 
 	@Override
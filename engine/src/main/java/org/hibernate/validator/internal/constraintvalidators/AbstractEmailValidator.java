@@ -4,16 +4,16 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.internal.util.regex.RegularExpressions;
 
 /**
  * Checks that a given character sequence (e.g. string) is a well-formed email address.
@@ -25,25 +25,34 @@
  * <a href="http://www.regular-expressions.info/email.html">article</a> discusses it is not necessarily practical to
  * implement a 100% compliant email validator. This implementation is a trade-off trying to match most email while ignoring
  * for example emails with double quotes or comments.
+ * <p>
+ * The local part and the domain are checked by single-pass character scanners, without allocating for ASCII emails.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
  * @author Guillaume Smet
  */
-public class AbstractEmailValidator<A extends Annotation> implements ConstraintValidator<A, CharSequence> {
+public class AbstractEmailValidator<A extends Annotation> implements HibernateConstraintValidator<A, CharSequence> {
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
 	/**
-	 * Regular expression for the local part of an email address (everything before '@')
+	 * The ASCII characters of an atom of the local part, besides letters and digits. Dots separate the atoms.
+	 */
+	private static final boolean[] ASCII_ATOM_CHARACTERS = asciiCharacters( "!#$%&'*+/=?^_`{|}~-" );
+
+	/**
+	 * The ASCII characters of a quoted string of the local part, besides letters and digits. Backslashes and double
+	 * quotes have to be escaped with a backslash.
 	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*",
-			CASE_INSENSITIVE
-	);
+	private static final boolean[] ASCII_QUOTED_CHARACTERS = asciiCharacters( "!#$%&'*.(),<>[]:; @+/=?^_`{|}~-" );
+
+	private RegularExpressionEngine regularExpressionEngine = RegularExpressionEngine.BACKTRACKING;
+
+	@Override
+	public void initialize(ConstraintDescriptor<A> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		regularExpressionEngine = RegularExpressions.getEngine( constraintDescriptor, initializationContext );
+	}
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -53,29 +62,111 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
-		int splitPosition = stringValue.lastIndexOf( '@' );
+		int splitPosition = value.length() - 1;
+		while ( splitPosition >= 0 && value.charAt( splitPosition ) != '@' ) {
+			splitPosition--;
+		}
 
 		// need to check if
 		if ( splitPosition < 0 ) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( value, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( value, splitPosition + 1, value.length() );
+	}
+
+	protected RegularExpressionEngine getRegularExpressionEngine() {
+		return regularExpressionEngine;
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * Checks the local part, located before the given index: atoms or quoted strings separated by dots.
+	 */
+	private static boolean isValidEmailLocalPart(CharSequence value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		int i = 0;
+		while ( true ) {
+			if ( i < end && value.charAt( i ) == '"' ) {
+				i = scanQuotedString( value, i + 1, end );
+				if ( i < 0 ) {
+					return false;
+				}
+			}
+			else {
+				int atomStart = i;
+				while ( i < end && isLocalPartCharacter( ASCII_ATOM_CHARACTERS, value, i, end ) ) {
+					i++;
+				}
+				if ( i == atomStart ) {
+					return false;
+				}
+			}
+
+			if ( i == end ) {
+				return true;
+			}
+			if ( value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @return the index following the closing double quote of the quoted string starting at the given index, or -1 if
+	 * the quoted string is invalid
+	 */
+	private static int scanQuotedString(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '"' ) {
+				return i > start ? i + 1 : -1;
+			}
+			if ( c == '\\' ) {
+				if ( i + 1 == end || value.charAt( i + 1 ) != '\\' && value.charAt( i + 1 ) != '"' ) {
+					return -1;
+				}
+				i += 2;
+			}
+			else if ( isLocalPartCharacter( ASCII_QUOTED_CHARACTERS, value, i, end ) ) {
+				i++;
+			}
+			else {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isLocalPartCharacter(boolean[] asciiCharacters, CharSequence value, int index, int end) {
+		char c = value.charAt( index );
+		if ( c < 0x80 ) {
+			return asciiCharacters[c];
+		}
+		// the characters outside of the basic multilingual plane are not allowed, an unpaired surrogate is
+		return !( Character.isHighSurrogate( c ) && index + 1 < end && Character.isLowSurrogate( value.charAt( index + 1 ) ) );
+	}
+
+	private static boolean[] asciiCharacters(String additionalCharacters) {
+		boolean[] characters = new boolean[0x80];
+		for ( char c = '0'; c <= '9'; c++ ) {
+			characters[c] = true;
+		}
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			characters[c] = true;
+			characters[c - 'a' + 'A'] = true;
+		}
+		for ( int i = 0; i < additionalCharacters.length(); i++ ) {
+			characters[additionalCharacters.charAt( i )] = true;
+		}
+		return characters;
 	}
 }
@@ -5,7 +5,6 @@
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.validation.ConstraintValidatorContext;
@@ -15,6 +14,8 @@
 import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.RegularExpression;
+import org.hibernate.validator.internal.util.regex.RegularExpressions;
 
 /**
  * Checks that a given character sequence (e.g. string) is a well-formed email address.
@@ -25,7 +26,7 @@ public class EmailValidator extends AbstractEmailValidator<Email> {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private java.util.regex.Pattern pattern;
+	private RegularExpression pattern;
 
 	@Override
 	public void initialize(Email emailAnnotation) {
@@ -40,7 +41,7 @@ public void initialize(Email emailAnnotation) {
 		// we only apply the regexp if there is one to apply
 		if ( !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0 ) {
 			try {
-				pattern = java.util.regex.Pattern.compile( emailAnnotation.regexp(), intFlag );
+				pattern = RegularExpressions.compile( emailAnnotation.regexp(), intFlag, getRegularExpressionEngine() );
 			}
 			catch (PatternSyntaxException e) {
 				throw LOG.getInvalidRegularExpressionException( e );
@@ -59,7 +60,6 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return isValid;
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return pattern.matches( value );
 	}
 }
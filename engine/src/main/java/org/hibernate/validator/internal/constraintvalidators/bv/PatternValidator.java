@@ -7,7 +7,6 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.validation.ConstraintValidatorContext;
@@ -17,9 +16,12 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.RegularExpression;
+import org.hibernate.validator.internal.util.regex.RegularExpressions;
 
 /**
  * @author Hardy Ferentschik
@@ -28,7 +30,7 @@ public class PatternValidator implements HibernateConstraintValidator<Pattern, C
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private java.util.regex.Pattern pattern;
+	private RegularExpression pattern;
 	private String escapedRegexp;
 
 	@Override
@@ -42,7 +44,7 @@ public void initialize(ConstraintDescriptor<Pattern> constraintDescriptor, Hiber
 
 		try {
 			pattern = initializationContext.getSharedData( PatternConstraintInitializer.class, PatternConstraintInitializer::getInstance )
-					.of( parameters.regexp(), intFlag );
+					.of( parameters.regexp(), intFlag, RegularExpressions.getEngine( constraintDescriptor, initializationContext ) );
 		}
 		catch (PatternSyntaxException e) {
 			throw LOG.getInvalidRegularExpressionException( e );
@@ -61,12 +63,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "regexp", escapedRegexp );
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return pattern.matches( value );
 	}
 
 	private static final class PatternConstraintInitializer {
-		private final Map<PatternKey, java.util.regex.Pattern> cache;
+		private final Map<PatternKey, RegularExpression> cache;
 
 		public static PatternConstraintInitializer getInstance() {
 			//TODO: do we cache the instance and share it?
@@ -77,11 +78,11 @@ private PatternConstraintInitializer() {
 			this.cache = new ConcurrentHashMap<>();
 		}
 
-		public java.util.regex.Pattern of(String pattern, int flags) {
-			return cache.computeIfAbsent( new PatternKey( pattern, flags ), key -> java.util.regex.Pattern.compile( pattern, flags ) );
+		public RegularExpression of(String pattern, int flags, RegularExpressionEngine engine) {
+			return cache.computeIfAbsent( new PatternKey( pattern, flags, engine ), key -> RegularExpressions.compile( pattern, flags, engine ) );
 		}
 
-		private record PatternKey(String pattern, int flags) {
+		private record PatternKey(String pattern, int flags, RegularExpressionEngine engine) {
 		}
 	}
 }
@@ -0,0 +1,453 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.hibernate.validator.constraints.ExpressionAssert;
+import org.hibernate.validator.internal.constraintvalidators.hv.AssertionExpressionOperations.Comparison;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Compiles an {@link ExpressionAssert} expression into a predicate over the validated bean.
+ * <p>
+ * The expression is parsed by a recursive descent parser, each node of the expression being turned into a lambda
+ * calling the lambdas of its operands, so that the evaluation does not look at the text of the expression anymore.
+ * The operators combining booleans are compiled to {@link Predicate}s, so that the boolean results are not boxed.
+ * <p>
+ * The types of the literals and of the results of the operators are known when compiling, so the operators applied to
+ * operands of the wrong type, e.g. {@code 'a' && b}, and the expressions not evaluating to a boolean are reported at
+ * compilation. The types of the properties are only known when evaluating the expression.
+ * <p>
+ * The grammar, from the lowest to the highest precedence, is:
+ * <pre>
+ * or             := and ( '||' and )*
+ * and            := equality ( '&amp;&amp;' equality )*
+ * equality       := relational ( ( '==' | '!=' ) relational )*
+ * relational     := additive ( ( '&lt;' | '&lt;=' | '&gt;' | '&gt;=' ) additive )?
+ * additive       := multiplicative ( ( '+' | '-' ) multiplicative )*
+ * multiplicative := unary ( ( '*' | '/' | '%' ) unary )*
+ * unary          := ( '!' | '-' ) unary | primary
+ * primary        := number | string | 'true' | 'false' | 'null' | path | '(' or ')'
+ * path           := identifier ( '.' identifier )*
+ * </pre>
+ */
+final class AssertionExpressionCompiler {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final String expression;
+
+	private int position;
+
+	private TokenType tokenType;
+
+	private String token;
+
+	private int tokenPosition;
+
+	private AssertionExpressionCompiler(String expression) {
+		this.expression = expression;
+	}
+
+	/**
+	 * Compiles the given expression.
+	 *
+	 * @param expression the expression to compile
+	 *
+	 * @return a predicate evaluating the expression against a bean
+	 *
+	 * @throws jakarta.validation.ConstraintDeclarationException if the expression is not valid
+	 */
+	static Predicate<Object> compile(String expression) {
+		AssertionExpressionCompiler compiler = new AssertionExpressionCompiler( expression );
+		compiler.nextToken();
+		Operand root = compiler.parseOr();
+		if ( compiler.tokenType != TokenType.END ) {
+			throw compiler.unexpectedToken();
+		}
+		return compiler.toPredicate( root, "the expression", 0 );
+	}
+
+	private Operand parseOr() {
+		Operand left = parseAnd();
+		while ( isSymbol( "||" ) ) {
+			int operatorPosition = consume();
+			Predicate<Object> leftPredicate = toPredicate( left, "operator ||", operatorPosition );
+			Predicate<Object> rightPredicate = toPredicate( parseAnd(), "operator ||", operatorPosition );
+			left = Operand.of( bean -> leftPredicate.test( bean ) || rightPredicate.test( bean ) );
+		}
+		return left;
+	}
+
+	private Operand parseAnd() {
+		Operand left = parseEquality();
+		while ( isSymbol( "&&" ) ) {
+			int operatorPosition = consume();
+			Predicate<Object> leftPredicate = toPredicate( left, "operator &&", operatorPosition );
+			Predicate<Object> rightPredicate = toPredicate( parseEquality(), "operator &&", operatorPosition );
+			left = Operand.of( bean -> leftPredicate.test( bean ) && rightPredicate.test( bean ) );
+		}
+		return left;
+	}
+
+	private Operand parseEquality() {
+		Operand left = parseRelational();
+		while ( isSymbol( "==" ) || isSymbol( "!=" ) ) {
+			boolean negated = isSymbol( "!=" );
+			int operatorPosition = consume();
+			Operand right = parseRelational();
+			if ( left.kind.isKnown() && right.kind.isKnown() && left.kind != right.kind ) {
+				throw error( "operator " + ( negated ? "!=" : "==" ) + " cannot compare " + left.kind.description + " and "
+						+ right.kind.description, operatorPosition );
+			}
+
+			Function<Object, Object> leftValue = left.value;
+			Function<Object, Object> rightValue = right.value;
+			Predicate<Object> equality;
+			if ( right.kind == Kind.NULL ) {
+				equality = bean -> leftValue.apply( bean ) == null;
+			}
+			else if ( left.kind == Kind.NULL ) {
+				equality = bean -> rightValue.apply( bean ) == null;
+			}
+			else {
+				equality = bean -> AssertionExpressionOperations.equal( leftValue.apply( bean ), rightValue.apply( bean ) );
+			}
+			left = Operand.of( negated ? equality.negate() : equality );
+		}
+		return left;
+	}
+
+	private Operand parseRelational() {
+		Operand left = parseAdditive();
+		Comparison comparison = tokenType == TokenType.SYMBOL ? Comparison.of( token ) : null;
+		if ( comparison == null ) {
+			return left;
+		}
+
+		String operator = token;
+		int operatorPosition = consume();
+		Operand right = parseAdditive();
+		for ( Operand operand : new Operand[] { left, right } ) {
+			if ( operand.kind != Kind.NUMBER && operand.kind != Kind.STRING && operand.kind != Kind.ANY ) {
+				throw error( "operator " + operator + " cannot be applied to " + operand.kind.description, operatorPosition );
+			}
+		}
+		if ( left.kind.isKnown() && right.kind.isKnown() && left.kind != right.kind ) {
+			throw error( "operator " + operator + " cannot compare " + left.kind.description + " and " + right.kind.description,
+					operatorPosition );
+		}
+
+		Function<Object, Object> leftValue = left.value;
+		Function<Object, Object> rightValue = right.value;
+		return Operand.of( bean -> AssertionExpressionOperations.compare( expression, comparison, leftValue.apply( bean ),
+				rightValue.apply( bean ) ) );
+	}
+
+	private Operand parseAdditive() {
+		Operand left = parseMultiplicative();
+		while ( isSymbol( "+" ) || isSymbol( "-" ) ) {
+			left = arithmetic( left, token.charAt( 0 ), consume(), parseMultiplicative() );
+		}
+		return left;
+	}
+
+	private Operand parseMultiplicative() {
+		Operand left = parseUnary();
+		while ( isSymbol( "*" ) || isSymbol( "/" ) || isSymbol( "%" ) ) {
+			left = arithmetic( left, token.charAt( 0 ), consume(), parseUnary() );
+		}
+		return left;
+	}
+
+	private Operand arithmetic(Operand left, char operator, int operatorPosition, Operand right) {
+		checkNumeric( left, operator, operatorPosition );
+		checkNumeric( right, operator, operatorPosition );
+
+		Function<Object, Object> leftValue = left.value;
+		Function<Object, Object> rightValue = right.value;
+		return Operand.of( Kind.NUMBER,
+				bean -> AssertionExpressionOperations.arithmetic( expression, operator, leftValue.apply( bean ), rightValue.apply( bean ) ) );
+	}
+
+	private Operand parseUnary() {
+		if ( isSymbol( "!" ) ) {
+			int operatorPosition = consume();
+			return Operand.of( toPredicate( parseUnary(), "operator !", operatorPosition ).negate() );
+		}
+		if ( isSymbol( "-" ) ) {
+			int operatorPosition = consume();
+			Operand operand = parseUnary();
+			checkNumeric( operand, '-', operatorPosition );
+			Function<Object, Object> value = operand.value;
+			return Operand.of( Kind.NUMBER, bean -> AssertionExpressionOperations.negate( expression, value.apply( bean ) ) );
+		}
+		return parsePrimary();
+	}
+
+	private Operand parsePrimary() {
+		switch ( tokenType ) {
+			case NUMBER:
+				return constant( Kind.NUMBER, parseNumber( token ) );
+			case STRING:
+				return constant( Kind.STRING, token );
+			case IDENTIFIER:
+				return parseIdentifier();
+			case SYMBOL:
+				if ( isSymbol( "(" ) ) {
+					consume();
+					Operand operand = parseOr();
+					expectSymbol( ")" );
+					return operand;
+				}
+				throw unexpectedToken();
+			default:
+				throw unexpectedToken();
+		}
+	}
+
+	private Operand parseIdentifier() {
+		switch ( token ) {
+			case "true":
+				consume();
+				return Operand.of( bean -> true );
+			case "false":
+				consume();
+				return Operand.of( bean -> false );
+			case "null":
+				consume();
+				return Operand.of( Kind.NULL, bean -> null );
+			case "this":
+				consume();
+				if ( !isSymbol( "." ) ) {
+					return Operand.of( Kind.ANY, Function.identity() );
+				}
+				consume();
+				break;
+			default:
+				break;
+		}
+
+		Function<Object, Object> value = property( expectIdentifier() );
+		while ( isSymbol( "." ) ) {
+			consume();
+			Function<Object, Object> owner = value;
+			AssertionExpressionProperty property = new AssertionExpressionProperty( expression, expectIdentifier() );
+			value = bean -> property.read( owner.apply( bean ) );
+		}
+		return Operand.of( Kind.ANY, value );
+	}
+
+	private Function<Object, Object> property(String name) {
+		AssertionExpressionProperty property = new AssertionExpressionProperty( expression, name );
+		return property::read;
+	}
+
+	private Operand constant(Kind kind, Object constant) {
+		consume();
+		return Operand.of( kind, bean -> constant );
+	}
+
+	private Object parseNumber(String number) {
+		if ( number.indexOf( '.' ) >= 0 ) {
+			return Double.valueOf( number );
+		}
+		try {
+			return Long.valueOf( number );
+		}
+		catch (NumberFormatException e) {
+			return new BigInteger( number );
+		}
+	}
+
+	private Predicate<Object> toPredicate(Operand operand, String context, int contextPosition) {
+		if ( operand.predicate != null ) {
+			return operand.predicate;
+		}
+		if ( operand.kind != Kind.ANY ) {
+			throw error( context + " requires a boolean but got " + operand.kind.description, contextPosition );
+		}
+		Function<Object, Object> value = operand.value;
+		return bean -> AssertionExpressionOperations.toBoolean( expression, value.apply( bean ) );
+	}
+
+	private void checkNumeric(Operand operand, char operator, int operatorPosition) {
+		if ( operand.kind != Kind.NUMBER && operand.kind != Kind.ANY ) {
+			throw error( "operator " + operator + " requires numbers but got " + operand.kind.description, operatorPosition );
+		}
+	}
+
+	private boolean isSymbol(String symbol) {
+		return tokenType == TokenType.SYMBOL && token.equals( symbol );
+	}
+
+	private void expectSymbol(String symbol) {
+		if ( !isSymbol( symbol ) ) {
+			throw error( "expected " + symbol + " but got " + describeToken(), tokenPosition );
+		}
+		consume();
+	}
+
+	private String expectIdentifier() {
+		if ( tokenType != TokenType.IDENTIFIER ) {
+			throw error( "expected a property name but got " + describeToken(), tokenPosition );
+		}
+		String identifier = token;
+		consume();
+		return identifier;
+	}
+
+	/**
+	 * Moves to the next token.
+	 *
+	 * @return the position of the consumed token
+	 */
+	private int consume() {
+		int consumedTokenPosition = tokenPosition;
+		nextToken();
+		return consumedTokenPosition;
+	}
+
+	private void nextToken() {
+		int length = expression.length();
+		while ( position < length && Character.isWhitespace( expression.charAt( position ) ) ) {
+			position++;
+		}
+
+		tokenPosition = position;
+		if ( position == length ) {
+			tokenType = TokenType.END;
+			token = "";
+			return;
+		}
+
+		char c = expression.charAt( position );
+		if ( Character.isJavaIdentifierStart( c ) ) {
+			do {
+				position++;
+			}
+			while ( position < length && Character.isJavaIdentifierPart( expression.charAt( position ) ) );
+			tokenType = TokenType.IDENTIFIER;
+			token = expression.substring( tokenPosition, position );
+		}
+		else if ( isDigit( c ) ) {
+			do {
+				position++;
+			}
+			while ( position < length && isDigit( expression.charAt( position ) ) );
+			if ( position + 1 < length && expression.charAt( position ) == '.' && isDigit( expression.charAt( position + 1 ) ) ) {
+				position++;
+				do {
+					position++;
+				}
+				while ( position < length && isDigit( expression.charAt( position ) ) );
+			}
+			tokenType = TokenType.NUMBER;
+			token = expression.substring( tokenPosition, position );
+		}
+		else if ( c == '\'' || c == '"' ) {
+			tokenType = TokenType.STRING;
+			token = readString( c );
+		}
+		else {
+			tokenType = TokenType.SYMBOL;
+			String twoCharacters = position + 1 < length ? expression.substring( position, position + 2 ) : "";
+			switch ( twoCharacters ) {
+				case "||", "&&", "==", "!=", "<=", ">=":
+					token = twoCharacters;
+					break;
+				default:
+					if ( "<>!+-*/%().".indexOf( c ) < 0 ) {
+						throw error( "unexpected character '" + c + "'", position );
+					}
+					token = String.valueOf( c );
+			}
+			position += token.length();
+		}
+	}
+
+	private String readString(char quote) {
+		StringBuilder sb = new StringBuilder();
+		position++;
+		while ( position < expression.length() ) {
+			char c = expression.charAt( position++ );
+			if ( c == quote ) {
+				return sb.toString();
+			}
+			if ( c == '\\' && position < expression.length() ) {
+				c = expression.charAt( position++ );
+			}
+			sb.append( c );
+		}
+		throw error( "unterminated string", tokenPosition );
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private RuntimeException unexpectedToken() {
+		return error( "unexpected " + describeToken(), tokenPosition );
+	}
+
+	private String describeToken() {
+		return tokenType == TokenType.END ? "end of expression" : "'" + token + "'";
+	}
+
+	private RuntimeException error(String reason, int errorPosition) {
+		return LOG.getInvalidAssertionExpressionException( expression, reason, errorPosition );
+	}
+
+	private enum TokenType {
+		IDENTIFIER,
+		NUMBER,
+		STRING,
+		SYMBOL,
+		END
+	}
+
+	/**
+	 * The type of an operand, as known when compiling.
+	 */
+	private enum Kind {
+		BOOLEAN( "a boolean" ),
+		NUMBER( "a number" ),
+		STRING( "a string" ),
+		NULL( "null" ),
+		/**
+		 * A property or {@code this}: the type is only known when evaluating the expression.
+		 */
+		ANY( "a property" );
+
+		private final String description;
+
+		Kind(String description) {
+			this.description = description;
+		}
+
+		private boolean isKnown() {
+			return this != NULL && this != ANY;
+		}
+	}
+
+	/**
+	 * A compiled node of the expression. The boolean nodes are compiled to a predicate.
+	 */
+	private record Operand(Kind kind, Function<Object, Object> value, Predicate<Object> predicate) {
+
+		private static Operand of(Kind kind, Function<Object, Object> value) {
+			return new Operand( kind, value, null );
+		}
+
+		private static Operand of(Predicate<Object> predicate) {
+			return new Operand( Kind.BOOLEAN, bean -> predicate.test( bean ), predicate );
+		}
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The operations applied to the values of an {@link org.hibernate.validator.constraints.ExpressionAssert} expression
+ * at runtime, once the types of the values are known.
+ * <p>
+ * Numbers are promoted to a common type before being compared or combined: {@code long} for the integral types,
+ * {@code double} for the floating point types, {@code BigInteger} and {@code BigDecimal}, a {@code BigDecimal} being
+ * used when a {@code BigInteger} is combined with a floating point number. The integral operations overflowing a
+ * {@code long} are computed with {@code BigInteger}s.
+ */
+final class AssertionExpressionOperations {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private AssertionExpressionOperations() {
+	}
+
+	enum Comparison {
+		LESS_THAN( "<" ),
+		LESS_THAN_OR_EQUAL( "<=" ),
+		GREATER_THAN( ">" ),
+		GREATER_THAN_OR_EQUAL( ">=" );
+
+		private final String operator;
+
+		Comparison(String operator) {
+			this.operator = operator;
+		}
+
+		static Comparison of(String operator) {
+			for ( Comparison comparison : values() ) {
+				if ( comparison.operator.equals( operator ) ) {
+					return comparison;
+				}
+			}
+			return null;
+		}
+
+		private boolean test(int comparisonResult) {
+			return switch ( this ) {
+				case LESS_THAN -> comparisonResult < 0;
+				case LESS_THAN_OR_EQUAL -> comparisonResult <= 0;
+				case GREATER_THAN -> comparisonResult > 0;
+				case GREATER_THAN_OR_EQUAL -> comparisonResult >= 0;
+			};
+		}
+
+		private boolean test(double left, double right) {
+			// keep the semantics of the Java operators for NaN
+			return switch ( this ) {
+				case LESS_THAN -> left < right;
+				case LESS_THAN_OR_EQUAL -> left <= right;
+				case GREATER_THAN -> left > right;
+				case GREATER_THAN_OR_EQUAL -> left >= right;
+			};
+		}
+	}
+
+	private enum NumberType {
+		LONG,
+		DOUBLE,
+		BIG_INTEGER,
+		BIG_DECIMAL
+	}
+
+	static boolean toBoolean(String expression, Object value) {
+		if ( value instanceof Boolean booleanValue ) {
+			return booleanValue;
+		}
+		throw LOG.getUnableToEvaluateAssertionExpressionException( expression, "a boolean was expected but got " + describe( value ) );
+	}
+
+	static boolean equal(Object left, Object right) {
+		if ( left == right ) {
+			return true;
+		}
+		if ( left == null || right == null ) {
+			return false;
+		}
+		if ( left instanceof Number leftNumber && right instanceof Number rightNumber ) {
+			return switch ( commonType( leftNumber, rightNumber ) ) {
+				case LONG -> leftNumber.longValue() == rightNumber.longValue();
+				case DOUBLE -> leftNumber.doubleValue() == rightNumber.doubleValue();
+				case BIG_INTEGER -> toBigInteger( leftNumber ).equals( toBigInteger( rightNumber ) );
+				case BIG_DECIMAL -> isFinite( leftNumber ) && isFinite( rightNumber )
+						&& toBigDecimal( leftNumber ).compareTo( toBigDecimal( rightNumber ) ) == 0;
+			};
+		}
+		if ( right instanceof CharSequence rightCharSequence ) {
+			return equalToCharSequence( left, rightCharSequence );
+		}
+		if ( left instanceof CharSequence leftCharSequence ) {
+			return equalToCharSequence( right, leftCharSequence );
+		}
+		return left.equals( right );
+	}
+
+	static boolean compare(String expression, Comparison comparison, Object left, Object right) {
+		if ( left == null || right == null ) {
+			return false;
+		}
+		if ( left instanceof Number leftNumber && right instanceof Number rightNumber ) {
+			NumberType type = commonType( leftNumber, rightNumber );
+			if ( type == NumberType.DOUBLE ) {
+				return comparison.test( leftNumber.doubleValue(), rightNumber.doubleValue() );
+			}
+			return comparison.test( compareNumbers( type, leftNumber, rightNumber ) );
+		}
+		if ( left instanceof CharSequence && right instanceof CharSequence ) {
+			return comparison.test( left.toString().compareTo( right.toString() ) );
+		}
+		if ( left instanceof Comparable && ( left.getClass().isInstance( right ) || right.getClass().isInstance( left ) ) ) {
+			try {
+				@SuppressWarnings("unchecked")
+				Comparable<Object> comparable = (Comparable<Object>) left;
+				return comparison.test( comparable.compareTo( right ) );
+			}
+			catch (ClassCastException e) {
+				// fall through to the error
+			}
+		}
+		throw LOG.getUnableToEvaluateAssertionExpressionException( expression,
+				"operator " + comparison.operator + " cannot compare " + describe( left ) + " and " + describe( right ) );
+	}
+
+	static Object arithmetic(String expression, char operator, Object left, Object right) {
+		if ( left == null || right == null ) {
+			return null;
+		}
+		Number leftNumber = toNumber( expression, operator, left );
+		Number rightNumber = toNumber( expression, operator, right );
+
+		try {
+			return switch ( commonType( leftNumber, rightNumber ) ) {
+				case LONG -> longArithmetic( operator, leftNumber.longValue(), rightNumber.longValue() );
+				case DOUBLE -> doubleArithmetic( operator, leftNumber.doubleValue(), rightNumber.doubleValue() );
+				case BIG_INTEGER -> bigIntegerArithmetic( operator, toBigInteger( leftNumber ), toBigInteger( rightNumber ) );
+				case BIG_DECIMAL -> bigDecimalArithmetic( operator, toBigDecimal( leftNumber ), toBigDecimal( rightNumber ) );
+			};
+		}
+		catch (ArithmeticException | NumberFormatException e) {
+			throw LOG.getUnableToEvaluateAssertionExpressionException( expression,
+					"unable to compute " + left + " " + operator + " " + right + " (" + e.getMessage() + ")" );
+		}
+	}
+
+	static Object negate(String expression, Object value) {
+		if ( value == null ) {
+			return null;
+		}
+		Number number = toNumber( expression, '-', value );
+		return switch ( typeOf( number ) ) {
+			case LONG -> number.longValue() == Long.MIN_VALUE ? BigInteger.valueOf( number.longValue() ).negate() : -number.longValue();
+			case DOUBLE -> -number.doubleValue();
+			case BIG_INTEGER -> ( (BigInteger) number ).negate();
+			case BIG_DECIMAL -> ( (BigDecimal) number ).negate();
+		};
+	}
+
+	private static Object longArithmetic(char operator, long left, long right) {
+		try {
+			return switch ( operator ) {
+				case '+' -> Math.addExact( left, right );
+				case '-' -> Math.subtractExact( left, right );
+				case '*' -> Math.multiplyExact( left, right );
+				// Long.MIN_VALUE / -1 overflows
+				case '/' -> right == -1 ? Math.negateExact( left ) : left / right;
+				default -> left % right;
+			};
+		}
+		catch (ArithmeticException e) {
+			if ( right == 0 ) {
+				throw e;
+			}
+			return bigIntegerArithmetic( operator, BigInteger.valueOf( left ), BigInteger.valueOf( right ) );
+		}
+	}
+
+	private static Object doubleArithmetic(char operator, double left, double right) {
+		return switch ( operator ) {
+			case '+' -> left + right;
+			case '-' -> left - right;
+			case '*' -> left * right;
+			case '/' -> left / right;
+			default -> left % right;
+		};
+	}
+
+	private static Object bigIntegerArithmetic(char operator, BigInteger left, BigInteger right) {
+		return switch ( operator ) {
+			case '+' -> left.add( right );
+			case '-' -> left.subtract( right );
+			case '*' -> left.multiply( right );
+			case '/' -> left.divide( right );
+			default -> left.remainder( right );
+		};
+	}
+
+	private static Object bigDecimalArithmetic(char operator, BigDecimal left, BigDecimal right) {
+		return switch ( operator ) {
+			case '+' -> left.add( right );
+			case '-' -> left.subtract( right );
+			case '*' -> left.multiply( right );
+			case '/' -> left.divide( right, MathContext.DECIMAL128 );
+			default -> left.remainder( right );
+		};
+	}
+
+	private static int compareNumbers(NumberType type, Number left, Number right) {
+		switch ( type ) {
+			case LONG:
+				return Long.compare( left.longValue(), right.longValue() );
+			case BIG_INTEGER:
+				return toBigInteger( left ).compareTo( toBigInteger( right ) );
+			default:
+				if ( !isFinite( left ) || !isFinite( right ) ) {
+					// an infinite double compared to a BigDecimal
+					return Double.compare( left.doubleValue(), right.doubleValue() );
+				}
+				return toBigDecimal( left ).compareTo( toBigDecimal( right ) );
+		}
+	}
+
+	private static boolean equalToCharSequence(Object value, CharSequence charSequence) {
+		if ( value instanceof CharSequence valueCharSequence ) {
+			return valueCharSequence.toString().contentEquals( charSequence );
+		}
+		if ( value instanceof Enum<?> enumValue ) {
+			return enumValue.name().contentEquals( charSequence );
+		}
+		if ( value instanceof Character character ) {
+			return charSequence.length() == 1 && charSequence.charAt( 0 ) == character;
+		}
+		return false;
+	}
+
+	private static Number toNumber(String expression, char operator, Object value) {
+		if ( value instanceof Number number ) {
+			return number;
+		}
+		throw LOG.getUnableToEvaluateAssertionExpressionException( expression,
+				"operator " + operator + " requires numbers but got " + describe( value ) );
+	}
+
+	private static NumberType typeOf(Number number) {
+		if ( number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+				|| number instanceof AtomicInteger || number instanceof AtomicLong ) {
+			return NumberType.LONG;
+		}
+		if ( number instanceof BigDecimal ) {
+			return NumberType.BIG_DECIMAL;
+		}
+		if ( number instanceof BigInteger ) {
+			return NumberType.BIG_INTEGER;
+		}
+		return NumberType.DOUBLE;
+	}
+
+	private static NumberType commonType(Number left, Number right) {
+		NumberType leftType = typeOf( left );
+		NumberType rightType = typeOf( right );
+		if ( leftType == rightType ) {
+			return leftType;
+		}
+		if ( leftType == NumberType.BIG_DECIMAL || rightType == NumberType.BIG_DECIMAL ) {
+			return NumberType.BIG_DECIMAL;
+		}
+		if ( leftType == NumberType.DOUBLE || rightType == NumberType.DOUBLE ) {
+			return leftType == NumberType.BIG_INTEGER || rightType == NumberType.BIG_INTEGER ? NumberType.BIG_DECIMAL : NumberType.DOUBLE;
+		}
+		return NumberType.BIG_INTEGER;
+	}
+
+	private static boolean isFinite(Number number) {
+		return typeOf( number ) != NumberType.DOUBLE || Double.isFinite( number.doubleValue() );
+	}
+
+	private static BigInteger toBigInteger(Number number) {
+		return number instanceof BigInteger bigInteger ? bigInteger : BigInteger.valueOf( number.longValue() );
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+		return switch ( typeOf( number ) ) {
+			case LONG -> BigDecimal.valueOf( number.longValue() );
+			case DOUBLE -> BigDecimal.valueOf( number.doubleValue() );
+			case BIG_INTEGER -> new BigDecimal( (BigInteger) number );
+			case BIG_DECIMAL -> (BigDecimal) number;
+		};
+	}
+
+	private static String describe(Object value) {
+		return value == null ? "null" : "a value of type " + value.getClass().getName();
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.internal.properties.Property;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanGetter;
+import org.hibernate.validator.internal.util.ClassInlineCache;
+import org.hibernate.validator.internal.util.actions.GetDeclaredField;
+import org.hibernate.validator.internal.util.actions.GetDeclaredMethod;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A property referenced by an {@link org.hibernate.validator.constraints.ExpressionAssert} expression.
+ * <p>
+ * The expression is compiled without knowing the class of the validated bean, so the property is resolved against the
+ * runtime class of each value it is read from: a getter ({@code getX()}, {@code isX()} or {@code x()}) or, if there
+ * is none, a field, looked up in the class and then in its super types. The accessors are generated as for the
+ * {@link PropertyAccessorStrategy#GENERATED} strategy and kept for each runtime class, the last classes being also
+ * kept in an inline cache.
+ */
+final class AssertionExpressionProperty {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final String expression;
+
+	private final String name;
+
+	private final String capitalizedName;
+
+	private final ClassInlineCache<PropertyAccessor> accessorInlineCache = new ClassInlineCache<>();
+
+	private final ConcurrentMap<Class<?>, PropertyAccessor> accessors = new ConcurrentHashMap<>();
+
+	AssertionExpressionProperty(String expression, String name) {
+		this.expression = expression;
+		this.name = name;
+		this.capitalizedName = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+	}
+
+	/**
+	 * @return the value of the property for the given bean, {@code null} if the bean is {@code null}
+	 */
+	Object read(Object bean) {
+		if ( bean == null ) {
+			return null;
+		}
+
+		Class<?> beanClass = bean.getClass();
+		PropertyAccessor accessor = accessorInlineCache.get( beanClass );
+		if ( accessor == null ) {
+			accessor = accessors.computeIfAbsent( beanClass, this::resolveAccessor );
+			accessorInlineCache.put( beanClass, accessor );
+		}
+		return accessor.getValueFrom( bean );
+	}
+
+	private PropertyAccessor resolveAccessor(Class<?> beanClass) {
+		for ( Class<?> type : ClassHierarchyHelper.getHierarchy( beanClass ) ) {
+			PropertyAccessor accessor = getGetterAccessor( type, "get" + capitalizedName, false );
+			if ( accessor == null ) {
+				accessor = getGetterAccessor( type, "is" + capitalizedName, true );
+			}
+			if ( accessor == null ) {
+				accessor = getGetterAccessor( type, name, false );
+			}
+			if ( accessor == null ) {
+				accessor = getFieldAccessor( type );
+			}
+			if ( accessor != null ) {
+				return accessor;
+			}
+		}
+
+		throw LOG.getUnknownAssertionExpressionPropertyException( expression, name, beanClass );
+	}
+
+	private PropertyAccessor getGetterAccessor(Class<?> type, String methodName, boolean booleanOnly) {
+		Method method = GetDeclaredMethod.action( type, methodName );
+		if ( method == null || Modifier.isStatic( method.getModifiers() ) || method.getReturnType() == void.class ) {
+			return null;
+		}
+		if ( booleanOnly && method.getReturnType() != boolean.class && method.getReturnType() != Boolean.class ) {
+			return null;
+		}
+		return createAccessor( new JavaBeanGetter( type, method, name, name, PropertyAccessorStrategy.GENERATED ) );
+	}
+
+	private PropertyAccessor getFieldAccessor(Class<?> type) {
+		Field field = GetDeclaredField.action( type, name );
+		if ( field == null || Modifier.isStatic( field.getModifiers() ) ) {
+			return null;
+		}
+		return createAccessor( new JavaBeanField( field, name, PropertyAccessorStrategy.GENERATED ) );
+	}
+
+	private static PropertyAccessor createAccessor(Property property) {
+		try {
+			return property.createAccessor();
+		}
+		catch (RuntimeException e) {
+			// the member cannot be made accessible, e.g. a method of a non public JDK class: the public super type
+			// declaring it, if any, comes later in the hierarchy
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.constraints.ExpressionAssert;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+import org.hibernate.validator.internal.util.Contracts;
+
+/**
+ * Validator for the {@link ExpressionAssert} constraint annotation.
+ * <p>
+ * The expression is compiled when the validator is initialized. The compiled expressions are shared by the validators
+ * of a given validator factory, through the initialization shared data, so that an expression is only compiled once
+ * even if it is used by several constraints.
+ * <p>
+ * Only the syntax of the expression is checked when compiling it: the properties are resolved against the runtime
+ * classes of the validated values, which are not known at initialization.
+ */
+public class ExpressionAssertValidator implements HibernateConstraintValidator<ExpressionAssert, Object> {
+
+	private Predicate<Object> assertion;
+	private String escapedExpression;
+	private String reportOn;
+	private String message;
+
+	@Override
+	public void initialize(ConstraintDescriptor<ExpressionAssert> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		ExpressionAssert constraintAnnotation = constraintDescriptor.getAnnotation();
+		Contracts.assertNotEmpty( constraintAnnotation.expression(), MESSAGES.parameterMustNotBeEmpty( "expression" ) );
+
+		this.assertion = initializationContext.getSharedData( AssertionExpressionCache.class, AssertionExpressionCache::new )
+				.get( constraintAnnotation.expression() );
+		this.escapedExpression = InterpolationHelper.escapeMessageParameter( constraintAnnotation.expression() );
+		this.reportOn = constraintAnnotation.reportOn();
+		this.message = constraintAnnotation.message();
+	}
+
+	@Override
+	public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( assertion.test( value ) ) {
+			return true;
+		}
+
+		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
+			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "expression", escapedExpression );
+		}
+
+		if ( !reportOn.isEmpty() ) {
+			constraintValidatorContext.disableDefaultConstraintViolation();
+			constraintValidatorContext.buildConstraintViolationWithTemplate( message ).addPropertyNode( reportOn ).addConstraintViolation();
+		}
+
+		return false;
+	}
+
+	private static final class AssertionExpressionCache {
+
+		private final Map<String, Predicate<Object>> compiledExpressions = new ConcurrentHashMap<>();
+
+		private Predicate<Object> get(String expression) {
+			return compiledExpressions.computeIfAbsent( expression, AssertionExpressionCompiler::compile );
+		}
+	}
+}
@@ -33,6 +33,18 @@ public void initialize(LuhnCheck constraintAnnotation) {
 		);
 	}
 
+	@Override
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		int modResult = calculateLuhnMod10Check( value, start, end );
+
+		if ( !Character.isDigit( checkDigit ) ) {
+			return false;
+		}
+
+		int checkValue = extractDigit( checkDigit );
+		return checkValue == modResult;
+	}
+
 	/**
 	 * Validate check digit using Luhn algorithm
 	 *
@@ -58,6 +58,18 @@ public void initialize(Mod10Check constraintAnnotation) {
 		}
 	}
 
+	@Override
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		int modResult = calculateMod10Check( value, start, end, this.multiplier, this.weight );
+
+		if ( !Character.isDigit( checkDigit ) ) {
+			return false;
+		}
+
+		int checkValue = extractDigit( checkDigit );
+		return checkValue == modResult;
+	}
+
 	/**
 	 * Validate check digit using Mod10
 	 *
@@ -103,6 +103,14 @@ public void initialize(
 		}
 	}
 
+	@Override
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		int modResult = customWeights.length == 0
+				? calculateMod11Check( value, start, end, reverseOrder, this.threshold )
+				: calculateModXCheckWithWeights( value, start, end, countDigits( value, start, end ), reverseOrder, 11, customWeights );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
 	/**
 	 * Validate check digit using Mod11 checksum
 	 *
@@ -118,6 +126,10 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 
 		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 11, this.threshold, customWeights );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
+	private boolean isCheckDigitValid(int modResult, char checkDigit) {
 		switch ( modResult ) {
 			case 10:
 				return checkDigit == this.treatCheck10As;
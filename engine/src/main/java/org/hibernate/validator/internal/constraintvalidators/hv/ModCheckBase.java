@@ -11,6 +11,7 @@
 
 import jakarta.validation.ConstraintValidatorContext;
 
+import org.hibernate.validator.internal.util.ModUtil;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -53,27 +54,63 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return true;
 		}
 
-		String valueAsString = value.toString();
-		String digitsAsString;
-		char checkDigit;
-		try {
-			digitsAsString = extractVerificationString( valueAsString );
-			checkDigit = extractCheckDigit( valueAsString );
+		int length = value.length();
+		int start;
+		int end;
+		// the string contains the check digit, just verify the digits before it
+		if ( endIndex == Integer.MAX_VALUE ) {
+			start = 0;
+			end = length - 1;
+		}
+		else if ( checkDigitIndex == -1 ) {
+			start = startIndex;
+			end = endIndex;
+		}
+		else {
+			start = startIndex;
+			end = endIndex + 1;
+		}
+
+		// take last character of string to be validated unless the index is given explicitly
+		int checkDigitPosition;
+		if ( checkDigitIndex == -1 ) {
+			checkDigitPosition = endIndex == Integer.MAX_VALUE ? length - 1 : endIndex;
+		}
+		else {
+			checkDigitPosition = checkDigitIndex;
 		}
-		catch (IndexOutOfBoundsException e) {
+
+		if ( start > end || end > length || checkDigitPosition < 0 || checkDigitPosition >= length ) {
 			return false;
 		}
-		digitsAsString = stripNonDigitsIfRequired( digitsAsString );
 
-		List<Integer> digits;
 		try {
-			digits = extractDigits( digitsAsString );
+			return isCheckDigitValid( value, start, end, value.charAt( checkDigitPosition ) );
 		}
 		catch (NumberFormatException e) {
 			return false;
 		}
+	}
 
-		return this.isCheckDigitValid( digits, checkDigit );
+	/**
+	 * Validates the check digit against the digits of the given range of the value.
+	 * <p>
+	 * The built-in validators override this method to compute the checksum while scanning the value, without
+	 * allocating anything. The default implementation extracts the digits as a {@link List} and delegates to
+	 * {@link #isCheckDigitValid(List, char)}.
+	 *
+	 * @param value the validated value
+	 * @param start the index of the first character over which to calculate the checksum, inclusive
+	 * @param end the index of the last character over which to calculate the checksum, exclusive
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the checksum matches the check digit, {@code false} otherwise
+	 *
+	 * @throws NumberFormatException in case one of the characters of the range is not a digit
+	 */
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		String digitsAsString = stripNonDigitsIfRequired( value.subSequence( start, end ).toString() );
+		return isCheckDigitValid( extractDigits( digitsAsString ), checkDigit );
 	}
 
 	public abstract boolean isCheckDigitValid(List<Integer> digits, char checkDigit);
@@ -152,32 +189,126 @@ protected String stripNonDigitsIfRequired(String value) {
 		}
 	}
 
-	private String extractVerificationString(String value) throws IndexOutOfBoundsException {
-		// the string contains the check digit, just return the digits to verify
-		if ( endIndex == Integer.MAX_VALUE ) {
-			return value.substring( 0, value.length() - 1 );
-		}
-		else if ( checkDigitIndex == -1 ) {
-			return value.substring( startIndex, endIndex );
+	/**
+	 * Returns whether the given character is a delimiting character, ignored in the checksum calculation if
+	 * {@link #ignoreDelimitingCharacters} is set.
+	 */
+	protected boolean isDelimitingCharacter(char c) {
+		return c < '0' || c > '9';
+	}
+
+	/**
+	 * Returns the number of digits in the given range of the value.
+	 */
+	protected final int countDigits(CharSequence value, int start, int end) {
+		if ( !ignoreDelimitingCharacters ) {
+			return end - start;
 		}
-		else {
-			return value.substring( startIndex, endIndex + 1 );
+
+		int count = 0;
+		for ( int i = start; i < end; i++ ) {
+			if ( !isDelimitingCharacter( value.charAt( i ) ) ) {
+				count++;
+			}
 		}
+		return count;
 	}
 
-	private char extractCheckDigit(String value) throws IndexOutOfBoundsException {
-		// take last character of string to be validated unless the index is given explicitly
-		if ( checkDigitIndex == -1 ) {
-			if ( endIndex == Integer.MAX_VALUE ) {
-				return value.charAt( value.length() - 1 );
+	/**
+	 * Calculates the Luhn Modulo 10 checksum of the digits of the given range of the value.
+	 *
+	 * @see ModUtil#calculateLuhnMod10Check(List)
+	 */
+	protected final int calculateLuhnMod10Check(CharSequence value, int start, int end) {
+		int sum = 0;
+		boolean even = true;
+		for ( int i = end - 1; i >= start; i-- ) {
+			char c = value.charAt( i );
+			if ( ignoreDelimitingCharacters && isDelimitingCharacter( c ) ) {
+				continue;
 			}
-			else {
-				return value.charAt( endIndex );
+
+			int digit = extractDigit( c );
+			if ( even ) {
+				digit <<= 1;
+			}
+			if ( digit > 9 ) {
+				digit -= 9;
 			}
+			sum += digit;
+			even = !even;
 		}
-		else {
-			return value.charAt( checkDigitIndex );
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculates the generic Modulo 10 checksum of the digits of the given range of the value.
+	 *
+	 * @see ModUtil#calculateMod10Check(List, int, int)
+	 */
+	protected final int calculateMod10Check(CharSequence value, int start, int end, int multiplier, int weight) {
+		int sum = 0;
+		boolean even = true;
+		for ( int i = end - 1; i >= start; i-- ) {
+			char c = value.charAt( i );
+			if ( ignoreDelimitingCharacters && isDelimitingCharacter( c ) ) {
+				continue;
+			}
+
+			sum += extractDigit( c ) * ( even ? multiplier : weight );
+			even = !even;
+		}
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculates the Modulo 11 checksum of the digits of the given range of the value, the multiplier growing from 2
+	 * to the threshold.
+	 *
+	 * @param reverseOrder whether the digits are processed from left to right instead of from right to left
+	 *
+	 * @see ModUtil#calculateModXCheckWithWeights(List, int, int, int...)
+	 */
+	protected final int calculateMod11Check(CharSequence value, int start, int end, boolean reverseOrder, int threshold) {
+		int sum = 0;
+		int multiplier = 1;
+		for ( int position = 0; position < end - start; position++ ) {
+			char c = value.charAt( reverseOrder ? start + position : end - 1 - position );
+			if ( ignoreDelimitingCharacters && isDelimitingCharacter( c ) ) {
+				continue;
+			}
+
+			multiplier++;
+			if ( multiplier > threshold ) {
+				multiplier = 2;
+			}
+			sum += extractDigit( c ) * multiplier;
 		}
+		return 11 - ( sum % 11 );
 	}
 
+	/**
+	 * Calculates the Modulo {@code moduloParam} checksum of the digits of the given range of the value with the given
+	 * weights, used in a looped manner if there are more digits than weights.
+	 *
+	 * @param numberOfDigits the number of digits in the range, as returned by {@link #countDigits(CharSequence, int, int)}
+	 * @param reverseOrder whether the digits are processed from left to right instead of from right to left
+	 *
+	 * @see ModUtil#calculateModXCheckWithWeights(List, int, int, int...)
+	 */
+	protected final int calculateModXCheckWithWeights(CharSequence value, int start, int end, int numberOfDigits, boolean reverseOrder,
+			int moduloParam, int[] weights) {
+		int sum = 0;
+		int index = numberOfDigits;
+		for ( int position = 0; position < end - start; position++ ) {
+			char c = value.charAt( reverseOrder ? start + position : end - 1 - position );
+			if ( ignoreDelimitingCharacters && isDelimitingCharacter( c ) ) {
+				continue;
+			}
+
+			index--;
+			sum += extractDigit( c ) * weights[weights.length - index % weights.length - 1];
+		}
+		return moduloParam - ( sum % moduloParam );
+	}
 }
@@ -10,12 +10,23 @@
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import org.hibernate.validator.internal.util.URLScanner;
+
 /**
  * Validate that the character sequence (e.g. string) is a valid URL using the {@code java.net.URL} constructor.
+ * <p>
+ * The common {@code http} and {@code https} URLs are checked by a single-pass character scanner, accepting the URLs
+ * which {@code java.net.URI} and {@code java.net.URL} accept with the same protocol, host and port. The other values
+ * are still parsed by {@code java.net.URI} and {@code java.net.URL}.
  *
  * @author Hardy Ferentschik
  */
 public class URLValidator implements ConstraintValidator<org.hibernate.validator.constraints.URL, CharSequence> {
+	/**
+	 * The ports of up to 5 digits are parsed the same way by {@link java.net.URI} and {@link java.net.URL}.
+	 */
+	private static final int MAX_PORT_DIGITS = 5;
+
 	private String protocol;
 	private String host;
 	private int port;
@@ -33,6 +44,21 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 
+		int schemeEnd = URLScanner.scanScheme( value );
+		if ( schemeEnd < 0 ) {
+			// without a scheme, the URI is not absolute and cannot be converted to an URL
+			return false;
+		}
+
+		if ( isHttpScheme( value, schemeEnd ) && URLScanner.hasAuthority( value, schemeEnd ) ) {
+			int hostStart = schemeEnd + 3;
+			int hostEnd = URLScanner.scanHostName( value, hostStart );
+			int portEnd = hostEnd < 0 ? -1 : URLScanner.scanPort( value, hostEnd, MAX_PORT_DIGITS );
+			if ( portEnd >= 0 && URLScanner.isValidPathQueryAndFragment( value, portEnd ) ) {
+				return matchesAttributes( value, 0, schemeEnd, value, hostStart, hostEnd, URLScanner.getPort( value, hostEnd, portEnd ) );
+			}
+		}
+
 		java.net.URL url;
 		try {
 			url = new java.net.URI( value.toString() ).toURL();
@@ -41,18 +67,33 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return false;
 		}
 
-		if ( protocol != null && protocol.length() > 0 && !url.getProtocol().equals( protocol ) ) {
+		String urlProtocol = url.getProtocol();
+		String urlHost = url.getHost();
+		return matchesAttributes( urlProtocol, 0, urlProtocol.length(), urlHost, 0, urlHost.length(), url.getPort() );
+	}
+
+	private boolean matchesAttributes(CharSequence urlProtocol, int protocolStart, int protocolEnd, CharSequence urlHost, int hostStart, int hostEnd,
+			int urlPort) {
+		if ( protocol != null && protocol.length() > 0 && !URLScanner.regionEquals( urlProtocol, protocolStart, protocolEnd, protocol ) ) {
 			return false;
 		}
 
-		if ( host != null && host.length() > 0 && !url.getHost().equals( host ) ) {
+		if ( host != null && host.length() > 0 && !URLScanner.regionEquals( urlHost, hostStart, hostEnd, host ) ) {
 			return false;
 		}
 
-		if ( port != -1 && url.getPort() != port ) {
+		if ( port != -1 && urlPort != port ) {
 			return false;
 		}
 
 		return true;
 	}
+
+	/**
+	 * {@code java.net.URL} has built-in handlers for these schemes, and lowercases the protocol so only the lowercase
+	 * schemes are returned as is.
+	 */
+	private static boolean isHttpScheme(CharSequence value, int schemeEnd) {
+		return URLScanner.regionEquals( value, 0, schemeEnd, "http" ) || URLScanner.regionEquals( value, 0, schemeEnd, "https" );
+	}
 }
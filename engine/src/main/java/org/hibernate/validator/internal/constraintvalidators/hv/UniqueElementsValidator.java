@@ -4,26 +4,26 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import static java.util.stream.Collectors.toList;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.UniqueElements;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
-import org.hibernate.validator.internal.util.CollectionHelper;
 
 /**
  * Validates that the provided collection only contains unique elements, i.e. that we can't find 2 equal elements in the
  * collection.
  * <p>
  * Uniqueness is defined by the {@code equals()} method of the objects being compared.
+ * <p>
+ * The elements are tracked in open addressing hash sets sized from the collection: the boxed primitives of a
+ * collection only containing elements of the same wrapper type are tracked by their primitive value, and the other
+ * elements by reference. When the duplicates are not reported, the validation stops at the first duplicate.
  *
  * @author Tadhg Pearson
  * @author Guillaume Smet
@@ -33,6 +33,12 @@
 // Collection here to support having properties defined as Collection (see HV-1551)
 public class UniqueElementsValidator implements ConstraintValidator<UniqueElements, Collection> {
 
+	/**
+	 * The maximum number of duplicates listed in the {@code duplicates} message parameter. The dynamic payload
+	 * contains all of them.
+	 */
+	private static final int MAX_DUPLICATES_IN_MESSAGE = 20;
+
 	/**
 	 * @param collection the collection to validate
 	 * @param constraintValidatorContext context in which the constraint is evaluated
@@ -45,27 +51,333 @@ public boolean isValid(Collection collection, ConstraintValidatorContext constra
 			return true;
 		}
 
-		List<Object> duplicates = findDuplicates( collection );
+		if ( !isDuplicateReportingRequired( constraintValidatorContext ) ) {
+			return !findDuplicates( collection, null );
+		}
 
-		if ( duplicates.isEmpty() ) {
+		List<Object> duplicates = new ArrayList<>();
+		if ( !findDuplicates( collection, duplicates ) ) {
 			return true;
 		}
 
-		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
-			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
-					.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
-					// We cannot leverage the CollectionHelper.toImmutableList here as it does not allow `null` values.
-					//  User collections may have `null`s in it and those could as well be duplicates
-					//  so let's rely on the Collections.unmodifiableList here which accepts `null` values as long as the underlying collection allows it:
-					.withDynamicPayload( Collections.unmodifiableList( duplicates ) );
-		}
+		constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
+				.addMessageParameter( "duplicates", toMessageParameter( duplicates ) )
+				// We cannot leverage the CollectionHelper.toImmutableList here as it does not allow `null` values.
+				//  User collections may have `null`s in it and those could as well be duplicates
+				//  so let's rely on the Collections.unmodifiableList here which accepts `null` values as long as the underlying collection allows it:
+				.withDynamicPayload( Collections.unmodifiableList( duplicates ) );
 
 		return false;
 	}
 
-	private List<Object> findDuplicates(Collection<?> collection) {
-		Set<Object> uniqueElements = CollectionHelper.newHashSet( collection.size() );
-		return collection.stream().filter( o -> !uniqueElements.add( o ) )
-				.collect( toList() );
+	private static boolean isDuplicateReportingRequired(ConstraintValidatorContext constraintValidatorContext) {
+		return constraintValidatorContext instanceof HibernateConstraintValidatorContext
+				&& !constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).isValidityCheckModeEnabled();
+	}
+
+	/**
+	 * @param collection the collection to check
+	 * @param duplicates the list collecting the duplicates, every occurrence of an element but the first one, or
+	 * {@code null} to stop at the first duplicate
+	 * @return {@code true} if the collection contains duplicates
+	 */
+	private static boolean findDuplicates(Collection<?> collection, List<Object> duplicates) {
+		PrimitiveType primitiveType = PrimitiveType.of( firstNonNullElement( collection ) );
+		if ( primitiveType != null ) {
+			Boolean found = findPrimitiveDuplicates( collection, primitiveType, duplicates );
+			if ( found != null ) {
+				return found;
+			}
+			// the collection mixes different types, the elements have to be compared with equals()
+			if ( duplicates != null ) {
+				duplicates.clear();
+			}
+		}
+		return findObjectDuplicates( collection, duplicates );
+	}
+
+	/**
+	 * @return {@code true} or {@code false} depending on whether duplicates were found, or {@code null} if an element
+	 * is not of the given primitive wrapper type
+	 */
+	private static Boolean findPrimitiveDuplicates(Collection<?> collection, PrimitiveType primitiveType, List<Object> duplicates) {
+		LongHashSet uniqueElements = new LongHashSet( collection.size() );
+		boolean nullFound = false;
+		boolean duplicateFound = false;
+
+		for ( Object element : collection ) {
+			boolean added;
+			if ( element == null ) {
+				added = !nullFound;
+				nullFound = true;
+			}
+			else if ( element.getClass() != primitiveType.wrapperType ) {
+				return null;
+			}
+			else {
+				added = uniqueElements.add( primitiveType.toLong( element ) );
+			}
+
+			if ( !added ) {
+				if ( duplicates == null ) {
+					return Boolean.TRUE;
+				}
+				duplicates.add( element );
+				duplicateFound = true;
+			}
+		}
+		return duplicateFound;
+	}
+
+	private static boolean findObjectDuplicates(Collection<?> collection, List<Object> duplicates) {
+		ObjectHashSet uniqueElements = new ObjectHashSet( collection.size() );
+		boolean nullFound = false;
+		boolean duplicateFound = false;
+
+		for ( Object element : collection ) {
+			boolean added;
+			if ( element == null ) {
+				added = !nullFound;
+				nullFound = true;
+			}
+			else {
+				added = uniqueElements.add( element );
+			}
+
+			if ( !added ) {
+				if ( duplicates == null ) {
+					return true;
+				}
+				duplicates.add( element );
+				duplicateFound = true;
+			}
+		}
+		return duplicateFound;
+	}
+
+	private static Object firstNonNullElement(Collection<?> collection) {
+		for ( Object element : collection ) {
+			if ( element != null ) {
+				return element;
+			}
+		}
+		return null;
+	}
+
+	private static String toMessageParameter(List<Object> duplicates) {
+		StringBuilder messageParameter = new StringBuilder();
+		int listedDuplicates = Math.min( duplicates.size(), MAX_DUPLICATES_IN_MESSAGE );
+		for ( int i = 0; i < listedDuplicates; i++ ) {
+			if ( i > 0 ) {
+				messageParameter.append( ", " );
+			}
+			messageParameter.append( duplicates.get( i ) );
+		}
+		if ( duplicates.size() > listedDuplicates ) {
+			messageParameter.append( ", ..." );
+		}
+		return messageParameter.toString();
+	}
+
+	/**
+	 * @return the capacity, a power of two, of a table holding the given number of elements with a load factor of at
+	 * most 2/3
+	 */
+	private static int tableCapacity(int expectedSize) {
+		int minimumCapacity = (int) Math.min( 1 << 30, Math.max( 4L, expectedSize + ( expectedSize + 1L ) / 2 ) );
+		int capacity = Integer.highestOneBit( minimumCapacity );
+		return capacity == minimumCapacity ? capacity : capacity << 1;
+	}
+
+	private static int mix(long hash) {
+		long mixed = hash * 0x9E3779B97F4A7C15L;
+		return (int) ( mixed ^ ( mixed >>> 32 ) );
+	}
+
+	/**
+	 * The boxed primitives whose {@code equals()} method compares a primitive value which can be represented as a
+	 * {@code long}.
+	 */
+	private enum PrimitiveType {
+		INTEGER( Integer.class ) {
+			@Override
+			long toLong(Object element) {
+				return (Integer) element;
+			}
+		},
+		LONG( Long.class ) {
+			@Override
+			long toLong(Object element) {
+				return (Long) element;
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			long toLong(Object element) {
+				return (Short) element;
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			long toLong(Object element) {
+				return (Byte) element;
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			long toLong(Object element) {
+				return (Character) element;
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			long toLong(Object element) {
+				// Double.equals() compares the bits, with all the NaNs being equal
+				return Double.doubleToLongBits( (Double) element );
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			long toLong(Object element) {
+				// Float.equals() compares the bits, with all the NaNs being equal
+				return Float.floatToIntBits( (Float) element );
+			}
+		};
+
+		private final Class<?> wrapperType;
+
+		PrimitiveType(Class<?> wrapperType) {
+			this.wrapperType = wrapperType;
+		}
+
+		abstract long toLong(Object element);
+
+		static PrimitiveType of(Object element) {
+			if ( element == null ) {
+				return null;
+			}
+			for ( PrimitiveType primitiveType : values() ) {
+				if ( primitiveType.wrapperType == element.getClass() ) {
+					return primitiveType;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * A set of {@code long} values using open addressing with linear probing.
+	 */
+	private static final class LongHashSet {
+
+		private long[] values;
+		private boolean[] used;
+		private int size;
+		private int threshold;
+
+		private LongHashSet(int expectedSize) {
+			allocate( tableCapacity( expectedSize ) );
+		}
+
+		private boolean add(long value) {
+			int mask = values.length - 1;
+			int index = mix( value ) & mask;
+			while ( used[index] ) {
+				if ( values[index] == value ) {
+					return false;
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			values[index] = value;
+			used[index] = true;
+			if ( ++size > threshold ) {
+				rehash();
+			}
+			return true;
+		}
+
+		private void rehash() {
+			long[] oldValues = values;
+			boolean[] oldUsed = used;
+			allocate( oldValues.length << 1 );
+			int mask = values.length - 1;
+			for ( int i = 0; i < oldValues.length; i++ ) {
+				if ( oldUsed[i] ) {
+					int index = mix( oldValues[i] ) & mask;
+					while ( used[index] ) {
+						index = ( index + 1 ) & mask;
+					}
+					values[index] = oldValues[i];
+					used[index] = true;
+				}
+			}
+		}
+
+		private void allocate(int capacity) {
+			values = new long[capacity];
+			used = new boolean[capacity];
+			threshold = capacity / 3 * 2;
+		}
+	}
+
+	/**
+	 * A set of objects compared with {@code equals()} using open addressing with linear probing. The hash codes are
+	 * kept alongside the elements to only call {@code equals()} for the elements with the same hash code, as
+	 * {@link java.util.HashSet} does.
+	 */
+	private static final class ObjectHashSet {
+
+		private Object[] elements;
+		private int[] hashCodes;
+		private int size;
+		private int threshold;
+
+		private ObjectHashSet(int expectedSize) {
+			allocate( tableCapacity( expectedSize ) );
+		}
+
+		private boolean add(Object element) {
+			int hashCode = element.hashCode();
+			int mask = elements.length - 1;
+			int index = mix( hashCode ) & mask;
+			Object candidate;
+			while ( ( candidate = elements[index] ) != null ) {
+				if ( hashCodes[index] == hashCode && ( candidate == element || element.equals( candidate ) ) ) {
+					return false;
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			elements[index] = element;
+			hashCodes[index] = hashCode;
+			if ( ++size > threshold ) {
+				rehash();
+			}
+			return true;
+		}
+
+		private void rehash() {
+			Object[] oldElements = elements;
+			int[] oldHashCodes = hashCodes;
+			allocate( oldElements.length << 1 );
+			int mask = elements.length - 1;
+			for ( int i = 0; i < oldElements.length; i++ ) {
+				if ( oldElements[i] != null ) {
+					int index = mix( oldHashCodes[i] ) & mask;
+					while ( elements[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					elements[index] = oldElements[i];
+					hashCodes[index] = oldHashCodes[i];
+				}
+			}
+		}
+
+		private void allocate(int capacity) {
+			elements = new Object[capacity];
+			hashCodes = new int[capacity];
+			threshold = capacity / 3 * 2;
+		}
 	}
 }
@@ -21,7 +21,6 @@
  * @author Eduardo Resende Batista Soares
  */
 public class CNPJValidator implements ConstraintValidator<CNPJ, CharSequence> {
-	private static final Pattern NUMBERS_UPPER_LETTERS_ONLY_REGEXP = Pattern.compile( "[0-9A-Z]+" );
 	private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile( "([0-9A-Z]{2}[.]?[0-9A-Z]{3}[.]?[0-9A-Z]{3}[/]?[0-9A-Z]{4}[-]?[0-9]{2})" );
 	private static final Pattern NUMERIC_PATTERN = Pattern.compile( "([0-9]{2}[.]?[0-9]{3}[.]?[0-9]{3}[/]?[0-9]{4}[-]?[0-9]{2})" );
 
@@ -92,7 +91,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return false;
 		}
 
-		if ( NUMBERS_UPPER_LETTERS_ONLY_REGEXP.matcher( value ).matches() ) {
+		if ( isNumbersAndUpperLettersOnly( value ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
@@ -103,9 +102,24 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 	}
 
 
+	private static boolean isNumbersAndUpperLettersOnly(CharSequence value) {
+		if ( value.length() == 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < value.length(); i++ ) {
+			if ( !isNumberOrUpperLetter( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isNumberOrUpperLetter(char c) {
+		return ( c >= '0' && c <= '9' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
 	private static class CnpjAlphanumericMod11CheckValidator extends Mod11CheckValidator {
 		private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-		private static final Pattern NUMBERS_UPPER_LETTERS_ONLY_STRIP_REGEXP = Pattern.compile( "[^0-9A-Z]" );
 		private static final int BASE_CHAR_INDEX = 48;
 
 		@Override
@@ -123,13 +137,8 @@ protected int extractDigit(char value) throws NumberFormatException {
 		}
 
 		@Override
-		protected String stripNonDigitsIfRequired(String value) {
-			if ( ignoreDelimitingCharacters ) {
-				return NUMBERS_UPPER_LETTERS_ONLY_STRIP_REGEXP.matcher( value ).replaceAll( "" );
-			}
-			else {
-				return value;
-			}
+		protected boolean isDelimitingCharacter(char c) {
+			return !isNumberOrUpperLetter( c );
 		}
 	}
 }
@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -17,8 +15,6 @@
  * @author Hardy Ferentschik
  */
 public class CPFValidator implements ConstraintValidator<CPF, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
-
 	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
 	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
 
@@ -54,7 +50,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
+		if ( isDigitsOnly( value ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
@@ -63,4 +59,17 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 					&& withSeparatorMod11Validator2.isValid( value, context );
 		}
 	}
+
+	private static boolean isDigitsOnly(CharSequence value) {
+		if ( value.length() == 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.List;
-
 import org.hibernate.validator.constraints.pl.NIP;
 
 /**
@@ -29,7 +27,7 @@ public void initialize(NIP constraintAnnotation) {
 	}
 
 	@Override
-	protected int[] getWeights(List<Integer> digits) {
+	protected int[] getWeights(int numberOfDigits) {
 		return WEIGHTS_NIP;
 	}
 
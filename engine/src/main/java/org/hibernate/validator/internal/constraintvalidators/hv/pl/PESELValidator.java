@@ -34,6 +34,22 @@ public void initialize(PESEL constraintAnnotation) {
 		);
 	}
 
+	@Override
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		// if the length of the number is incorrect we can return fast
+		if ( end - start != WEIGHTS_PESEL.length ) {
+			return false;
+		}
+
+		if ( !isValidDate( doubleDigitNumber( value, start ), doubleDigitNumber( value, start + 2 ), doubleDigitNumber( value, start + 4 ) ) ) {
+			return false;
+		}
+
+		// now that we are done with custom logic we can proceeed with regular mod check of the checkdigit:
+		int modResult = calculateModXCheckWithWeights( value, start, end, WEIGHTS_PESEL.length, true, 10, WEIGHTS_PESEL );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		// if the length of the number is incorrect we can return fast
@@ -41,25 +57,35 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 			return false;
 		}
 
-		int monthCode = doubleDigitNumberFromSubList( digits, 2 );
+		if ( !isValidDate( doubleDigitNumberFromSubList( digits, 0 ), doubleDigitNumberFromSubList( digits, 2 ), doubleDigitNumberFromSubList( digits, 4 ) ) ) {
+			return false;
+		}
+
+		// now that we are done with custom logic we can proceeed with regular mod check of the checkdigit:
+		Collections.reverse( digits );
+
+		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
+	private boolean isValidDate(int year, int monthCode, int day) {
 		try {
 			// PESEL format is YYMMDD*****, where MM is coded month (depending on the century
 			// 0/20/40/60/80 can be added to the month value) see javadoc on `year()`.
 			// Need to make sure that these first 6 digits represent a valid date
 			LocalDate.of(
-					year( doubleDigitNumberFromSubList( digits, 0 ), monthCode / 20 ),
+					year( year, monthCode / 20 ),
 					monthCode % 20,
-					doubleDigitNumberFromSubList( digits, 4 )
+					day
 			);
+			return true;
 		}
 		catch (DateTimeException e) {
 			return false;
 		}
+	}
 
-		// now that we are done with custom logic we can proceeed with regular mod check of the checkdigit:
-		Collections.reverse( digits );
-
-		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
+	private boolean isCheckDigitValid(int modResult, char checkDigit) {
 		switch ( modResult ) {
 			case 10:
 				return checkDigit == '0';
@@ -68,6 +94,10 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 	}
 
+	private int doubleDigitNumber(CharSequence value, int start) {
+		return extractDigit( value.charAt( start ) ) * 10 + extractDigit( value.charAt( start + 1 ) );
+	}
+
 	private int doubleDigitNumberFromSubList(List<Integer> digits, int start) {
 		// index access is ok here as we use ArrayLists.
 		return digits.get( start ) * 10 + digits.get( start + 1 );
@@ -22,11 +22,27 @@
  */
 public abstract class PolishNumberValidator<T extends Annotation> extends ModCheckBase implements ConstraintValidator<T, CharSequence> {
 
+	@Override
+	protected boolean isCheckDigitValid(CharSequence value, int start, int end, char checkDigit) {
+		int numberOfDigits = countDigits( value, start, end );
+
+		int[] weights = getWeights( numberOfDigits );
+
+		// if the length of the number is incorrect we can return fast
+		if ( weights.length != numberOfDigits ) {
+			return false;
+		}
+
+		// as we need sum % 11 rather than 11 - (sum % 11) returned by Mod11 algorithm:
+		int modResult = 11 - calculateModXCheckWithWeights( value, start, end, numberOfDigits, true, 11, weights );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		Collections.reverse( digits );
 
-		int[] weights = getWeights( digits );
+		int[] weights = getWeights( digits.size() );
 
 		// if the length of the number is incorrect we can return fast
 		if ( weights.length != digits.size() ) {
@@ -35,6 +51,10 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 
 		// as we need sum % 11 rather than 11 - (sum % 11) returned by Mod11 algorithm:
 		int modResult = 11 - ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE, weights );
+		return isCheckDigitValid( modResult, checkDigit );
+	}
+
+	private boolean isCheckDigitValid(int modResult, char checkDigit) {
 		switch ( modResult ) {
 			case 10:
 			case 11:
@@ -48,5 +68,11 @@ protected boolean checkTwoDigitModuloResult(char checkDigit) {
 		return checkDigit == '0';
 	}
 
-	protected abstract int[] getWeights(List<Integer> digits);
+	/**
+	 * @param numberOfDigits the number of digits over which the checksum is calculated
+	 *
+	 * @return an array of weights to be used to calculate a checksum, of a different length than the number of digits
+	 * if the number of digits is invalid
+	 */
+	protected abstract int[] getWeights(int numberOfDigits);
 }
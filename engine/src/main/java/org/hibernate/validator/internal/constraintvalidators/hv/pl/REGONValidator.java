@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.List;
-
 import org.hibernate.validator.constraints.pl.REGON;
 
 /**
@@ -19,6 +17,8 @@ public class REGONValidator extends PolishNumberValidator<REGON> {
 
 	private static final int[] WEIGHTS_REGON_9 = { 8, 9, 2, 3, 4, 5, 6, 7 };
 
+	private static final int[] NO_WEIGHTS = { };
+
 	@Override
 	public void initialize(REGON constraintAnnotation) {
 		super.initialize(
@@ -30,20 +30,20 @@ public void initialize(REGON constraintAnnotation) {
 	}
 
 	/**
-	 * @param digits a list of digits to be verified. They are used to determine a size of REGON number - is it 9 or 14 digit number
+	 * @param numberOfDigits the number of digits to be verified. It is used to determine a size of REGON number - is it 9 or 14 digit number
 	 *
 	 * @return an array of weights to be used to calculate a checksum
 	 */
 	@Override
-	protected int[] getWeights(List<Integer> digits) {
-		if ( digits.size() == 8 ) {
+	protected int[] getWeights(int numberOfDigits) {
+		if ( numberOfDigits == 8 ) {
 			return WEIGHTS_REGON_9;
 		}
-		else if ( digits.size() == 13 ) {
+		else if ( numberOfDigits == 13 ) {
 			return WEIGHTS_REGON_14;
 		}
 		else {
-			return new int[] { };
+			return NO_WEIGHTS;
 		}
 	}
 }
@@ -18,6 +18,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import jakarta.validation.BootstrapConfiguration;
@@ -36,6 +37,8 @@
 import org.hibernate.validator.BaseHibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
 import org.hibernate.validator.internal.engine.resolver.TraversableResolvers;
@@ -57,6 +60,7 @@
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
@@ -134,6 +138,16 @@
 	private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 	private ProcessedBeansTrackingVoter processedBeansTrackingVoter;
 	private boolean showValidatedValuesInTraceLogs;
+	private PropertyAccessorStrategy propertyAccessorStrategy;
+	private boolean parallelCascadedValidation;
+	private Integer parallelCascadedValidationThreshold;
+	private Executor parallelCascadedValidationExecutor;
+	private boolean lazyConstraintViolations;
+	private boolean constraintIndex;
+	private BeanMetaDataRetention beanMetaDataRetention;
+	private Integer beanMetaDataCacheMaxSize;
+	private Integer constraintValidatorCacheMaxContexts;
+	private RegularExpressionEngine regularExpressionEngine;
 
 	protected AbstractConfigurationImpl(BootstrapState state) {
 		this();
@@ -408,7 +422,8 @@ public MethodValidationConfiguration getMethodValidationConfiguration() {
 	public final DefaultConstraintMapping createConstraintMapping() {
 		return new DefaultConstraintMapping( new JavaBeanHelper(
 				getterPropertySelectionStrategy == null ? new DefaultGetterPropertySelectionStrategy() : getterPropertySelectionStrategy,
-				validationBootstrapParameters.getPropertyNodeNameProvider() == null ? defaultPropertyNodeNameProvider : validationBootstrapParameters.getPropertyNodeNameProvider()
+				validationBootstrapParameters.getPropertyNodeNameProvider() == null ? defaultPropertyNodeNameProvider : validationBootstrapParameters.getPropertyNodeNameProvider(),
+				ValidatorFactoryConfigurationHelper.determinePropertyAccessorStrategy( this, getProperties() )
 		) );
 	}
 
@@ -715,6 +730,130 @@ public ProcessedBeansTrackingVoter getProcessedBeansTrackingVoter() {
 		return processedBeansTrackingVoter;
 	}
 
+	@Override
+	public T propertyAccessorStrategy(PropertyAccessorStrategy propertyAccessorStrategy) {
+		if ( LOG.isDebugEnabled() ) {
+			if ( propertyAccessorStrategy != null ) {
+				LOG.debug( "Setting PropertyAccessorStrategy to " + propertyAccessorStrategy.name() );
+			}
+		}
+		this.propertyAccessorStrategy = propertyAccessorStrategy;
+		return thisAsT();
+	}
+
+	public PropertyAccessorStrategy getPropertyAccessorStrategy() {
+		return propertyAccessorStrategy;
+	}
+
+	@Override
+	public T parallelCascadedValidation(boolean enabled) {
+		this.parallelCascadedValidation = enabled;
+		return thisAsT();
+	}
+
+	public boolean isParallelCascadedValidation() {
+		return parallelCascadedValidation;
+	}
+
+	@Override
+	public T parallelCascadedValidationThreshold(int threshold) {
+		if ( threshold < 1 ) {
+			throw LOG.getInvalidParallelCascadedValidationThresholdException( threshold );
+		}
+		this.parallelCascadedValidationThreshold = threshold;
+		return thisAsT();
+	}
+
+	public Integer getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	@Override
+	public T parallelCascadedValidationExecutor(Executor executor) {
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debug( "Setting parallel cascaded validation executor to " + executor );
+		}
+		this.parallelCascadedValidationExecutor = executor;
+		return thisAsT();
+	}
+
+	public Executor getParallelCascadedValidationExecutor() {
+		return parallelCascadedValidationExecutor;
+	}
+
+	@Override
+	public T lazyConstraintViolations(boolean enabled) {
+		this.lazyConstraintViolations = enabled;
+		return thisAsT();
+	}
+
+	public boolean isLazyConstraintViolations() {
+		return lazyConstraintViolations;
+	}
+
+	@Override
+	public T constraintIndex(boolean enabled) {
+		this.constraintIndex = enabled;
+		return thisAsT();
+	}
+
+	public boolean isConstraintIndex() {
+		return constraintIndex;
+	}
+
+	@Override
+	public T beanMetaDataRetention(BeanMetaDataRetention beanMetaDataRetention) {
+		Contracts.assertNotNull( beanMetaDataRetention, MESSAGES.parameterMustNotBeNull( "beanMetaDataRetention" ) );
+		this.beanMetaDataRetention = beanMetaDataRetention;
+		return thisAsT();
+	}
+
+	public BeanMetaDataRetention getBeanMetaDataRetention() {
+		return beanMetaDataRetention;
+	}
+
+	@Override
+	public T beanMetaDataCacheMaxSize(int maxSize) {
+		if ( maxSize < 1 ) {
+			throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( maxSize );
+		}
+		this.beanMetaDataCacheMaxSize = maxSize;
+		return thisAsT();
+	}
+
+	public Integer getBeanMetaDataCacheMaxSize() {
+		return beanMetaDataCacheMaxSize;
+	}
+
+	@Override
+	public T constraintValidatorCacheMaxContexts(int maxContexts) {
+		if ( maxContexts < 1 ) {
+			throw LOG.getInvalidConstraintValidatorCacheMaxContextsException( maxContexts );
+		}
+		this.constraintValidatorCacheMaxContexts = maxContexts;
+		return thisAsT();
+	}
+
+	public Integer getConstraintValidatorCacheMaxContexts() {
+		return constraintValidatorCacheMaxContexts;
+	}
+
+	@Override
+	public T regularExpressionEngine(RegularExpressionEngine regularExpressionEngine) {
+		if ( LOG.isDebugEnabled() ) {
+			if ( regularExpressionEngine != null ) {
+				LOG.debug( "Setting RegularExpressionEngine to " + regularExpressionEngine.name() );
+			}
+		}
+		this.regularExpressionEngine = regularExpressionEngine;
+		return thisAsT();
+	}
+
+	public RegularExpressionEngine getRegularExpressionEngine() {
+		return regularExpressionEngine;
+	}
+
 	public final Set<DefaultConstraintMapping> getProgrammaticMappings() {
 		return programmaticMappings;
 	}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.validator.BatchValidationResult;
+
+/**
+ * Keeps the indexes of the invalid beans in a sorted array and their violations in a parallel array: nothing is
+ * allocated for the valid beans.
+ */
+final class BatchValidationResultImpl<T> implements BatchValidationResult<T> {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private int size;
+
+	private int invalidCount;
+
+	private int[] invalidIndexes = new int[INITIAL_CAPACITY];
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Set<ConstraintViolation<T>>[] constraintViolations = new Set[INITIAL_CAPACITY];
+
+	void addValid() {
+		size++;
+	}
+
+	void addInvalid(Set<ConstraintViolation<T>> violations) {
+		if ( invalidCount == invalidIndexes.length ) {
+			int newCapacity = invalidCount << 1;
+			invalidIndexes = Arrays.copyOf( invalidIndexes, newCapacity );
+			constraintViolations = Arrays.copyOf( constraintViolations, newCapacity );
+		}
+		invalidIndexes[invalidCount] = size;
+		constraintViolations[invalidCount] = violations;
+		invalidCount++;
+		size++;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isValid() {
+		return invalidCount == 0;
+	}
+
+	@Override
+	public boolean isValid(int index) {
+		return findInvalid( index ) < 0;
+	}
+
+	@Override
+	public int getInvalidCount() {
+		return invalidCount;
+	}
+
+	@Override
+	public int[] getInvalidIndexes() {
+		return Arrays.copyOf( invalidIndexes, invalidCount );
+	}
+
+	@Override
+	public Set<ConstraintViolation<T>> getConstraintViolations(int index) {
+		int position = findInvalid( index );
+		return position < 0 ? Collections.emptySet() : constraintViolations[position];
+	}
+
+	private int findInvalid(int index) {
+		Objects.checkIndex( index, size );
+		return Arrays.binarySearch( invalidIndexes, 0, invalidCount, index );
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( "BatchValidationResultImpl" );
+		sb.append( "{size=" ).append( size );
+		sb.append( ", invalidIndexes=" ).append( Arrays.toString( getInvalidIndexes() ) );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
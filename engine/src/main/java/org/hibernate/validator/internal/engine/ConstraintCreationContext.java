@@ -7,6 +7,7 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.ConstraintMetaDataInterner;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 
 public class ConstraintCreationContext {
@@ -19,14 +20,25 @@ public class ConstraintCreationContext {
 
 	private final ValueExtractorManager valueExtractorManager;
 
+	private final ConstraintMetaDataInterner constraintMetaDataInterner;
+
 	public ConstraintCreationContext(ConstraintHelper constraintHelper,
 			ConstraintValidatorManager constraintValidatorManager,
 			TypeResolutionHelper typeResolutionHelper,
 			ValueExtractorManager valueExtractorManager) {
+		this( constraintHelper, constraintValidatorManager, typeResolutionHelper, valueExtractorManager, new ConstraintMetaDataInterner() );
+	}
+
+	public ConstraintCreationContext(ConstraintHelper constraintHelper,
+			ConstraintValidatorManager constraintValidatorManager,
+			TypeResolutionHelper typeResolutionHelper,
+			ValueExtractorManager valueExtractorManager,
+			ConstraintMetaDataInterner constraintMetaDataInterner) {
 		this.constraintHelper = constraintHelper;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.typeResolutionHelper = typeResolutionHelper;
 		this.valueExtractorManager = valueExtractorManager;
+		this.constraintMetaDataInterner = constraintMetaDataInterner;
 	}
 
 	public ConstraintHelper getConstraintHelper() {
@@ -44,4 +56,8 @@ public TypeResolutionHelper getTypeResolutionHelper() {
 	public ValueExtractorManager getValueExtractorManager() {
 		return valueExtractorManager;
 	}
+
+	public ConstraintMetaDataInterner getConstraintMetaDataInterner() {
+		return constraintMetaDataInterner;
+	}
 }
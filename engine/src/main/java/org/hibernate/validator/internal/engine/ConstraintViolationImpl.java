@@ -4,10 +4,13 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -28,7 +31,17 @@
 	@Serial
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private volatile String interpolatedMessage;
+	/**
+	 * When the messages are interpolated lazily, computes the interpolated message on first access. It is cleared once
+	 * the message has been interpolated so that the resources it holds can be garbage collected.
+	 */
+	private transient volatile Supplier<String> interpolatedMessageSupplier;
+	/**
+	 * Whether the message of this violation is interpolated lazily: the equality of such violations can't rely on the
+	 * interpolated message as it might not be available yet.
+	 */
+	private final boolean lazilyInterpolated;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -47,6 +60,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> interpolatedMessageSupplier,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -59,6 +73,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -75,6 +90,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> interpolatedMessageSupplier,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -88,6 +104,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -104,6 +121,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> interpolatedMessageSupplier,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -117,6 +135,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -133,6 +152,7 @@ private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> interpolatedMessageSupplier,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -146,6 +166,8 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.messageParameters = messageParameters;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.interpolatedMessageSupplier = interpolatedMessageSupplier;
+		this.lazilyInterpolated = interpolatedMessageSupplier != null;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -155,13 +177,22 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.executableParameters = executableParameters;
 		this.executableReturnValue = executableReturnValue;
 		this.dynamicPayload = dynamicPayload;
-		// pre-calculate hash code, the class is immutable and hashCode is needed often
+		// pre-calculate hash code, the class is effectively immutable and hashCode is needed often
 		this.hashCode = createHashCode();
 	}
 
 	@Override
 	public final String getMessage() {
-		return interpolatedMessage;
+		Supplier<String> supplier = interpolatedMessageSupplier;
+		if ( supplier == null ) {
+			return interpolatedMessage;
+		}
+
+		// concurrent calls might interpolate the message twice but the result is the same
+		String message = supplier.get();
+		interpolatedMessage = message;
+		interpolatedMessageSupplier = null;
+		return message;
 	}
 
 	@Override
@@ -251,6 +282,11 @@ public <C> C getDynamicPayload(Class<C> type) {
 	 * {@code messageParameters}, {@code expressionVariables} and {@code dynamicPayload} are not taken into account for
 	 * equality. These variables solely enrich the actual Constraint Violation with additional information e.g how we
 	 * actually got to this CV.
+	 * <p>
+	 * For violations whose message is interpolated lazily, the interpolated message is not available so
+	 * {@code messageParameters} and {@code expressionVariables}, which, together with the message template, determine the
+	 * interpolated message, are compared instead. This way, the equality of a violation does not depend on whether its
+	 * message has been accessed or not.
 	 *
 	 * @return true if the two ConstraintViolation's are considered equals; false otherwise
 	 */
@@ -265,7 +301,18 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		if ( lazilyInterpolated != that.lazilyInterpolated ) {
+			return false;
+		}
+		if ( lazilyInterpolated ) {
+			if ( !messageParameters.equals( that.messageParameters ) ) {
+				return false;
+			}
+			if ( !expressionVariables.equals( that.expressionVariables ) ) {
+				return false;
+			}
+		}
+		else if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
 		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
@@ -298,7 +345,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessage() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -310,7 +357,8 @@ public String toString() {
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		// the maps are not used for lazily interpolated violations: they are compared in equals() anyway
+		int result = !lazilyInterpolated && interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
 		result = 31 * result + System.identityHashCode( rootBean );
 		result = 31 * result + System.identityHashCode( leafBeanInstance );
@@ -319,4 +367,11 @@ private int createHashCode() {
 		result = 31 * result + ( messageTemplate != null ? messageTemplate.hashCode() : 0 );
 		return result;
 	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the supplier is not serializable: make sure the message is interpolated before serializing the violation
+		getMessage();
+		out.defaultWriteObject();
+	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.engine;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -74,6 +75,30 @@ public HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnP
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext parallelCascadedValidation(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidation( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationThreshold(int threshold) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationThreshold( threshold );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationExecutor(Executor executor) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationExecutor( executor );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext lazyConstraintViolations(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setLazyConstraintViolations( enabled );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		throw new IllegalStateException( "Altering method validation configuration is not supported by the predefined scope ValidatorFactory." );
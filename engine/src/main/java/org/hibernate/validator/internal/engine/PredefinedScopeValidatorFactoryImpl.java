@@ -9,12 +9,18 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintIndex;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCustomViolationExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyConstraintViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineRegularExpressionEngine;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
@@ -25,8 +31,11 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -45,6 +54,8 @@
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.WarmUpOptions;
+import org.hibernate.validator.WarmUpStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
@@ -52,8 +63,12 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.MetaDataFootprintImpl;
 import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.ConstraintMetaDataInterner;
+import org.hibernate.validator.internal.metadata.provider.BeanMetaDataSnapshot;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
@@ -65,6 +80,8 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.MetaDataFootprint;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -95,6 +112,8 @@ public class PredefinedScopeValidatorFactoryImpl implements PredefinedScopeHiber
 
 	private final PredefinedScopeBeanMetaDataManager beanMetaDataManager;
 
+	private final ConstraintMetaDataInterner constraintMetaDataInterner;
+
 	private final ValueExtractorManager valueExtractorManager;
 
 	private final GetterPropertySelectionStrategy getterPropertySelectionStrategy;
@@ -127,6 +146,7 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 
 		HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext = new HibernateConstraintValidatorInitializationContextImpl(
 				scriptEvaluatorFactory, configurationState.getClockProvider(), temporalValidationTolerance,
+				determineRegularExpressionEngine( hibernateSpecificConfig, properties ),
 				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig ) );
 
 		this.validatorFactoryScopedContext = new ValidatorFactoryScopedContext(
@@ -143,6 +163,10 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidation( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationExecutor( hibernateSpecificConfig ),
+				determineLazyConstraintViolations( hibernateSpecificConfig, properties ),
 				constraintValidatorInitializationContext
 		);
 
@@ -167,9 +191,11 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				constraintHelper,
 				constraintValidatorManager, typeResolutionHelper, valueExtractorManager
 		);
+		this.constraintMetaDataInterner = constraintCreationContext.getConstraintMetaDataInterner();
 
 		ExecutableHelper executableHelper = new ExecutableHelper( typeResolutionHelper );
-		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider );
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider,
+				ValidatorFactoryConfigurationHelper.determinePropertyAccessorStrategy( hibernateSpecificConfig, properties ) );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
 		// no control over them (include/exclude the ones that already exists from any other sources etc.)
@@ -246,7 +272,10 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				( hibernateSpecificConfig.getProcessedBeansTrackingVoter() != null )
 						? hibernateSpecificConfig.getProcessedBeansTrackingVoter()
 						: new DefaultProcessedBeansTrackingVoter(),
-				beanClassesToInitialize
+				beanClassesToInitialize,
+				hibernateSpecificConfig.isParallelBeanMetaDataInitialization(),
+				determineConstraintIndex( hibernateSpecificConfig, properties ),
+				hibernateSpecificConfig.getBeanMetaDataSnapshot()
 		);
 
 		if ( LOG.isDebugEnabled() ) {
@@ -308,6 +337,17 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return propertyNodeNameProvider;
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		return beanMetaDataManager.getCacheStatistics();
+	}
+
+	@Override
+	public MetaDataFootprint getMetaDataFootprint() {
+		return MetaDataFootprintImpl.of( Collections.singletonList( beanMetaDataManager.getBeanMetaData() ),
+				constraintMetaDataInterner.getDeduplicatedInstanceCount() );
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -320,6 +360,34 @@ public PredefinedScopeBeanMetaDataManager getBeanMetaDataManager() {
 		return beanMetaDataManager;
 	}
 
+	@Override
+	public void writeBeanMetaDataSnapshot(OutputStream stream) {
+		Contracts.assertNotNull( stream, "The output stream cannot be null." );
+
+		List<Class<?>> beanClasses = new ArrayList<>();
+		for ( BeanMetaData<?> beanMetaData : beanMetaDataManager.getBeanMetaData() ) {
+			beanClasses.add( beanMetaData.getBeanClass() );
+		}
+
+		try {
+			BeanMetaDataSnapshot.write( stream, beanClasses );
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToWriteBeanMetaDataSnapshotException( e );
+		}
+	}
+
+	@Override
+	public WarmUpStatistics warmUp(Set<Class<?>> beanClasses, WarmUpOptions options) {
+		return new ValidatorFactoryWarmUp(
+				beanMetaDataManager,
+				constraintValidatorManager,
+				valueExtractorManager,
+				validationOrderGenerator,
+				validatorFactoryScopedContext
+		).warmUp( beanClasses, options );
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		// allow unwrapping into public super types
@@ -339,6 +407,7 @@ public HibernateValidatorContext usingContext() {
 	public void close() {
 		constraintValidatorManager.clear();
 		beanMetaDataManager.clear();
+		constraintMetaDataInterner.clear();
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
 		valueExtractorManager.clear();
 	}
@@ -8,6 +8,7 @@
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -110,6 +111,30 @@ public HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnP
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext parallelCascadedValidation(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidation( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationThreshold(int threshold) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationThreshold( threshold );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationExecutor(Executor executor) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationExecutor( executor );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext lazyConstraintViolations(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setLazyConstraintViolations( enabled );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		methodValidationConfigurationBuilder.allowOverridingMethodAlterParameterConstraint( allow );
@@ -160,7 +185,8 @@ public Validator getValidator() {
 						? constraintCreationContext
 						: new ConstraintCreationContext( constraintCreationContext.getConstraintHelper(),
 								constraintCreationContext.getConstraintValidatorManager(), constraintCreationContext.getTypeResolutionHelper(),
-								new ValueExtractorManager( constraintCreationContext.getValueExtractorManager(), valueExtractorDescriptors ) ),
+								new ValueExtractorManager( constraintCreationContext.getValueExtractorManager(), valueExtractorDescriptors ),
+								constraintCreationContext.getConstraintMetaDataInterner() ),
 				validatorFactoryScopedContextBuilder.build(),
 				methodValidationConfigurationBuilder.build() );
 	}
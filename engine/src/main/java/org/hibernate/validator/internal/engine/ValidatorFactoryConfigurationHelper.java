@@ -14,13 +14,18 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.validation.spi.ConfigurationState;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
@@ -37,6 +42,7 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
@@ -47,6 +53,10 @@ final class ValidatorFactoryConfigurationHelper {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_PARALLEL_CASCADED_VALIDATION_THRESHOLD = 1000;
+
+	private static final int DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE = 1000;
+
 	private ValidatorFactoryConfigurationHelper() {
 	}
 
@@ -432,6 +442,167 @@ static <A extends Annotation> void processConstraintDefinitionContribution(
 		);
 	}
 
+	static PropertyAccessorStrategy determinePropertyAccessorStrategy(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getPropertyAccessorStrategy() != null ) {
+			LOG.logPropertyAccessorStrategy( hibernateSpecificConfig.getPropertyAccessorStrategy() );
+			return hibernateSpecificConfig.getPropertyAccessorStrategy();
+		}
+
+		String propertyAccessorStrategyName = properties.get( HibernateValidatorConfiguration.PROPERTY_ACCESSOR_STRATEGY );
+		if ( propertyAccessorStrategyName != null ) {
+			try {
+				PropertyAccessorStrategy propertyAccessorStrategy = PropertyAccessorStrategy.of( propertyAccessorStrategyName );
+				LOG.logPropertyAccessorStrategy( propertyAccessorStrategy );
+				return propertyAccessorStrategy;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.invalidPropertyAccessorStrategyValue( propertyAccessorStrategyName, e );
+			}
+		}
+
+		return PropertyAccessorStrategy.REFLECTION;
+	}
+
+	static RegularExpressionEngine determineRegularExpressionEngine(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getRegularExpressionEngine() != null ) {
+			LOG.logRegularExpressionEngine( hibernateSpecificConfig.getRegularExpressionEngine() );
+			return hibernateSpecificConfig.getRegularExpressionEngine();
+		}
+
+		String regularExpressionEngineName = properties.get( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE );
+		if ( regularExpressionEngineName != null ) {
+			try {
+				RegularExpressionEngine regularExpressionEngine = RegularExpressionEngine.of( regularExpressionEngineName );
+				LOG.logRegularExpressionEngine( regularExpressionEngine );
+				return regularExpressionEngine;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.invalidRegularExpressionEngineValue( regularExpressionEngineName, e );
+			}
+		}
+
+		return RegularExpressionEngine.BACKTRACKING;
+	}
+
+	static boolean determineParallelCascadedValidation(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION,
+				configuration != null ? configuration.isParallelCascadedValidation() : false
+		);
+	}
+
+	static int determineParallelCascadedValidationThreshold(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration != null && configuration.getParallelCascadedValidationThreshold() != null ) {
+			return configuration.getParallelCascadedValidationThreshold();
+		}
+
+		String thresholdProperty = properties.get( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD );
+		if ( thresholdProperty != null ) {
+			try {
+				int threshold = Integer.parseInt( thresholdProperty.trim() );
+				if ( threshold < 1 ) {
+					throw LOG.getInvalidParallelCascadedValidationThresholdException( threshold );
+				}
+				return threshold;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.getUnableToParseParallelCascadedValidationThresholdException( thresholdProperty, e );
+			}
+		}
+
+		return DEFAULT_PARALLEL_CASCADED_VALIDATION_THRESHOLD;
+	}
+
+	static Executor determineParallelCascadedValidationExecutor(AbstractConfigurationImpl<?> configuration) {
+		if ( configuration != null && configuration.getParallelCascadedValidationExecutor() != null ) {
+			return configuration.getParallelCascadedValidationExecutor();
+		}
+
+		return ForkJoinPool.commonPool();
+	}
+
+	static boolean determineLazyConstraintViolations(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.LAZY_CONSTRAINT_VIOLATIONS,
+				configuration != null ? configuration.isLazyConstraintViolations() : false
+		);
+	}
+
+	static boolean determineConstraintIndex(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.CONSTRAINT_INDEX,
+				configuration != null ? configuration.isConstraintIndex() : false
+		);
+	}
+
+	static BeanMetaDataRetention determineBeanMetaDataRetention(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration != null && configuration.getBeanMetaDataRetention() != null ) {
+			LOG.logBeanMetaDataRetention( configuration.getBeanMetaDataRetention() );
+			return configuration.getBeanMetaDataRetention();
+		}
+
+		String beanMetaDataRetentionName = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_RETENTION );
+		if ( beanMetaDataRetentionName != null ) {
+			try {
+				BeanMetaDataRetention beanMetaDataRetention = BeanMetaDataRetention.of( beanMetaDataRetentionName.trim() );
+				LOG.logBeanMetaDataRetention( beanMetaDataRetention );
+				return beanMetaDataRetention;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.invalidBeanMetaDataRetentionValue( beanMetaDataRetentionName, e );
+			}
+		}
+
+		return BeanMetaDataRetention.SOFT;
+	}
+
+	static int determineBeanMetaDataCacheMaxSize(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration != null && configuration.getBeanMetaDataCacheMaxSize() != null ) {
+			return configuration.getBeanMetaDataCacheMaxSize();
+		}
+
+		String maxSizeProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE );
+		if ( maxSizeProperty != null ) {
+			try {
+				int maxSize = Integer.parseInt( maxSizeProperty.trim() );
+				if ( maxSize < 1 ) {
+					throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( maxSize );
+				}
+				return maxSize;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.getUnableToParseBeanMetaDataCacheMaxSizeException( maxSizeProperty, e );
+			}
+		}
+
+		return DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE;
+	}
+
+	static int determineConstraintValidatorCacheMaxContexts(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration != null && configuration.getConstraintValidatorCacheMaxContexts() != null ) {
+			return configuration.getConstraintValidatorCacheMaxContexts();
+		}
+
+		String maxContextsProperty = properties.get( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_CONTEXTS );
+		if ( maxContextsProperty != null ) {
+			try {
+				int maxContexts = Integer.parseInt( maxContextsProperty.trim() );
+				if ( maxContexts < 1 ) {
+					throw LOG.getInvalidConstraintValidatorCacheMaxContextsException( maxContexts );
+				}
+				return maxContexts;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.getUnableToParseConstraintValidatorCacheMaxContextsException( maxContextsProperty, e );
+			}
+		}
+
+		return ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS;
+	}
+
 	static boolean determineShowValidatedValuesInTraceLogs(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether showing the validation values in trace logs is programmatically enabled
 		boolean tmpShowValidatedValuesInTraceLogging = configuration != null ? configuration.getShowValidatedValuesInTraceLogs() : false;
@@ -455,6 +626,10 @@ static void logValidatorFactoryScopedConfiguration(ValidatorFactoryScopedContext
 		LOG.logValidatorFactoryScopedConfiguration( context.getParameterNameProvider().getClass(), "parameter name provider" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getClockProvider().getClass(), "clock provider" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getScriptEvaluatorFactory().getClass(), "script evaluator factory" );
+		if ( context.isParallelCascadedValidation() ) {
+			LOG.logValidatorFactoryScopedConfiguration( context.getParallelCascadedValidationExecutor().getClass(), "parallel cascaded validation executor" );
+			LOG.logParallelCascadedValidation( context.getParallelCascadedValidationThreshold() );
+		}
 	}
 
 	/**
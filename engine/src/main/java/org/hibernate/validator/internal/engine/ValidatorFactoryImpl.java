@@ -7,14 +7,23 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowMultipleCascadedValidationOnReturnValues;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheMaxSize;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataRetention;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintIndex;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorCacheMaxContexts;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCustomViolationExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyConstraintViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineRegularExpressionEngine;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
@@ -27,6 +36,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +55,8 @@
 
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.WarmUpOptions;
+import org.hibernate.validator.WarmUpStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
@@ -52,7 +64,10 @@
 import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCacheStatisticsImpl;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.MetaDataFootprintImpl;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
@@ -66,7 +81,10 @@
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.internal.util.stereotypes.ThreadSafe;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+import org.hibernate.validator.metadata.MetaDataFootprint;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -138,6 +156,21 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 
 	private final ProcessedBeansTrackingVoter processedBeansTrackingVoter;
 
+	/**
+	 * Whether the metadata providers use the constraint index generated at build time.
+	 */
+	private final boolean constraintIndex;
+
+	/**
+	 * How long the metadata of the validated beans are kept by the bean metadata managers.
+	 */
+	private final BeanMetaDataRetention beanMetaDataRetention;
+
+	/**
+	 * The maximum number of bean metadata kept by each bean metadata manager if the retention is bounded.
+	 */
+	private final int beanMetaDataCacheMaxSize;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = determineExternalClassLoader( configurationState );
 
@@ -169,14 +202,20 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
 				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
+				determineRegularExpressionEngine( hibernateSpecificConfig, properties ),
 				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
-				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties )
+				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidation( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationExecutor( hibernateSpecificConfig ),
+				determineLazyConstraintViolations( hibernateSpecificConfig, properties )
 		);
 
 		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
 				configurationState.getConstraintValidatorFactory(),
-				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext()
+				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext(),
+				determineConstraintValidatorCacheMaxContexts( hibernateSpecificConfig, properties )
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
@@ -189,7 +228,8 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
 		this.javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
-				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ) );
+				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ),
+				ValidatorFactoryConfigurationHelper.determinePropertyAccessorStrategy( hibernateSpecificConfig, properties ) );
 		this.beanMetadataClassNormalizer = determineBeanMetaDataClassNormalizer( hibernateSpecificConfig );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
@@ -236,6 +276,10 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				? hibernateSpecificConfig.getProcessedBeansTrackingVoter()
 				: new DefaultProcessedBeansTrackingVoter();
 
+		this.constraintIndex = determineConstraintIndex( hibernateSpecificConfig, properties );
+		this.beanMetaDataRetention = determineBeanMetaDataRetention( hibernateSpecificConfig, properties );
+		this.beanMetaDataCacheMaxSize = determineBeanMetaDataCacheMaxSize( hibernateSpecificConfig, properties );
+
 		if ( LOG.isDebugEnabled() ) {
 			logValidatorFactoryScopedConfiguration( validatorFactoryScopedContext );
 		}
@@ -300,6 +344,24 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return javaBeanHelper.getPropertyNodeNameProvider();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		List<BeanMetaDataCacheStatistics> statistics = newArrayList( beanMetaDataManagers.size() );
+		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
+			statistics.add( beanMetaDataManager.getCacheStatistics() );
+		}
+		return BeanMetaDataCacheStatisticsImpl.sum( beanMetaDataRetention, statistics );
+	}
+
+	@Override
+	public MetaDataFootprint getMetaDataFootprint() {
+		List<Collection<BeanMetaData<?>>> beanMetaData = newArrayList( beanMetaDataManagers.size() );
+		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
+			beanMetaData.add( beanMetaDataManager.getBeanMetaData() );
+		}
+		return MetaDataFootprintImpl.of( beanMetaData, constraintCreationContext.getConstraintMetaDataInterner().getDeduplicatedInstanceCount() );
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -316,6 +378,17 @@ ConstraintCreationContext getConstraintCreationContext() {
 		return constraintCreationContext;
 	}
 
+	@Override
+	public WarmUpStatistics warmUp(Set<Class<?>> beanClasses, WarmUpOptions options) {
+		return new ValidatorFactoryWarmUp(
+				getBeanMetaDataManager( constraintCreationContext, validatorFactoryScopedContext, methodValidationConfiguration ),
+				constraintCreationContext.getConstraintValidatorManager(),
+				constraintCreationContext.getValueExtractorManager(),
+				validationOrderGenerator,
+				validatorFactoryScopedContext
+		).warmUp( beanClasses, options );
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types
@@ -334,6 +407,7 @@ public HibernateValidatorContext usingContext() {
 	public void close() {
 		constraintCreationContext.getConstraintValidatorManager().clear();
 		constraintCreationContext.getConstraintHelper().clear();
+		constraintCreationContext.getConstraintMetaDataInterner().clear();
 		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
 			beanMetaDataManager.clear();
 		}
@@ -349,7 +423,23 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 			ConstraintCreationContext constraintCreationContext,
 			ValidatorFactoryScopedContext validatorFactoryScopedContext,
 			MethodValidationConfiguration methodValidationConfiguration) {
-		BeanMetaDataManager beanMetaDataManager = beanMetaDataManagers.computeIfAbsent(
+		BeanMetaDataManager beanMetaDataManager = getBeanMetaDataManager( constraintCreationContext, validatorFactoryScopedContext,
+				methodValidationConfiguration );
+
+		return new ValidatorImpl(
+				constraintValidatorFactory,
+				beanMetaDataManager,
+				constraintCreationContext.getValueExtractorManager(),
+				constraintCreationContext.getConstraintValidatorManager(),
+				validationOrderGenerator,
+				validatorFactoryScopedContext
+		);
+	}
+
+	private BeanMetaDataManager getBeanMetaDataManager(ConstraintCreationContext constraintCreationContext,
+			ValidatorFactoryScopedContext validatorFactoryScopedContext,
+			MethodValidationConfiguration methodValidationConfiguration) {
+		return beanMetaDataManagers.computeIfAbsent(
 				new BeanMetaDataManagerKey( validatorFactoryScopedContext.getParameterNameProvider(), constraintCreationContext.getValueExtractorManager(), methodValidationConfiguration ),
 				key -> new BeanMetaDataManagerImpl(
 						constraintCreationContext,
@@ -360,18 +450,12 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
 						methodValidationConfiguration,
-						processedBeansTrackingVoter
+						processedBeansTrackingVoter,
+						constraintIndex,
+						beanMetaDataRetention,
+						beanMetaDataCacheMaxSize
 				)
 		);
-
-		return new ValidatorImpl(
-				constraintValidatorFactory,
-				beanMetaDataManager,
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(),
-				validationOrderGenerator,
-				validatorFactoryScopedContext
-		);
 	}
 
 	private List<MetaDataProvider> buildMetaDataProviders() {
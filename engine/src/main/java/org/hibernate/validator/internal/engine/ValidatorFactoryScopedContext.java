@@ -4,7 +4,9 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
@@ -12,14 +14,20 @@
 import jakarta.validation.TraversableResolver;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
 public class ValidatorFactoryScopedContext {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	/**
 	 * The default message interpolator for this factory.
 	 */
@@ -93,6 +101,26 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to validate the elements of large cascaded containers in parallel.
+	 */
+	private final boolean parallelCascadedValidation;
+
+	/**
+	 * The minimum number of elements of a cascaded container for its elements to be validated in parallel.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * The executor used to validate the elements of large cascaded containers in parallel.
+	 */
+	private final Executor parallelCascadedValidationExecutor;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyConstraintViolations;
+
 	ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			TraversableResolver traversableResolver,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -104,14 +132,19 @@ public class ValidatorFactoryScopedContext {
 			boolean traversableResolverResultCacheEnabled,
 			boolean showValidatedValuesInTraceLogs,
 			Object constraintValidatorPayload,
+			RegularExpressionEngine regularExpressionEngine,
 			HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
-			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel) {
+			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
+			boolean parallelCascadedValidation,
+			int parallelCascadedValidationThreshold,
+			Executor parallelCascadedValidationExecutor,
+			boolean lazyConstraintViolations) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
 				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
-				customViolationExpressionLanguageFeatureLevel,
-				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
-						temporalValidationTolerance, constraintValidatorInitializationSharedServiceManager
+				customViolationExpressionLanguageFeatureLevel, parallelCascadedValidation, parallelCascadedValidationThreshold, parallelCascadedValidationExecutor,
+				lazyConstraintViolations, new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
+						temporalValidationTolerance, regularExpressionEngine, constraintValidatorInitializationSharedServiceManager
 				) );
 	}
 
@@ -128,6 +161,10 @@ public class ValidatorFactoryScopedContext {
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
+			boolean parallelCascadedValidation,
+			int parallelCascadedValidationThreshold,
+			Executor parallelCascadedValidationExecutor,
+			boolean lazyConstraintViolations,
 			HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext) {
 		this.messageInterpolator = messageInterpolator;
 		this.traversableResolver = traversableResolver;
@@ -142,6 +179,10 @@ public class ValidatorFactoryScopedContext {
 		this.constraintExpressionLanguageFeatureLevel = constraintExpressionLanguageFeatureLevel;
 		this.customViolationExpressionLanguageFeatureLevel = customViolationExpressionLanguageFeatureLevel;
 		this.showValidatedValuesInTraceLogs = showValidatedValuesInTraceLogs;
+		this.parallelCascadedValidation = parallelCascadedValidation;
+		this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+		this.parallelCascadedValidationExecutor = parallelCascadedValidationExecutor;
+		this.lazyConstraintViolations = lazyConstraintViolations;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -201,6 +242,22 @@ public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
 
+	public boolean isParallelCascadedValidation() {
+		return parallelCascadedValidation;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	public Executor getParallelCascadedValidationExecutor() {
+		return parallelCascadedValidationExecutor;
+	}
+
+	public boolean isLazyConstraintViolations() {
+		return lazyConstraintViolations;
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -217,6 +274,10 @@ static class Builder {
 		private ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel;
 		private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 		private boolean showValidatedValuesInTraceLogs;
+		private boolean parallelCascadedValidation;
+		private int parallelCascadedValidationThreshold;
+		private Executor parallelCascadedValidationExecutor;
+		private boolean lazyConstraintViolations;
 		private final HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -236,6 +297,10 @@ static class Builder {
 			this.constraintExpressionLanguageFeatureLevel = defaultContext.constraintExpressionLanguageFeatureLevel;
 			this.customViolationExpressionLanguageFeatureLevel = defaultContext.customViolationExpressionLanguageFeatureLevel;
 			this.showValidatedValuesInTraceLogs = defaultContext.showValidatedValuesInTraceLogs;
+			this.parallelCascadedValidation = defaultContext.parallelCascadedValidation;
+			this.parallelCascadedValidationThreshold = defaultContext.parallelCascadedValidationThreshold;
+			this.parallelCascadedValidationExecutor = defaultContext.parallelCascadedValidationExecutor;
+			this.lazyConstraintViolations = defaultContext.lazyConstraintViolations;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -333,6 +398,34 @@ public ValidatorFactoryScopedContext.Builder setShowValidatedValuesInTraceLogs(
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setParallelCascadedValidation(boolean parallelCascadedValidation) {
+			this.parallelCascadedValidation = parallelCascadedValidation;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setParallelCascadedValidationThreshold(int parallelCascadedValidationThreshold) {
+			if ( parallelCascadedValidationThreshold < 1 ) {
+				throw LOG.getInvalidParallelCascadedValidationThresholdException( parallelCascadedValidationThreshold );
+			}
+			this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setParallelCascadedValidationExecutor(Executor parallelCascadedValidationExecutor) {
+			if ( parallelCascadedValidationExecutor == null ) {
+				this.parallelCascadedValidationExecutor = defaultContext.parallelCascadedValidationExecutor;
+			}
+			else {
+				this.parallelCascadedValidationExecutor = parallelCascadedValidationExecutor;
+			}
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setLazyConstraintViolations(boolean lazyConstraintViolations) {
+			this.lazyConstraintViolations = lazyConstraintViolations;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext build() {
 			return new ValidatorFactoryScopedContext(
 					messageInterpolator,
@@ -347,6 +440,10 @@ public ValidatorFactoryScopedContext build() {
 					showValidatedValuesInTraceLogs, constraintValidatorPayload,
 					constraintExpressionLanguageFeatureLevel,
 					customViolationExpressionLanguageFeatureLevel,
+					parallelCascadedValidation,
+					parallelCascadedValidationThreshold,
+					parallelCascadedValidationExecutor,
+					lazyConstraintViolations,
 					HibernateConstraintValidatorInitializationContextImpl.of(
 							constraintValidatorInitializationContext,
 							scriptEvaluatorFactory,
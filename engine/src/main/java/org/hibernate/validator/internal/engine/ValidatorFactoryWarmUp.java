@@ -0,0 +1,386 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.WarmUpOptions;
+import org.hibernate.validator.WarmUpStatistics;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.engine.groups.GroupWithInheritance;
+import org.hibernate.validator.internal.engine.groups.Sequence;
+import org.hibernate.validator.internal.engine.groups.ValidationOrder;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.path.MutablePath;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.TypeHelper;
+import org.hibernate.validator.internal.util.actions.GetDeclaredConstructors;
+import org.hibernate.validator.internal.util.actions.GetDeclaredMethods;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Eagerly performs the work usually done by the first validations of the given beans with the default validator of a
+ * factory: building the metadata and the validation plans, resolving and initializing the constraint validators,
+ * resolving the value extractors of the cascaded container elements and interpolating the message templates.
+ * <p>
+ * The errors which would be raised by these validations, e.g. an ambiguous constraint validator resolution, are raised
+ * by the warm-up.
+ */
+class ValidatorFactoryWarmUp {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The JDK classes commonly used as runtime types of the containers declared with an interface or an abstract class.
+	 */
+	private static final List<Class<?>> COMMON_CONTAINER_CLASSES = List.of(
+			ArrayList.class,
+			LinkedList.class,
+			Arrays.asList().getClass(),
+			List.of().getClass(),
+			List.of( 0 ).getClass(),
+			Collections.emptyList().getClass(),
+			Collections.unmodifiableList( new ArrayList<>() ).getClass(),
+			HashSet.class,
+			LinkedHashSet.class,
+			TreeSet.class,
+			Set.of().getClass(),
+			Set.of( 0 ).getClass(),
+			HashMap.class,
+			LinkedHashMap.class,
+			TreeMap.class,
+			Map.of().getClass(),
+			Map.of( 0, 0 ).getClass()
+	);
+
+	private final BeanMetaDataManager beanMetaDataManager;
+
+	private final ConstraintValidatorManager constraintValidatorManager;
+
+	private final ValueExtractorManager valueExtractorManager;
+
+	private final ValidationOrderGenerator validationOrderGenerator;
+
+	private final ValidatorFactoryScopedContext validatorFactoryScopedContext;
+
+	private final ValidationPlan.Compiler validationPlanCompiler;
+
+	ValidatorFactoryWarmUp(BeanMetaDataManager beanMetaDataManager,
+			ConstraintValidatorManager constraintValidatorManager,
+			ValueExtractorManager valueExtractorManager,
+			ValidationOrderGenerator validationOrderGenerator,
+			ValidatorFactoryScopedContext validatorFactoryScopedContext) {
+		this.beanMetaDataManager = beanMetaDataManager;
+		this.constraintValidatorManager = constraintValidatorManager;
+		this.valueExtractorManager = valueExtractorManager;
+		this.validationOrderGenerator = validationOrderGenerator;
+		this.validatorFactoryScopedContext = validatorFactoryScopedContext;
+		this.validationPlanCompiler = (beanMetaData, group) -> ValidationPlan.compile( beanMetaData, group, beanMetaDataManager );
+	}
+
+	WarmUpStatistics warmUp(Set<Class<?>> beanClasses, WarmUpOptions options) {
+		Contracts.assertNotNull( beanClasses, "The bean classes cannot be null." );
+		Contracts.assertNotNull( options, "The warm-up options cannot be null." );
+
+		long start = System.nanoTime();
+
+		// metadata and validation plans
+		List<Class<?>> groups = getValidatedGroups( options.getGroups() );
+		Set<Class<?>> visitedBeanClasses = new LinkedHashSet<>();
+		Set<MetaConstraint<?>> constraints = newIdentitySet();
+		List<ContainerCascadingMetaData> containerElements = new ArrayList<>();
+
+		Deque<Class<?>> beanClassesToVisit = new ArrayDeque<>( beanClasses );
+		while ( !beanClassesToVisit.isEmpty() ) {
+			Class<?> beanClass = beanClassesToVisit.poll();
+			Contracts.assertNotNull( beanClass, "The bean classes cannot contain null." );
+			if ( !visitedBeanClasses.add( beanClass ) ) {
+				continue;
+			}
+
+			BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+			for ( Class<?> group : groups ) {
+				beanMetaData.getValidationPlan( group, validationPlanCompiler );
+			}
+
+			constraints.addAll( beanMetaData.getAllMetaConstraints() );
+			collectCascadedTypes( beanMetaData.getCascadables(), options, beanClassesToVisit, containerElements );
+
+			if ( options.isIncludeExecutables() ) {
+				for ( Executable executable : getDeclaredExecutables( beanClass ) ) {
+					beanMetaData.getMetaDataFor( executable ).ifPresent( executableMetaData -> {
+						collectConstraints( executableMetaData, constraints );
+						collectCascadedTypes( executableMetaData.getValidatableParametersMetaData().getCascadables(), options, beanClassesToVisit,
+								containerElements );
+						collectCascadedTypes( executableMetaData.getReturnValueMetaData().getCascadables(), options, beanClassesToVisit,
+								containerElements );
+					} );
+				}
+			}
+		}
+
+		long metaDataEnd = System.nanoTime();
+
+		// constraint validators
+		Set<ConstraintTree<?>> constraintTrees = newIdentitySet();
+		int initializedConstraintValidatorCount = 0;
+		for ( MetaConstraint<?> constraint : constraints ) {
+			ConstraintTree<?> constraintTree = constraint.getConstraintTree();
+			if ( constraintTrees.add( constraintTree ) ) {
+				initializedConstraintValidatorCount += constraintTree.initializeDefaultConstraintValidators( constraintValidatorManager,
+						() -> getPath( constraint ) );
+			}
+		}
+
+		long constraintValidatorEnd = System.nanoTime();
+
+		// value extractors of the cascaded container elements
+		int resolvedValueExtractorCount = 0;
+		for ( ContainerCascadingMetaData containerElement : containerElements ) {
+			resolvedValueExtractorCount += resolveValueExtractors( containerElement );
+		}
+
+		long valueExtractorEnd = System.nanoTime();
+
+		// resource bundles and message templates
+		int interpolatedMessageCount = 0;
+		if ( options.isInterpolateMessages() ) {
+			Map<String, MessageTemplateSource> messageTemplates = new LinkedHashMap<>();
+			for ( MetaConstraint<?> constraint : constraints ) {
+				collectMessageTemplates( constraint.getDescriptor(), constraint.getLocation().getDeclaringClass(), messageTemplates );
+			}
+			for ( Map.Entry<String, MessageTemplateSource> messageTemplate : messageTemplates.entrySet() ) {
+				if ( options.getLocales().isEmpty() ) {
+					interpolatedMessageCount += interpolate( messageTemplate.getKey(), messageTemplate.getValue(), null );
+				}
+				else {
+					for ( Locale locale : options.getLocales() ) {
+						interpolatedMessageCount += interpolate( messageTemplate.getKey(), messageTemplate.getValue(), locale );
+					}
+				}
+			}
+		}
+
+		long end = System.nanoTime();
+
+		LOG.logWarmUp( visitedBeanClasses.size(), ( end - start ) / 1_000_000L );
+
+		return new WarmUpStatisticsImpl( visitedBeanClasses.size(), constraints.size(), initializedConstraintValidatorCount, resolvedValueExtractorCount,
+				interpolatedMessageCount, metaDataEnd - start, constraintValidatorEnd - metaDataEnd, valueExtractorEnd - constraintValidatorEnd,
+				end - valueExtractorEnd, end - start );
+	}
+
+	/**
+	 * @return the groups whose validation plans are used when validating the given groups, group sequences being
+	 * expanded to their composing groups
+	 */
+	private List<Class<?>> getValidatedGroups(Set<Class<?>> groups) {
+		ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( groups );
+
+		Set<Class<?>> validatedGroups = new LinkedHashSet<>();
+		for ( Iterator<Group> groupIterator = validationOrder.getGroupIterator(); groupIterator.hasNext(); ) {
+			validatedGroups.add( groupIterator.next().getDefiningClass() );
+		}
+		for ( Iterator<Sequence> sequenceIterator = validationOrder.getSequenceIterator(); sequenceIterator.hasNext(); ) {
+			for ( GroupWithInheritance groupOfSequence : sequenceIterator.next() ) {
+				for ( Group group : groupOfSequence ) {
+					validatedGroups.add( group.getDefiningClass() );
+				}
+			}
+		}
+		return new ArrayList<>( validatedGroups );
+	}
+
+	/**
+	 * Resolves the value extractors of a cascaded container element.
+	 * <p>
+	 * If the declared type of the container is concrete, it is also its runtime type and the value extractor is cached
+	 * by the container element. Otherwise, the value extractors are resolved for the declared type and for the common
+	 * JDK implementations assignable to it: they are cached by the value extractor resolver, the few entries cached by
+	 * the container element being kept for the runtime classes actually validated.
+	 *
+	 * @return the number of resolved value extractors
+	 */
+	private int resolveValueExtractors(ContainerCascadingMetaData containerElement) {
+		Class<?> containerClass = TypeHelper.getErasedReferenceType( containerElement.getEnclosingType() );
+		if ( containerClass.isArray() || !( containerClass.isInterface() || Modifier.isAbstract( containerClass.getModifiers() ) ) ) {
+			return containerElement.getValueExtractor( valueExtractorManager, containerClass ) != null ? 1 : 0;
+		}
+
+		int resolvedValueExtractorCount = resolveValueExtractor( containerElement, containerClass );
+		if ( containerElement.getValueExtractorCandidates().size() > 1 ) {
+			for ( Class<?> commonContainerClass : COMMON_CONTAINER_CLASSES ) {
+				if ( containerClass.isAssignableFrom( commonContainerClass ) ) {
+					resolvedValueExtractorCount += resolveValueExtractor( containerElement, commonContainerClass );
+				}
+			}
+		}
+		return resolvedValueExtractorCount;
+	}
+
+	private int resolveValueExtractor(ContainerCascadingMetaData containerElement, Class<?> containerClass) {
+		ValueExtractorDescriptor valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+				containerElement.getEnclosingType(),
+				containerElement.getTypeParameter(),
+				containerClass,
+				containerElement.getValueExtractorCandidates()
+		);
+		return valueExtractor != null ? 1 : 0;
+	}
+
+	private void collectCascadedTypes(Iterable<Cascadable> cascadables, WarmUpOptions options, Deque<Class<?>> beanClassesToVisit,
+			List<ContainerCascadingMetaData> containerElements) {
+		for ( Cascadable cascadable : cascadables ) {
+			collectCascadedTypes( cascadable.getCascadableType(), cascadable.getCascadingMetaData(), options, beanClassesToVisit, containerElements );
+		}
+	}
+
+	private void collectCascadedTypes(Type type, CascadingMetaData cascadingMetaData, WarmUpOptions options, Deque<Class<?>> beanClassesToVisit,
+			List<ContainerCascadingMetaData> containerElements) {
+		if ( options.isIncludeCascadedTypes() && cascadingMetaData.isCascading() && type != null ) {
+			Type erasedType = TypeHelper.getErasedType( type );
+			if ( erasedType instanceof Class<?> cascadedClass && !cascadedClass.isPrimitive() && !cascadedClass.isArray()
+					&& cascadedClass != Object.class ) {
+				beanClassesToVisit.add( cascadedClass );
+			}
+		}
+
+		if ( !cascadingMetaData.isContainer() ) {
+			return;
+		}
+
+		for ( ContainerCascadingMetaData containerElement : cascadingMetaData.as( ContainerCascadingMetaData.class ).getContainerElementTypesCascadingMetaData() ) {
+			if ( !containerElement.isMarkedForCascadingOnAnnotatedObjectOrContainerElements() ) {
+				continue;
+			}
+			containerElements.add( containerElement );
+			collectCascadedTypes( getContainerElementType( containerElement ), containerElement, options, beanClassesToVisit, containerElements );
+		}
+	}
+
+	/**
+	 * @return the declared type of the container element or {@code null} if it cannot be determined without resolving
+	 * the type hierarchy of the container
+	 */
+	private static Type getContainerElementType(ContainerCascadingMetaData containerElement) {
+		Type enclosingType = containerElement.getEnclosingType();
+		if ( TypeHelper.isArray( enclosingType ) ) {
+			return TypeHelper.getComponentType( enclosingType );
+		}
+		if ( enclosingType instanceof ParameterizedType parameterizedType && containerElement.getDeclaredTypeParameterIndex() != null
+				&& parameterizedType.getRawType() == containerElement.getDeclaredContainerClass() ) {
+			return parameterizedType.getActualTypeArguments()[containerElement.getDeclaredTypeParameterIndex()];
+		}
+		return null;
+	}
+
+	private String getPath(MetaConstraint<?> constraint) {
+		MutablePath path = MutablePath.createRootPath();
+		constraint.getLocation().appendTo( validatorFactoryScopedContext.getParameterNameProvider(), path );
+		return path.asString();
+	}
+
+	private static void collectConstraints(ExecutableMetaData executableMetaData, Set<MetaConstraint<?>> constraints) {
+		constraints.addAll( executableMetaData.getAllConstraints() );
+		constraints.addAll( executableMetaData.getCrossParameterConstraints() );
+		for ( int i = 0; i < executableMetaData.getParameterTypes().length; i++ ) {
+			constraints.addAll( executableMetaData.getParameterMetaData( i ).getAllConstraints() );
+		}
+	}
+
+	private static void collectMessageTemplates(ConstraintDescriptorImpl<?> descriptor, Class<?> rootBeanType,
+			Map<String, MessageTemplateSource> messageTemplates) {
+		messageTemplates.putIfAbsent( descriptor.getMessageTemplate(), new MessageTemplateSource( descriptor, rootBeanType ) );
+		for ( ConstraintDescriptorImpl<?> composingDescriptor : descriptor.getComposingConstraintImpls() ) {
+			collectMessageTemplates( composingDescriptor, rootBeanType, messageTemplates );
+		}
+	}
+
+	private int interpolate(String messageTemplate, MessageTemplateSource source, Locale locale) {
+		MessageInterpolator messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
+		MessageInterpolatorContext context = new MessageInterpolatorContext(
+				source.descriptor(),
+				null,
+				source.rootBeanType(),
+				MutablePath.createRootPath().materialize(),
+				Collections.emptyMap(),
+				Collections.emptyMap(),
+				validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel(),
+				false,
+				validatorFactoryScopedContext.getConstraintValidatorPayload()
+		);
+
+		try {
+			if ( locale == null ) {
+				messageInterpolator.interpolate( messageTemplate, context );
+			}
+			else {
+				messageInterpolator.interpolate( messageTemplate, context, locale );
+			}
+			return 1;
+		}
+		catch (RuntimeException e) {
+			// the template might depend on the validated value, its interpolation will be done again when validating
+			LOG.unableToWarmUpMessageTemplate( messageTemplate, e );
+			return 0;
+		}
+	}
+
+	private static Executable[] getDeclaredExecutables(Class<?> beanClass) {
+		List<Executable> executables = new ArrayList<>();
+		Collections.addAll( executables, GetDeclaredMethods.action( beanClass ) );
+		Collections.addAll( executables, GetDeclaredConstructors.action( beanClass ) );
+		executables.removeIf( executable -> Modifier.isStatic( executable.getModifiers() ) || executable.isSynthetic() );
+		return executables.toArray( new Executable[0] );
+	}
+
+	private static <T> Set<T> newIdentitySet() {
+		return Collections.newSetFromMap( new IdentityHashMap<>() );
+	}
+
+	/**
+	 * The first constraint found for a message template, used to build the context of its interpolation.
+	 */
+	private record MessageTemplateSource(ConstraintDescriptorImpl<?> descriptor, Class<?> rootBeanType) {
+	}
+}
@@ -8,8 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Array;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +20,12 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -30,6 +38,8 @@
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.BatchValidationResult;
+import org.hibernate.validator.HibernateValidatorValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
@@ -42,8 +52,10 @@
 import org.hibernate.validator.internal.engine.resolver.TraversableResolvers;
 import org.hibernate.validator.internal.engine.validationcontext.BaseBeanValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ExecutableValidationContext;
+import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContextBuilder;
 import org.hibernate.validator.internal.engine.validationcontext.ValidatorScopedContext;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContexts;
@@ -78,7 +90,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements HibernateValidatorValidator, ExecutableValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -127,6 +139,17 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 
+	/**
+	 * Compiles the validation plans of the beans not validated yet for a given group. The plans are then cached on the
+	 * bean metadata.
+	 */
+	private final ValidationPlan.Compiler validationPlanCompiler;
+
+	/**
+	 * Whether the metadata of the cascaded values are kept in the inline caches of the cascading metadata.
+	 */
+	private final boolean beanMetaDataInlineCaching;
+
 	public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			BeanMetaDataManager beanMetaDataManager,
 			ValueExtractorManager valueExtractorManager,
@@ -141,10 +164,151 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 		this.validatorScopedContext = new ValidatorScopedContext( validatorFactoryScopedContext );
 		this.traversableResolver = validatorFactoryScopedContext.getTraversableResolver();
 		this.constraintValidatorInitializationContext = validatorFactoryScopedContext.getConstraintValidatorInitializationContext();
+		this.validationPlanCompiler = (beanMetaData, group) -> ValidationPlan.compile( beanMetaData, group, beanMetaDataManager );
+		this.beanMetaDataInlineCaching = beanMetaDataManager.isBeanMetaDataInlineCacheable();
 	}
 
 	@Override
 	public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+		return getFailingConstraints( validate( getValidationContextBuilder(), object, groups ) );
+	}
+
+	@Override
+	public final <T> boolean isValid(T object, Class<?>... groups) {
+		return isValid( validate( getValidityCheckContextBuilder(), object, groups ) );
+	}
+
+	@Override
+	public final <T> BatchValidationResult<T> validateAll(Iterable<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.validatedObjectMustNotBeNull() );
+		sanityCheckGroups( groups );
+
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+		// the caching traversable resolver is scoped to a single validation: if there is one, each bean needs its own
+		boolean singleValidationScopedBuilder = TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver,
+				validatorScopedContext.isTraversableResolverResultCacheEnabled() ) != traversableResolver;
+		ValidationContextBuilder validationContextBuilder = getValidationContextBuilder();
+
+		BatchValidationResultImpl<T> result = new BatchValidationResultImpl<>();
+		// batches usually contain beans of the same type so we only keep the metadata of the last type encountered
+		Class<T> rootBeanClass = null;
+		BeanMetaData<T> rootBeanMetaData = null;
+
+		for ( T object : objects ) {
+			Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+
+			if ( rootBeanClass != object.getClass() ) {
+				@SuppressWarnings("unchecked")
+				Class<T> objectClass = (Class<T>) object.getClass();
+				rootBeanClass = objectClass;
+				rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+			}
+
+			if ( !rootBeanMetaData.hasConstraints() ) {
+				result.addValid();
+				continue;
+			}
+
+			if ( singleValidationScopedBuilder ) {
+				validationContextBuilder = getValidationContextBuilder();
+			}
+
+			ValidationContext<T> validationContext = validate( validationContextBuilder, rootBeanClass, object, rootBeanMetaData, validationOrder );
+			if ( validationContext.hasFailingConstraints() ) {
+				result.addInvalid( validationContext.getFailingConstraints() );
+			}
+			else {
+				result.addValid();
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final <T> BatchValidationResult<T> validateAll(Stream<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.validatedObjectMustNotBeNull() );
+
+		Iterator<T> iterator = (Iterator<T>) objects.iterator();
+		return validateAll( () -> iterator, groups );
+	}
+
+	@Override
+	public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+		return getFailingConstraints( validateProperty( getValidationContextBuilder(), object, propertyName, groups ) );
+	}
+
+	@Override
+	public final <T> boolean isValidProperty(T object, String propertyName, Class<?>... groups) {
+		return isValid( validateProperty( getValidityCheckContextBuilder(), object, propertyName, groups ) );
+	}
+
+	@Override
+	public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+		return getFailingConstraints( validateValue( getValidationContextBuilder(), beanType, propertyName, value, groups ) );
+	}
+
+	@Override
+	public final <T> boolean isValidValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+		return isValid( validateValue( getValidityCheckContextBuilder(), beanType, propertyName, value, groups ) );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( method, MESSAGES.validatedMethodMustNotBeNull() );
+		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
+
+		return getFailingConstraints( validateParameters( getValidationContextBuilder(), object, (Executable) method, parameterValues, groups ) );
+	}
+
+	@Override
+	public final <T> boolean isValidParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( method, MESSAGES.validatedMethodMustNotBeNull() );
+		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
+
+		return isValid( validateParameters( getValidityCheckContextBuilder(), object, (Executable) method, parameterValues, groups ) );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+		Contracts.assertNotNull( constructor, MESSAGES.validatedConstructorMustNotBeNull() );
+		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
+
+		return getFailingConstraints( validateParameters( getValidationContextBuilder(), null, constructor, parameterValues, groups ) );
+	}
+
+	@Override
+	public final <T> boolean isValidConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+		Contracts.assertNotNull( constructor, MESSAGES.validatedConstructorMustNotBeNull() );
+		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
+
+		return isValid( validateParameters( getValidityCheckContextBuilder(), null, constructor, parameterValues, groups ) );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
+		Contracts.assertNotNull( constructor, MESSAGES.validatedConstructorMustNotBeNull() );
+		Contracts.assertNotNull( createdObject, MESSAGES.validatedConstructorCreatedInstanceMustNotBeNull() );
+
+		return validateReturnValue( null, constructor, createdObject, groups );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( method, MESSAGES.validatedMethodMustNotBeNull() );
+
+		return validateReturnValue( object, (Executable) method, returnValue, groups );
+	}
+
+	/**
+	 * @return the validation context once the validation is done or {@code null} if the bean does not host any
+	 * constraint
+	 */
+	private <T> ValidationContext<T> validate(ValidationContextBuilder validationContextBuilder, T object, Class<?>[] groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
 		sanityCheckGroups( groups );
 
@@ -153,12 +317,19 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+		return validate( validationContextBuilder, rootBeanClass, object, rootBeanMetaData, determineGroupValidationOrder( groups ) );
+	}
+
+	/**
+	 * Validates a bean whose metadata and validation order have already been resolved.
+	 */
+	private <T> ValidationContext<T> validate(ValidationContextBuilder validationContextBuilder, Class<T> rootBeanClass, T object,
+			BeanMetaData<T> rootBeanMetaData, ValidationOrder validationOrder) {
+		BaseBeanValidationContext<T> validationContext = validationContextBuilder.forValidate( rootBeanClass, rootBeanMetaData, object );
 
-		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForRootBean(
 				validatorScopedContext.getParameterNameProvider(),
 				object,
@@ -166,11 +337,12 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 				MutablePath.createRootPath()
 		);
 
-		return validateInContext( validationContext, valueContext, validationOrder );
+		validateInContext( validationContext, valueContext, validationOrder );
+
+		return validationContext;
 	}
 
-	@Override
-	public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+	private <T> ValidationContext<T> validateProperty(ValidationContextBuilder validationContextBuilder, T object, String propertyName, Class<?>[] groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
 		sanityCheckPropertyPath( propertyName );
 		sanityCheckGroups( groups );
@@ -180,11 +352,11 @@ public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String p
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
 		MutablePath propertyPath = MutablePath.createPathFromString( propertyName );
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidateProperty( rootBeanClass, rootBeanMetaData, object,
+		BaseBeanValidationContext<T> validationContext = validationContextBuilder.forValidateProperty( rootBeanClass, rootBeanMetaData, object,
 				propertyPath );
 
 		BeanValueContext<?, Object> valueContext = getValueContextForPropertyValidation( validationContext, propertyPath );
@@ -195,11 +367,13 @@ public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String p
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		return validateInContext( validationContext, valueContext, validationOrder );
+		validateInContext( validationContext, valueContext, validationOrder );
+
+		return validationContext;
 	}
 
-	@Override
-	public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+	private <T> ValidationContext<T> validateValue(ValidationContextBuilder validationContextBuilder, Class<T> beanType, String propertyName, Object value,
+			Class<?>[] groups) {
 		Contracts.assertNotNull( beanType, MESSAGES.beanTypeCannotBeNull() );
 		sanityCheckPropertyPath( propertyName );
 		sanityCheckGroups( groups );
@@ -207,56 +381,26 @@ public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, St
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( beanType );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
 		MutablePath propertyPath = MutablePath.createPathFromString( propertyName );
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidateValue( beanType, rootBeanMetaData, propertyPath );
+		BaseBeanValidationContext<T> validationContext = validationContextBuilder.forValidateValue( beanType, rootBeanMetaData, propertyPath );
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		return validateValueInContext(
+		validateValueInContext(
 				validationContext,
 				value,
 				propertyPath,
 				validationOrder
 		);
-	}
-
-	@Override
-	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
-		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
-		Contracts.assertNotNull( method, MESSAGES.validatedMethodMustNotBeNull() );
-		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
-
-		return validateParameters( object, (Executable) method, parameterValues, groups );
-	}
-
-	@Override
-	public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
-		Contracts.assertNotNull( constructor, MESSAGES.validatedConstructorMustNotBeNull() );
-		Contracts.assertNotNull( parameterValues, MESSAGES.validatedParameterArrayMustNotBeNull() );
 
-		return validateParameters( null, constructor, parameterValues, groups );
+		return validationContext;
 	}
 
-	@Override
-	public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
-		Contracts.assertNotNull( constructor, MESSAGES.validatedConstructorMustNotBeNull() );
-		Contracts.assertNotNull( createdObject, MESSAGES.validatedConstructorCreatedInstanceMustNotBeNull() );
-
-		return validateReturnValue( null, constructor, createdObject, groups );
-	}
-
-	@Override
-	public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
-		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
-		Contracts.assertNotNull( method, MESSAGES.validatedMethodMustNotBeNull() );
-
-		return validateReturnValue( object, (Executable) method, returnValue, groups );
-	}
-
-	private <T> Set<ConstraintViolation<T>> validateParameters(T object, Executable executable, Object[] parameterValues, Class<?>... groups) {
+	private <T> ValidationContext<T> validateParameters(ValidationContextBuilder validationContextBuilder, T object, Executable executable,
+			Object[] parameterValues, Class<?>... groups) {
 		sanityCheckGroups( groups );
 
 		@SuppressWarnings("unchecked")
@@ -264,10 +408,10 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, Executable
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
-		ExecutableValidationContext<T> validationContext = getValidationContextBuilder().forValidateParameters(
+		ExecutableValidationContext<T> validationContext = validationContextBuilder.forValidateParameters(
 				rootBeanClass,
 				rootBeanMetaData,
 				object,
@@ -279,7 +423,7 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, Executable
 
 		validateParametersInContext( validationContext, parameterValues, validationOrder );
 
-		return validationContext.getFailingConstraints();
+		return validationContext;
 	}
 
 	private <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Executable executable, Object returnValue, Class<?>... groups) {
@@ -308,6 +452,14 @@ private <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Executable
 		return validationContext.getFailingConstraints();
 	}
 
+	private static <T> Set<ConstraintViolation<T>> getFailingConstraints(ValidationContext<T> validationContext) {
+		return validationContext != null ? validationContext.getFailingConstraints() : Collections.emptySet();
+	}
+
+	private static boolean isValid(ValidationContext<?> validationContext) {
+		return validationContext == null || !validationContext.hasFailingConstraints();
+	}
+
 	@Override
 	public final BeanDescriptor getConstraintsForClass(Class<?> clazz) {
 		return beanMetaDataManager.getBeanMetaData( clazz ).getBeanDescriptor();
@@ -318,7 +470,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( HibernateValidatorValidator.class ) ) {
 			return type.cast( this );
 		}
 
@@ -331,12 +483,21 @@ public ExecutableValidator forExecutables() {
 	}
 
 	private ValidationContextBuilder getValidationContextBuilder() {
+		return getValidationContextBuilder( false );
+	}
+
+	private ValidationContextBuilder getValidityCheckContextBuilder() {
+		return getValidationContextBuilder( true );
+	}
+
+	private ValidationContextBuilder getValidationContextBuilder(boolean validityCheckModeEnabled) {
 		return new ValidationContextBuilder(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
 				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() ),
-				constraintValidatorInitializationContext
+				constraintValidatorInitializationContext,
+				validityCheckModeEnabled
 		);
 	}
 
@@ -451,19 +612,24 @@ private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> val
 	private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<U, Object> valueContext) {
 		final BeanMetaData<U> beanMetaData = valueContext.getCurrentBeanMetaData();
 		final Map<Class<?>, Class<?>> validatedInterfaces = beanMetaData.maybeCreateValidatedInterfacesTrackingMap();
+		final ValidationPlan validationPlan = beanMetaData.getValidationPlan( Default.class, validationPlanCompiler );
 
-		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions
-		for ( Class<? super U> clazz : beanMetaData.getClassHierarchy() ) {
-			BeanMetaData<? super U> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
-
-			boolean defaultGroupSequenceIsRedefined = hostingBeanMetaData.isDefaultGroupSequenceRedefined();
+		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions;
+		// the hierarchy steps stop at the first class redefining the default group sequence as it applies to all the class hierarchy
+		for ( ValidationPlan.HierarchyStep hierarchyStep : validationPlan.getHierarchySteps() ) {
+			Class<?> clazz = hierarchyStep.getHostingClass();
 
 			// if the current class redefined the default group sequence, this sequence has to be applied to all the class hierarchy.
-			if ( defaultGroupSequenceIsRedefined ) {
+			if ( hierarchyStep.isDefaultGroupSequenceRedefined() ) {
+				// the hosting metadata are looked up as the plan must not keep the metadata of the super types alive
+				@SuppressWarnings("unchecked")
+				BeanMetaData<? super U> hostingBeanMetaData = clazz == beanMetaData.getBeanClass()
+						? beanMetaData
+						: (BeanMetaData<? super U>) beanMetaDataManager.getBeanMetaData( clazz );
 				Iterator<Sequence> defaultGroupSequence = hostingBeanMetaData.getDefaultValidationSequence( valueContext.getCurrentBean() );
 
-				Set<MetaConstraint<?>> classMetaConstraints = hostingBeanMetaData.getClassMetaConstraints();
-				Set<MetaConstraint<?>> propertyMetaConstraints = hostingBeanMetaData.getPropertyMetaConstraints();
+				MetaConstraint<?>[] classMetaConstraints = hierarchyStep.getClassMetaConstraints();
+				MetaConstraint<?>[] propertyMetaConstraints = hierarchyStep.getPropertyMetaConstraints();
 
 				while ( defaultGroupSequence.hasNext() ) {
 					for ( GroupWithInheritance groupOfGroups : defaultGroupSequence.next() ) {
@@ -471,12 +637,12 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 
 						for ( Group defaultSequenceMember : groupOfGroups ) {
 							if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
-								boolean propertyValidationResult = propertyMetaConstraints.isEmpty()
+								boolean propertyValidationResult = propertyMetaConstraints.length == 0
 										|| validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, propertyMetaConstraints,
 												defaultSequenceMember );
 								validationSuccessful = propertyValidationResult && validationSuccessful;
 								if ( propertyValidationResult ) {
-									validationSuccessful = ( classMetaConstraints.isEmpty()
+									validationSuccessful = ( classMetaConstraints.length == 0
 											|| validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, classMetaConstraints,
 													defaultSequenceMember ) )
 											&& validationSuccessful;
@@ -484,7 +650,7 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 							}
 							else {
 								validationSuccessful = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
-										hostingBeanMetaData.getAllMetaConstraints(), defaultSequenceMember ) && validationSuccessful;
+										hierarchyStep.getAllMetaConstraints(), defaultSequenceMember ) && validationSuccessful;
 							}
 						}
 
@@ -500,29 +666,23 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 			else {
 				if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
 					boolean propertyValidationResult = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
-							hostingBeanMetaData.getDirectPropertyMetaConstraints(), Group.DEFAULT_GROUP );
-					if ( !validationContext.isFailFastOnPropertyViolationModeEnabled() || propertyValidationResult ) {
-						validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hostingBeanMetaData.getDirectClassMetaConstraints(),
+							hierarchyStep.getPropertyMetaConstraints(), Group.DEFAULT_GROUP );
+					if ( propertyValidationResult ) {
+						validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hierarchyStep.getClassMetaConstraints(),
 								Group.DEFAULT_GROUP );
 					}
-
 				}
 				else {
-					validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hostingBeanMetaData.getAllDirectMetaConstraints(),
+					validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hierarchyStep.getAllMetaConstraints(),
 							Group.DEFAULT_GROUP );
 				}
 				validationContext.markCurrentBeanAsProcessed( valueContext );
 			}
-
-			// all constraints in the hierarchy has been validated, stop validation.
-			if ( defaultGroupSequenceIsRedefined ) {
-				break;
-			}
 		}
 	}
 
 	private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanValidationContext<?> validationContext, ValueContext<U, Object> valueContext,
-			final Map<Class<?>, Class<?>> validatedInterfaces, Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints, Group defaultSequenceMember) {
+			final Map<Class<?>, Class<?>> validatedInterfaces, Class<?> clazz, MetaConstraint<?>[] metaConstraints, Group defaultSequenceMember) {
 		boolean validationSuccessful = true;
 
 		valueContext.setCurrentGroup( defaultSequenceMember.getDefiningClass() );
@@ -531,15 +691,8 @@ private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanVali
 		valueContext.appendEmptyNode();
 
 		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
-			// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
-			// time. An interface can define more than one constraint, we have to check the class we are validating.
-			if ( validatedInterfaces != null && metaConstraint.getLocation().isDeclaredOnInterface() ) {
-				final Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
-				Class<?> validatedForClass = validatedInterfaces.get( declaringClass );
-				if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
-					continue;
-				}
-				validatedInterfaces.put( declaringClass, clazz );
+			if ( isInterfaceAlreadyValidated( validatedInterfaces, clazz, metaConstraint ) ) {
+				continue;
 			}
 
 			boolean tmp = validateMetaConstraint( validationContext, valueContext, valueContext.getCurrentBean(), metaConstraint );
@@ -556,19 +709,60 @@ private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanVali
 		return validationSuccessful;
 	}
 
+	/**
+	 * HV-466, an interface implemented more than one time in the hierarchy has to be validated only one time. An
+	 * interface can define more than one constraint, we have to check the class we are validating.
+	 */
+	private boolean isInterfaceAlreadyValidated(Map<Class<?>, Class<?>> validatedInterfaces, Class<?> clazz, MetaConstraint<?> metaConstraint) {
+		if ( validatedInterfaces != null && metaConstraint.getLocation().isDeclaredOnInterface() ) {
+			final Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
+			Class<?> validatedForClass = validatedInterfaces.get( declaringClass );
+			if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
+				return true;
+			}
+			validatedInterfaces.put( declaringClass, clazz );
+		}
+		return false;
+	}
+
 	private void validateConstraintsForNonDefaultGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext) {
+		ValidationPlan validationPlan = valueContext.getCurrentBeanMetaData().getValidationPlan( valueContext.getCurrentGroup(), validationPlanCompiler );
+
 		if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
-			if ( validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), valueContext.getCurrentBeanMetaData().getPropertyMetaConstraints() ) ) {
-				validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), valueContext.getCurrentBeanMetaData().getClassMetaConstraints() );
+			if ( validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), validationPlan.getPropertyMetaConstraints() ) ) {
+				validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), validationPlan.getClassMetaConstraints() );
 			}
 		}
 		else {
-			validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), valueContext.getCurrentBeanMetaData().getAllMetaConstraints() );
+			validateMetaConstraints( validationContext, valueContext, valueContext.getCurrentBean(), validationPlan.getAllMetaConstraints() );
 		}
 
 		validationContext.markCurrentBeanAsProcessed( valueContext );
 	}
 
+	private boolean validateMetaConstraints(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent,
+			MetaConstraint<?>[] constraints) {
+		if ( constraints.length == 0 ) {
+			return true;
+		}
+
+		boolean validationSuccessful = true;
+		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
+		valueContext.appendEmptyNode();
+
+		for ( MetaConstraint<?> metaConstraint : constraints ) {
+			validationSuccessful = validateMetaConstraint( validationContext, valueContext, parent, metaConstraint ) && validationSuccessful;
+			if ( shouldFailFast( validationContext ) ) {
+				break;
+			}
+		}
+
+		// reset the value context to the state before this call
+		valueContext.resetValueState( originalValueState );
+
+		return validationSuccessful;
+	}
+
 	private boolean validateMetaConstraints(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent,
 			Iterable<MetaConstraint<?>> constraints) {
 		boolean validationSuccessful = true;
@@ -664,7 +858,7 @@ private void validateCascadedAnnotatedObjectForCurrentGroup(Object value, BaseBe
 		// already and need only to pass the current element
 		ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 
-		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, cascadingMetaData, value );
 
 		validateInContext( validationContext, cascadedValueContext, validationOrder );
 	}
@@ -676,20 +870,42 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				continue;
 			}
 
-			ValueExtractorDescriptor extractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
-					cascadingMetaData.getEnclosingType(),
-					cascadingMetaData.getTypeParameter(),
-					value.getClass(),
-					cascadingMetaData.getValueExtractorCandidates()
-			);
+			ValueExtractorDescriptor extractor = cascadingMetaData.getValueExtractor( valueExtractorManager, value.getClass() );
 
 			if ( extractor == null ) {
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
 			}
 
-			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
-			ValueExtractorHelper.extractValues( extractor, value, receiver );
+			if ( isParallelCascadingRequired( validationContext, value ) ) {
+				ParallelCascadingValueReceiver receiver = new ParallelCascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+				ValueExtractorHelper.extractValues( extractor, value, receiver );
+				receiver.validateCollectedElements();
+			}
+			else {
+				CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+				ValueExtractorHelper.extractValues( extractor, value, receiver );
+			}
+		}
+	}
+
+	/**
+	 * The elements of a container are validated in parallel if it is large enough and if the parallel validation is
+	 * enabled. We never validate in parallel in fail fast mode, as we would have to stop the other threads, nor when
+	 * already validating an element in parallel, to avoid flooding the executor with small tasks.
+	 */
+	private boolean isParallelCascadingRequired(BaseBeanValidationContext<?> validationContext, Object value) {
+		if ( !validatorScopedContext.isParallelCascadedValidation() || validationContext.isFailFastModeEnabled() || validationContext.isFork() ) {
+			return false;
+		}
+
+		int threshold = validatorScopedContext.getParallelCascadedValidationThreshold();
+		if ( value instanceof Collection<?> collection ) {
+			return collection.size() >= threshold;
+		}
+		if ( value.getClass().isArray() ) {
+			return Array.getLength( value ) >= threshold;
 		}
+		return false;
 	}
 
 	private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
@@ -712,42 +928,42 @@ public CascadingValueReceiver(BaseBeanValidationContext<?> validationContext, Va
 			);
 		}
 
-		private BeanValueContext<?, Object> resetCascadedValueContext(Object value) {
+		private BeanValueContext<?, Object> resetCascadedValueContext(Object value, MutablePath propertyPath) {
 			Contracts.assertNotNull( value, "value cannot be null" );
 
 			BeanMetaData<?> currentBeanMetaData = cascadedValueContext.getCurrentBeanMetaData();
 			if ( currentBeanMetaData == null || currentBeanMetaData.getBeanClass() != value.getClass() ) {
-				currentBeanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
+				currentBeanMetaData = getCascadedBeanMetaData( cascadingMetaData, value.getClass() );
 			}
-			cascadedValueContext.reset( value, valueContext.getPropertyPath(), currentBeanMetaData );
+			cascadedValueContext.reset( value, propertyPath, currentBeanMetaData );
 			cascadedValueContext.setCurrentValidatedValue( value );
 			return cascadedValueContext;
 		}
 
 		@Override
 		public void value(String nodeName, Object value) {
-			doValidate( value, nodeName );
+			doValidate( value, nodeName, valueContext.getPropertyPath() );
 		}
 
 		@Override
 		public void iterableValue(String nodeName, Object value) {
 			valueContext.markCurrentPropertyAsIterable();
-			doValidate( value, nodeName );
+			doValidate( value, nodeName, valueContext.getPropertyPath() );
 		}
 
 		@Override
 		public void indexedValue(String nodeName, int index, Object value) {
 			valueContext.markCurrentPropertyAsIterableAndSetIndex( index );
-			doValidate( value, nodeName );
+			doValidate( value, nodeName, valueContext.getPropertyPath() );
 		}
 
 		@Override
 		public void keyedValue(String nodeName, Object key, Object value) {
 			valueContext.markCurrentPropertyAsIterableAndSetKey( key );
-			doValidate( value, nodeName );
+			doValidate( value, nodeName, valueContext.getPropertyPath() );
 		}
 
-		private void doValidate(Object value, String nodeName) {
+		private void doValidate(Object value, String nodeName, MutablePath propertyPath) {
 			// We need to convert the group before checking if the bean was processed or not
 			// as group defines the processed status.
 			Class<?> originalGroup = valueContext.getCurrentGroup();
@@ -764,7 +980,7 @@ private void doValidate(Object value, String nodeName) {
 			// already and need only to pass the current element
 			ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 
-			BeanValueContext<?, Object> cascadedValueContext = resetCascadedValueContext( value );
+			BeanValueContext<?, Object> cascadedValueContext = resetCascadedValueContext( value, propertyPath );
 
 			if ( cascadingMetaData.getDeclaredContainerClass() != null ) {
 				cascadedValueContext.setTypeParameter( cascadingMetaData.getDeclaredContainerClass(), cascadingMetaData.getDeclaredTypeParameterIndex() );
@@ -788,6 +1004,209 @@ private void doValidate(Object value, String nodeName) {
 		}
 	}
 
+	/**
+	 * Collects the elements of a large container to validate them in parallel.
+	 * <p>
+	 * The elements are split into chunks, one per available thread, each chunk being validated with its own fork of
+	 * the validation context. The first chunk is validated by the calling thread. Once all the chunks are validated, the
+	 * failing constraints of the forks are merged into the validation context in the order of the elements.
+	 * <p>
+	 * Each element is validated with its own copy of the container node so that the index of the element can be set
+	 * without altering the path shared by the other elements. The value context of the container is not altered while
+	 * the chunks are validated so it can be safely used as the parent of the value contexts of the elements, thus the
+	 * processed beans tracking works as for a sequential validation.
+	 * <p>
+	 * Only the iterable and indexed values are validated in parallel: if the value extractor provides other kind of
+	 * values, we fall back to a sequential validation.
+	 */
+	private class ParallelCascadingValueReceiver implements ValueExtractor.ValueReceiver {
+
+		private final BaseBeanValidationContext<?> validationContext;
+		private final ValueContext<?, ?> valueContext;
+		private final ContainerCascadingMetaData cascadingMetaData;
+		private final List<ContainerElement> elements = new ArrayList<>();
+
+		private CascadingValueReceiver sequentialReceiver;
+
+		ParallelCascadingValueReceiver(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData) {
+			this.validationContext = validationContext;
+			this.valueContext = valueContext;
+			this.cascadingMetaData = cascadingMetaData;
+		}
+
+		@Override
+		public void value(String nodeName, Object value) {
+			getSequentialReceiver().value( nodeName, value );
+		}
+
+		@Override
+		public void iterableValue(String nodeName, Object value) {
+			if ( sequentialReceiver != null ) {
+				sequentialReceiver.iterableValue( nodeName, value );
+				return;
+			}
+			elements.add( new ContainerElement( nodeName, null, value ) );
+		}
+
+		@Override
+		public void indexedValue(String nodeName, int index, Object value) {
+			if ( sequentialReceiver != null ) {
+				sequentialReceiver.indexedValue( nodeName, index, value );
+				return;
+			}
+			elements.add( new ContainerElement( nodeName, index, value ) );
+		}
+
+		@Override
+		public void keyedValue(String nodeName, Object key, Object value) {
+			getSequentialReceiver().keyedValue( nodeName, key, value );
+		}
+
+		private CascadingValueReceiver getSequentialReceiver() {
+			if ( sequentialReceiver == null ) {
+				sequentialReceiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+				for ( ContainerElement element : elements ) {
+					element.sendTo( sequentialReceiver );
+				}
+				elements.clear();
+			}
+			return sequentialReceiver;
+		}
+
+		void validateCollectedElements() {
+			if ( elements.isEmpty() ) {
+				return;
+			}
+
+			Executor executor = validatorScopedContext.getParallelCascadedValidationExecutor();
+			int numberOfChunks = Math.min( getParallelism( executor ), elements.size() );
+			if ( numberOfChunks < 2 ) {
+				getSequentialReceiver();
+				return;
+			}
+
+			validateInParallel( validationContext, executor, numberOfChunks );
+
+			// leave the container node in the state a sequential validation would have left it in
+			elements.get( elements.size() - 1 ).markAsCurrent( valueContext );
+		}
+
+		private <T> void validateInParallel(BaseBeanValidationContext<T> validationContext, Executor executor, int numberOfChunks) {
+			int chunkSize = ( elements.size() + numberOfChunks - 1 ) / numberOfChunks;
+
+			List<BaseBeanValidationContext<T>> forks = new ArrayList<>( numberOfChunks );
+			List<CompletableFuture<Void>> futures = new ArrayList<>( numberOfChunks - 1 );
+			for ( int start = 0; start < elements.size(); start += chunkSize ) {
+				BaseBeanValidationContext<T> fork = validationContext.fork(
+						TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() )
+				);
+				forks.add( fork );
+
+				// the first chunk is validated by the calling thread, once the other ones are submitted
+				if ( start > 0 ) {
+					List<ContainerElement> chunk = elements.subList( start, Math.min( start + chunkSize, elements.size() ) );
+					futures.add( runAsync( () -> validateChunk( fork, chunk ), executor ) );
+				}
+			}
+
+			// we wait for all the chunks to be validated, even in case of failure, and report the failure of the first
+			// chunk failing, in the order of the elements
+			Throwable failure = null;
+			try {
+				validateChunk( forks.get( 0 ), elements.subList( 0, Math.min( chunkSize, elements.size() ) ) );
+			}
+			catch (RuntimeException | Error e) {
+				failure = e;
+			}
+			for ( CompletableFuture<Void> future : futures ) {
+				try {
+					future.join();
+				}
+				catch (CompletionException e) {
+					if ( failure == null ) {
+						failure = e.getCause();
+					}
+				}
+			}
+
+			if ( failure instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( failure instanceof Error error ) {
+				throw error;
+			}
+
+			for ( BaseBeanValidationContext<T> fork : forks ) {
+				validationContext.join( fork );
+			}
+		}
+
+		private void validateChunk(BaseBeanValidationContext<?> fork, List<ContainerElement> chunk) {
+			CascadingValueReceiver receiver = new CascadingValueReceiver( fork, valueContext, cascadingMetaData );
+			for ( ContainerElement element : chunk ) {
+				receiver.doValidate( element.value(), element.nodeName(), element.createPropertyPath( valueContext.getPropertyPath() ) );
+			}
+		}
+	}
+
+	private static int getParallelism(Executor executor) {
+		if ( executor instanceof ForkJoinPool forkJoinPool ) {
+			// the calling thread also validates a chunk
+			return forkJoinPool.getParallelism() + 1;
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	private static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+		try {
+			return CompletableFuture.runAsync( task, executor );
+		}
+		catch (RejectedExecutionException e) {
+			// the executor is not able to accept more tasks, the chunk is validated by the calling thread
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			try {
+				task.run();
+				future.complete( null );
+			}
+			catch (RuntimeException | Error taskFailure) {
+				future.completeExceptionally( taskFailure );
+			}
+			return future;
+		}
+	}
+
+	private record ContainerElement(String nodeName, Integer index, Object value) {
+
+		private void sendTo(ValueExtractor.ValueReceiver receiver) {
+			if ( index == null ) {
+				receiver.iterableValue( nodeName, value );
+			}
+			else {
+				receiver.indexedValue( nodeName, index, value );
+			}
+		}
+
+		private MutablePath createPropertyPath(MutablePath containerPath) {
+			MutablePath propertyPath = MutablePath.createCopyWithDetachedLeafNode( containerPath );
+			if ( index == null ) {
+				propertyPath.makeLeafNodeIterable();
+			}
+			else {
+				propertyPath.makeLeafNodeIterableAndSetIndex( index );
+			}
+			return propertyPath;
+		}
+
+		private void markAsCurrent(ValueContext<?, ?> valueContext) {
+			if ( index == null ) {
+				valueContext.markCurrentPropertyAsIterable();
+			}
+			else {
+				valueContext.markCurrentPropertyAsIterableAndSetIndex( index );
+			}
+		}
+	}
+
 	private void validateCascadedContainerElementsInContext(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
 			ContainerCascadingMetaData cascadingMetaData, ValidationOrder validationOrder) {
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
@@ -823,10 +1242,10 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 		}
 	}
 
-	private BeanValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?, ?> valueContext, Object value) {
+	private BeanValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?, ?> valueContext, CascadingMetaData cascadingMetaData, Object value) {
 		BeanValueContext<?, Object> newValueContext;
 		Contracts.assertNotNull( value, "value cannot be null" );
-		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
+		BeanMetaData<?> beanMetaData = getCascadedBeanMetaData( cascadingMetaData, value.getClass() );
 		newValueContext = ValueContexts.getLocalExecutionContextForBean(
 				valueContext,
 				validatorScopedContext.getParameterNameProvider(),
@@ -839,6 +1258,13 @@ private BeanValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?
 		return newValueContext;
 	}
 
+	private BeanMetaData<?> getCascadedBeanMetaData(CascadingMetaData cascadingMetaData, Class<?> valueClass) {
+		if ( beanMetaDataInlineCaching ) {
+			return cascadingMetaData.getBeanMetaData( beanMetaDataManager, valueClass );
+		}
+		return beanMetaDataManager.getBeanMetaData( valueClass );
+	}
+
 	private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidationContext<T> validationContext, Object value, MutablePath propertyPath,
 			ValidationOrder validationOrder) {
 		BeanValueContext<?, Object> valueContext = getValueContextForValueValidation( validationContext.getRootBeanClass(), propertyPath );
@@ -1430,7 +1856,7 @@ private boolean isReturnValueValidation(MutablePath path) {
 	}
 
 	private boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
-		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty();
+		return validationContext.isFailFastModeEnabled() && validationContext.hasFailingConstraints();
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode) {
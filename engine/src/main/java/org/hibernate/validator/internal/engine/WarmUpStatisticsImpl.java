@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.time.Duration;
+
+import org.hibernate.validator.WarmUpStatistics;
+
+/**
+ * The immutable statistics of a warm-up.
+ */
+final class WarmUpStatisticsImpl implements WarmUpStatistics {
+
+	private final int beanCount;
+
+	private final int constraintCount;
+
+	private final int initializedConstraintValidatorCount;
+
+	private final int resolvedValueExtractorCount;
+
+	private final int interpolatedMessageCount;
+
+	private final Duration metaDataDuration;
+
+	private final Duration constraintValidatorDuration;
+
+	private final Duration valueExtractorDuration;
+
+	private final Duration messageInterpolationDuration;
+
+	private final Duration totalDuration;
+
+	WarmUpStatisticsImpl(int beanCount, int constraintCount, int initializedConstraintValidatorCount, int resolvedValueExtractorCount,
+			int interpolatedMessageCount, long metaDataNanos, long constraintValidatorNanos, long valueExtractorNanos, long messageInterpolationNanos,
+			long totalNanos) {
+		this.beanCount = beanCount;
+		this.constraintCount = constraintCount;
+		this.initializedConstraintValidatorCount = initializedConstraintValidatorCount;
+		this.resolvedValueExtractorCount = resolvedValueExtractorCount;
+		this.interpolatedMessageCount = interpolatedMessageCount;
+		this.metaDataDuration = Duration.ofNanos( metaDataNanos );
+		this.constraintValidatorDuration = Duration.ofNanos( constraintValidatorNanos );
+		this.valueExtractorDuration = Duration.ofNanos( valueExtractorNanos );
+		this.messageInterpolationDuration = Duration.ofNanos( messageInterpolationNanos );
+		this.totalDuration = Duration.ofNanos( totalNanos );
+	}
+
+	@Override
+	public int getBeanCount() {
+		return beanCount;
+	}
+
+	@Override
+	public int getConstraintCount() {
+		return constraintCount;
+	}
+
+	@Override
+	public int getInitializedConstraintValidatorCount() {
+		return initializedConstraintValidatorCount;
+	}
+
+	@Override
+	public int getResolvedValueExtractorCount() {
+		return resolvedValueExtractorCount;
+	}
+
+	@Override
+	public int getInterpolatedMessageCount() {
+		return interpolatedMessageCount;
+	}
+
+	@Override
+	public Duration getMetaDataDuration() {
+		return metaDataDuration;
+	}
+
+	@Override
+	public Duration getConstraintValidatorDuration() {
+		return constraintValidatorDuration;
+	}
+
+	@Override
+	public Duration getValueExtractorDuration() {
+		return valueExtractorDuration;
+	}
+
+	@Override
+	public Duration getMessageInterpolationDuration() {
+		return messageInterpolationDuration;
+	}
+
+	@Override
+	public Duration getTotalDuration() {
+		return totalDuration;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpStatistics{beanCount=" + beanCount + ", constraintCount=" + constraintCount + ", initializedConstraintValidatorCount="
+				+ initializedConstraintValidatorCount + ", resolvedValueExtractorCount=" + resolvedValueExtractorCount + ", interpolatedMessageCount="
+				+ interpolatedMessageCount + ", metaDataDuration=" + metaDataDuration + ", constraintValidatorDuration=" + constraintValidatorDuration
+				+ ", valueExtractorDuration=" + valueExtractorDuration + ", messageInterpolationDuration=" + messageInterpolationDuration
+				+ ", totalDuration=" + totalDuration + "}";
+	}
+}
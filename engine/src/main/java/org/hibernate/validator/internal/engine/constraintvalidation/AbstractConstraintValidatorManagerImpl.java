@@ -36,7 +36,7 @@ public abstract class AbstractConstraintValidatorManagerImpl implements Constrai
 	 * The explicit or implicit default constraint validator factory. We always cache {@code ConstraintValidator}
 	 * instances if they are created via the default instance and with the default initialization context. Constraint
 	 * validator instances created via other factory instances (specified eg via {@code ValidatorFactory#usingContext()}
-	 * or initialization context are only cached for the most recently used factory and context.
+	 * or initialization context are only cached for a bounded number of recently used factories and contexts.
 	 */
 	private final ConstraintValidatorFactory defaultConstraintValidatorFactory;
 
@@ -44,8 +44,8 @@ public abstract class AbstractConstraintValidatorManagerImpl implements Constrai
 	 * The explicit or implicit default constraint validator initialization context. We always cache
 	 * {@code ConstraintValidator} instances if they are created via the default instance and with the default context.
 	 * Constraint validator instances created via other factory instances (specified eg via
-	 * {@code ValidatorFactory#usingContext()} or initialization context are only cached for the most recently used
-	 * factory and context.
+	 * {@code ValidatorFactory#usingContext()} or initialization context are only cached for a bounded number of recently
+	 * used factories and contexts.
 	 */
 	private final HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext;
 
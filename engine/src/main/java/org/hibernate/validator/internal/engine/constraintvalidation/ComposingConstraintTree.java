@@ -14,6 +14,8 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.validation.ConstraintValidator;
@@ -62,8 +64,37 @@ private <U extends Annotation> ConstraintTree<U> createConstraintTree(Constraint
 		}
 	}
 
+	@Override
+	public boolean collectInstances(Set<ConstraintTree<?>> constraintTrees, Set<ConstraintValidator<?, ?>> constraintValidators) {
+		if ( !super.collectInstances( constraintTrees, constraintValidators ) ) {
+			return false;
+		}
+
+		for ( ConstraintTree<?> tree : children ) {
+			tree.collectInstances( constraintTrees, constraintValidators );
+		}
+		return true;
+	}
+
+	@Override
+	public int initializeDefaultConstraintValidators(ConstraintValidatorManager constraintValidatorManager, Supplier<String> path) {
+		int initializedConstraintValidatorCount = super.initializeDefaultConstraintValidators( constraintValidatorManager, path );
+		for ( ConstraintTree<?> tree : children ) {
+			initializedConstraintValidatorCount += tree.initializeDefaultConstraintValidators( constraintValidatorManager, path );
+		}
+		return initializedConstraintValidatorCount;
+	}
+
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		if ( validationContext.isValidityCheckModeEnabled() ) {
+			if ( checkConstraints( validationContext, valueContext ) ) {
+				return true;
+			}
+			validationContext.addValidityCheckFailure();
+			return false;
+		}
+
 		List<ConstraintViolationCreationContext> constraintViolationCreationContexts = new ArrayList<>( 5 );
 		validateConstraints( validationContext, valueContext, constraintViolationCreationContexts );
 		if ( !constraintViolationCreationContexts.isEmpty() ) {
@@ -87,18 +118,7 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 
 		// After all children are validated the actual ConstraintValidator of the constraint itself is executed
 		if ( mainConstraintNeedsEvaluation( validationContext, violatedConstraintValidatorContexts ) ) {
-
-			if ( LOG.isEnabled( Logger.Level.TRACE ) ) {
-				if ( validationContext.isShowValidatedValuesInTraceLogs() ) {
-					LOG.tracef(
-							"Validating value %s against constraint defined by %s.",
-							valueContext.getCurrentValidatedValue(),
-							descriptor );
-				}
-				else {
-					LOG.tracef( "Validating against constraint defined by %s.", descriptor );
-				}
-			}
+			logMainConstraintValidation( validationContext, valueContext );
 
 			// find the right constraint validator
 			ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
@@ -129,10 +149,79 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 		}
 	}
 
+	@Override
+	protected boolean checkConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		CompositionResult compositionResult = new CompositionResult( true, false );
+		for ( ConstraintTree<?> tree : children ) {
+			if ( tree.checkConstraints( validationContext, valueContext ) ) {
+				compositionResult.setAtLeastOneTrue( true );
+				if ( descriptor.getCompositionType() == OR ) {
+					break;
+				}
+			}
+			else {
+				compositionResult.setAllTrue( false );
+				// the validity check mode implies the fail fast mode
+				if ( descriptor.getCompositionType() == AND ) {
+					break;
+				}
+			}
+		}
+
+		ConstraintValidatorContextImpl constraintValidatorContext = null;
+
+		// as in fail fast mode, the main constraint is only evaluated if all the composing constraints are satisfied
+		if ( compositionResult.isAllTrue() && hasMainConstraintValidator() ) {
+			logMainConstraintValidation( validationContext, valueContext );
+
+			ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
+			constraintValidatorContext = validationContext.createConstraintValidatorContextFor(
+					descriptor, valueContext.getPropertyPath()
+			);
+
+			if ( validateSingleConstraint( valueContext, constraintValidatorContext, validator ) ) {
+				compositionResult.setAtLeastOneTrue( true );
+				constraintValidatorContext = null;
+			}
+			else {
+				compositionResult.setAllTrue( false );
+			}
+		}
+
+		if ( passesCompositionTypeRequirement( compositionResult ) ) {
+			return true;
+		}
+		if ( constraintValidatorContext != null ) {
+			constraintValidatorContext.checkConstraintViolationReported();
+		}
+		return false;
+	}
+
+	private void logMainConstraintValidation(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		if ( LOG.isEnabled( Logger.Level.TRACE ) ) {
+			if ( validationContext.isShowValidatedValuesInTraceLogs() ) {
+				LOG.tracef(
+						"Validating value %s against constraint defined by %s.",
+						valueContext.getCurrentValidatedValue(),
+						descriptor );
+			}
+			else {
+				LOG.tracef( "Validating against constraint defined by %s.", descriptor );
+			}
+		}
+	}
+
+	/**
+	 * @return {@code false} if we are dealing with a composing constraint with no validator for the main constraint
+	 */
+	private boolean hasMainConstraintValidator() {
+		return descriptor.getComposingConstraints().isEmpty() || !descriptor.getMatchingConstraintValidatorDescriptors().isEmpty();
+	}
+
 	private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationContext,
 			Collection<ConstraintViolationCreationContext> constraintViolationCreationContexts) {
 		// we are dealing with a composing constraint with no validator for the main constraint
-		if ( !descriptor.getComposingConstraints().isEmpty() && descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
+		if ( !hasMainConstraintValidator() ) {
 			return false;
 		}
 
@@ -231,6 +320,15 @@ private CompositionResult validateComposingConstraints(ValidationContext<?> vali
 	}
 
 	private boolean passesCompositionTypeRequirement(Collection<?> constraintViolations, CompositionResult compositionResult) {
+		boolean passedValidation = passesCompositionTypeRequirement( compositionResult );
+		assert ( !passedValidation || !( getDescriptor().getCompositionType() == AND ) || constraintViolations.isEmpty() );
+		if ( passedValidation ) {
+			constraintViolations.clear();
+		}
+		return passedValidation;
+	}
+
+	private boolean passesCompositionTypeRequirement(CompositionResult compositionResult) {
 		CompositionType compositionType = getDescriptor().getCompositionType();
 		boolean passedValidation = false;
 		switch ( compositionType ) {
@@ -244,10 +342,6 @@ private boolean passesCompositionTypeRequirement(Collection<?> constraintViolati
 				passedValidation = !compositionResult.isAtLeastOneTrue();
 				break;
 		}
-		assert ( !passedValidation || !( compositionType == AND ) || constraintViolations.isEmpty() );
-		if ( passedValidation ) {
-			constraintViolations.clear();
-		}
 		return passedValidation;
 	}
 
@@ -8,6 +8,8 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidator;
@@ -70,6 +72,15 @@ public static <U extends Annotation> ConstraintTree<U> of(ConstraintValidatorMan
 	protected abstract void validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
 			Collection<ConstraintViolationCreationContext> violatedConstraintValidatorContexts);
 
+	/**
+	 * Checks the constraints in validity check mode, without creating any constraint violation creation context.
+	 *
+	 * @param validationContext the validation context
+	 * @param valueContext the value context
+	 * @return {@code true} if the constraints are satisfied, {@code false} otherwise
+	 */
+	protected abstract boolean checkConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext);
+
 	public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return descriptor;
 	}
@@ -78,6 +89,65 @@ public final Type getValidatedValueType() {
 		return this.validatedValueType;
 	}
 
+	/**
+	 * Adds this tree, its potential children and the default initialized constraint validators they hold to the given
+	 * sets, which are expected to compare their elements by identity.
+	 *
+	 * @return {@code true} if this tree was not already part of the given trees
+	 */
+	public boolean collectInstances(Set<ConstraintTree<?>> constraintTrees, Set<ConstraintValidator<?, ?>> constraintValidators) {
+		if ( !constraintTrees.add( this ) ) {
+			return false;
+		}
+
+		ConstraintValidator<A, ?> validator = defaultInitializedConstraintValidator;
+		if ( validator != null ) {
+			constraintValidators.add( validator );
+		}
+		return true;
+	}
+
+	/**
+	 * Initializes the constraint validators of this tree and of its potential children for the default constraint
+	 * validator factory and initialization context, as done when the constraint is first validated.
+	 *
+	 * @param path supplies the path of the constrained element, used to report a missing constraint validator
+	 *
+	 * @return the number of constraint validators initialized by this call
+	 */
+	public int initializeDefaultConstraintValidators(ConstraintValidatorManager constraintValidatorManager, Supplier<String> path) {
+		if ( constraintValidatorManager.isPredefinedScope() || defaultInitializedConstraintValidator != null ) {
+			return 0;
+		}
+		synchronized (this) {
+			if ( defaultInitializedConstraintValidator != null ) {
+				return 0;
+			}
+			if ( initializeDefaultConstraintValidator( constraintValidatorManager ) != null ) {
+				return 1;
+			}
+			// a composed constraint does not require a validator for the main constraint
+			if ( descriptor.getComposingConstraints().isEmpty() || !descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
+				throw getExceptionForNullValidator( validatedValueType, path.get() );
+			}
+			return 0;
+		}
+	}
+
+	private synchronized ConstraintValidator<A, ?> initializeDefaultConstraintValidator(ConstraintValidatorManager constraintValidatorManager) {
+		ConstraintValidator<A, ?> validator = defaultInitializedConstraintValidator;
+		if ( validator == null ) {
+			validator = constraintValidatorManager.getInitializedValidator(
+					validatedValueType,
+					descriptor,
+					constraintValidatorManager.getDefaultConstraintValidatorFactory(),
+					constraintValidatorManager.getDefaultConstraintValidatorInitializationContext() );
+
+			defaultInitializedConstraintValidator = validator;
+		}
+		return validator;
+	}
+
 	private ValidationException getExceptionForNullValidator(Type validatedValueType, String path) {
 		if ( descriptor.getConstraintType() == ConstraintDescriptorImpl.ConstraintType.CROSS_PARAMETER ) {
 			return LOG.getValidatorForCrossParameterConstraintMustEitherValidateObjectOrObjectArrayException(
@@ -112,18 +182,7 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 				validator = defaultInitializedConstraintValidator;
 
 				if ( validator == null ) {
-					synchronized (this) {
-						validator = defaultInitializedConstraintValidator;
-						if ( validator == null ) {
-							validator = validationContext.getConstraintValidatorManager().getInitializedValidator(
-									validatedValueType,
-									descriptor,
-									validationContext.getConstraintValidatorManager().getDefaultConstraintValidatorFactory(),
-									validationContext.getConstraintValidatorManager().getDefaultConstraintValidatorInitializationContext() );
-
-							defaultInitializedConstraintValidator = validator;
-						}
-					}
+					validator = initializeDefaultConstraintValidator( validationContext.getConstraintValidatorManager() );
 				}
 			}
 			else {
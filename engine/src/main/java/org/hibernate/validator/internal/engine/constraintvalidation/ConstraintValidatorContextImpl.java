@@ -57,6 +57,18 @@ public class ConstraintValidatorContextImpl implements HibernateCrossParameterCo
 
 	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
 
+	/**
+	 * Indicates if the validation only records whether the constraints are satisfied, without creating any constraint
+	 * violation.
+	 */
+	private boolean validityCheckModeEnabled;
+
+	/**
+	 * Indicates if a custom constraint violation was added in validity check mode, in which case no constraint
+	 * violation creation context is created.
+	 */
+	private boolean customViolationAdded;
+
 	public ConstraintValidatorContextImpl(
 			ClockProvider clockProvider,
 			Object constraintValidatorPayload,
@@ -144,6 +156,15 @@ public <C> C getConstraintValidatorPayload(Class<C> type) {
 		}
 	}
 
+	@Override
+	public final boolean isValidityCheckModeEnabled() {
+		return validityCheckModeEnabled;
+	}
+
+	public final void enableValidityCheckMode() {
+		this.validityCheckModeEnabled = true;
+	}
+
 	public final ConstraintDescriptor<?> getConstraintDescriptor() {
 		return constraintDescriptor;
 	}
@@ -169,6 +190,17 @@ public final List<ConstraintViolationCreationContext> getConstraintViolationCrea
 		return returnedConstraintViolationCreationContexts;
 	}
 
+	/**
+	 * Checks that the failure of the constraint is reported, without creating the constraint violation creation
+	 * contexts. Used in place of {@link #getConstraintViolationCreationContexts()} in validity check mode.
+	 */
+	public final void checkConstraintViolationReported() {
+		if ( defaultDisabled && !customViolationAdded
+				&& ( constraintViolationCreationContexts == null || constraintViolationCreationContexts.isEmpty() ) ) {
+			throw LOG.getAtLeastOneCustomMessageMustBeCreatedException();
+		}
+	}
+
 	protected final MutablePath getCopyOfBasePath() {
 		return MutablePath.createCopy( basePath );
 	}
@@ -226,13 +258,17 @@ protected NodeBuilderBase(String template, ExpressionLanguageFeatureLevel expres
 		}
 
 		public ConstraintValidatorContext addConstraintViolation() {
-			if ( constraintViolationCreationContexts == null ) {
-				constraintViolationCreationContexts = CollectionHelper.newArrayList( 3 );
-			}
 			if ( !( expressionVariables == null || expressionVariables.isEmpty() ) && expressionLanguageFeatureLevel == ExpressionLanguageFeatureLevel.NONE ) {
 				LOG.expressionVariablesDefinedWithExpressionLanguageNotEnabled(
 						constraintDescriptor.getAnnotation() != null ? constraintDescriptor.getAnnotation().annotationType() : Annotation.class );
 			}
+			if ( validityCheckModeEnabled ) {
+				customViolationAdded = true;
+				return ConstraintValidatorContextImpl.this;
+			}
+			if ( constraintViolationCreationContexts == null ) {
+				constraintViolationCreationContexts = CollectionHelper.newArrayList( 3 );
+			}
 			constraintViolationCreationContexts.add(
 					new ConstraintViolationCreationContext(
 							constraintDescriptor,
@@ -480,6 +516,7 @@ public void resetAsRegularContext(
 		this.dynamicPayload = null;
 
 		this.constraintViolationCreationContexts = null;
+		this.customViolationAdded = false;
 	}
 
 	public void resetAsCrossParameterContext(
@@ -500,6 +537,7 @@ public void resetAsCrossParameterContext(
 		this.dynamicPayload = null;
 
 		this.constraintViolationCreationContexts = null;
+		this.customViolationAdded = false;
 	}
 
 	private enum ContextKind {
@@ -9,7 +9,6 @@
 import java.lang.reflect.Type;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.validation.ConstraintValidator;
@@ -47,26 +46,44 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	};
 
 	/**
-	 * The most recently used non default constraint validator factory.
+	 * The default maximum number of pairs of non default constraint validator factory and initialization context whose
+	 * constraint validators are cached.
 	 */
-	private volatile ConstraintValidatorFactory mostRecentlyUsedNonDefaultConstraintValidatorFactory;
+	public static final int DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS = 16;
 
 	/**
-	 * The most recently used non default constraint validator initialization context.
+	 * The maximum number of lookups of a constraint validator in the caches of a pair of non default factory and
+	 * initialization context evicted concurrently. When more pairs are in use than cached, the threads might keep
+	 * evicting the pairs of each other: the constraint validator is then created without being cached.
 	 */
-	private volatile HibernateConstraintValidatorInitializationContext mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext;
+	private static final int MAX_EVICTED_CONTEXT_CACHE_LOOKUPS = 3;
 
 	/**
-	 * Used for synchronizing access to {@link #mostRecentlyUsedNonDefaultConstraintValidatorFactory} (which can be
-	 * null itself).
+	 * Cache of initialized {@code ConstraintValidator} instances created via the default constraint validator factory
+	 * and the default initialization context, keyed against validated type and annotation ({@code CacheKey}).
 	 */
-	private final Object mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex = new Object();
+	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validated type, annotation,
-	 * constraint validator factory and constraint validator initialization context ({@code CacheKey}).
+	 * Caches of initialized {@code ConstraintValidator} instances created via other constraint validator factories or
+	 * initialization contexts (specified e.g. via {@code ValidatorFactory#usingContext()}), one per pair of factory and
+	 * context.
+	 * <p>
+	 * The number of cached pairs is bounded using the CLOCK algorithm, an approximation of LRU: a lookup only marks the
+	 * pair as recently used, and when there are too many pairs, the eviction walks through them, evicting the first one
+	 * not used since the previous walk and clearing the mark of the others. The constraint validators of an evicted pair
+	 * are released via its factory.
+	 * <p>
+	 * Thus, the lookups don't take any lock and alternating between a few pairs does not evict anything.
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	private final ConcurrentHashMap<ContextKey, ContextCache> nonDefaultContextCaches;
+
+	private final int maxCachedNonDefaultContexts;
+
+	/**
+	 * The position of the eviction walk, guarded by {@link #nonDefaultContextCaches}.
+	 */
+	private Iterator<Map.Entry<ContextKey, ContextCache>> clockHand;
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
@@ -76,8 +93,24 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 */
 	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
 			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext) {
+		this( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext, DEFAULT_MAX_CACHED_NON_DEFAULT_CONTEXTS );
+	}
+
+	/**
+	 * Creates a new {@code ConstraintValidatorManager}.
+	 *
+	 * @param defaultConstraintValidatorFactory the default validator factory
+	 * @param defaultConstraintValidatorInitializationContext the default initialization context
+	 * @param maxCachedNonDefaultContexts the maximum number of pairs of non default factory and initialization context
+	 * whose constraint validators are cached
+	 */
+	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext,
+			int maxCachedNonDefaultContexts) {
 		super( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext );
 		this.constraintValidatorCache = new ConcurrentHashMap<>();
+		this.nonDefaultContextCaches = new ConcurrentHashMap<>();
+		this.maxCachedNonDefaultContexts = maxCachedNonDefaultContexts;
 	}
 
 	@Override
@@ -106,97 +139,237 @@ public boolean isPredefinedScope() {
 		Contracts.assertNotNull( constraintValidatorFactory );
 		Contracts.assertNotNull( initializationContext );
 
-		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType, constraintValidatorFactory, initializationContext );
+		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType );
 
-		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get( key );
+		ConstraintValidator<A, ?> constraintValidator;
+		if ( constraintValidatorFactory == getDefaultConstraintValidatorFactory()
+				&& initializationContext == getDefaultConstraintValidatorInitializationContext() ) {
+			constraintValidator = getOrCreateValidator( constraintValidatorCache, key, validatedValueType, descriptor, constraintValidatorFactory,
+					initializationContext );
+		}
+		else {
+			constraintValidator = getNonDefaultContextValidator( key, validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
+		}
+
+		return DUMMY_CONSTRAINT_VALIDATOR == constraintValidator ? null : constraintValidator;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> ConstraintValidator<A, ?> getNonDefaultContextValidator(CacheKey key,
+			Type validatedValueType,
+			ConstraintDescriptorImpl<A> descriptor,
+			ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		for ( int i = 0; i < MAX_EVICTED_CONTEXT_CACHE_LOOKUPS; i++ ) {
+			ContextCache contextCache = getContextCache( constraintValidatorFactory, initializationContext );
+			ConstraintValidator<A, ?> constraintValidator = getOrCreateValidator( contextCache.constraintValidatorCache, key, validatedValueType, descriptor,
+					constraintValidatorFactory, initializationContext );
+			if ( !contextCache.evicted ) {
+				return constraintValidator;
+			}
+
+			// the pair has been evicted concurrently so the validator we got is or is about to be released: we release
+			// it if the eviction did not and look it up again in a live cache
+			if ( contextCache.constraintValidatorCache.remove( key, constraintValidator ) ) {
+				releaseInstance( constraintValidatorFactory, constraintValidator );
+			}
+		}
+
+		// the pairs are evicted faster than they are used: the validator is not cached, thus never released by the
+		// manager, and owned by the caller
+		LOG.tracef( "Constraint validator for %s created without being cached as its context keeps being evicted.", descriptor );
+		ConstraintValidator<A, ?> constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory,
+				initializationContext );
+		return constraintValidator == null ? (ConstraintValidator<A, ?>) DUMMY_CONSTRAINT_VALIDATOR : constraintValidator;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> ConstraintValidator<A, ?> getOrCreateValidator(ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> cache,
+			CacheKey key,
+			Type validatedValueType,
+			ConstraintDescriptorImpl<A> descriptor,
+			ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) cache.get( key );
 
 		if ( constraintValidator == null ) {
 			constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
-			constraintValidator = cacheValidator( key, constraintValidator );
+			if ( constraintValidator == null ) {
+				constraintValidator = (ConstraintValidator<A, ?>) DUMMY_CONSTRAINT_VALIDATOR;
+			}
+
+			ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) cache.putIfAbsent( key, constraintValidator );
+			if ( cached != null ) {
+				// another thread was faster, we keep its instance
+				releaseInstance( constraintValidatorFactory, constraintValidator );
+				constraintValidator = cached;
+			}
 		}
 		else {
 			LOG.tracef( "Constraint validator %s found in cache.", constraintValidator );
 		}
 
-		return DUMMY_CONSTRAINT_VALIDATOR == constraintValidator ? null : constraintValidator;
+		return constraintValidator;
 	}
 
-	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(CacheKey key,
-			ConstraintValidator<A, ?> constraintValidator) {
-		// we only cache constraint validator instances for the default and most recently used factory
-		if ( ( key.getConstraintValidatorFactory() != getDefaultConstraintValidatorFactory()
-				&& key.getConstraintValidatorFactory() != mostRecentlyUsedNonDefaultConstraintValidatorFactory )
-				|| ( key.getConstraintValidatorInitializationContext() != getDefaultConstraintValidatorInitializationContext()
-						&& key.getConstraintValidatorInitializationContext() != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) ) {
-
-			synchronized (mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex) {
-				if ( key.constraintValidatorFactory != mostRecentlyUsedNonDefaultConstraintValidatorFactory
-						|| key.constraintValidatorInitializationContext != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) {
-					clearEntries( mostRecentlyUsedNonDefaultConstraintValidatorFactory, mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext );
-					mostRecentlyUsedNonDefaultConstraintValidatorFactory = key.getConstraintValidatorFactory();
-					mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext = key.getConstraintValidatorInitializationContext();
-				}
+	private ContextCache getContextCache(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		ContextKey contextKey = new ContextKey( constraintValidatorFactory, initializationContext );
+
+		ContextCache contextCache = nonDefaultContextCaches.get( contextKey );
+		if ( contextCache != null ) {
+			// avoid writing to the shared cache if it is already marked
+			if ( !contextCache.recentlyUsed ) {
+				contextCache.recentlyUsed = true;
 			}
+			return contextCache;
 		}
 
-		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorCache.putIfAbsent( key,
-				constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR );
+		contextCache = new ContextCache( constraintValidatorFactory );
+		ContextCache previousContextCache = nonDefaultContextCaches.putIfAbsent( contextKey, contextCache );
+		if ( previousContextCache != null ) {
+			return previousContextCache;
+		}
 
-		return cached != null ? cached : constraintValidator;
+		if ( nonDefaultContextCaches.size() > maxCachedNonDefaultContexts ) {
+			evictContextCaches( contextCache );
+		}
+		return contextCache;
 	}
 
-	private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory, HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
-		Iterator<Entry<CacheKey, ConstraintValidator<?, ?>>> cacheEntries = constraintValidatorCache.entrySet().iterator();
+	/**
+	 * @param addedContextCache the cache which was just added, which is not evicted as its validators are about to be used
+	 */
+	private void evictContextCaches(ContextCache addedContextCache) {
+		synchronized ( nonDefaultContextCaches ) {
+			while ( nonDefaultContextCaches.size() > maxCachedNonDefaultContexts ) {
+				if ( clockHand == null || !clockHand.hasNext() ) {
+					clockHand = nonDefaultContextCaches.entrySet().iterator();
+				}
 
-		while ( cacheEntries.hasNext() ) {
-			Entry<CacheKey, ConstraintValidator<?, ?>> cacheEntry = cacheEntries.next();
-			if ( cacheEntry.getKey().getConstraintValidatorFactory() == constraintValidatorFactory
-					&& cacheEntry.getKey().getConstraintValidatorInitializationContext() == constraintValidatorInitializationContext ) {
-				constraintValidatorFactory.releaseInstance( cacheEntry.getValue() );
-				cacheEntries.remove();
+				Map.Entry<ContextKey, ContextCache> candidate = clockHand.next();
+				ContextCache contextCache = candidate.getValue();
+				if ( contextCache == addedContextCache ) {
+					continue;
+				}
+				if ( contextCache.recentlyUsed ) {
+					contextCache.recentlyUsed = false;
+				}
+				else if ( nonDefaultContextCaches.remove( candidate.getKey(), contextCache ) ) {
+					contextCache.release();
+				}
 			}
 		}
 	}
 
 	@Override
 	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintValidatorFactory().releaseInstance( entry.getValue() );
+		for ( ConstraintValidator<?, ?> constraintValidator : constraintValidatorCache.values() ) {
+			releaseInstance( getDefaultConstraintValidatorFactory(), constraintValidator );
 		}
 		constraintValidatorCache.clear();
+
+		synchronized ( nonDefaultContextCaches ) {
+			for ( ContextCache contextCache : nonDefaultContextCaches.values() ) {
+				contextCache.release();
+			}
+			nonDefaultContextCaches.clear();
+			clockHand = null;
+		}
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int numberOfCachedConstraintValidatorInstances = constraintValidatorCache.size();
+		for ( ContextCache contextCache : nonDefaultContextCaches.values() ) {
+			numberOfCachedConstraintValidatorInstances += contextCache.constraintValidatorCache.size();
+		}
+		return numberOfCachedConstraintValidatorInstances;
+	}
+
+	public int numberOfCachedNonDefaultContexts() {
+		return nonDefaultContextCaches.size();
+	}
+
+	private static void releaseInstance(ConstraintValidatorFactory constraintValidatorFactory, ConstraintValidator<?, ?> constraintValidator) {
+		if ( constraintValidator != DUMMY_CONSTRAINT_VALIDATOR ) {
+			constraintValidatorFactory.releaseInstance( constraintValidator );
+		}
+	}
+
+	private static final class ContextCache {
+
+		private final ConstraintValidatorFactory constraintValidatorFactory;
+
+		private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache = new ConcurrentHashMap<>();
+
+		private volatile boolean recentlyUsed = true;
+
+		private volatile boolean evicted;
+
+		private ContextCache(ConstraintValidatorFactory constraintValidatorFactory) {
+			this.constraintValidatorFactory = constraintValidatorFactory;
+		}
+
+		private void release() {
+			evicted = true;
+
+			// a validator might be removed concurrently by the thread which added it after the eviction
+			for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
+				if ( constraintValidatorCache.remove( entry.getKey(), entry.getValue() ) ) {
+					releaseInstance( constraintValidatorFactory, entry.getValue() );
+				}
+			}
+		}
+	}
+
+	private static final class ContextKey {
+
+		private final ConstraintValidatorFactory constraintValidatorFactory;
+
+		private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
+
+		private final int hashCode;
+
+		private ContextKey(ConstraintValidatorFactory constraintValidatorFactory,
+				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+			this.constraintValidatorFactory = constraintValidatorFactory;
+			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
+			this.hashCode = 31 * constraintValidatorFactory.hashCode() + constraintValidatorInitializationContext.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			// no need to check for the type here considering it's only used in a typed map
+			if ( o == null ) {
+				return false;
+			}
+
+			ContextKey other = (ContextKey) o;
+			return constraintValidatorFactory.equals( other.constraintValidatorFactory )
+					&& constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 
 	private static final class CacheKey {
 		// These members are not final for optimization purposes
 		private ConstraintAnnotationDescriptor<?> annotationDescriptor;
 		private Type validatedType;
-		private ConstraintValidatorFactory constraintValidatorFactory;
-		private HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 		private int hashCode;
 
-		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType, ConstraintValidatorFactory constraintValidatorFactory,
-				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType) {
 			this.annotationDescriptor = annotationDescriptor;
 			this.validatedType = validatorType;
-			this.constraintValidatorFactory = constraintValidatorFactory;
-			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintValidatorFactory() {
-			return constraintValidatorFactory;
-		}
-
-		public HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext() {
-			return constraintValidatorInitializationContext;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -215,12 +388,6 @@ public boolean equals(Object o) {
 			if ( !validatedType.equals( other.validatedType ) ) {
 				return false;
 			}
-			if ( !constraintValidatorFactory.equals( other.constraintValidatorFactory ) ) {
-				return false;
-			}
-			if ( !constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext ) ) {
-				return false;
-			}
 
 			return true;
 		}
@@ -233,8 +400,6 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotationDescriptor.hashCode();
 			result = 31 * result + validatedType.hashCode();
-			result = 31 * result + constraintValidatorFactory.hashCode();
-			result = 31 * result + constraintValidatorInitializationContext.hashCode();
 			return result;
 		}
 	}
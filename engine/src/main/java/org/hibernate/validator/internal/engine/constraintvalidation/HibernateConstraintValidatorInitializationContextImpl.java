@@ -10,6 +10,7 @@
 import jakarta.validation.ClockProvider;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -24,16 +25,20 @@ public class HibernateConstraintValidatorInitializationContextImpl implements Hi
 
 	private final Duration temporalValidationTolerance;
 
+	private final RegularExpressionEngine regularExpressionEngine;
+
 	private final HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager;
 
 	private final int hashCode;
 
 	public HibernateConstraintValidatorInitializationContextImpl(ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider,
-			Duration temporalValidationTolerance, HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager
+			Duration temporalValidationTolerance, RegularExpressionEngine regularExpressionEngine,
+			HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager
 	) {
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.clockProvider = clockProvider;
 		this.temporalValidationTolerance = temporalValidationTolerance;
+		this.regularExpressionEngine = regularExpressionEngine;
 		this.constraintValidatorInitializationSharedServiceManager = constraintValidatorInitializationSharedServiceManager;
 		this.hashCode = createHashCode();
 	}
@@ -47,7 +52,8 @@ public static HibernateConstraintValidatorInitializationContextImpl of(Hibernate
 			return defaultContext;
 		}
 
-		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance, constraintValidatorInitializationSharedServiceManager );
+		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance,
+				defaultContext.regularExpressionEngine, constraintValidatorInitializationSharedServiceManager );
 	}
 
 	@Override
@@ -65,6 +71,11 @@ public Duration getTemporalValidationTolerance() {
 		return temporalValidationTolerance;
 	}
 
+	@Override
+	public RegularExpressionEngine getRegularExpressionEngine() {
+		return regularExpressionEngine;
+	}
+
 	@Override
 	public <C> C getSharedData(Class<C> type) {
 		return constraintValidatorInitializationSharedServiceManager.retrieve( type );
@@ -102,6 +113,9 @@ public boolean equals(Object o) {
 		if ( !temporalValidationTolerance.equals( hibernateConstraintValidatorInitializationContextImpl.temporalValidationTolerance ) ) {
 			return false;
 		}
+		if ( regularExpressionEngine != hibernateConstraintValidatorInitializationContextImpl.regularExpressionEngine ) {
+			return false;
+		}
 		return true;
 	}
 
@@ -114,6 +128,7 @@ private int createHashCode() {
 		int result = System.identityHashCode( scriptEvaluatorFactory );
 		result = 31 * result + System.identityHashCode( clockProvider );
 		result = 31 * result + temporalValidationTolerance.hashCode();
+		result = 31 * result + regularExpressionEngine.hashCode();
 		result = 31 * result + System.identityHashCode( constraintValidatorInitializationSharedServiceManager );
 		return result;
 	}
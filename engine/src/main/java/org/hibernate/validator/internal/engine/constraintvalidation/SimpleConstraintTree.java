@@ -39,6 +39,14 @@ public SimpleConstraintTree(ConstraintValidatorManager constraintValidatorManage
 
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		if ( validationContext.isValidityCheckModeEnabled() ) {
+			if ( checkConstraints( validationContext, valueContext ) ) {
+				return true;
+			}
+			validationContext.addValidityCheckFailure();
+			return false;
+		}
+
 		ConstraintValidatorContextImpl constraintValidatorContext = doValidateConstraints( validationContext, valueContext );
 		if ( constraintValidatorContext != null ) {
 			for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
@@ -62,6 +70,16 @@ protected void validateConstraints(
 		}
 	}
 
+	@Override
+	protected boolean checkConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		ConstraintValidatorContextImpl constraintValidatorContext = doValidateConstraints( validationContext, valueContext );
+		if ( constraintValidatorContext == null ) {
+			return true;
+		}
+		constraintValidatorContext.checkConstraintViolationReported();
+		return false;
+	}
+
 	private ConstraintValidatorContextImpl doValidateConstraints(
 			ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext
@@ -28,8 +28,27 @@ public class ValidationOrderGenerator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of validation orders cached. Group combinations are usually defined statically in the
+	 * application so the caches are only bounded to protect against applications building them dynamically: once full,
+	 * a cache is cleared so that the group combinations currently in use are cached again.
+	 */
+	private static final int MAX_CACHED_VALIDATION_ORDERS = 512;
+
 	private final ConcurrentMap<Class<?>, Sequence> resolvedSequences = new ConcurrentHashMap<Class<?>, Sequence>();
 
+	/**
+	 * The validation orders of the group combinations passed to the validation calls. The resolved orders are not
+	 * altered during the validation so they can be shared.
+	 */
+	private final ConcurrentMap<List<Class<?>>, ValidationOrder> validationOrders = new ConcurrentHashMap<>();
+
+	/**
+	 * The validation orders of the single groups that should not be expanded, used when cascading with a group
+	 * conversion.
+	 */
+	private final ConcurrentMap<Class<?>, ValidationOrder> unexpandedValidationOrders = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a {@link ValidationOrder} for the given validation group.
 	 *
@@ -49,8 +68,12 @@ public ValidationOrder getValidationOrder(Class<?> group, boolean expand) {
 			return getValidationOrder( Collections.<Class<?>>singletonList( group ) );
 		}
 		else {
-			DefaultValidationOrder validationOrder = new DefaultValidationOrder();
-			validationOrder.insertGroup( new Group( group ) );
+			ValidationOrder validationOrder = unexpandedValidationOrders.get( group );
+			if ( validationOrder == null ) {
+				DefaultValidationOrder unexpandedValidationOrder = new DefaultValidationOrder();
+				unexpandedValidationOrder.insertGroup( new Group( group ) );
+				validationOrder = cache( unexpandedValidationOrders, group, unexpandedValidationOrder );
+			}
 			return validationOrder;
 		}
 	}
@@ -73,6 +96,37 @@ public ValidationOrder getValidationOrder(Collection<Class<?>> groups) {
 			return ValidationOrder.DEFAULT_GROUP;
 		}
 
+		// the validation calls pass their groups as a list, used as is for the lookup; the other collections are only
+		// passed when bootstrapping and are copied once
+		List<Class<?>> key = groups instanceof List ? (List<Class<?>>) groups : List.copyOf( groups );
+		ValidationOrder validationOrder = validationOrders.get( key );
+		if ( validationOrder == null ) {
+			// the list passed by the caller might be modified afterwards
+			validationOrder = cache( validationOrders, key == groups ? List.copyOf( groups ) : key, createValidationOrder( groups ) );
+		}
+		return validationOrder;
+	}
+
+	/**
+	 * Resolves and caches the validation orders of the given groups so that the validation calls targeting them do not
+	 * have to.
+	 * <p>
+	 * Only the groups which are not group sequences are taken into account: the resolution of a group sequence might
+	 * fail and the error should be reported when the sequence is used.
+	 *
+	 * @param groups the groups defined on the constraints of a bean
+	 */
+	public void preloadValidationOrders(Collection<Class<?>> groups) {
+		for ( Class<?> group : groups ) {
+			if ( Default.class.equals( group ) || !group.isInterface() || isGroupSequence( group ) ) {
+				continue;
+			}
+			getValidationOrder( Collections.<Class<?>>singletonList( group ) );
+			getValidationOrder( group, false );
+		}
+	}
+
+	private DefaultValidationOrder createValidationOrder(Collection<Class<?>> groups) {
 		for ( Class<?> clazz : groups ) {
 			if ( !clazz.isInterface() ) {
 				throw LOG.getGroupHasToBeAnInterfaceException( clazz );
@@ -97,6 +151,14 @@ else if ( isGroupSequence( clazz ) ) {
 		return validationOrder;
 	}
 
+	private static <K> ValidationOrder cache(ConcurrentMap<K, ValidationOrder> validationOrders, K key, ValidationOrder validationOrder) {
+		if ( validationOrders.size() >= MAX_CACHED_VALIDATION_ORDERS ) {
+			validationOrders.clear();
+		}
+		ValidationOrder cachedValidationOrder = validationOrders.putIfAbsent( key, validationOrder );
+		return cachedValidationOrder != null ? cachedValidationOrder : validationOrder;
+	}
+
 	public ValidationOrder getDefaultValidationOrder(Class<?> clazz, List<Class<?>> defaultGroupSequence) {
 		DefaultValidationOrder validationOrder = new DefaultValidationOrder();
 		insertSequence( clazz, defaultGroupSequence.toArray( new Class<?>[defaultGroupSequence.size()] ), false, validationOrder );
@@ -176,6 +238,7 @@ public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ValidationOrderGenerator" );
 		sb.append( "{resolvedSequences=" ).append( resolvedSequences );
+		sb.append( ", validationOrders=" ).append( validationOrders );
 		sb.append( '}' );
 		return sb.toString();
 	}
@@ -0,0 +1,527 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * A message expression evaluated without the Expression Language.
+ * <p>
+ * Only the most common forms of expressions are compiled:
+ * <ul>
+ * <li>variables: the validated value, the attributes of the constraint and the expression variables, e.g.
+ * {@code ${validatedValue}},</li>
+ * <li>string, integer and decimal literals,</li>
+ * <li>calls to the formatter whose arguments are variables or literals, e.g.
+ * {@code ${formatter.format('%1$.2f', validatedValue)}},</li>
+ * <li>ternaries whose condition is a variable or a comparison of a variable with {@code null} and whose branches are
+ * any of the above, e.g. {@code ${validatedValue == null ? 'none' : validatedValue}}.</li>
+ * </ul>
+ * These forms are allowed by all the Expression Language feature levels enabling expressions and they are evaluated
+ * with the coercion rules of the Expression Language so that they give the same result as an evaluation by an
+ * Expression Language implementation.
+ * <p>
+ * An expression may still not be resolvable at evaluation time, e.g. if it references a variable which does not exist
+ * or if the formatter throws an exception: {@link #evaluate(MessageInterpolator.Context, Locale)} then returns
+ * {@code null} and the expression has to be evaluated by the Expression Language, which takes care of reporting the
+ * error.
+ */
+final class CompiledExpression {
+
+	/**
+	 * The expression returned for the expressions which cannot be compiled.
+	 */
+	static final CompiledExpression UNSUPPORTED = new CompiledExpression( null );
+
+	private static final Object UNRESOLVED = new Object();
+
+	private static final String VALIDATED_VALUE = "validatedValue";
+
+	private static final String FORMATTER = "formatter";
+
+	private static final String FORMAT = "format";
+
+	private static final String NULL = "null";
+
+	/**
+	 * The reserved words of the Expression Language, which cannot be used as variable names.
+	 */
+	private static final Set<String> RESERVED_WORDS = Set.of( "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+			"true", "false", "null", "instanceof", "empty", "div", "mod" );
+
+	private final Node root;
+
+	private CompiledExpression(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Compiles the given expression.
+	 *
+	 * @param expression the expression, including the {@code ${}} delimiters
+	 * @return the compiled expression or {@link #UNSUPPORTED} if the expression cannot be compiled
+	 */
+	static CompiledExpression compile(String expression) {
+		if ( !expression.startsWith( "${" ) || !expression.endsWith( "}" ) ) {
+			return UNSUPPORTED;
+		}
+
+		Node root = new Parser( expression.substring( 2, expression.length() - 1 ) ).parse();
+		return root == null ? UNSUPPORTED : new CompiledExpression( root );
+	}
+
+	/**
+	 * Evaluates the expression.
+	 *
+	 * @return the result of the evaluation coerced to a {@code String} or {@code null} if the expression cannot be
+	 * evaluated without the Expression Language
+	 */
+	String evaluate(MessageInterpolator.Context context, Locale locale) {
+		if ( root == null ) {
+			return null;
+		}
+
+		Object value = root.evaluate( context, locale );
+		if ( value == UNRESOLVED ) {
+			return null;
+		}
+
+		return coerceToString( value );
+	}
+
+	private static String coerceToString(Object value) {
+		if ( value == null ) {
+			return "";
+		}
+		if ( value instanceof String ) {
+			return (String) value;
+		}
+		if ( value instanceof Enum ) {
+			return ( (Enum<?>) value ).name();
+		}
+		return value.toString();
+	}
+
+	private static Object coerceToBoolean(Object value) {
+		if ( value == null ) {
+			return Boolean.FALSE;
+		}
+		if ( value instanceof Boolean ) {
+			return value;
+		}
+		if ( value instanceof String ) {
+			return Boolean.valueOf( (String) value );
+		}
+		return UNRESOLVED;
+	}
+
+	private interface Node {
+
+		Object evaluate(MessageInterpolator.Context context, Locale locale);
+	}
+
+	private static final class Literal implements Node {
+
+		private final Object value;
+
+		private Literal(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Object evaluate(MessageInterpolator.Context context, Locale locale) {
+			return value;
+		}
+	}
+
+	/**
+	 * A variable, resolved with the same precedence as in the Expression Language contexts: the expression variables,
+	 * then the attributes of the constraint and finally the validated value.
+	 */
+	private static final class Variable implements Node {
+
+		private final String name;
+
+		private final boolean validatedValue;
+
+		private Variable(String name) {
+			this.name = name;
+			this.validatedValue = VALIDATED_VALUE.equals( name );
+		}
+
+		@Override
+		public Object evaluate(MessageInterpolator.Context context, Locale locale) {
+			Map<String, Object> expressionVariables = getExpressionVariables( context );
+			if ( expressionVariables.containsKey( name ) ) {
+				return expressionVariables.get( name );
+			}
+
+			Map<String, Object> attributes = context.getConstraintDescriptor().getAttributes();
+			if ( attributes.containsKey( name ) ) {
+				return attributes.get( name );
+			}
+
+			if ( validatedValue ) {
+				return context.getValidatedValue();
+			}
+
+			// the formatter as a value and the unknown variables are left to the Expression Language
+			return UNRESOLVED;
+		}
+	}
+
+	private static final class FormatterCall implements Node {
+
+		private final String format;
+
+		private final Node[] arguments;
+
+		private FormatterCall(String format, Node[] arguments) {
+			this.format = format;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public Object evaluate(MessageInterpolator.Context context, Locale locale) {
+			// the formatter might be shadowed by a variable of the same name
+			if ( getExpressionVariables( context ).containsKey( FORMATTER )
+					|| context.getConstraintDescriptor().getAttributes().containsKey( FORMATTER ) ) {
+				return UNRESOLVED;
+			}
+
+			Object[] values = new Object[arguments.length];
+			for ( int i = 0; i < arguments.length; i++ ) {
+				values[i] = arguments[i].evaluate( context, locale );
+				if ( values[i] == UNRESOLVED ) {
+					return UNRESOLVED;
+				}
+			}
+
+			try {
+				return new FormatterWrapper( locale ).format( format, values );
+			}
+			catch (IllegalFormatException e) {
+				return UNRESOLVED;
+			}
+		}
+	}
+
+	private static final class NullComparison implements Node {
+
+		private final Node operand;
+
+		private final boolean negated;
+
+		private NullComparison(Node operand, boolean negated) {
+			this.operand = operand;
+			this.negated = negated;
+		}
+
+		@Override
+		public Object evaluate(MessageInterpolator.Context context, Locale locale) {
+			Object value = operand.evaluate( context, locale );
+			if ( value == UNRESOLVED ) {
+				return UNRESOLVED;
+			}
+			return ( value == null ) != negated;
+		}
+	}
+
+	private static final class Ternary implements Node {
+
+		private final Node condition;
+
+		private final Node whenTrue;
+
+		private final Node whenFalse;
+
+		private Ternary(Node condition, Node whenTrue, Node whenFalse) {
+			this.condition = condition;
+			this.whenTrue = whenTrue;
+			this.whenFalse = whenFalse;
+		}
+
+		@Override
+		public Object evaluate(MessageInterpolator.Context context, Locale locale) {
+			Object value = condition.evaluate( context, locale );
+			if ( value == UNRESOLVED ) {
+				return UNRESOLVED;
+			}
+
+			value = coerceToBoolean( value );
+			if ( value == UNRESOLVED ) {
+				return UNRESOLVED;
+			}
+
+			return ( (Boolean) value ) ? whenTrue.evaluate( context, locale ) : whenFalse.evaluate( context, locale );
+		}
+	}
+
+	private static Map<String, Object> getExpressionVariables(MessageInterpolator.Context context) {
+		return context instanceof HibernateMessageInterpolatorContext
+				? ( (HibernateMessageInterpolatorContext) context ).getExpressionVariables()
+				: Collections.emptyMap();
+	}
+
+	/**
+	 * A recursive descent parser for the supported subset of the Expression Language. All the methods return
+	 * {@code null} as soon as the expression falls outside of this subset.
+	 */
+	private static final class Parser {
+
+		private final String expression;
+
+		private int position;
+
+		private Parser(String expression) {
+			this.expression = expression;
+		}
+
+		private Node parse() {
+			Node node = parseCondition();
+			if ( node == null ) {
+				return null;
+			}
+
+			if ( consume( '?' ) ) {
+				Node whenTrue = parseValue();
+				if ( whenTrue == null || !consume( ':' ) ) {
+					return null;
+				}
+				Node whenFalse = parseValue();
+				if ( whenFalse == null ) {
+					return null;
+				}
+				node = new Ternary( node, whenTrue, whenFalse );
+			}
+
+			skipWhitespaces();
+			return position == expression.length() ? node : null;
+		}
+
+		private Node parseCondition() {
+			skipWhitespaces();
+			if ( isKeyword( NULL ) ) {
+				position += NULL.length();
+				Boolean negated = parseEqualityOperator();
+				if ( negated == null ) {
+					return null;
+				}
+				Node operand = parseValue();
+				return operand == null ? null : new NullComparison( operand, negated );
+			}
+
+			Node node = parseValue();
+			if ( node == null ) {
+				return null;
+			}
+
+			int positionBeforeOperator = position;
+			Boolean negated = parseEqualityOperator();
+			if ( negated == null ) {
+				position = positionBeforeOperator;
+				return node;
+			}
+
+			skipWhitespaces();
+			if ( !isKeyword( NULL ) ) {
+				return null;
+			}
+			position += NULL.length();
+			return new NullComparison( node, negated );
+		}
+
+		/**
+		 * @return {@code false} for an equality operator, {@code true} for an inequality operator and {@code null}
+		 * if there is no such operator at the current position
+		 */
+		private Boolean parseEqualityOperator() {
+			skipWhitespaces();
+			if ( expression.startsWith( "==", position ) ) {
+				position += 2;
+				return Boolean.FALSE;
+			}
+			if ( expression.startsWith( "!=", position ) ) {
+				position += 2;
+				return Boolean.TRUE;
+			}
+			if ( isKeyword( "eq" ) ) {
+				position += 2;
+				return Boolean.FALSE;
+			}
+			if ( isKeyword( "ne" ) ) {
+				position += 2;
+				return Boolean.TRUE;
+			}
+			return null;
+		}
+
+		private Node parseValue() {
+			skipWhitespaces();
+			if ( position == expression.length() ) {
+				return null;
+			}
+
+			char c = expression.charAt( position );
+			if ( c == '\'' || c == '"' ) {
+				String literal = parseStringLiteral();
+				return literal == null ? null : new Literal( literal );
+			}
+			if ( c >= '0' && c <= '9' ) {
+				return parseNumberLiteral();
+			}
+
+			String identifier = parseIdentifier();
+			if ( identifier == null ) {
+				return null;
+			}
+
+			skipWhitespaces();
+			if ( position < expression.length() && expression.charAt( position ) == '.' ) {
+				return FORMATTER.equals( identifier ) ? parseFormatterCall() : null;
+			}
+			if ( position < expression.length() && ( expression.charAt( position ) == '(' || expression.charAt( position ) == '[' ) ) {
+				return null;
+			}
+
+			return new Variable( identifier );
+		}
+
+		private Node parseFormatterCall() {
+			position++;
+			skipWhitespaces();
+			if ( !isKeyword( FORMAT ) ) {
+				return null;
+			}
+			position += FORMAT.length();
+			if ( !consume( '(' ) ) {
+				return null;
+			}
+
+			skipWhitespaces();
+			if ( position == expression.length() || ( expression.charAt( position ) != '\'' && expression.charAt( position ) != '"' ) ) {
+				return null;
+			}
+			String format = parseStringLiteral();
+			if ( format == null ) {
+				return null;
+			}
+
+			List<Node> arguments = new ArrayList<>();
+			while ( consume( ',' ) ) {
+				Node argument = parseValue();
+				if ( argument == null ) {
+					return null;
+				}
+				arguments.add( argument );
+			}
+
+			if ( !consume( ')' ) ) {
+				return null;
+			}
+
+			return new FormatterCall( format, arguments.toArray( new Node[0] ) );
+		}
+
+		private String parseStringLiteral() {
+			char quote = expression.charAt( position++ );
+			StringBuilder literal = new StringBuilder();
+			while ( position < expression.length() ) {
+				char c = expression.charAt( position++ );
+				if ( c == quote ) {
+					return literal.toString();
+				}
+				if ( c == '\\' ) {
+					if ( position == expression.length() ) {
+						return null;
+					}
+					c = expression.charAt( position++ );
+					if ( c != quote && c != '\\' ) {
+						return null;
+					}
+				}
+				literal.append( c );
+			}
+			return null;
+		}
+
+		private Node parseNumberLiteral() {
+			int start = position;
+			skipDigits();
+			boolean decimal = false;
+			if ( position < expression.length() && expression.charAt( position ) == '.' ) {
+				position++;
+				int fractionStart = position;
+				skipDigits();
+				if ( position == fractionStart ) {
+					return null;
+				}
+				decimal = true;
+			}
+			if ( position < expression.length() && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+				// exponents and identifiers starting with a digit are not supported
+				return null;
+			}
+
+			String literal = expression.substring( start, position );
+			try {
+				return new Literal( decimal ? (Object) Double.valueOf( literal ) : (Object) Long.valueOf( literal ) );
+			}
+			catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private String parseIdentifier() {
+			int start = position;
+			if ( !Character.isJavaIdentifierStart( expression.charAt( position ) ) ) {
+				return null;
+			}
+			position++;
+			while ( position < expression.length() && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+				position++;
+			}
+			String identifier = expression.substring( start, position );
+			return RESERVED_WORDS.contains( identifier ) ? null : identifier;
+		}
+
+		private boolean isKeyword(String keyword) {
+			int end = position + keyword.length();
+			return expression.startsWith( keyword, position )
+					&& ( end == expression.length() || !Character.isJavaIdentifierPart( expression.charAt( end ) ) );
+		}
+
+		private boolean consume(char c) {
+			skipWhitespaces();
+			if ( position < expression.length() && expression.charAt( position ) == c ) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipDigits() {
+			while ( position < expression.length() && expression.charAt( position ) >= '0' && expression.charAt( position ) <= '9' ) {
+				position++;
+			}
+		}
+
+		private void skipWhitespaces() {
+			while ( position < expression.length() && Character.isWhitespace( expression.charAt( position ) ) ) {
+				position++;
+			}
+		}
+	}
+}
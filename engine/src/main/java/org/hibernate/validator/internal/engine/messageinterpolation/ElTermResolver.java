@@ -4,9 +4,12 @@
  */
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Locale;
-import java.util.Map;
 
 import jakarta.el.ELContext;
 import jakarta.el.ELException;
@@ -19,10 +22,12 @@
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanMethodsELContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanPropertiesElContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.DisabledFeatureELException;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationVariables;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
 
 /**
@@ -36,19 +41,52 @@ public final class ElTermResolver implements TermResolver {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
 	/**
-	 * Name under which the currently validate value is bound to the EL context.
+	 * Factory for creating EL expressions, {@code null} if no Expression Language implementation is available
 	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+	private final ExpressionFactory expressionFactory;
 
 	/**
-	 * Factory for creating EL expressions
+	 * The compiled expressions, by expression string: the simple expressions are evaluated without the Expression
+	 * Language, the other ones are mapped to {@link CompiledExpression#UNSUPPORTED}.
 	 */
-	private final ExpressionFactory expressionFactory;
+	private final ConcurrentReferenceHashMap<String, CompiledExpression> compiledExpressions = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			SOFT,
+			SOFT,
+			EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
+	);
+
+	/**
+	 * The parsed expressions, by expression string.
+	 * <p>
+	 * The variables are not bound into the variable mapper of the context used for parsing, they are resolved from the
+	 * {@link InterpolationVariables} of the context at evaluation time: the parsed expressions thus do not depend on a
+	 * given interpolation and can be shared. They do not depend on the Expression Language feature level either, which
+	 * is enforced by the resolvers of the context used for the evaluation.
+	 */
+	private final ConcurrentReferenceHashMap<String, ValueExpression> valueExpressions = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			SOFT,
+			SOFT,
+			EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
+	);
 
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
+	 * <p>
+	 * If no Expression Language implementation is available, the expression factory may be {@code null}: only the
+	 * expressions simple enough to be compiled by {@link CompiledExpression} are then interpolated.
+	 *
 	 * @param expressionFactory the expression factory.
 	 */
 	public ElTermResolver(ExpressionFactory expressionFactory) {
@@ -59,11 +97,23 @@ public ElTermResolver(ExpressionFactory expressionFactory) {
 	public String interpolate(MessageInterpolator.Context context, Locale locale, String expression) {
 		String resolvedExpression = expression;
 
+		checkExpressionLanguageEnabled( context );
+
+		String compiledResult = getCompiledExpression( expression ).evaluate( context, locale );
+		if ( compiledResult != null ) {
+			return compiledResult;
+		}
+
+		if ( expressionFactory == null ) {
+			LOG.expressionLanguageNotAvailable( expression );
+			return resolvedExpression;
+		}
+
 		ELContext elContext = getElContext( context );
 
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, locale, elContext );
-			resolvedExpression = (String) valueExpression.getValue( elContext );
+			bindContextValues( context, locale, elContext );
+			resolvedExpression = (String) getValueExpression( expression ).getValue( elContext );
 		}
 		catch (DisabledFeatureELException dfee) {
 			LOG.disabledFeatureInExpressionLanguage( expression, dfee );
@@ -84,6 +134,13 @@ public String interpolate(MessageInterpolator.Context context, Locale locale, St
 		return resolvedExpression;
 	}
 
+	private static void checkExpressionLanguageEnabled(MessageInterpolator.Context context) {
+		if ( context instanceof HibernateMessageInterpolatorContext
+				&& ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() == ExpressionLanguageFeatureLevel.NONE ) {
+			throw LOG.expressionsNotResolvedWhenExpressionLanguageFeaturesDisabled();
+		}
+	}
+
 	private ELContext getElContext(MessageInterpolator.Context context) {
 		if ( !( context instanceof HibernateMessageInterpolatorContext ) ) {
 			return new VariablesELContext( expressionFactory );
@@ -103,35 +160,35 @@ private ELContext getElContext(MessageInterpolator.Context context) {
 		}
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, Locale locale, ELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
+	private void bindContextValues(MessageInterpolator.Context messageInterpolatorContext, Locale locale, ELContext elContext) {
+		// the validated value, a formatter instantiated with proper locale, the parameters provided by the annotation
+		// values and the parameters + expression variables explicitly added to the context
+		elContext.putContext( InterpolationVariables.class, new InterpolationVariables(
 				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
 				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
-
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
-		}
+				messageInterpolatorContext.getConstraintDescriptor().getAttributes(),
+				messageInterpolatorContext instanceof HibernateMessageInterpolatorContext
+						? ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables()
+						: Collections.emptyMap()
+		) );
+	}
 
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
+	private CompiledExpression getCompiledExpression(String expression) {
+		CompiledExpression compiledExpression = compiledExpressions.get( expression );
+		if ( compiledExpression == null ) {
+			compiledExpression = CompiledExpression.compile( expression );
+			compiledExpressions.putIfAbsent( expression, compiledExpression );
+		}
+		return compiledExpression;
 	}
 
-	private void addVariablesToElContext(ELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+	private ValueExpression getValueExpression(String expression) {
+		ValueExpression valueExpression = valueExpressions.get( expression );
+		if ( valueExpression == null ) {
+			// the variable mapper of a new context is empty so no variable is bound to the parsed expression
+			valueExpression = expressionFactory.createValueExpression( new VariablesELContext( expressionFactory ), expression, String.class );
+			valueExpressions.putIfAbsent( expression, valueExpression );
 		}
+		return valueExpression;
 	}
 }
@@ -26,7 +26,8 @@ public class TermInterpolator {
 	/**
 	 * Create a term interpolator.
 	 *
-	 * @param expressionFactory the expression factory to use if the expression uses EL.
+	 * @param expressionFactory the expression factory to use if the expression uses EL, {@code null} if no Expression
+	 * Language implementation is available.
 	 */
 	public TermInterpolator(ExpressionFactory expressionFactory) {
 		this.elTermResolver = new ElTermResolver( expressionFactory );
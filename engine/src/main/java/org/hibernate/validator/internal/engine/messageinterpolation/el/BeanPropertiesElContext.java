@@ -21,6 +21,7 @@ public class BeanPropertiesElContext extends StandardELContext {
 
 	static {
 		CompositeELResolver resolver = new CompositeELResolver();
+		resolver.add( new InterpolationVariablesELResolver() );
 		resolver.add( new RootResolver() );
 		resolver.add( new ArrayELResolver( true ) );
 		resolver.add( new ListELResolver( true ) );
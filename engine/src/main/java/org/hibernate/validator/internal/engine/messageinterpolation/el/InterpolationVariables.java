@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * The variables available to the expressions of a message: the validated value, the formatter, the attributes of the
+ * constraint and the expression variables.
+ * <p>
+ * They are stored in the {@link jakarta.el.ELContext} of an interpolation and resolved by
+ * {@link InterpolationVariablesELResolver} when the expression is evaluated. Binding them into the variable mapper of
+ * the context instead would require one value expression per variable and would tie the parsed expression to the
+ * values of a given interpolation.
+ */
+public final class InterpolationVariables {
+
+	/**
+	 * Name under which the currently validated value is exposed to the expressions.
+	 */
+	static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private final Object validatedValue;
+
+	private final FormatterWrapper formatter;
+
+	private final Map<String, Object> attributes;
+
+	private final Map<String, Object> expressionVariables;
+
+	public InterpolationVariables(Object validatedValue, FormatterWrapper formatter, Map<String, Object> attributes,
+			Map<String, Object> expressionVariables) {
+		this.validatedValue = validatedValue;
+		this.formatter = formatter;
+		this.attributes = attributes;
+		this.expressionVariables = expressionVariables;
+	}
+
+	boolean contains(String name) {
+		return expressionVariables.containsKey( name )
+				|| attributes.containsKey( name )
+				|| RootResolver.FORMATTER.equals( name )
+				|| VALIDATED_VALUE_NAME.equals( name );
+	}
+
+	/**
+	 * Returns the value of the given variable. The expression variables take precedence over the attributes of the
+	 * constraint, which take precedence over the formatter and the validated value.
+	 */
+	Object get(String name) {
+		if ( expressionVariables.containsKey( name ) ) {
+			return expressionVariables.get( name );
+		}
+		if ( attributes.containsKey( name ) ) {
+			return attributes.get( name );
+		}
+		if ( RootResolver.FORMATTER.equals( name ) ) {
+			return formatter;
+		}
+		return validatedValue;
+	}
+}
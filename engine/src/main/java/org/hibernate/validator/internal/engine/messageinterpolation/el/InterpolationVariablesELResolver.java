@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.PropertyNotWritableException;
+
+/**
+ * Resolves the top level identifiers of an expression from the {@link InterpolationVariables} of the context.
+ */
+public class InterpolationVariablesELResolver extends ELResolver {
+
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		InterpolationVariables variables = getVariables( context, base, property );
+		if ( variables == null ) {
+			return null;
+		}
+
+		context.setPropertyResolved( null, property );
+		return variables.get( (String) property );
+	}
+
+	@Override
+	public Class<?> getType(ELContext context, Object base, Object property) {
+		InterpolationVariables variables = getVariables( context, base, property );
+		if ( variables == null ) {
+			return null;
+		}
+
+		context.setPropertyResolved( null, property );
+		Object value = variables.get( (String) property );
+		return value != null ? value.getClass() : null;
+	}
+
+	@Override
+	public void setValue(ELContext context, Object base, Object property, Object value) {
+		if ( getVariables( context, base, property ) != null ) {
+			throw new PropertyNotWritableException();
+		}
+	}
+
+	@Override
+	public boolean isReadOnly(ELContext context, Object base, Object property) {
+		if ( getVariables( context, base, property ) != null ) {
+			context.setPropertyResolved( null, property );
+		}
+		return true;
+	}
+
+	@Override
+	public Class<?> getCommonPropertyType(ELContext context, Object base) {
+		return base == null ? String.class : null;
+	}
+
+	private static InterpolationVariables getVariables(ELContext context, Object base, Object property) {
+		if ( base != null || !( property instanceof String ) ) {
+			return null;
+		}
+
+		InterpolationVariables variables = (InterpolationVariables) context.getContext( InterpolationVariables.class );
+		if ( variables == null || !variables.contains( (String) property ) ) {
+			return null;
+		}
+		return variables;
+	}
+}
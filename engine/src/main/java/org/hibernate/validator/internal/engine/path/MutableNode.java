@@ -191,6 +191,22 @@ public static MutableNode createConstructorNode(String name, MutableNode parent,
 		return new MutableNode( name, parent, false, null, null, ElementKind.CONSTRUCTOR, parameterTypes, null, null, null, null );
 	}
 
+	static MutableNode createCopy(MutableNode node) {
+		return new MutableNode(
+				node.name,
+				node.parent,
+				node.isIterable,
+				node.index,
+				node.key,
+				node.kind,
+				node.parameterTypes,
+				node.parameterIndex,
+				node.value,
+				node.containerClass,
+				node.typeArgumentIndex
+		);
+	}
+
 	public static MutableNode createBeanNode(MutableNode parent) {
 		return new MutableNode(
 				null,
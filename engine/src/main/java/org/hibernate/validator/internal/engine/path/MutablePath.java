@@ -100,6 +100,14 @@ public static MutablePath createCopyWithoutLeafNode(MutablePath path) {
 		return new MutablePath( path.currentLeafNode.getParent() );
 	}
 
+	/**
+	 * Creates a copy of the given path whose leaf node is a copy of the original one: contrary to
+	 * {@link #createCopy(MutablePath)}, the leaf node of the copy can be altered without altering the original path.
+	 */
+	public static MutablePath createCopyWithDetachedLeafNode(MutablePath path) {
+		return new MutablePath( MutableNode.createCopy( path.currentLeafNode ) );
+	}
+
 	public void addPropertyNode(String nodeName) {
 		MutableNode parent = currentLeafNode;
 		currentLeafNode = MutableNode.createPropertyNode( nodeName, parent );
@@ -7,11 +7,12 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Path;
 import jakarta.validation.TraversableResolver;
 import jakarta.validation.ValidationException;
@@ -31,7 +32,6 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Lazy;
-import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 
 /**
  * Context object keeping track of all required data for a validation call.
@@ -103,6 +103,17 @@
 	@Lazy
 	private Set<ConstraintViolation<T>> failingConstraintViolations;
 
+	/**
+	 * Indicates if we are only interested in knowing whether the validation succeeds or not. In this case, the
+	 * validation stops at the first failing constraint and no constraint violation is created.
+	 */
+	private boolean validityCheckModeEnabled;
+
+	/**
+	 * Indicates if a constraint failed while in validity check mode.
+	 */
+	private boolean constraintFailureDetected;
+
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
@@ -134,6 +145,23 @@ protected AbstractValidationContext(
 		);
 	}
 
+	protected AbstractValidationContext(AbstractValidationContext<T> context, TraversableResolver traversableResolver) {
+		this(
+				context.constraintValidatorManager,
+				context.constraintValidatorFactory,
+				context.validatorScopedContext,
+				traversableResolver,
+				context.constraintValidatorInitializationContext,
+				context.rootBean,
+				context.rootBeanClass,
+				context.rootBeanMetaData,
+				context.processedBeanTrackingEnabled
+		);
+		if ( context.validityCheckModeEnabled ) {
+			enableValidityCheckMode();
+		}
+	}
+
 	@Override
 	public T getRootBean() {
 		return rootBean;
@@ -161,7 +189,7 @@ public boolean isFailFastOnPropertyViolationModeEnabled() {
 
 	@Override
 	public boolean isFailFastModeEnabled() {
-		return validatorScopedContext.isFailFast();
+		return validityCheckModeEnabled || validatorScopedContext.isFailFast();
 	}
 
 	@Override
@@ -209,29 +237,63 @@ public Set<ConstraintViolation<T>> getFailingConstraints() {
 		return failingConstraintViolations;
 	}
 
+	@Override
+	public boolean hasFailingConstraints() {
+		return constraintFailureDetected || ( failingConstraintViolations != null && !failingConstraintViolations.isEmpty() );
+	}
+
+	@Override
+	public boolean isValidityCheckModeEnabled() {
+		return validityCheckModeEnabled;
+	}
+
+	@Override
+	public void addValidityCheckFailure() {
+		constraintFailureDetected = true;
+	}
+
 	@Override
 	public void addConstraintFailure(
 			ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext
 	) {
+		if ( validityCheckModeEnabled ) {
+			// we don't need the violation, avoid interpolating the message and materializing the path
+			constraintFailureDetected = true;
+			return;
+		}
+
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
-				constraintViolationCreationContext.isCustomViolation(),
-				valueContext.getCurrentValidatedValue(),
+		Path path = constraintViolationCreationContext.getPath();
+		MessageInterpolatorContext messageInterpolatorContext = new MessageInterpolatorContext(
 				constraintViolationCreationContext.getConstraintDescriptor(),
-				constraintViolationCreationContext.getPath(),
+				valueContext.getCurrentValidatedValue(),
+				getRootBeanClass(),
+				path,
 				constraintViolationCreationContext.getMessageParameters(),
-				constraintViolationCreationContext.getExpressionVariables()
+				constraintViolationCreationContext.getExpressionVariables(),
+				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
+				constraintViolationCreationContext.isCustomViolation(),
+				validatorScopedContext.getConstraintValidatorPayload()
 		);
 
-		Path path = constraintViolationCreationContext.getPath();
+		String interpolatedMessage;
+		Supplier<String> interpolatedMessageSupplier;
+		if ( validatorScopedContext.isLazyConstraintViolations() ) {
+			interpolatedMessage = null;
+			interpolatedMessageSupplier = deferInterpolation( validatorScopedContext.getMessageInterpolator(), messageTemplate,
+					messageInterpolatorContext );
+		}
+		else {
+			interpolatedMessage = interpolate( validatorScopedContext.getMessageInterpolator(), messageTemplate, messageInterpolatorContext );
+			interpolatedMessageSupplier = null;
+		}
 
 		getInitializedFailingConstraintViolations().add(
 				createConstraintViolation(
 						messageTemplate,
 						interpolatedMessage,
+						interpolatedMessageSupplier,
 						path,
 						constraintViolationCreationContext.getConstraintDescriptor(),
 						valueContext,
@@ -240,9 +302,33 @@ public void addConstraintFailure(
 		);
 	}
 
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return new ForkedValidationContext<>( this, traversableResolver );
+	}
+
+	@Override
+	public void join(BaseBeanValidationContext<T> fork) {
+		if ( validityCheckModeEnabled ) {
+			constraintFailureDetected = constraintFailureDetected || fork.hasFailingConstraints();
+			return;
+		}
+
+		Set<ConstraintViolation<T>> forkFailingConstraintViolations = fork.getFailingConstraints();
+		if ( !forkFailingConstraintViolations.isEmpty() ) {
+			getInitializedFailingConstraintViolations().addAll( forkFailingConstraintViolations );
+		}
+	}
+
+	@Override
+	public boolean isFork() {
+		return false;
+	}
+
 	protected abstract ConstraintViolation<T> createConstraintViolation(
 			String messageTemplate,
 			String interpolatedMessage,
+			Supplier<String> interpolatedMessageSupplier,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext,
@@ -279,31 +365,30 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 	@Override
 	public abstract String toString();
 
-	private String interpolate(
-			String messageTemplate,
-			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
-			boolean customViolation,
-			Object validatedValue,
-			ConstraintDescriptor<?> descriptor,
-			Path path,
-			Map<String, Object> messageParameters,
-			Map<String, Object> expressionVariables) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
-				descriptor,
-				validatedValue,
-				getRootBeanClass(),
-				path,
-				messageParameters,
-				expressionVariables,
-				expressionLanguageFeatureLevel,
-				customViolation,
-				validatorScopedContext.getConstraintValidatorPayload()
-		);
+	/**
+	 * Switches this context to validity check mode: the validation stops at the first failing constraint and only
+	 * records that a constraint failed, {@link #getFailingConstraints()} staying empty.
+	 */
+	void enableValidityCheckMode() {
+		this.validityCheckModeEnabled = true;
+		this.constraintValidatorReusableContext.enableValidityCheckMode();
+	}
+
+	/**
+	 * Returns a supplier interpolating the message on demand. The supplier only captures what is required for the
+	 * interpolation so that the validation context can be garbage collected.
+	 */
+	private static Supplier<String> deferInterpolation(MessageInterpolator messageInterpolator, String messageTemplate,
+			MessageInterpolatorContext messageInterpolatorContext) {
+		return () -> interpolate( messageInterpolator, messageTemplate, messageInterpolatorContext );
+	}
 
+	private static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate,
+			MessageInterpolatorContext messageInterpolatorContext) {
 		try {
-			return validatorScopedContext.getMessageInterpolator().interpolate(
+			return messageInterpolator.interpolate(
 					messageTemplate,
-					context
+					messageInterpolatorContext
 			);
 		}
 		catch (ValidationException ve) {
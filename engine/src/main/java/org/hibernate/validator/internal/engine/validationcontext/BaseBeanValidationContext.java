@@ -49,4 +49,25 @@
 	default boolean appliesTo(MetaConstraint<?> metaConstraint) {
 		return true;
 	}
+
+	/**
+	 * Creates a context sharing the root bean and the configuration of this context but collecting its own failing
+	 * constraints. It is used to validate a part of the object graph concurrently with the other parts, its failing
+	 * constraints being merged back into this context with {@link #join(BaseBeanValidationContext)}.
+	 *
+	 * @param traversableResolver the traversable resolver used by the fork, as the one of this context might not be
+	 * thread-safe
+	 */
+	BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver);
+
+	/**
+	 * Adds the failing constraints collected by a context created by {@link #fork(TraversableResolver)} to the failing
+	 * constraints of this context.
+	 */
+	void join(BaseBeanValidationContext<T> fork);
+
+	/**
+	 * @return {@code true} if this context has been created by {@link #fork(TraversableResolver)}.
+	 */
+	boolean isFork();
 }
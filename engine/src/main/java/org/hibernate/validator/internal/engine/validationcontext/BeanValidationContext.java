@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator.internal.engine.validationcontext;
 
+import java.util.function.Supplier;
+
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -41,7 +43,7 @@
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, Supplier<String> interpolatedMessageSupplier, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -49,6 +51,7 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
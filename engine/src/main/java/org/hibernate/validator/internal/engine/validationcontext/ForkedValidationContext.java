@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.function.Supplier;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * Implementation of {@link AbstractValidationContext} used to validate a part of the object graph concurrently with
+ * the other parts.
+ * <p>
+ * It has its own failing constraints, constraint validator context and traversable resolver so that it can be used
+ * by another thread than the one using the original context, but delegates the creation of the constraint violations
+ * to the original context so that they are the same as the ones of a sequential validation.
+ */
+class ForkedValidationContext<T> extends AbstractValidationContext<T> {
+
+	private final AbstractValidationContext<T> originalContext;
+
+	ForkedValidationContext(AbstractValidationContext<T> originalContext, TraversableResolver traversableResolver) {
+		super( originalContext, traversableResolver );
+		this.originalContext = originalContext;
+	}
+
+	@Override
+	public boolean appliesTo(MetaConstraint<?> metaConstraint) {
+		return originalContext.appliesTo( metaConstraint );
+	}
+
+	@Override
+	public boolean isFork() {
+		return true;
+	}
+
+	@Override
+	protected ConstraintViolation<T> createConstraintViolation(
+			String messageTemplate, String interpolatedMessage, Supplier<String> interpolatedMessageSupplier, Path propertyPath,
+			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+			ConstraintViolationCreationContext constraintViolationCreationContext) {
+		return originalContext.createConstraintViolation( messageTemplate, interpolatedMessage, interpolatedMessageSupplier, propertyPath, constraintDescriptor, valueContext,
+				constraintViolationCreationContext );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "originalContext=" ).append( originalContext );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
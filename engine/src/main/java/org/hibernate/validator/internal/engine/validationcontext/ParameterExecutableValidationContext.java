@@ -8,6 +8,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -112,13 +113,14 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+			String messageTemplate, String interpolatedMessage, Supplier<String> interpolatedMessageSupplier, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forParameterValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -78,7 +79,7 @@ private String getPropertyName(ConstraintLocation location) {
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, Supplier<String> interpolatedMessageSupplier, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -86,6 +87,7 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
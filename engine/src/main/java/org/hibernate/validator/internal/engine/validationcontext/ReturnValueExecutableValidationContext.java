@@ -6,6 +6,7 @@
 
 import java.lang.reflect.Executable;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -86,13 +87,14 @@ private static boolean isTrackingEnabled(Optional<ExecutableMetaData> executable
 	}
 
 	@Override
-	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
+	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Supplier<String> interpolatedMessageSupplier, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext, ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forReturnValueValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				interpolatedMessageSupplier,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
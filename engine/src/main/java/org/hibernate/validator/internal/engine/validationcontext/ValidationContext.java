@@ -53,8 +53,21 @@ void addConstraintFailure(
 			ConstraintViolationCreationContext constraintViolationCreationContext
 	);
 
+	/**
+	 * @return {@code true} if the validation only checks whether the constraints are satisfied, in which case the
+	 * failures are recorded with {@link #addValidityCheckFailure()} and no constraint violation is created
+	 */
+	boolean isValidityCheckModeEnabled();
+
+	/**
+	 * Records that a constraint failed in validity check mode, without creating any constraint violation.
+	 */
+	void addValidityCheckFailure();
+
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
+	boolean hasFailingConstraints();
+
 	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, MutablePath path);
 
 	void markConstraintProcessed(ValueContext<?, ?> valueContext, MetaConstraint<?> metaConstraint);
@@ -27,22 +27,29 @@ public class ValidationContextBuilder {
 	private final TraversableResolver traversableResolver;
 	private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 	private final ValidatorScopedContext validatorScopedContext;
+	private final boolean validityCheckModeEnabled;
 
+	/**
+	 * @param validityCheckModeEnabled if the created contexts should only keep track of whether a constraint failed,
+	 * stopping at the first failing constraint instead of collecting the constraint violations
+	 */
 	public ValidationContextBuilder(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
 			ValidatorScopedContext validatorScopedContext,
 			TraversableResolver traversableResolver,
-			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext,
+			boolean validityCheckModeEnabled) {
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.traversableResolver = traversableResolver;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 		this.validatorScopedContext = validatorScopedContext;
+		this.validityCheckModeEnabled = validityCheckModeEnabled;
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, T rootBean) {
-		return new BeanValidationContext<>(
+		return configure( new BeanValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -51,11 +58,11 @@ public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, Bean
 				rootBean,
 				rootBeanClass,
 				rootBeanMetaData
-		);
+		) );
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidateProperty(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, T rootBean, MutablePath propertyPath) {
-		return new PropertyValidationContext<>(
+		return configure( new PropertyValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -65,11 +72,11 @@ public <T> BaseBeanValidationContext<T> forValidateProperty(Class<T> rootBeanCla
 				rootBeanClass,
 				rootBeanMetaData,
 				propertyPath.getLeafNode().getName()
-		);
+		) );
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidateValue(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, MutablePath propertyPath) {
-		return new PropertyValidationContext<>(
+		return configure( new PropertyValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -79,7 +86,7 @@ public <T> BaseBeanValidationContext<T> forValidateValue(Class<T> rootBeanClass,
 				rootBeanClass,
 				rootBeanMetaData,
 				propertyPath.getLeafNode().getName()
-		);
+		) );
 	}
 
 	public <T> ExecutableValidationContext<T> forValidateParameters(
@@ -88,7 +95,7 @@ public <T> ExecutableValidationContext<T> forValidateParameters(
 			T rootBean,
 			Executable executable,
 			Object[] executableParameters) {
-		return new ParameterExecutableValidationContext<>(
+		return configure( new ParameterExecutableValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -100,7 +107,7 @@ public <T> ExecutableValidationContext<T> forValidateParameters(
 				executable,
 				rootBeanMetaData.getMetaDataFor( executable ),
 				executableParameters
-		);
+		) );
 	}
 
 	public <T> ExecutableValidationContext<T> forValidateReturnValue(
@@ -109,7 +116,7 @@ public <T> ExecutableValidationContext<T> forValidateReturnValue(
 			T rootBean,
 			Executable executable,
 			Object executableReturnValue) {
-		return new ReturnValueExecutableValidationContext<>(
+		return configure( new ReturnValueExecutableValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
@@ -121,6 +128,13 @@ public <T> ExecutableValidationContext<T> forValidateReturnValue(
 				executable,
 				rootBeanMetaData.getMetaDataFor( executable ),
 				executableReturnValue
-		);
+		) );
+	}
+
+	private <C extends AbstractValidationContext<?>> C configure(C validationContext) {
+		if ( validityCheckModeEnabled ) {
+			validationContext.enableValidityCheckMode();
+		}
+		return validationContext;
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
@@ -82,6 +83,26 @@ public class ValidatorScopedContext {
 
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to validate the elements of large cascaded containers in parallel.
+	 */
+	private final boolean parallelCascadedValidation;
+
+	/**
+	 * The minimum number of elements of a cascaded container for its elements to be validated in parallel.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * The executor used to validate the elements of large cascaded containers in parallel.
+	 */
+	private final Executor parallelCascadedValidationExecutor;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyConstraintViolations;
+
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
@@ -95,6 +116,10 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.constraintExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel();
 		this.customViolationExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getCustomViolationExpressionLanguageFeatureLevel();
 		this.showValidatedValuesInTraceLogs = validatorFactoryScopedContext.isShowValidatedValuesInTraceLogs();
+		this.parallelCascadedValidation = validatorFactoryScopedContext.isParallelCascadedValidation();
+		this.parallelCascadedValidationThreshold = validatorFactoryScopedContext.getParallelCascadedValidationThreshold();
+		this.parallelCascadedValidationExecutor = validatorFactoryScopedContext.getParallelCascadedValidationExecutor();
+		this.lazyConstraintViolations = validatorFactoryScopedContext.isLazyConstraintViolations();
 	}
 
 	public MessageInterpolator getMessageInterpolator() {
@@ -144,4 +169,20 @@ public ExpressionLanguageFeatureLevel getCustomViolationExpressionLanguageFeatur
 	public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
+
+	public boolean isParallelCascadedValidation() {
+		return parallelCascadedValidation;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	public Executor getParallelCascadedValidationExecutor() {
+		return parallelCascadedValidationExecutor;
+	}
+
+	public boolean isLazyConstraintViolations() {
+		return lazyConstraintViolations;
+	}
 }
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * The compiled form of the constraint traversal of a given bean type for a given group.
+ * <p>
+ * For a group other than {@code Default}, the plan contains the meta constraints of the bean which are part of the
+ * group. For the {@code Default} group, the plan contains one {@link HierarchyStep} per class of the bean hierarchy,
+ * up to and including the first class redefining the default group sequence, so that the hierarchy does not have to
+ * be walked and the constraints do not have to be filtered by group on each validation.
+ * <p>
+ * The plan only covers the constraints of the bean. The cascaded properties do not depend on the group and are
+ * iterated from the bean metadata, and the group sequences depend on the validated groups and, for a default group
+ * sequence provider, on the state of the bean: both are still resolved by the validator on each validation.
+ * <p>
+ * Plans are immutable and are cached on the {@link BeanMetaData} they have been compiled for. They don't reference the
+ * metadata of the super types of the bean, which are retained by the bean metadata manager only.
+ */
+public final class ValidationPlan {
+
+	private static final MetaConstraint<?>[] EMPTY_META_CONSTRAINTS = new MetaConstraint<?>[0];
+
+	private final Class<?> group;
+
+	/**
+	 * The property level constraints of the bean, including the ones defined on super types, restricted to the group
+	 * of this plan. Only used for non default groups.
+	 */
+	private final MetaConstraint<?>[] propertyMetaConstraints;
+
+	/**
+	 * The class level constraints of the bean, including the ones defined on super types, restricted to the group of
+	 * this plan. Only used for non default groups.
+	 */
+	private final MetaConstraint<?>[] classMetaConstraints;
+
+	/**
+	 * The combination of the class and property level constraints, restricted to the group of this plan. Only used
+	 * for non default groups.
+	 */
+	private final MetaConstraint<?>[] allMetaConstraints;
+
+	/**
+	 * The steps to execute when validating the {@code Default} group. {@code null} for other groups.
+	 */
+	private final HierarchyStep[] hierarchySteps;
+
+	private ValidationPlan(Class<?> group, MetaConstraint<?>[] propertyMetaConstraints, MetaConstraint<?>[] classMetaConstraints,
+			MetaConstraint<?>[] allMetaConstraints, HierarchyStep[] hierarchySteps) {
+		this.group = group;
+		this.propertyMetaConstraints = propertyMetaConstraints;
+		this.classMetaConstraints = classMetaConstraints;
+		this.allMetaConstraints = allMetaConstraints;
+		this.hierarchySteps = hierarchySteps;
+	}
+
+	/**
+	 * Compiles the validation plan of the given bean for the given group.
+	 *
+	 * @param beanMetaData the metadata of the bean
+	 * @param group the validated group
+	 * @param beanMetaDataManager the manager used to retrieve the metadata of the classes of the bean hierarchy while
+	 * compiling the plan
+	 *
+	 * @return the validation plan
+	 */
+	public static ValidationPlan compile(BeanMetaData<?> beanMetaData, Class<?> group, BeanMetaDataManager beanMetaDataManager) {
+		if ( !Group.isDefaultGroup( group ) ) {
+			return new ValidationPlan(
+					group,
+					filter( beanMetaData.getPropertyMetaConstraints(), group, false ),
+					filter( beanMetaData.getClassMetaConstraints(), group, false ),
+					filter( beanMetaData.getAllMetaConstraints(), group, false ),
+					null
+			);
+		}
+
+		List<HierarchyStep> hierarchySteps = new ArrayList<>( beanMetaData.getClassHierarchy().size() );
+		for ( Class<?> clazz : beanMetaData.getClassHierarchy() ) {
+			BeanMetaData<?> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
+			HierarchyStep hierarchyStep = new HierarchyStep( clazz, hostingBeanMetaData );
+			hierarchySteps.add( hierarchyStep );
+
+			// all constraints in the hierarchy will be validated by this step, no need to go further
+			if ( hierarchyStep.isDefaultGroupSequenceRedefined() ) {
+				break;
+			}
+		}
+
+		return new ValidationPlan( group, null, null, null, hierarchySteps.toArray( new HierarchyStep[hierarchySteps.size()] ) );
+	}
+
+	public Class<?> getGroup() {
+		return group;
+	}
+
+	public MetaConstraint<?>[] getPropertyMetaConstraints() {
+		return propertyMetaConstraints;
+	}
+
+	public MetaConstraint<?>[] getClassMetaConstraints() {
+		return classMetaConstraints;
+	}
+
+	public MetaConstraint<?>[] getAllMetaConstraints() {
+		return allMetaConstraints;
+	}
+
+	public HierarchyStep[] getHierarchySteps() {
+		return hierarchySteps;
+	}
+
+	/**
+	 * Keeps the constraints of the given group in the original iteration order.
+	 * <p>
+	 * Constraints declared on interfaces might be kept even if they are not part of the group: when validating the
+	 * default group, they need to be seen to track the interfaces which have already been validated (HV-466). In this
+	 * case, the group is checked again when the constraint is evaluated.
+	 */
+	private static MetaConstraint<?>[] filter(Set<MetaConstraint<?>> metaConstraints, Class<?> group, boolean keepConstraintsDeclaredOnInterfaces) {
+		if ( metaConstraints.isEmpty() ) {
+			return EMPTY_META_CONSTRAINTS;
+		}
+
+		List<MetaConstraint<?>> filteredMetaConstraints = new ArrayList<>( metaConstraints.size() );
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			if ( metaConstraint.getGroupList().contains( group )
+					|| ( keepConstraintsDeclaredOnInterfaces && metaConstraint.getLocation().isDeclaredOnInterface() ) ) {
+				filteredMetaConstraints.add( metaConstraint );
+			}
+		}
+
+		if ( filteredMetaConstraints.isEmpty() ) {
+			return EMPTY_META_CONSTRAINTS;
+		}
+		return filteredMetaConstraints.toArray( new MetaConstraint<?>[filteredMetaConstraints.size()] );
+	}
+
+	private static MetaConstraint<?>[] toArray(Set<MetaConstraint<?>> metaConstraints) {
+		if ( metaConstraints.isEmpty() ) {
+			return EMPTY_META_CONSTRAINTS;
+		}
+		return metaConstraints.toArray( new MetaConstraint<?>[metaConstraints.size()] );
+	}
+
+	/**
+	 * Compiles the validation plan of a bean for a group when it is not already cached on the bean metadata.
+	 */
+	@FunctionalInterface
+	public interface Compiler {
+
+		ValidationPlan compile(BeanMetaData<?> beanMetaData, Class<?> group);
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationPlan{"
+				+ "group=" + group.getSimpleName()
+				+ ( hierarchySteps != null ? ", hierarchySteps=" + hierarchySteps.length : ", constraintCount=" + allMetaConstraints.length )
+				+ '}';
+	}
+
+	/**
+	 * Validation of the constraints hosted by a given class of the bean hierarchy when validating the {@code Default}
+	 * group.
+	 * <p>
+	 * If the hosting class does not redefine the default group sequence, the step contains the constraints directly
+	 * defined on it and part of the {@code Default} group. Otherwise, it contains all the constraints of the hosting
+	 * class, including the ones defined on super types: the members of the default group sequence are resolved at
+	 * validation time as they might depend on the bean state.
+	 */
+	public static final class HierarchyStep {
+
+		private final Class<?> hostingClass;
+
+		private final boolean defaultGroupSequenceRedefined;
+
+		private final MetaConstraint<?>[] propertyMetaConstraints;
+
+		private final MetaConstraint<?>[] classMetaConstraints;
+
+		private final MetaConstraint<?>[] allMetaConstraints;
+
+		private HierarchyStep(Class<?> hostingClass, BeanMetaData<?> hostingBeanMetaData) {
+			this.hostingClass = hostingClass;
+			this.defaultGroupSequenceRedefined = hostingBeanMetaData.isDefaultGroupSequenceRedefined();
+
+			if ( defaultGroupSequenceRedefined ) {
+				this.propertyMetaConstraints = toArray( hostingBeanMetaData.getPropertyMetaConstraints() );
+				this.classMetaConstraints = toArray( hostingBeanMetaData.getClassMetaConstraints() );
+				this.allMetaConstraints = toArray( hostingBeanMetaData.getAllMetaConstraints() );
+			}
+			else {
+				this.propertyMetaConstraints = filter( hostingBeanMetaData.getDirectPropertyMetaConstraints(), Default.class, true );
+				this.classMetaConstraints = filter( hostingBeanMetaData.getDirectClassMetaConstraints(), Default.class, true );
+				this.allMetaConstraints = filter( hostingBeanMetaData.getAllDirectMetaConstraints(), Default.class, true );
+			}
+		}
+
+		public Class<?> getHostingClass() {
+			return hostingClass;
+		}
+
+		public boolean isDefaultGroupSequenceRedefined() {
+			return defaultGroupSequenceRedefined;
+		}
+
+		public MetaConstraint<?>[] getPropertyMetaConstraints() {
+			return propertyMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getClassMetaConstraints() {
+			return classMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getAllMetaConstraints() {
+			return allMetaConstraints;
+		}
+	}
+}
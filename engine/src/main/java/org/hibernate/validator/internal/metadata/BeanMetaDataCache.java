@@ -0,0 +1,326 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+
+/**
+ * Caches the bean metadata built by a {@link BeanMetaDataManagerImpl} according to a {@link BeanMetaDataRetention}.
+ * <p>
+ * All the implementations are backed by a {@link ConcurrentHashMap}, so that the lookups performed for each validated
+ * bean do not take any lock. As the classes use identity for {@code equals()} and {@code hashCode()}, they are used as
+ * keys directly.
+ * <p>
+ * A {@link ClassValue} is not used as its values are stored in the classes themselves: the metadata of a closed
+ * factory would only be released lazily, and the values cannot be evicted.
+ */
+abstract class BeanMetaDataCache {
+
+	private final LongAdder buildCount = new LongAdder();
+
+	final LongAdder evictionCount = new LongAdder();
+
+	static BeanMetaDataCache of(BeanMetaDataRetention retention, int maxSize) {
+		switch ( retention ) {
+			case STRONG:
+				return new StrongBeanMetaDataCache();
+			case BOUNDED:
+				return new BoundedBeanMetaDataCache( maxSize );
+			case SOFT:
+			default:
+				return new SoftBeanMetaDataCache();
+		}
+	}
+
+	/**
+	 * @return the cached metadata of the given class or {@code null} if there are none
+	 */
+	abstract BeanMetaData<?> get(Class<?> beanClass);
+
+	/**
+	 * Caches the given metadata unless metadata are already cached for the given class.
+	 *
+	 * @return the metadata already cached for the given class or {@code null} if the given metadata were added
+	 */
+	final BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+		BeanMetaData<?> previousBeanMetaData = doPutIfAbsent( beanClass, beanMetaData );
+		if ( previousBeanMetaData == null ) {
+			buildCount.increment();
+		}
+		return previousBeanMetaData;
+	}
+
+	abstract BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData);
+
+	abstract int size();
+
+	/**
+	 * @return a snapshot of the cached metadata
+	 */
+	abstract Collection<BeanMetaData<?>> values();
+
+	abstract void clear();
+
+	abstract BeanMetaDataRetention getRetention();
+
+	BeanMetaDataCacheStatistics getStatistics() {
+		return new BeanMetaDataCacheStatisticsImpl( getRetention(), size(), buildCount.sum(), evictionCount.sum() );
+	}
+
+	private static class StrongBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentHashMap<Class<?>, BeanMetaData<?>> beanMetaDataMap = new ConcurrentHashMap<>();
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			return beanMetaDataMap.get( beanClass );
+		}
+
+		@Override
+		BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			return beanMetaDataMap.putIfAbsent( beanClass, beanMetaData );
+		}
+
+		@Override
+		int size() {
+			return beanMetaDataMap.size();
+		}
+
+		@Override
+		Collection<BeanMetaData<?>> values() {
+			return new ArrayList<>( beanMetaDataMap.values() );
+		}
+
+		@Override
+		void clear() {
+			beanMetaDataMap.clear();
+		}
+
+		@Override
+		BeanMetaDataRetention getRetention() {
+			return BeanMetaDataRetention.STRONG;
+		}
+	}
+
+	/**
+	 * The values are softly referenced. The entries whose metadata have been collected are removed by the next
+	 * operation on the cache, be it a lookup or an addition, or replaced directly if the metadata of the same class
+	 * are built again.
+	 * <p>
+	 * The keys are strongly referenced: once its metadata have been collected, a class, and thus its class loader,
+	 * stays referenced by the cache until its entry is removed. Polling the reference queue is cheap when it is empty,
+	 * so the lookups remove these entries too, not only the additions.
+	 */
+	private static class SoftBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentHashMap<Class<?>, BeanMetaDataReference> beanMetaDataMap = new ConcurrentHashMap<>();
+
+		private final ReferenceQueue<BeanMetaData<?>> referenceQueue = new ReferenceQueue<>();
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			expungeCollectedEntries();
+
+			BeanMetaDataReference reference = beanMetaDataMap.get( beanClass );
+			return reference != null ? reference.get() : null;
+		}
+
+		@Override
+		BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			expungeCollectedEntries();
+
+			BeanMetaDataReference newReference = new BeanMetaDataReference( beanClass, beanMetaData, referenceQueue );
+			while ( true ) {
+				BeanMetaDataReference previousReference = beanMetaDataMap.putIfAbsent( beanClass, newReference );
+				if ( previousReference == null ) {
+					return null;
+				}
+
+				BeanMetaData<?> previousBeanMetaData = previousReference.get();
+				if ( previousBeanMetaData != null ) {
+					return previousBeanMetaData;
+				}
+
+				if ( beanMetaDataMap.replace( beanClass, previousReference, newReference ) ) {
+					evictionCount.increment();
+					return null;
+				}
+			}
+		}
+
+		@Override
+		int size() {
+			expungeCollectedEntries();
+			return beanMetaDataMap.size();
+		}
+
+		@Override
+		Collection<BeanMetaData<?>> values() {
+			expungeCollectedEntries();
+
+			List<BeanMetaData<?>> values = new ArrayList<>( beanMetaDataMap.size() );
+			for ( BeanMetaDataReference reference : beanMetaDataMap.values() ) {
+				BeanMetaData<?> beanMetaData = reference.get();
+				if ( beanMetaData != null ) {
+					values.add( beanMetaData );
+				}
+			}
+			return values;
+		}
+
+		@Override
+		void clear() {
+			beanMetaDataMap.clear();
+			while ( referenceQueue.poll() != null ) {
+				// the references are discarded
+			}
+		}
+
+		@Override
+		BeanMetaDataRetention getRetention() {
+			return BeanMetaDataRetention.SOFT;
+		}
+
+		private void expungeCollectedEntries() {
+			Reference<? extends BeanMetaData<?>> reference;
+			while ( ( reference = referenceQueue.poll() ) != null ) {
+				BeanMetaDataReference beanMetaDataReference = (BeanMetaDataReference) reference;
+				// the entry might already have been replaced
+				if ( beanMetaDataMap.remove( beanMetaDataReference.beanClass, beanMetaDataReference ) ) {
+					evictionCount.increment();
+				}
+			}
+		}
+
+		private static class BeanMetaDataReference extends SoftReference<BeanMetaData<?>> {
+
+			private final Class<?> beanClass;
+
+			private BeanMetaDataReference(Class<?> beanClass, BeanMetaData<?> beanMetaData, ReferenceQueue<BeanMetaData<?>> referenceQueue) {
+				super( beanMetaData, referenceQueue );
+				this.beanClass = beanClass;
+			}
+		}
+	}
+
+	/**
+	 * The values are strongly referenced and the cache is bounded using the CLOCK algorithm, an approximation of LRU:
+	 * a lookup only marks the entry as recently used, and when the cache is full, the eviction walks through the
+	 * entries, evicting the first one not used since the previous walk and clearing the mark of the others.
+	 * <p>
+	 * Thus, the lookups don't write anything shared apart from the mark, and only the additions are serialized.
+	 */
+	private static class BoundedBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentHashMap<Class<?>, Entry> beanMetaDataMap = new ConcurrentHashMap<>();
+
+		private final int maxSize;
+
+		/**
+		 * The position of the eviction walk, guarded by {@code this}.
+		 */
+		private Iterator<Map.Entry<Class<?>, Entry>> clockHand;
+
+		private BoundedBeanMetaDataCache(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		BeanMetaData<?> get(Class<?> beanClass) {
+			Entry entry = beanMetaDataMap.get( beanClass );
+			if ( entry == null ) {
+				return null;
+			}
+
+			// avoid writing to the shared entry if it is already marked
+			if ( !entry.recentlyUsed ) {
+				entry.recentlyUsed = true;
+			}
+			return entry.beanMetaData;
+		}
+
+		@Override
+		BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			Entry previousEntry = beanMetaDataMap.putIfAbsent( beanClass, new Entry( beanMetaData ) );
+			if ( previousEntry != null ) {
+				return previousEntry.beanMetaData;
+			}
+
+			if ( beanMetaDataMap.size() > maxSize ) {
+				evict();
+			}
+			return null;
+		}
+
+		@Override
+		int size() {
+			return beanMetaDataMap.size();
+		}
+
+		@Override
+		Collection<BeanMetaData<?>> values() {
+			List<BeanMetaData<?>> values = new ArrayList<>( beanMetaDataMap.size() );
+			for ( Entry entry : beanMetaDataMap.values() ) {
+				values.add( entry.beanMetaData );
+			}
+			return values;
+		}
+
+		@Override
+		synchronized void clear() {
+			beanMetaDataMap.clear();
+			clockHand = null;
+		}
+
+		@Override
+		BeanMetaDataRetention getRetention() {
+			return BeanMetaDataRetention.BOUNDED;
+		}
+
+		private synchronized void evict() {
+			while ( beanMetaDataMap.size() > maxSize ) {
+				if ( clockHand == null || !clockHand.hasNext() ) {
+					clockHand = beanMetaDataMap.entrySet().iterator();
+				}
+
+				Map.Entry<Class<?>, Entry> candidate = clockHand.next();
+				Entry entry = candidate.getValue();
+				if ( entry.recentlyUsed ) {
+					entry.recentlyUsed = false;
+				}
+				else if ( beanMetaDataMap.remove( candidate.getKey(), entry ) ) {
+					evictionCount.increment();
+				}
+			}
+		}
+
+		private static class Entry {
+
+			private final BeanMetaData<?> beanMetaData;
+
+			/**
+			 * A freshly added entry is considered as used as the metadata are about to be used.
+			 */
+			private volatile boolean recentlyUsed = true;
+
+			private Entry(BeanMetaData<?> beanMetaData) {
+				this.beanMetaData = beanMetaData;
+			}
+		}
+	}
+}
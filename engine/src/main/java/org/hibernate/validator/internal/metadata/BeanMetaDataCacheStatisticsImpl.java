@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.util.Collection;
+
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+
+/**
+ * An immutable snapshot of the statistics of one or more bean metadata caches.
+ */
+public final class BeanMetaDataCacheStatisticsImpl implements BeanMetaDataCacheStatistics {
+
+	private final BeanMetaDataRetention retention;
+
+	private final int size;
+
+	private final long buildCount;
+
+	private final long evictionCount;
+
+	public BeanMetaDataCacheStatisticsImpl(BeanMetaDataRetention retention, int size, long buildCount, long evictionCount) {
+		this.retention = retention;
+		this.size = size;
+		this.buildCount = buildCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * Sums the statistics of the caches of the {@link BeanMetaDataManager}s of a validator factory, which all share
+	 * the same retention.
+	 */
+	public static BeanMetaDataCacheStatistics sum(BeanMetaDataRetention retention, Collection<BeanMetaDataCacheStatistics> statistics) {
+		int size = 0;
+		long buildCount = 0L;
+		long evictionCount = 0L;
+		for ( BeanMetaDataCacheStatistics cacheStatistics : statistics ) {
+			size += cacheStatistics.getSize();
+			buildCount += cacheStatistics.getBuildCount();
+			evictionCount += cacheStatistics.getEvictionCount();
+		}
+		return new BeanMetaDataCacheStatisticsImpl( retention, size, buildCount, evictionCount );
+	}
+
+	@Override
+	public BeanMetaDataRetention getRetention() {
+		return retention;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public long getBuildCount() {
+		return buildCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanMetaDataCacheStatistics{retention=" + retention + ", size=" + size + ", buildCount=" + buildCount
+				+ ", evictionCount=" + evictionCount + "}";
+	}
+}
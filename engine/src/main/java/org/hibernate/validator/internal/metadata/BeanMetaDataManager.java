@@ -4,7 +4,10 @@
  */
 package org.hibernate.validator.internal.metadata;
 
+import java.util.Collection;
+
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 
 /**
  * This manager is in charge of providing all constraint related meta data
@@ -16,5 +19,18 @@ public interface BeanMetaDataManager {
 
 	<T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass);
 
+	/**
+	 * @return the metadata currently kept by this manager
+	 */
+	Collection<BeanMetaData<?>> getBeanMetaData();
+
 	void clear();
+
+	BeanMetaDataCacheStatistics getCacheStatistics();
+
+	/**
+	 * @return {@code true} if the metadata returned by this manager can be kept in the inline caches of the cascading
+	 * metadata, i.e. if keeping them there does not defeat the retention of the metadata
+	 */
+	boolean isBeanMetaDataInlineCacheable();
 }
@@ -5,12 +5,10 @@
 package org.hibernate.validator.internal.metadata;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
@@ -22,17 +20,19 @@
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptionsImpl;
 import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.IndexedAnnotationMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.util.CollectionHelper;
-import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter;
 
 /**
@@ -53,20 +53,6 @@
  * @author Guillaume Smet
 */
 public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
-	/**
-	 * The default initial capacity for this cache.
-	 */
-	private static final int DEFAULT_INITIAL_CAPACITY = 16;
-
-	/**
-	 * The default load factor for this cache.
-	 */
-	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
-
-	/**
-	 * The default concurrency level for this cache.
-	 */
-	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
 
 	/**
 	 * Additional metadata providers used for meta data retrieval if
@@ -83,9 +69,9 @@ public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	private final ExecutableParameterNameProvider parameterNameProvider;
 
 	/**
-	 * Used to cache the constraint meta data for validated entities
+	 * Used to cache the constraint meta data for validated entities, according to the configured retention
 	 */
-	private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+	private final BeanMetaDataCache beanMetaDataCache;
 
 	/**
 	 * Used for resolving type parameters. Thread-safe.
@@ -113,7 +99,10 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 			ValidationOrderGenerator validationOrderGenerator,
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
-			ProcessedBeansTrackingVoter processedBeansTrackingVoter) {
+			ProcessedBeansTrackingVoter processedBeansTrackingVoter,
+			boolean constraintIndex,
+			BeanMetaDataRetention beanMetaDataRetention,
+			int beanMetaDataCacheMaxSize) {
 		this.constraintCreationContext = constraintCreationContext;
 		this.executableHelper = executableHelper;
 		this.parameterNameProvider = parameterNameProvider;
@@ -122,21 +111,12 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 		this.methodValidationConfiguration = methodValidationConfiguration;
 		this.processedBeansTrackingVoter = processedBeansTrackingVoter;
 
-		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
-				DEFAULT_INITIAL_CAPACITY,
-				DEFAULT_LOAD_FACTOR,
-				DEFAULT_CONCURRENCY_LEVEL,
-				SOFT,
-				SOFT,
-				EnumSet.of( IDENTITY_COMPARISONS )
-		);
+		this.beanMetaDataCache = BeanMetaDataCache.of( beanMetaDataRetention, beanMetaDataCacheMaxSize );
 
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
-		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
-				constraintCreationContext,
-				javaBeanHelper,
-				annotationProcessingOptions
-		);
+		AnnotationMetaDataProvider defaultProvider = constraintIndex
+				? new IndexedAnnotationMetaDataProvider( constraintCreationContext, javaBeanHelper, annotationProcessingOptions )
+				: new AnnotationMetaDataProvider( constraintCreationContext, javaBeanHelper, annotationProcessingOptions );
 		List<MetaDataProvider> tmpMetaDataProviders = new ArrayList<>( optionalMetaDataProviders.size() + 1 );
 		// We add the annotation based metadata provider at the first position so that the entire metadata model is assembled
 		// first.
@@ -176,11 +156,29 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		return (BeanMetaData<T>) beanMetaData;
 	}
 
+	@Override
+	public Collection<BeanMetaData<?>> getBeanMetaData() {
+		return beanMetaDataCache.values();
+	}
+
 	@Override
 	public void clear() {
 		beanMetaDataCache.clear();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getCacheStatistics() {
+		return beanMetaDataCache.getStatistics();
+	}
+
+	@Override
+	public boolean isBeanMetaDataInlineCacheable() {
+		// the inline caches strongly reference the metadata of the cascaded runtime types: they would keep these metadata,
+		// and the classes they refer to, alive after their eviction with the bounded retention and after they have been
+		// cleared with the soft retention
+		return beanMetaDataCache.getRetention() == BeanMetaDataRetention.STRONG;
+	}
+
 	public int numberOfCachedBeanMetaDataInstances() {
 		return beanMetaDataCache.size();
 	}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import jakarta.validation.ConstraintValidator;
+
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.metadata.MetaDataFootprint;
+
+/**
+ * An immutable snapshot of the footprint of the metadata kept by the {@link BeanMetaDataManager}s of a validator
+ * factory.
+ * <p>
+ * The instances are counted by identity so that the instances shared by several constrained elements are only counted
+ * once.
+ */
+public final class MetaDataFootprintImpl implements MetaDataFootprint {
+
+	/**
+	 * The average size of the metadata of a bean, excluding its constraints: the bean metadata themselves, the
+	 * metadata of the properties, the default group sequence and the collections holding them.
+	 */
+	private static final long BEAN_META_DATA_SIZE = 1024L;
+
+	/**
+	 * The size of a {@link MetaConstraint} with its location and value extraction path.
+	 */
+	private static final long CONSTRAINT_SIZE = 80L;
+
+	/**
+	 * The average size of a constraint descriptor with its annotation descriptor, the proxy of the annotation, the
+	 * attribute map and the sets of groups, payloads and validator classes.
+	 */
+	private static final long CONSTRAINT_DESCRIPTOR_SIZE = 512L;
+
+	private static final long CONSTRAINT_TREE_SIZE = 32L;
+
+	private static final long CONSTRAINT_VALIDATOR_SIZE = 24L;
+
+	private final int beanCount;
+
+	private final int constraintCount;
+
+	private final int constraintDescriptorCount;
+
+	private final int constraintTreeCount;
+
+	private final int constraintValidatorCount;
+
+	private final long deduplicatedInstanceCount;
+
+	private MetaDataFootprintImpl(int beanCount, int constraintCount, int constraintDescriptorCount, int constraintTreeCount,
+			int constraintValidatorCount, long deduplicatedInstanceCount) {
+		this.beanCount = beanCount;
+		this.constraintCount = constraintCount;
+		this.constraintDescriptorCount = constraintDescriptorCount;
+		this.constraintTreeCount = constraintTreeCount;
+		this.constraintValidatorCount = constraintValidatorCount;
+		this.deduplicatedInstanceCount = deduplicatedInstanceCount;
+	}
+
+	/**
+	 * Walks through the constraints of the given metadata, which might be kept by several managers.
+	 */
+	public static MetaDataFootprint of(Collection<? extends Collection<BeanMetaData<?>>> beanMetaDataCollections, long deduplicatedInstanceCount) {
+		Set<BeanMetaData<?>> beanMetaDatas = newIdentitySet();
+		Set<MetaConstraint<?>> constraints = newIdentitySet();
+		Set<ConstraintTree<?>> constraintTrees = newIdentitySet();
+		Set<ConstraintValidator<?, ?>> constraintValidators = newIdentitySet();
+
+		for ( Collection<BeanMetaData<?>> beanMetaDataCollection : beanMetaDataCollections ) {
+			for ( BeanMetaData<?> beanMetaData : beanMetaDataCollection ) {
+				if ( !beanMetaDatas.add( beanMetaData ) ) {
+					continue;
+				}
+				for ( MetaConstraint<?> constraint : beanMetaData.getAllMetaConstraints() ) {
+					if ( constraints.add( constraint ) ) {
+						constraint.getConstraintTree().collectInstances( constraintTrees, constraintValidators );
+					}
+				}
+			}
+		}
+
+		Set<ConstraintDescriptorImpl<?>> constraintDescriptors = newIdentitySet();
+		for ( ConstraintTree<?> constraintTree : constraintTrees ) {
+			constraintDescriptors.add( constraintTree.getDescriptor() );
+		}
+
+		return new MetaDataFootprintImpl( beanMetaDatas.size(), constraints.size(), constraintDescriptors.size(), constraintTrees.size(),
+				constraintValidators.size(), deduplicatedInstanceCount );
+	}
+
+	@Override
+	public int getBeanCount() {
+		return beanCount;
+	}
+
+	@Override
+	public int getConstraintCount() {
+		return constraintCount;
+	}
+
+	@Override
+	public int getConstraintDescriptorCount() {
+		return constraintDescriptorCount;
+	}
+
+	@Override
+	public int getConstraintTreeCount() {
+		return constraintTreeCount;
+	}
+
+	@Override
+	public int getConstraintValidatorCount() {
+		return constraintValidatorCount;
+	}
+
+	@Override
+	public long getDeduplicatedInstanceCount() {
+		return deduplicatedInstanceCount;
+	}
+
+	@Override
+	public long getEstimatedRetainedSize() {
+		return beanCount * BEAN_META_DATA_SIZE
+				+ constraintCount * CONSTRAINT_SIZE
+				+ constraintDescriptorCount * CONSTRAINT_DESCRIPTOR_SIZE
+				+ constraintTreeCount * CONSTRAINT_TREE_SIZE
+				+ constraintValidatorCount * CONSTRAINT_VALIDATOR_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "MetaDataFootprint{beanCount=" + beanCount + ", constraintCount=" + constraintCount + ", constraintDescriptorCount="
+				+ constraintDescriptorCount + ", constraintTreeCount=" + constraintTreeCount + ", constraintValidatorCount="
+				+ constraintValidatorCount + ", deduplicatedInstanceCount=" + deduplicatedInstanceCount + ", estimatedRetainedSize="
+				+ getEstimatedRetainedSize() + "}";
+	}
+
+	private static <T> Set<T> newIdentitySet() {
+		return Collections.newSetFromMap( new IdentityHashMap<>() );
+	}
+}
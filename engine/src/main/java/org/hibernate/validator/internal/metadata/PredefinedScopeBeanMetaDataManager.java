@@ -5,20 +5,23 @@
 package org.hibernate.validator.internal.metadata;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
@@ -35,6 +38,7 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.PredefinedScopeProcessedBeansTrackingStrategy;
 import org.hibernate.validator.internal.engine.tracking.ProcessedBeansTrackingStrategy;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
@@ -45,14 +49,19 @@
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.facets.Cascadable;
 import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.BeanMetaDataSnapshot;
+import org.hibernate.validator.internal.metadata.provider.IndexedAnnotationMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.SnapshotAnnotationMetaDataProvider;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter;
 
 public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
@@ -76,14 +85,23 @@ public PredefinedScopeBeanMetaDataManager(
 			MethodValidationConfiguration methodValidationConfiguration,
 			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter,
-			Set<Class<?>> beanClassesToInitialize
+			Set<Class<?>> beanClassesToInitialize,
+			boolean parallelInitialization,
+			boolean constraintIndex,
+			BeanMetaDataSnapshot beanMetaDataSnapshot
 	) {
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
-		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
-				constraintCreationContext,
-				javaBeanHelper,
-				annotationProcessingOptions
-		);
+		AnnotationMetaDataProvider defaultProvider;
+		if ( !beanMetaDataSnapshot.isEmpty() ) {
+			defaultProvider = new SnapshotAnnotationMetaDataProvider( constraintCreationContext, javaBeanHelper, annotationProcessingOptions,
+					beanMetaDataSnapshot, constraintIndex );
+		}
+		else if ( constraintIndex ) {
+			defaultProvider = new IndexedAnnotationMetaDataProvider( constraintCreationContext, javaBeanHelper, annotationProcessingOptions );
+		}
+		else {
+			defaultProvider = new AnnotationMetaDataProvider( constraintCreationContext, javaBeanHelper, annotationProcessingOptions );
+		}
 
 		List<MetaDataProvider> metaDataProviders = new ArrayList<>( optionalMetaDataProviders.size() + 1 );
 		// We add the annotation based metadata provider at the first position so that the entire metadata model is assembled
@@ -93,32 +111,27 @@ public PredefinedScopeBeanMetaDataManager(
 		metaDataProviders.add( defaultProvider );
 		metaDataProviders.addAll( optionalMetaDataProviders );
 
-		Map<Class<?>, BeanMetaData<?>> rawBeanMetaDataMap = new HashMap<>();
+		Set<Class<?>> classesToInitialize = new LinkedHashSet<>();
 		for ( Class<?> validatedClass : beanClassesToInitialize ) {
 			Class<?> normalizedValidatedClass = beanMetaDataClassNormalizer.normalize( validatedClass );
 
-			@SuppressWarnings("unchecked")
-			List<Class<?>> classHierarchy = (List<Class<?>>) (Object) ClassHierarchyHelper.getHierarchy(
+			// note that the hierarchy also contains the initial class
+			classesToInitialize.addAll( ClassHierarchyHelper.getHierarchy(
 					normalizedValidatedClass,
 					Filters.excludeInterfaces( normalizedValidatedClass )
-			);
-
-			// note that the hierarchy also contains the initial class
-			for ( Class<?> hierarchyElement : classHierarchy ) {
-				if ( rawBeanMetaDataMap.containsKey( hierarchyElement ) ) {
-					continue;
-				}
-
-				rawBeanMetaDataMap.put(
-						hierarchyElement,
-						createBeanMetaData(
-								constraintCreationContext, executableHelper, parameterNameProvider,
-								javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
-								processedBeansTrackingVoter, metaDataProviders, hierarchyElement
-						)
-				);
-			}
-		}
+			) );
+		}
+
+		// the metadata of a class only depend on the configuration of its own hierarchy so they can be built independently
+		Map<Class<?>, BeanMetaData<?>> rawBeanMetaDataMap = mapClasses(
+				classesToInitialize,
+				hierarchyElement -> createBeanMetaData(
+						constraintCreationContext, executableHelper, parameterNameProvider,
+						javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
+						processedBeansTrackingVoter, metaDataProviders, hierarchyElement
+				),
+				parallelInitialization
+		);
 
 		this.beanMetaDataClassNormalizer = beanMetaDataClassNormalizer;
 		this.processedBeansTrackingStrategy = new PredefinedScopeProcessedBeansTrackingStrategy(
@@ -126,12 +139,11 @@ public PredefinedScopeBeanMetaDataManager(
 		);
 
 		// Inject the processed beans tracking information into the BeanMetaData objects
-		for ( Map.Entry<Class<?>, BeanMetaData<?>> rawBeanMetaDataEntry : rawBeanMetaDataMap.entrySet() ) {
-			beanMetaDataMap.put(
-					rawBeanMetaDataEntry.getKey(),
-					injectTrackingInformation( rawBeanMetaDataEntry.getValue(), processedBeansTrackingStrategy, processedBeansTrackingVoter )
-			);
-		}
+		beanMetaDataMap.putAll( mapClasses(
+				rawBeanMetaDataMap.keySet(),
+				beanClass -> injectTrackingInformation( rawBeanMetaDataMap.get( beanClass ), processedBeansTrackingStrategy, processedBeansTrackingVoter ),
+				parallelInitialization
+		) );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -147,6 +159,7 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		return beanMetaData;
 	}
 
+	@Override
 	public Collection<BeanMetaData<?>> getBeanMetaData() {
 		return beanMetaDataMap.values();
 	}
@@ -160,6 +173,18 @@ public void clear() {
 		beanMetaDataMap.clear();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getCacheStatistics() {
+		// the metadata of all the beans are built at bootstrap and kept until the factory is closed
+		int size = beanMetaDataMap.size();
+		return new BeanMetaDataCacheStatisticsImpl( BeanMetaDataRetention.STRONG, size, size, 0L );
+	}
+
+	@Override
+	public boolean isBeanMetaDataInlineCacheable() {
+		return true;
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -192,9 +217,52 @@ private static <T> BeanMetaDataImpl<T> createBeanMetaData(
 			}
 		}
 
+		// the executable metadata are built lazily, but the configuration errors are still reported at bootstrap
+		builder.assertCorrectnessOfExecutableConfiguration();
+
 		return builder.build();
 	}
 
+	/**
+	 * Applies the given function to each class, in parallel if requested.
+	 * <p>
+	 * In parallel, the function is applied on the current {@link java.util.concurrent.ForkJoinPool} or on the common
+	 * pool. If the function fails for several classes, the exception thrown for the first class in iteration order is
+	 * rethrown, as is, so that the outcome is the same as the one of a sequential application.
+	 */
+	private static Map<Class<?>, BeanMetaData<?>> mapClasses(Collection<Class<?>> classes, Function<Class<?>, BeanMetaData<?>> function,
+			boolean parallel) {
+		Map<Class<?>, BeanMetaData<?>> result = newHashMap( classes.size() );
+
+		if ( !parallel ) {
+			for ( Class<?> clazz : classes ) {
+				result.put( clazz, function.apply( clazz ) );
+			}
+			return result;
+		}
+
+		List<Class<?>> classList = new ArrayList<>( classes );
+		BeanMetaData<?>[] values = new BeanMetaData<?>[classList.size()];
+		RuntimeException[] failures = new RuntimeException[classList.size()];
+
+		IntStream.range( 0, classList.size() ).parallel().forEach( i -> {
+			try {
+				values[i] = function.apply( classList.get( i ) );
+			}
+			catch (RuntimeException e) {
+				failures[i] = e;
+			}
+		} );
+
+		for ( int i = 0; i < classList.size(); i++ ) {
+			if ( failures[i] != null ) {
+				throw failures[i];
+			}
+			result.put( classList.get( i ), values[i] );
+		}
+		return result;
+	}
+
 	/**
 	 * @return returns the annotation ignores from the non annotation based meta data providers
 	 */
@@ -245,6 +313,8 @@ private static <T> BeanMetaData<T> injectTrackingInformation(
 
 		private final List<Class<? super T>> classHierarchy;
 
+		private final ConcurrentMap<Class<?>, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
+
 		@SuppressWarnings("unchecked")
 		private UninitializedBeanMetaData(Class<T> beanClass) {
 			this.beanClass = beanClass;
@@ -346,6 +416,11 @@ public List<Class<? super T>> getClassHierarchy() {
 		public boolean isTrackingEnabled() {
 			return true;
 		}
+
+		@Override
+		public ValidationPlan getValidationPlan(Class<?> group, ValidationPlan.Compiler compiler) {
+			return validationPlans.computeIfAbsent( group, g -> compiler.compile( this, g ) );
+		}
 	}
 
 	private static class UninitializedBeanDescriptor implements BeanDescriptor {
@@ -14,6 +14,7 @@
 import jakarta.validation.metadata.BeanDescriptor;
 
 import org.hibernate.validator.internal.engine.groups.Sequence;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.facets.Validatable;
 
@@ -149,4 +150,15 @@
 	 * @return {@code true} if the bean class is required to be tracked; {@code false} otherwise.
 	 */
 	boolean isTrackingEnabled();
+
+	/**
+	 * Returns the validation plan of this bean for the given group. The plan is compiled by the given compiler on first
+	 * access and cached afterwards.
+	 *
+	 * @param group the validated group
+	 * @param compiler the compiler used if the plan has not been compiled yet
+	 *
+	 * @return the validation plan of this bean for the given group
+	 */
+	ValidationPlan getValidationPlan(Class<?> group, ValidationPlan.Compiler compiler);
 }
@@ -129,11 +129,32 @@ private void addMetaDataToBuilder(ConstrainedElement constrainableElement, Set<B
 		);
 	}
 
+	/**
+	 * Checks the method constraint configuration of the executables of the bean without building their metadata, so
+	 * that the errors are reported even if the executables are never validated.
+	 *
+	 * @throws jakarta.validation.ConstraintDeclarationException In case any of the rules mandated by the
+	 * specification are violated.
+	 */
+	public void assertCorrectnessOfExecutableConfiguration() {
+		for ( BuilderDelegate builder : builders ) {
+			if ( builder.methodBuilder != null ) {
+				builder.methodBuilder.assertCorrectnessOfConfiguration();
+			}
+		}
+	}
+
 	public BeanMetaDataImpl<T> build() {
 		Set<ConstraintMetaData> aggregatedElements = newHashSet();
+		Set<ExecutableMetaData.Builder> executableMetaDataBuilders = newHashSet();
 
 		for ( BuilderDelegate builder : builders ) {
 			aggregatedElements.addAll( builder.build() );
+
+			// the executable metadata are built lazily by the bean metadata, on first access
+			if ( builder.methodBuilder != null ) {
+				executableMetaDataBuilders.add( builder.methodBuilder );
+			}
 		}
 
 		return new BeanMetaDataImpl<>(
@@ -141,6 +162,7 @@ public BeanMetaDataImpl<T> build() {
 				defaultGroupSequence,
 				defaultGroupSequenceProvider,
 				aggregatedElements,
+				executableMetaDataBuilders,
 				validationOrderGenerator,
 				processedBeansTrackingVoter
 		);
@@ -258,6 +280,10 @@ public boolean add(ConstrainedElement constrainedElement) {
 			return added;
 		}
 
+		/**
+		 * Builds the property and class metadata. The executable metadata are not built here, see
+		 * {@link BeanMetaDataBuilder#build()}.
+		 */
 		public Set<ConstraintMetaData> build() {
 			Set<ConstraintMetaData> metaDataSet = newHashSet();
 
@@ -265,10 +291,6 @@ public Set<ConstraintMetaData> build() {
 				metaDataSet.add( metaDataBuilder.build() );
 			}
 
-			if ( methodBuilder != null ) {
-				metaDataSet.add( methodBuilder.build() );
-			}
-
 			return metaDataSet;
 		}
 
@@ -17,6 +17,10 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import jakarta.validation.ElementKind;
@@ -30,6 +34,7 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.ProcessedBeansTrackingStrategy;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlan;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.BeanDescriptorImpl;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -124,9 +129,12 @@
 	 * (there will only be more than one entry in case of generics in the parameters, e.g. in case of a super-type
 	 * method {@code foo(T)} and an overriding sub-type method {@code foo(String)} two entries for the same executable
 	 * meta-data will be stored).
+	 * <p>
+	 * As many beans are never subject to method validation, these metadata are only built on first access. Errors
+	 * in the method constraint configuration are thus reported when the executables of the bean are first validated
+	 * or described.
 	 */
-	@Immutable
-	private final Map<Signature, ExecutableMetaData> executableMetaDataMap;
+	private final LazyExecutableMetaDataMap executableMetaDataMap;
 
 	/**
 	 * The set of unconstrained executables of the bean. It contains all the relevant signatures, following the same
@@ -196,18 +204,25 @@
 	 */
 	private final boolean trackingEnabled;
 
+	/**
+	 * The validation plans of this bean, keyed by group. Lazily compiled.
+	 */
+	private final ConcurrentMap<Class<?>, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link BeanMetaDataImpl}
 	 *
 	 * @param beanClass The Java type represented by this meta data object.
 	 * @param defaultGroupSequence The default group sequence.
 	 * @param defaultGroupSequenceProvider The default group sequence provider if set.
-	 * @param constraintMetaDataSet All constraint meta data relating to the represented type.
+	 * @param constraintMetaDataSet All property and class level constraint meta data relating to the represented type.
+	 * @param executableMetaDataBuilders The builders of the executable meta data relating to the represented type.
 	 */
 	public BeanMetaDataImpl(Class<T> beanClass,
 			List<Class<?>> defaultGroupSequence,
 			DefaultGroupSequenceProvider<? super T> defaultGroupSequenceProvider,
 			Set<ConstraintMetaData> constraintMetaDataSet,
+			Set<ExecutableMetaData.Builder> executableMetaDataBuilders,
 			ValidationOrderGenerator validationOrderGenerator,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter) {
 
@@ -217,7 +232,7 @@ public BeanMetaDataImpl(Class<T> beanClass,
 
 		Set<PropertyMetaData> propertyMetaDataSet = newHashSet();
 
-		Set<ExecutableMetaData> executableMetaDataSet = newHashSet();
+		Set<ExecutableMetaData.Builder> constrainedExecutableMetaDataBuilders = newHashSet();
 		Set<Signature> tmpUnconstrainedExecutables = newHashSet();
 
 		boolean hasConstraints = false;
@@ -234,14 +249,16 @@ public BeanMetaDataImpl(Class<T> beanClass,
 			else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 				classMetaConstraints.addAll( ( (ClassMetaData) constraintMetaData ).getAllConstraints() );
 			}
+		}
+
+		// only the signatures of the unconstrained executables are needed, so their metadata are never built
+		for ( ExecutableMetaData.Builder executableMetaDataBuilder : executableMetaDataBuilders ) {
+			if ( executableMetaDataBuilder.isConstrained() ) {
+				hasConstraints = true;
+				constrainedExecutableMetaDataBuilders.add( executableMetaDataBuilder );
+			}
 			else {
-				ExecutableMetaData executableMetaData = (ExecutableMetaData) constraintMetaData;
-				if ( elementHasConstraints ) {
-					executableMetaDataSet.add( executableMetaData );
-				}
-				else {
-					tmpUnconstrainedExecutables.addAll( executableMetaData.getSignatures() );
-				}
+				tmpUnconstrainedExecutables.addAll( executableMetaDataBuilder.getSignatures() );
 			}
 		}
 
@@ -279,7 +296,10 @@ else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 		this.allDirectMetaConstraints = getDirectConstraints( allMetaConstraints );
 		this.constraintDeclaringInterfaceCount = countConstraintDeclaringInterfaces( allMetaConstraints );
 
-		this.executableMetaDataMap = CollectionHelper.toImmutableMap( bySignature( executableMetaDataSet ) );
+		// the groups of the constraints are the ones the validation calls are likely to target
+		validationOrderGenerator.preloadValidationOrders( getConstraintGroups( allMetaConstraints ) );
+
+		this.executableMetaDataMap = new LazyExecutableMetaDataMap( () -> CollectionHelper.toImmutableMap( bySignature( constrainedExecutableMetaDataBuilders ) ) );
 		this.unconstrainedExecutables = CollectionHelper.toImmutableSet( tmpUnconstrainedExecutables );
 
 		// We initialize those elements eagerly so that any eventual error is thrown when bootstrapping the bean metadata
@@ -308,12 +328,8 @@ public BeanMetaDataImpl(BeanMetaDataImpl<T> originalBeanMetaData, ProcessedBeans
 		this.defaultGroupSequenceProvider = originalBeanMetaData.defaultGroupSequenceProvider;
 		this.defaultGroupSequence = originalBeanMetaData.defaultGroupSequence;
 		this.validationOrder = originalBeanMetaData.validationOrder;
-		Map<Signature, ExecutableMetaData> tempExecutableMetaDataMap = newHashMap();
-		for ( Entry<Signature, ExecutableMetaData> executableMetaDataEntry : originalBeanMetaData.executableMetaDataMap.entrySet() ) {
-			tempExecutableMetaDataMap.put( executableMetaDataEntry.getKey(),
-					new ExecutableMetaData( executableMetaDataEntry.getValue(), processedBeansTrackingStrategy, processedBeansTrackingVoter ) );
-		}
-		this.executableMetaDataMap = CollectionHelper.toImmutableMap( tempExecutableMetaDataMap );
+		this.executableMetaDataMap = originalBeanMetaData.executableMetaDataMap.copy(
+				executableMetaData -> new ExecutableMetaData( executableMetaData, processedBeansTrackingStrategy, processedBeansTrackingVoter ) );
 		this.unconstrainedExecutables = originalBeanMetaData.unconstrainedExecutables;
 		this.defaultGroupSequenceRedefined = originalBeanMetaData.defaultGroupSequenceRedefined;
 		this.resolvedDefaultGroupSequence = originalBeanMetaData.resolvedDefaultGroupSequence;
@@ -349,7 +365,7 @@ public BeanDescriptor getBeanDescriptor() {
 				beanDescriptor = this.beanDescriptor;
 
 				if ( beanDescriptor == null ) {
-					beanDescriptor = createBeanDescriptor( beanClass, classMetaConstraints, propertyMetaDataMap, executableMetaDataMap,
+					beanDescriptor = createBeanDescriptor( beanClass, classMetaConstraints, propertyMetaDataMap, executableMetaDataMap.get(),
 							defaultGroupSequenceRedefined, resolvedDefaultGroupSequence );
 
 					this.beanDescriptor = beanDescriptor;
@@ -419,7 +435,7 @@ public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
 			return Optional.empty();
 		}
 
-		ExecutableMetaData executableMetaData = executableMetaDataMap.get( signature );
+		ExecutableMetaData executableMetaData = executableMetaDataMap.get().get( signature );
 
 		if ( executableMetaData == null ) {
 			// there is no executable metadata - specified object and method do not match
@@ -472,6 +488,19 @@ public boolean isTrackingEnabled() {
 		return trackingEnabled;
 	}
 
+	@Override
+	public ValidationPlan getValidationPlan(Class<?> group, ValidationPlan.Compiler compiler) {
+		ValidationPlan validationPlan = validationPlans.get( group );
+		if ( validationPlan == null ) {
+			validationPlan = compiler.compile( this, group );
+			ValidationPlan previousValidationPlan = validationPlans.putIfAbsent( group, validationPlan );
+			if ( previousValidationPlan != null ) {
+				validationPlan = previousValidationPlan;
+			}
+		}
+		return validationPlan;
+	}
+
 	private static BeanDescriptor createBeanDescriptor(Class<?> beanClass, Set<MetaConstraint<?>> classMetaConstraints,
 			Map<String, PropertyMetaData> propertyMetaDataMap, Map<Signature, ExecutableMetaData> executableMetaDataMap,
 			boolean defaultGroupSequenceRedefined,
@@ -615,6 +644,14 @@ private Set<MetaConstraint<?>> getDirectConstraints(Set<MetaConstraint<?>> metaC
 		return CollectionHelper.toImmutableSet( constraints );
 	}
 
+	private static Set<Class<?>> getConstraintGroups(Set<MetaConstraint<?>> metaConstraints) {
+		Set<Class<?>> groups = newHashSet();
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			groups.addAll( metaConstraint.getGroupList() );
+		}
+		return groups;
+	}
+
 	private static int countConstraintDeclaringInterfaces(Set<MetaConstraint<?>> metaConstraints) {
 		Set<Class<?>> interfaces = null;
 		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
@@ -632,10 +669,11 @@ private static int countConstraintDeclaringInterfaces(Set<MetaConstraint<?>> met
 	 * Builds up the method meta data for this type; each meta-data entry will be stored under the signature of the
 	 * represented method and all the methods it overrides.
 	 */
-	private Map<Signature, ExecutableMetaData> bySignature(Set<ExecutableMetaData> executables) {
+	private static Map<Signature, ExecutableMetaData> bySignature(Set<ExecutableMetaData.Builder> executableMetaDataBuilders) {
 		Map<Signature, ExecutableMetaData> theValue = newHashMap();
 
-		for ( ExecutableMetaData executableMetaData : executables ) {
+		for ( ExecutableMetaData.Builder executableMetaDataBuilder : executableMetaDataBuilders ) {
+			ExecutableMetaData executableMetaData = executableMetaDataBuilder.build();
 			for ( Signature signature : executableMetaData.getSignatures() ) {
 				theValue.put( signature, executableMetaData );
 			}
@@ -689,6 +727,64 @@ public String toString() {
 				+ ", defaultGroupSequence=" + getDefaultGroupSequence( null ) + '}';
 	}
 
+	/**
+	 * The executable meta data, built on first access. The initializer, and thus the builders it references, is
+	 * released once the meta data are built.
+	 * <p>
+	 * The map is published using double-checked locking: the initializer is only read and released while holding the
+	 * lock, and the built map is published through the volatile field.
+	 */
+	private static final class LazyExecutableMetaDataMap {
+
+		private Supplier<Map<Signature, ExecutableMetaData>> initializer;
+
+		private volatile Map<Signature, ExecutableMetaData> executableMetaDataMap;
+
+		private LazyExecutableMetaDataMap(Supplier<Map<Signature, ExecutableMetaData>> initializer) {
+			this.initializer = initializer;
+		}
+
+		private Map<Signature, ExecutableMetaData> get() {
+			Map<Signature, ExecutableMetaData> executableMetaDataMap = this.executableMetaDataMap;
+
+			if ( executableMetaDataMap == null ) {
+				synchronized (this) {
+					executableMetaDataMap = this.executableMetaDataMap;
+
+					if ( executableMetaDataMap == null ) {
+						executableMetaDataMap = initializer.get();
+
+						this.executableMetaDataMap = executableMetaDataMap;
+						this.initializer = null;
+					}
+				}
+			}
+
+			return executableMetaDataMap;
+		}
+
+		/**
+		 * Creates a map holding the given copies of the meta data of this map, without building this map if it has not
+		 * been built yet: the copy is then built from the initializer of this map on its own first access, and doesn't
+		 * reference this map.
+		 */
+		private LazyExecutableMetaDataMap copy(UnaryOperator<ExecutableMetaData> copier) {
+			Supplier<Map<Signature, ExecutableMetaData>> originalInitializer;
+			synchronized (this) {
+				Map<Signature, ExecutableMetaData> executableMetaDataMap = this.executableMetaDataMap;
+				originalInitializer = executableMetaDataMap != null ? () -> executableMetaDataMap : initializer;
+			}
+
+			return new LazyExecutableMetaDataMap( () -> {
+				Map<Signature, ExecutableMetaData> tempExecutableMetaDataMap = newHashMap();
+				for ( Entry<Signature, ExecutableMetaData> executableMetaDataEntry : originalInitializer.get().entrySet() ) {
+					tempExecutableMetaDataMap.put( executableMetaDataEntry.getKey(), copier.apply( executableMetaDataEntry.getValue() ) );
+				}
+				return CollectionHelper.toImmutableMap( tempExecutableMetaDataMap );
+			} );
+		}
+	}
+
 	/**
 	 * Tuple for returning default group sequence, provider and validation order at once.
 	 */
@@ -13,6 +13,7 @@
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
 import org.hibernate.validator.internal.engine.valueextraction.ArrayElement;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 
 /**
  * An aggregated view of the cascading validation metadata. Note that it also includes the cascading validation metadata
@@ -42,6 +43,15 @@ public interface CascadingMetaData {
 
 	<T extends CascadingMetaData> T as(Class<T> clazz);
 
+	/**
+	 * Returns the metadata of the given runtime class of a cascaded value.
+	 * <p>
+	 * The metadata of the few classes observed for this element are kept in an inline cache so that the following
+	 * values of these classes do not require a lookup in the {@link BeanMetaDataManager}. The given manager must be
+	 * the one which built these cascading metadata.
+	 */
+	BeanMetaData<?> getBeanMetaData(BeanMetaDataManager beanMetaDataManager, Class<?> valueClass);
+
 	/**
 	 * Add additional cascading metadata when:
 	 * <ul>
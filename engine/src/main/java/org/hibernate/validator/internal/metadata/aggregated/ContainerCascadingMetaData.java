@@ -17,6 +17,8 @@
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.util.ClassInlineCache;
 import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.TypeVariables;
@@ -88,6 +90,21 @@ public class ContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final Set<ValueExtractorDescriptor> valueExtractorCandidates;
 
+	/**
+	 * The value extractor used whatever the runtime class of the container, if there is only one candidate.
+	 */
+	private final ValueExtractorDescriptor uniqueValueExtractorCandidate;
+
+	/**
+	 * The metadata of the runtime classes of the cascaded values.
+	 */
+	private final ClassInlineCache<BeanMetaData<?>> beanMetaDataInlineCache = new ClassInlineCache<>();
+
+	/**
+	 * The value extractors chosen among the candidates for the runtime classes of the containers.
+	 */
+	private final ClassInlineCache<ValueExtractorDescriptor> valueExtractorInlineCache = new ClassInlineCache<>();
+
 	public static ContainerCascadingMetaData of(ValueExtractorManager valueExtractorManager, CascadingMetaDataBuilder cascadingMetaDataBuilder,
 			Object context) {
 		return new ContainerCascadingMetaData( valueExtractorManager, cascadingMetaDataBuilder );
@@ -134,6 +151,8 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 				throw LOG.getNoValueExtractorFoundForTypeException( this.declaredContainerClass, this.declaredTypeParameter );
 			}
 		}
+
+		this.uniqueValueExtractorCandidate = getUniqueValueExtractorCandidate( this.valueExtractorCandidates );
 	}
 
 	ContainerCascadingMetaData(Type enclosingType, List<ContainerCascadingMetaData> containerElementTypesCascadingMetaData,
@@ -148,6 +167,7 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 		this.groupConversionHelper = groupConversionHelper;
 		this.hasContainerElementsMarkedForCascading = true;
 		this.valueExtractorCandidates = valueExtractorCandidates;
+		this.uniqueValueExtractorCandidate = getUniqueValueExtractorCandidate( valueExtractorCandidates );
 	}
 
 	ContainerCascadingMetaData(Type enclosingType, TypeVariable<?> typeParameter, Class<?> declaredContainerClass, TypeVariable<?> declaredTypeParameter,
@@ -162,6 +182,11 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 		this.groupConversionHelper = groupConversionHelper;
 		this.hasContainerElementsMarkedForCascading = false;
 		this.valueExtractorCandidates = Collections.emptySet();
+		this.uniqueValueExtractorCandidate = null;
+	}
+
+	private static ValueExtractorDescriptor getUniqueValueExtractorCandidate(Set<ValueExtractorDescriptor> valueExtractorCandidates) {
+		return valueExtractorCandidates.size() == 1 ? valueExtractorCandidates.iterator().next() : null;
 	}
 
 	@Override
@@ -228,6 +253,16 @@ public <T extends CascadingMetaData> T as(Class<T> clazz) {
 		throw LOG.getUnableToCastException( this, clazz );
 	}
 
+	@Override
+	public BeanMetaData<?> getBeanMetaData(BeanMetaDataManager beanMetaDataManager, Class<?> valueClass) {
+		BeanMetaData<?> beanMetaData = beanMetaDataInlineCache.get( valueClass );
+		if ( beanMetaData == null ) {
+			beanMetaData = beanMetaDataManager.getBeanMetaData( valueClass );
+			beanMetaDataInlineCache.put( valueClass, beanMetaData );
+		}
+		return beanMetaData;
+	}
+
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		return this;
@@ -237,6 +272,36 @@ public Set<ValueExtractorDescriptor> getValueExtractorCandidates() {
 		return valueExtractorCandidates;
 	}
 
+	/**
+	 * Returns the value extractor to use for the given runtime class of the container, chosen among the
+	 * {@link #getValueExtractorCandidates() candidates}.
+	 * <p>
+	 * If there is only one candidate, it is used whatever the runtime class. Otherwise, the value extractors of the few
+	 * container classes observed for this element are kept in an inline cache. The given manager must be the one used
+	 * to build these cascading metadata.
+	 *
+	 * @return the value extractor or {@code null} if none is compliant with the given runtime class
+	 */
+	public ValueExtractorDescriptor getValueExtractor(ValueExtractorManager valueExtractorManager, Class<?> containerClass) {
+		if ( uniqueValueExtractorCandidate != null ) {
+			return uniqueValueExtractorCandidate;
+		}
+
+		ValueExtractorDescriptor valueExtractor = valueExtractorInlineCache.get( containerClass );
+		if ( valueExtractor == null ) {
+			valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+					enclosingType,
+					typeParameter,
+					containerClass,
+					valueExtractorCandidates
+			);
+			if ( valueExtractor != null ) {
+				valueExtractorInlineCache.put( containerClass, valueExtractor );
+			}
+		}
+		return valueExtractor;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -443,7 +443,7 @@ public ExecutableMetaData build() {
 					callable.getType(),
 					callable.getParameterTypes(),
 					kind == ConstrainedElementKind.CONSTRUCTOR ? ElementKind.CONSTRUCTOR : ElementKind.METHOD,
-					kind == ConstrainedElementKind.CONSTRUCTOR ? Collections.singleton( callable.getSignature() ) : CollectionHelper.toImmutableSet( signatures ),
+					getSignatures(),
 					adaptOriginsAndImplicitGroups( getDirectConstraints() ),
 					adaptOriginsAndImplicitGroups( getContainerElementConstraints() ),
 					findParameterMetaData(),
@@ -455,6 +455,21 @@ public ExecutableMetaData build() {
 			);
 		}
 
+		/**
+		 * @return The signatures the built metadata will be stored under: the one of the represented executable and
+		 * the ones of all the methods it overrides.
+		 */
+		public Set<Signature> getSignatures() {
+			return kind == ConstrainedElementKind.CONSTRUCTOR ? Collections.singleton( callable.getSignature() ) : CollectionHelper.toImmutableSet( signatures );
+		}
+
+		/**
+		 * @return {@code true} if the built metadata will have constraints or cascades, {@code false} otherwise.
+		 */
+		public boolean isConstrained() {
+			return isConstrained;
+		}
+
 		/**
 		 * Finds the one executable from the underlying hierarchy with parameter
 		 * constraints. If no executable in the hierarchy is parameter constrained,
@@ -514,7 +529,7 @@ private List<ParameterMetaData> findParameterMetaData() {
 		 * @throws jakarta.validation.ConstraintDeclarationException In case any of the rules mandated by the
 		 * specification are violated.
 		 */
-		private void assertCorrectnessOfConfiguration() {
+		public void assertCorrectnessOfConfiguration() {
 			for ( Entry<Class<?>, ConstrainedExecutable> entry : executablesByDeclaringType.entrySet() ) {
 				for ( Entry<Class<?>, ConstrainedExecutable> otherEntry : executablesByDeclaringType.entrySet() ) {
 					for ( MethodConfigurationRule rule : rules ) {
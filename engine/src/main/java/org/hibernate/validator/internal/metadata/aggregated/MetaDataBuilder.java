@@ -119,7 +119,7 @@ private <A extends Annotation> MetaConstraint<A> adaptOriginAndImplicitGroup(Met
 
 		Class<?> constraintClass = constraint.getLocation().getDeclaringClass();
 
-		ConstraintDescriptorImpl<A> descriptor = new ConstraintDescriptorImpl<>(
+		ConstraintDescriptorImpl<A> descriptor = constraintCreationContext.getConstraintMetaDataInterner().getConstraintDescriptor(
 				constraintCreationContext.getConstraintHelper(),
 				constraint.getLocation().getConstrainable(),
 				constraint.getDescriptor().getAnnotationDescriptor(),
@@ -129,9 +129,7 @@ private <A extends Annotation> MetaConstraint<A> adaptOriginAndImplicitGroup(Met
 				constraint.getDescriptor().getConstraintType()
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), descriptor, constraint.getLocation() );
+		return MetaConstraints.create( constraintCreationContext, descriptor, constraint.getLocation() );
 	}
 
 	/**
@@ -12,6 +12,8 @@
 
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.util.ClassInlineCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -31,9 +33,6 @@ public class NonContainerCascadingMetaData implements CascadingMetaData {
 	private static final NonContainerCascadingMetaData NON_CASCADING = new NonContainerCascadingMetaData( false,
 			GroupConversionHelper.EMPTY );
 
-	private static final NonContainerCascadingMetaData CASCADING_WITHOUT_GROUP_CONVERSIONS = new NonContainerCascadingMetaData( true,
-			GroupConversionHelper.EMPTY );
-
 	/**
 	 * If this type parameter is marked for cascading.
 	 */
@@ -44,14 +43,17 @@ public class NonContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final GroupConversionHelper groupConversionHelper;
 
+	/**
+	 * The metadata of the runtime classes of the cascaded values.
+	 */
+	private final ClassInlineCache<BeanMetaData<?>> beanMetaDataInlineCache = new ClassInlineCache<>();
+
 	public static NonContainerCascadingMetaData of(CascadingMetaDataBuilder cascadingMetaDataBuilder, Object context) {
 		if ( !cascadingMetaDataBuilder.isCascading() ) {
 			return NON_CASCADING;
 		}
-		else if ( cascadingMetaDataBuilder.getGroupConversions().isEmpty() ) {
-			return CASCADING_WITHOUT_GROUP_CONVERSIONS;
-		}
 		else {
+			// the cascading metadata are not shared between elements as they cache the metadata of the cascaded values
 			return new NonContainerCascadingMetaData( cascadingMetaDataBuilder );
 		}
 	}
@@ -98,6 +100,16 @@ public boolean isContainer() {
 		return false;
 	}
 
+	@Override
+	public BeanMetaData<?> getBeanMetaData(BeanMetaDataManager beanMetaDataManager, Class<?> valueClass) {
+		BeanMetaData<?> beanMetaData = beanMetaDataInlineCache.get( valueClass );
+		if ( beanMetaData == null ) {
+			beanMetaData = beanMetaDataManager.getBeanMetaData( valueClass );
+			beanMetaDataInlineCache.put( valueClass, beanMetaData );
+		}
+		return beanMetaData;
+	}
+
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		// do nothing, we are sure it is not a container
@@ -14,6 +14,8 @@
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.util.ClassInlineCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -35,6 +37,17 @@ public class PotentiallyContainerCascadingMetaData implements CascadingMetaData
 
 	private final Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors;
 
+	/**
+	 * The metadata of the runtime classes of the cascaded values.
+	 */
+	private final ClassInlineCache<BeanMetaData<?>> beanMetaDataInlineCache = new ClassInlineCache<>();
+
+	/**
+	 * The effective cascading metadata of the runtime classes of the cascaded values: either these metadata if the
+	 * runtime class is not a container or the container cascading metadata built for the runtime class.
+	 */
+	private final ClassInlineCache<CascadingMetaData> runtimeCascadingMetaDataInlineCache = new ClassInlineCache<>();
+
 	public static PotentiallyContainerCascadingMetaData of(CascadingMetaDataBuilder cascadingMetaDataBuilder, Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors, Object context) {
 		return new PotentiallyContainerCascadingMetaData( cascadingMetaDataBuilder, potentialValueExtractorDescriptors );
 	}
@@ -78,8 +91,27 @@ public boolean isContainer() {
 		return false;
 	}
 
+	@Override
+	public BeanMetaData<?> getBeanMetaData(BeanMetaDataManager beanMetaDataManager, Class<?> valueClass) {
+		BeanMetaData<?> beanMetaData = beanMetaDataInlineCache.get( valueClass );
+		if ( beanMetaData == null ) {
+			beanMetaData = beanMetaDataManager.getBeanMetaData( valueClass );
+			beanMetaDataInlineCache.put( valueClass, beanMetaData );
+		}
+		return beanMetaData;
+	}
+
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
+		CascadingMetaData runtimeCascadingMetaData = runtimeCascadingMetaDataInlineCache.get( valueClass );
+		if ( runtimeCascadingMetaData == null ) {
+			runtimeCascadingMetaData = buildRuntimeCascadingMetaData( valueExtractorManager, valueClass );
+			runtimeCascadingMetaDataInlineCache.put( valueClass, runtimeCascadingMetaData );
+		}
+		return runtimeCascadingMetaData;
+	}
+
+	private CascadingMetaData buildRuntimeCascadingMetaData(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		ValueExtractorDescriptor compliantValueExtractor = valueExtractorManager.getResolver()
 				.getMaximallySpecificValueExtractorForAllContainerElements( valueClass, potentialValueExtractorDescriptors );
 		if ( compliantValueExtractor == null ) {
@@ -281,9 +281,7 @@ private MetaConstraint<?> withGetterLocation(ConstraintLocation getterConstraint
 				}
 			}
 
-			return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(), constraint.getDescriptor(), converted );
+			return MetaConstraints.create( constraintCreationContext, constraint.getDescriptor(), converted );
 		}
 
 		private String getPropertyName(ConstrainedElement constrainedElement) {
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.properties.Constrainable;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+
+/**
+ * Shares the structurally equal constraint metadata built for the constrained elements of the beans of a validator
+ * factory: the annotation descriptors (and thus their attribute maps), the constraint descriptors and the constraint
+ * trees, which hold the initialized constraint validators.
+ * <p>
+ * Thousands of beans repeating {@code @NotNull} or {@code @Size(max = 255)} then share a handful of instances, only
+ * the {@link MetaConstraint}s, which hold the location of the constraints, being specific to each element.
+ * <p>
+ * A constraint descriptor is only shared if its construction does not depend on the constrained element, i.e. if the
+ * constraint type is known or cannot depend on the parameters of an executable. Cross-parameter descriptors are never
+ * shared as whether they are valid depends on the constrained element.
+ * <p>
+ * The constraint trees are shared by the constraints having the same descriptor instance and validating the same
+ * type: they are not shared by constraints having distinct but equal descriptors as
+ * {@link ConstraintDescriptorImpl#equals(Object)} only compares the annotations.
+ */
+public class ConstraintMetaDataInterner {
+
+	private final ConcurrentHashMap<ConstraintAnnotationDescriptor<?>, ConstraintAnnotationDescriptor<?>> annotationDescriptors = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<ConstraintDescriptorKey, ConstraintDescriptorImpl<?>> constraintDescriptors = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<ConstraintTreeKey, ConstraintTree<?>> constraintTrees = new ConcurrentHashMap<>();
+
+	private final LongAdder deduplicatedInstanceCount = new LongAdder();
+
+	public <A extends Annotation> ConstraintDescriptorImpl<A> getConstraintDescriptor(ConstraintHelper constraintHelper,
+			Constrainable constrainable,
+			ConstraintAnnotationDescriptor<A> annotationDescriptor,
+			ConstraintLocationKind constraintLocationKind,
+			ConstraintType externalConstraintType) {
+		return getConstraintDescriptor( constraintHelper, constrainable, annotationDescriptor, constraintLocationKind, null, ConstraintOrigin.DEFINED_LOCALLY,
+				externalConstraintType );
+	}
+
+	@SuppressWarnings("unchecked")
+	public <A extends Annotation> ConstraintDescriptorImpl<A> getConstraintDescriptor(ConstraintHelper constraintHelper,
+			Constrainable constrainable,
+			ConstraintAnnotationDescriptor<A> annotationDescriptor,
+			ConstraintLocationKind constraintLocationKind,
+			Class<?> implicitGroup,
+			ConstraintOrigin definedOn,
+			ConstraintType externalConstraintType) {
+		annotationDescriptor = getAnnotationDescriptor( annotationDescriptor );
+
+		// the type of the constraints of constructors and methods depends on their parameters and return value
+		if ( externalConstraintType == null
+				&& ( constraintLocationKind == ConstraintLocationKind.CONSTRUCTOR || constraintLocationKind == ConstraintLocationKind.METHOD ) ) {
+			return new ConstraintDescriptorImpl<>( constraintHelper, constrainable, annotationDescriptor, constraintLocationKind, implicitGroup, definedOn,
+					externalConstraintType );
+		}
+
+		ConstraintDescriptorKey key = new ConstraintDescriptorKey( annotationDescriptor, constraintLocationKind, implicitGroup, definedOn,
+				externalConstraintType );
+		ConstraintDescriptorImpl<A> descriptor = (ConstraintDescriptorImpl<A>) constraintDescriptors.get( key );
+		if ( descriptor != null ) {
+			deduplicatedInstanceCount.increment();
+			return descriptor;
+		}
+
+		// built outside of the map as the constructor might throw an exception
+		descriptor = new ConstraintDescriptorImpl<>( constraintHelper, constrainable, annotationDescriptor, constraintLocationKind, implicitGroup, definedOn,
+				externalConstraintType );
+		if ( descriptor.getConstraintType() == ConstraintType.CROSS_PARAMETER ) {
+			return descriptor;
+		}
+
+		ConstraintDescriptorImpl<A> previousDescriptor = (ConstraintDescriptorImpl<A>) constraintDescriptors.putIfAbsent( key, descriptor );
+		return previousDescriptor != null ? previousDescriptor : descriptor;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <A extends Annotation> ConstraintTree<A> getConstraintTree(ConstraintValidatorManager constraintValidatorManager,
+			ConstraintDescriptorImpl<A> descriptor, Type validatedValueType) {
+		ConstraintTreeKey key = new ConstraintTreeKey( descriptor, validatedValueType );
+		ConstraintTree<A> constraintTree = (ConstraintTree<A>) constraintTrees.get( key );
+		if ( constraintTree != null ) {
+			deduplicatedInstanceCount.increment();
+			return constraintTree;
+		}
+
+		constraintTree = ConstraintTree.of( constraintValidatorManager, descriptor, validatedValueType );
+		ConstraintTree<A> previousConstraintTree = (ConstraintTree<A>) constraintTrees.putIfAbsent( key, constraintTree );
+		return previousConstraintTree != null ? previousConstraintTree : constraintTree;
+	}
+
+	/**
+	 * @return the number of times an existing instance was returned instead of a new one since the creation of the
+	 * interner
+	 */
+	public long getDeduplicatedInstanceCount() {
+		return deduplicatedInstanceCount.sum();
+	}
+
+	public void clear() {
+		annotationDescriptors.clear();
+		constraintDescriptors.clear();
+		constraintTrees.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> ConstraintAnnotationDescriptor<A> getAnnotationDescriptor(ConstraintAnnotationDescriptor<A> annotationDescriptor) {
+		ConstraintAnnotationDescriptor<A> previousAnnotationDescriptor = (ConstraintAnnotationDescriptor<A>) annotationDescriptors
+				.putIfAbsent( annotationDescriptor, annotationDescriptor );
+		if ( previousAnnotationDescriptor != null ) {
+			deduplicatedInstanceCount.increment();
+			return previousAnnotationDescriptor;
+		}
+		return annotationDescriptor;
+	}
+
+	private record ConstraintDescriptorKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, ConstraintLocationKind constraintLocationKind,
+			Class<?> implicitGroup, ConstraintOrigin definedOn, ConstraintType externalConstraintType) {
+	}
+
+	/**
+	 * Compares the descriptors by identity, see the class comment.
+	 */
+	private static final class ConstraintTreeKey {
+
+		private final ConstraintDescriptorImpl<?> descriptor;
+
+		private final Type validatedValueType;
+
+		private final int hashCode;
+
+		private ConstraintTreeKey(ConstraintDescriptorImpl<?> descriptor, Type validatedValueType) {
+			this.descriptor = descriptor;
+			this.validatedValueType = validatedValueType;
+			this.hashCode = 31 * System.identityHashCode( descriptor ) + validatedValueType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			ConstraintTreeKey other = (ConstraintTreeKey) o;
+			return descriptor == other.descriptor && validatedValueType.equals( other.validatedValueType );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -5,7 +5,6 @@
 package org.hibernate.validator.internal.metadata.core;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -14,7 +13,6 @@
 import jakarta.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
-import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -62,19 +60,16 @@
 	private final boolean isDefinedForOneGroupOnly;
 
 	/**
-	 * @param constraintDescriptor The constraint descriptor for this constraint
+	 * @param constraintTree The constraint tree of this constraint, potentially shared with other constraints
 	 * @param location meta data about constraint placement
 	 * @param valueExtractionPath the potential {@link ValueExtractor}s used to extract the value to validate
-	 * @param validatedValueType the type of the validated element
 	 */
-	MetaConstraint(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<A> constraintDescriptor,
-			ConstraintLocation location, List<ContainerClassTypeParameterAndExtractor> valueExtractionPath,
-			Type validatedValueType) {
-		this.constraintTree = ConstraintTree.of( constraintValidatorManager, constraintDescriptor, validatedValueType );
+	MetaConstraint(ConstraintTree<A> constraintTree, ConstraintLocation location, List<ContainerClassTypeParameterAndExtractor> valueExtractionPath) {
+		this.constraintTree = constraintTree;
 		this.location = location;
 		this.valueExtractionPath = getValueExtractionPath( valueExtractionPath );
-		this.hashCode = buildHashCode( constraintDescriptor, location );
-		this.isDefinedForOneGroupOnly = constraintDescriptor.getGroups().size() <= 1;
+		this.hashCode = buildHashCode( constraintTree.getDescriptor(), location );
+		this.isDefinedForOneGroupOnly = constraintTree.getDescriptor().getGroups().size() <= 1;
 	}
 
 	private static ValueExtractionPathNode getValueExtractionPath(List<ContainerClassTypeParameterAndExtractor> valueExtractionPath) {
@@ -104,6 +99,10 @@ public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return constraintTree.getDescriptor();
 	}
 
+	public final ConstraintTree<A> getConstraintTree() {
+		return constraintTree;
+	}
+
 	public final ConstraintLocationKind getConstraintLocationKind() {
 		return constraintTree.getDescriptor().getConstraintLocationKind();
 	}
@@ -18,7 +18,8 @@
 
 import jakarta.validation.metadata.ValidateUnwrappedValue;
 
-import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
@@ -47,9 +48,10 @@ public class MetaConstraints {
 	private MetaConstraints() {
 	}
 
-	public static <A extends Annotation> MetaConstraint<A> create(TypeResolutionHelper typeResolutionHelper, ValueExtractorManager valueExtractorManager,
-			ConstraintValidatorManager constraintValidatorManager,
+	public static <A extends Annotation> MetaConstraint<A> create(ConstraintCreationContext constraintCreationContext,
 			ConstraintDescriptorImpl<A> constraintDescriptor, ConstraintLocation location) {
+		TypeResolutionHelper typeResolutionHelper = constraintCreationContext.getTypeResolutionHelper();
+		ValueExtractorManager valueExtractorManager = constraintCreationContext.getValueExtractorManager();
 		List<ContainerClassTypeParameterAndExtractor> valueExtractionPath = new ArrayList<>();
 
 		Type typeOfValidatedElement = addValueExtractorDescriptorForWrappedValue( typeResolutionHelper, valueExtractorManager, constraintDescriptor,
@@ -68,7 +70,10 @@ public static <A extends Annotation> MetaConstraint<A> create(TypeResolutionHelp
 
 		Collections.reverse( valueExtractionPath );
 
-		return new MetaConstraint<>( constraintValidatorManager, constraintDescriptor, location, valueExtractionPath, typeOfValidatedElement );
+		ConstraintTree<A> constraintTree = constraintCreationContext.getConstraintMetaDataInterner()
+				.getConstraintTree( constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, typeOfValidatedElement );
+
+		return new MetaConstraint<>( constraintTree, location, valueExtractionPath );
 	}
 
 	private static <A extends Annotation> Type addValueExtractorDescriptorForWrappedValue(TypeResolutionHelper typeResolutionHelper,
@@ -16,6 +16,7 @@
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -46,6 +47,7 @@
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.metadata.provider.ConstraintIndex.ClassEntry;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.metadata.raw.ConfigurationSource;
 import org.hibernate.validator.internal.metadata.raw.ConstrainedElement;
@@ -56,7 +58,6 @@
 import org.hibernate.validator.internal.properties.Callable;
 import org.hibernate.validator.internal.properties.Constrainable;
 import org.hibernate.validator.internal.properties.Getter;
-import org.hibernate.validator.internal.properties.javabean.JavaBeanAnnotatedConstrainable;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanAnnotatedElement;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanExecutable;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
@@ -98,7 +99,7 @@ public AnnotationMetaDataProvider(ConstraintCreationContext constraintCreationCo
 		this.javaBeanHelper = javaBeanHelper;
 		this.annotationProcessingOptions = annotationProcessingOptions;
 
-		this.objectBeanConfiguration = retrieveBeanConfiguration( Object.class );
+		this.objectBeanConfiguration = retrieveBeanConfiguration( Object.class, ClassEntry.NOT_INDEXED );
 	}
 
 	@Override
@@ -113,20 +114,37 @@ public <T> BeanConfiguration<T> getBeanConfiguration(Class<T> beanClass) {
 			return (BeanConfiguration<T>) objectBeanConfiguration;
 		}
 
-		return retrieveBeanConfiguration( beanClass );
+		return retrieveBeanConfiguration( beanClass, getConstraintIndexEntry( beanClass ) );
+	}
+
+	/**
+	 * @param beanClass The bean class of interest
+	 *
+	 * @return The entry of the constraint index telling which elements of the given class may hold annotations. By
+	 * default, the index is not used and all the elements are inspected.
+	 */
+	ClassEntry getConstraintIndexEntry(Class<?> beanClass) {
+		return ClassEntry.NOT_INDEXED;
 	}
 
 	/**
 	 * @param beanClass The bean class for which to retrieve the meta data
+	 * @param indexEntry The entry of the constraint index for the given type
 	 *
 	 * @return Retrieves constraint related meta data from the annotations of the given type.
 	 */
-	private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass) {
-		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass );
-		constrainedElements.addAll( getMethodMetaData( beanClass ) );
-		constrainedElements.addAll( getConstructorMetaData( beanClass ) );
+	private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass, ClassEntry indexEntry) {
+		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass, indexEntry );
+		constrainedElements.addAll( getMethodMetaData( beanClass, indexEntry ) );
+		constrainedElements.addAll( getConstructorMetaData( beanClass, indexEntry ) );
 
-		Set<MetaConstraint<?>> classLevelConstraints = getClassLevelConstraints( beanClass );
+		if ( !indexEntry.isClassAnnotated() ) {
+			return new BeanConfiguration<>( ConfigurationSource.ANNOTATION, beanClass, constrainedElements, null, null );
+		}
+
+		Annotation[] classAnnotations = indexEntry.getDeclaredAnnotations( beanClass );
+
+		Set<MetaConstraint<?>> classLevelConstraints = getClassLevelConstraints( beanClass, classAnnotations );
 		if ( !classLevelConstraints.isEmpty() ) {
 			ConstrainedType classLevelMetaData =
 					new ConstrainedType(
@@ -141,18 +159,18 @@ private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass) {
 				ConfigurationSource.ANNOTATION,
 				beanClass,
 				constrainedElements,
-				getDefaultGroupSequence( beanClass ),
-				getDefaultGroupSequenceProvider( beanClass )
+				getDefaultGroupSequence( classAnnotations ),
+				getDefaultGroupSequenceProvider( beanClass, classAnnotations )
 		);
 	}
 
-	private List<Class<?>> getDefaultGroupSequence(Class<?> beanClass) {
-		GroupSequence groupSequenceAnnotation = beanClass.getAnnotation( GroupSequence.class );
+	private List<Class<?>> getDefaultGroupSequence(Annotation[] classAnnotations) {
+		GroupSequence groupSequenceAnnotation = findAnnotation( classAnnotations, GroupSequence.class );
 		return groupSequenceAnnotation != null ? Arrays.asList( groupSequenceAnnotation.value() ) : null;
 	}
 
-	private <T> DefaultGroupSequenceProvider<? super T> getDefaultGroupSequenceProvider(Class<T> beanClass) {
-		GroupSequenceProvider groupSequenceProviderAnnotation = beanClass.getAnnotation( GroupSequenceProvider.class );
+	private <T> DefaultGroupSequenceProvider<? super T> getDefaultGroupSequenceProvider(Class<T> beanClass, Annotation[] classAnnotations) {
+		GroupSequenceProvider groupSequenceProviderAnnotation = findAnnotation( classAnnotations, GroupSequenceProvider.class );
 
 		if ( groupSequenceProviderAnnotation != null ) {
 			@SuppressWarnings("unchecked")
@@ -195,12 +213,25 @@ private <T> DefaultGroupSequenceProvider<? super T> newGroupSequenceProviderClas
 		throw LOG.getWrongDefaultGroupSequenceProviderTypeException( beanClass );
 	}
 
-	private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz) {
+	/**
+	 * @return The annotation of the given type among the given ones, {@code null} if there is none. The annotation
+	 * types looked up this way are not inherited so the declared annotations are enough.
+	 */
+	private static <A extends Annotation> A findAnnotation(Annotation[] annotations, Class<A> annotationType) {
+		for ( Annotation annotation : annotations ) {
+			if ( annotation.annotationType() == annotationType ) {
+				return annotationType.cast( annotation );
+			}
+		}
+		return null;
+	}
+
+	private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz, Annotation[] classAnnotations) {
 		if ( annotationProcessingOptions.areClassLevelConstraintsIgnoredFor( clazz ) ) {
 			return Collections.emptySet();
 		}
 
-		List<ConstraintDescriptorImpl<?>> classLevelConstraintDescriptors = findConstraints( null, clazz.getDeclaredAnnotations(),
+		List<ConstraintDescriptorImpl<?>> classLevelConstraintDescriptors = findConstraints( null, classAnnotations,
 				ConstraintLocationKind.TYPE );
 
 		if ( classLevelConstraintDescriptors.isEmpty() ) {
@@ -211,17 +242,13 @@ private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz) {
 		ConstraintLocation location = ConstraintLocation.forClass( clazz );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescriptor : classLevelConstraintDescriptors ) {
-			classLevelConstraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(),
-					constraintDescriptor,
-					location ) );
+			classLevelConstraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, location ) );
 		}
 
 		return classLevelConstraints;
 	}
 
-	private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
+	private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass, ClassEntry indexEntry) {
 		Set<ConstrainedElement> propertyMetaData = newHashSet();
 
 		for ( Field field : GetDeclaredFields.action( beanClass ) ) {
@@ -236,19 +263,28 @@ private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
 				continue;
 			}
 
-			propertyMetaData.add( findPropertyMetaData( javaBeanField ) );
+			if ( indexEntry.isAnnotated( field ) ) {
+				propertyMetaData.add( findPropertyMetaData( javaBeanField, indexEntry.getAnnotatedElement( field, javaBeanField ) ) );
+			}
+			else {
+				propertyMetaData.add( findUnannotatedPropertyMetaData( javaBeanField, field ) );
+			}
 		}
 		return propertyMetaData;
 	}
 
-	private ConstrainedField findPropertyMetaData(JavaBeanField javaBeanField) {
+	/**
+	 * @param javaBeanField The field of interest.
+	 * @param annotatedElement The element giving access to the annotations of the field.
+	 */
+	private ConstrainedField findPropertyMetaData(JavaBeanField javaBeanField, JavaBeanAnnotatedElement annotatedElement) {
 		Set<MetaConstraint<?>> constraints = convertToMetaConstraints(
-				findConstraints( javaBeanField, ConstraintLocationKind.FIELD ),
+				findConstraints( javaBeanField, annotatedElement, ConstraintLocationKind.FIELD ),
 				javaBeanField
 		);
 
-		CascadingMetaDataBuilder cascadingMetaDataBuilder = findCascadingMetaData( javaBeanField );
-		Set<MetaConstraint<?>> typeArgumentsConstraints = findTypeAnnotationConstraints( javaBeanField );
+		CascadingMetaDataBuilder cascadingMetaDataBuilder = findCascadingMetaData( annotatedElement );
+		Set<MetaConstraint<?>> typeArgumentsConstraints = findTypeAnnotationConstraints( javaBeanField, annotatedElement );
 
 		return new ConstrainedField(
 				ConfigurationSource.ANNOTATION,
@@ -259,6 +295,20 @@ private ConstrainedField findPropertyMetaData(JavaBeanField javaBeanField) {
 		);
 	}
 
+	/**
+	 * Same as {@link #findPropertyMetaData(JavaBeanField, JavaBeanAnnotatedElement)} for a field known not to hold any annotation: its
+	 * annotations, including the type use ones, are not inspected.
+	 */
+	private ConstrainedField findUnannotatedPropertyMetaData(JavaBeanField javaBeanField, Field field) {
+		return new ConstrainedField(
+				ConfigurationSource.ANNOTATION,
+				javaBeanField,
+				Collections.emptySet(),
+				Collections.emptySet(),
+				getUnannotatedCascadingMetaData( javaBeanField, field.getGenericType() )
+		);
+	}
+
 	private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescriptorImpl<?>> constraintDescriptors, JavaBeanField javaBeanField) {
 		if ( constraintDescriptors.isEmpty() ) {
 			return Collections.emptySet();
@@ -269,27 +319,24 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 		ConstraintLocation location = ConstraintLocation.forField( javaBeanField );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescription : constraintDescriptors ) {
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(),
-					constraintDescription, location ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescription, location ) );
 		}
 		return constraints;
 	}
 
-	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz, ClassEntry indexEntry) {
 		Executable[] declaredConstructors = GetDeclaredConstructors.action( clazz );
 
-		return getMetaData( declaredConstructors );
+		return getMetaData( declaredConstructors, indexEntry );
 	}
 
-	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz, ClassEntry indexEntry) {
 		Executable[] declaredMethods = GetDeclaredMethods.action( clazz );
 
-		return getMetaData( declaredMethods );
+		return getMetaData( declaredMethods, indexEntry );
 	}
 
-	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements) {
+	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements, ClassEntry indexEntry) {
 		Set<ConstrainedExecutable> executableMetaData = newHashSet();
 
 		for ( Executable executable : executableElements ) {
@@ -299,7 +346,7 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 				continue;
 			}
 
-			executableMetaData.add( findExecutableMetaData( executable ) );
+			executableMetaData.add( findExecutableMetaData( executable, indexEntry ) );
 		}
 
 		return executableMetaData;
@@ -309,18 +356,30 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 	 * Finds all constraint annotations defined for the given method or constructor.
 	 *
 	 * @param executable The executable element to check for constraints annotations.
+	 * @param indexEntry The entry of the constraint index for the declaring class. If the executable, its return type
+	 * and its parameters are known not to hold annotations, the annotations are not inspected.
 	 *
 	 * @return A meta data object describing the constraints specified for the
 	 * given element.
 	 */
-	private ConstrainedExecutable findExecutableMetaData(Executable executable) {
+	private ConstrainedExecutable findExecutableMetaData(Executable executable, ClassEntry indexEntry) {
 		JavaBeanExecutable<?> javaBeanExecutable = javaBeanHelper.executable( executable );
-		List<ConstrainedParameter> parameterConstraints = getParameterMetaData( javaBeanExecutable );
+		boolean annotated = indexEntry.isAnnotated( executable );
+		List<ConstrainedParameter> parameterConstraints = getParameterMetaData( javaBeanExecutable, annotated );
 
-		Map<ConstraintType, List<ConstraintDescriptorImpl<?>>> executableConstraints = findConstraints(
-				javaBeanExecutable,
-				ConstraintLocationKind.of( javaBeanExecutable.getConstrainedElementKind() )
-		).stream().collect( Collectors.groupingBy( ConstraintDescriptorImpl::getConstraintType ) );
+		JavaBeanAnnotatedElement annotatedElement = annotated ? indexEntry.getAnnotatedElement( executable, javaBeanExecutable ) : null;
+
+		Map<ConstraintType, List<ConstraintDescriptorImpl<?>>> executableConstraints;
+		if ( annotated ) {
+			executableConstraints = findConstraints(
+					javaBeanExecutable,
+					annotatedElement,
+					ConstraintLocationKind.of( javaBeanExecutable.getConstrainedElementKind() )
+			).stream().collect( Collectors.groupingBy( ConstraintDescriptorImpl::getConstraintType ) );
+		}
+		else {
+			executableConstraints = Collections.emptyMap();
+		}
 
 		Set<MetaConstraint<?>> crossParameterConstraints;
 		if ( annotationProcessingOptions.areCrossParameterConstraintsIgnoredFor( javaBeanExecutable ) ) {
@@ -342,13 +401,21 @@ private ConstrainedExecutable findExecutableMetaData(Executable executable) {
 			typeArgumentsConstraints = Collections.emptySet();
 			cascadingMetaDataBuilder = CascadingMetaDataBuilder.nonCascading();
 		}
-		else {
-			typeArgumentsConstraints = findTypeAnnotationConstraints( javaBeanExecutable );
+		else if ( annotated ) {
+			typeArgumentsConstraints = findTypeAnnotationConstraints( javaBeanExecutable, annotatedElement );
 			returnValueConstraints = convertToMetaConstraints(
 					executableConstraints.get( ConstraintType.GENERIC ),
 					javaBeanExecutable
 			);
-			cascadingMetaDataBuilder = findCascadingMetaData( javaBeanExecutable );
+			cascadingMetaDataBuilder = findCascadingMetaData( annotatedElement );
+		}
+		else {
+			returnValueConstraints = Collections.emptySet();
+			typeArgumentsConstraints = Collections.emptySet();
+			cascadingMetaDataBuilder = getUnannotatedCascadingMetaData(
+					javaBeanExecutable,
+					executable instanceof Method ? ( (Method) executable ).getGenericReturnType() : executable.getDeclaringClass()
+			);
 		}
 
 		return new ConstrainedExecutable(
@@ -376,9 +443,7 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 			ConstraintLocation location = constraintDescriptor.getConstraintType() == ConstraintType.GENERIC
 					? returnValueLocation
 					: crossParameterLocation;
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, location ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, location ) );
 		}
 
 		return constraints;
@@ -389,10 +454,11 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 	 * executable.
 	 *
 	 * @param javaBeanExecutable The executable of interest.
+	 * @param annotated Whether the parameters may hold annotations.
 	 *
 	 * @return A list with parameter meta data for the given executable.
 	 */
-	private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> javaBeanExecutable) {
+	private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> javaBeanExecutable, boolean annotated) {
 		if ( !javaBeanExecutable.hasParameters() ) {
 			return Collections.emptyList();
 		}
@@ -419,7 +485,9 @@ private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> ja
 				continue;
 			}
 
-			List<ConstraintDescriptorImpl<?>> constraintDescriptors = findConstraints( javaBeanExecutable, parameter, ConstraintLocationKind.PARAMETER );
+			List<ConstraintDescriptorImpl<?>> constraintDescriptors = annotated
+					? findConstraints( javaBeanExecutable, parameter, ConstraintLocationKind.PARAMETER )
+					: Collections.emptyList();
 			Set<MetaConstraint<?>> parameterConstraints;
 
 			if ( !constraintDescriptors.isEmpty() ) {
@@ -428,18 +496,25 @@ private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> ja
 
 				for ( ConstraintDescriptorImpl<?> constraintDescriptorImpl : constraintDescriptors ) {
 					parameterConstraints.add(
-							MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-									constraintCreationContext.getValueExtractorManager(),
-									constraintCreationContext.getConstraintValidatorManager(), constraintDescriptorImpl,
-									location ) );
+							MetaConstraints.create( constraintCreationContext, constraintDescriptorImpl, location ) );
 				}
 			}
 			else {
 				parameterConstraints = Collections.emptySet();
 			}
 
-			Set<MetaConstraint<?>> typeArgumentsConstraints = findTypeAnnotationConstraintsForExecutableParameter( javaBeanExecutable, parameter );
-			CascadingMetaDataBuilder cascadingMetaData = findCascadingMetaData( parameter );
+			Set<MetaConstraint<?>> typeArgumentsConstraints;
+			CascadingMetaDataBuilder cascadingMetaData;
+			if ( annotated ) {
+				typeArgumentsConstraints = findTypeAnnotationConstraintsForExecutableParameter( javaBeanExecutable, parameter );
+				cascadingMetaData = findCascadingMetaData( parameter );
+			}
+			else {
+				typeArgumentsConstraints = Collections.emptySet();
+				// the annotated type of a parameter is already retrieved when building the parameter
+				cascadingMetaData = CascadingMetaDataBuilder.annotatedObject( parameter.getType(), false,
+						getTypeParametersCascadingMetadata( parameter.getAnnotatedType(), parameter.getTypeParameters() ), Collections.emptyMap() );
+			}
 
 			metaData.add(
 					new ConstrainedParameter(
@@ -458,26 +533,13 @@ private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> ja
 		return metaData;
 	}
 
-	/**
-	 * Finds all constraint annotations defined for the given constrainable and returns them in a list of
-	 * constraint descriptors.
-	 *
-	 * @param constrainable The constrainable to check for constraint annotations.
-	 * @param kind The constraint location kind.
-	 *
-	 * @return A list of constraint descriptors for all constraint specified for the given member.
-	 */
-	private List<ConstraintDescriptorImpl<?>> findConstraints(JavaBeanAnnotatedConstrainable constrainable, ConstraintLocationKind kind) {
-		return findConstraints( constrainable, constrainable, kind );
-	}
-
 	/**
 	 * Finds all constraint annotations defined for the given constrainable and returns them in a list of constraint
 	 * descriptors.
 	 *
 	 * @param constrainable The constrainable element (will be the executable for a method parameter).
 	 * @param annotatedElement The annotated element. Usually the same as the constrainable except in the case of method
-	 * parameters constraints when it is the parameter.
+	 * parameters constraints when it is the parameter and in the case of elements restored from a snapshot.
 	 * @param kind The constraint location kind.
 	 *
 	 * @return A list of constraint descriptors for all constraint specified for the given member.
@@ -600,33 +662,34 @@ private Map<Class<?>, Class<?>> getGroupConversions(ConvertGroup groupConversion
 	private <A extends Annotation> ConstraintDescriptorImpl<A> buildConstraintDescriptor(Constrainable constrainable,
 			A annotation,
 			ConstraintLocationKind type) {
-		return new ConstraintDescriptorImpl<>(
+		return constraintCreationContext.getConstraintMetaDataInterner().getConstraintDescriptor(
 				constraintCreationContext.getConstraintHelper(),
 				constrainable,
 				new ConstraintAnnotationDescriptor<>( annotation ),
-				type
+				type,
+				null
 		);
 	}
 
 	/**
 	 * Finds type arguments constraints for fields.
 	 */
-	protected Set<MetaConstraint<?>> findTypeAnnotationConstraints(JavaBeanField javaBeanField) {
+	protected Set<MetaConstraint<?>> findTypeAnnotationConstraints(JavaBeanField javaBeanField, JavaBeanAnnotatedElement annotatedElement) {
 		return findTypeArgumentsConstraints(
 				javaBeanField,
 				new TypeArgumentFieldLocation( javaBeanField ),
-				javaBeanField.getAnnotatedType()
+				annotatedElement.getAnnotatedType()
 		);
 	}
 
 	/**
 	 * Finds type arguments constraints for method return values.
 	 */
-	protected Set<MetaConstraint<?>> findTypeAnnotationConstraints(JavaBeanExecutable<?> javaBeanExecutable) {
+	protected Set<MetaConstraint<?>> findTypeAnnotationConstraints(JavaBeanExecutable<?> javaBeanExecutable, JavaBeanAnnotatedElement annotatedElement) {
 		return findTypeArgumentsConstraints(
 				javaBeanExecutable,
 				new TypeArgumentReturnValueLocation( javaBeanExecutable ),
-				javaBeanExecutable.getAnnotatedType()
+				annotatedElement.getAnnotatedType()
 		);
 	}
 
@@ -643,19 +706,15 @@ private CascadingMetaDataBuilder findCascadingMetaData(JavaBeanParameter javaBea
 		}
 	}
 
-	private CascadingMetaDataBuilder findCascadingMetaData(JavaBeanField javaBeanField) {
+	/**
+	 * Finds the cascading metadata of a field or of the return value of an executable.
+	 */
+	private CascadingMetaDataBuilder findCascadingMetaData(JavaBeanAnnotatedElement annotatedElement) {
 		Map<TypeVariable<?>, CascadingMetaDataBuilder> containerElementTypesCascadingMetaData = getTypeParametersCascadingMetadata(
-				javaBeanField.getAnnotatedType(),
-				javaBeanField.getTypeParameters() );
-
-		return getCascadingMetaData( javaBeanField, containerElementTypesCascadingMetaData );
-	}
-
-	private CascadingMetaDataBuilder findCascadingMetaData(JavaBeanExecutable<?> javaBeanExecutable) {
-		Map<TypeVariable<?>, CascadingMetaDataBuilder> containerElementTypesCascadingMetaData = getTypeParametersCascadingMetadata( javaBeanExecutable.getAnnotatedType(),
-				javaBeanExecutable.getTypeParameters() );
+				annotatedElement.getAnnotatedType(),
+				annotatedElement.getTypeParameters() );
 
-		return getCascadingMetaData( javaBeanExecutable, containerElementTypesCascadingMetaData );
+		return getCascadingMetaData( annotatedElement, containerElementTypesCascadingMetaData );
 	}
 
 	private Map<TypeVariable<?>, CascadingMetaDataBuilder> getTypeParametersCascadingMetadata(AnnotatedType annotatedType,
@@ -707,6 +766,55 @@ private Map<TypeVariable<?>, CascadingMetaDataBuilder> getTypeParametersCascadin
 		return typeParametersCascadingMetadata;
 	}
 
+	/**
+	 * Builds the cascading metadata of an element known not to hold any annotation from its generic type, producing
+	 * the same result as {@link #getCascadingMetaData(JavaBeanAnnotatedElement, Map)} without retrieving the annotated
+	 * type.
+	 */
+	private CascadingMetaDataBuilder getUnannotatedCascadingMetaData(JavaBeanAnnotatedElement annotatedElement, Type genericType) {
+		return CascadingMetaDataBuilder.annotatedObject( annotatedElement.getType(), false,
+				getUnannotatedTypeParametersCascadingMetaData( genericType, annotatedElement.getTypeParameters() ), Collections.emptyMap() );
+	}
+
+	private Map<TypeVariable<?>, CascadingMetaDataBuilder> getUnannotatedTypeParametersCascadingMetaData(Type type, TypeVariable<?>[] typeParameters) {
+		if ( isArrayType( type ) ) {
+			// HV-1428 Container element support is disabled for arrays
+			return Collections.emptyMap();
+		}
+		else if ( type instanceof ParameterizedType ) {
+			Map<TypeVariable<?>, CascadingMetaDataBuilder> typeParametersCascadingMetadata = CollectionHelper.newHashMap( typeParameters.length );
+
+			Type[] typeArguments = ( (ParameterizedType) type ).getActualTypeArguments();
+			for ( int i = 0; i < typeArguments.length; i++ ) {
+				Map<TypeVariable<?>, CascadingMetaDataBuilder> nestedTypeParametersCascadingMetadata = typeArguments[i] instanceof ParameterizedType
+						? getUnannotatedTypeParametersCascadingMetaData( typeArguments[i], ReflectionHelper.getClassFromType( typeArguments[i] ).getTypeParameters() )
+						: Collections.emptyMap();
+
+				typeParametersCascadingMetadata.put( typeParameters[i], new CascadingMetaDataBuilder( type, typeParameters[i],
+						false, nestedTypeParametersCascadingMetadata, Map.of() ) );
+			}
+
+			return typeParametersCascadingMetadata;
+		}
+		else if ( typeParameters.length > 0 ) {
+			Map<TypeVariable<?>, CascadingMetaDataBuilder> typeParametersCascadingMetadata = CollectionHelper.newHashMap( typeParameters.length );
+
+			for ( TypeVariable<?> typeParameter : typeParameters ) {
+				typeParametersCascadingMetadata.put( typeParameter, new CascadingMetaDataBuilder( type, typeParameter,
+						false, Map.of(), Map.of() ) );
+			}
+
+			return typeParametersCascadingMetadata;
+		}
+		else {
+			return Collections.emptyMap();
+		}
+	}
+
+	private static boolean isArrayType(Type type) {
+		return type instanceof GenericArrayType || type instanceof Class && ( (Class<?>) type ).isArray();
+	}
+
 	private Map<TypeVariable<?>, CascadingMetaDataBuilder> getTypeParametersCascadingMetaDataForArrayType(AnnotatedArrayType annotatedArrayType) {
 		// HV-1428 Container element support is disabled for arrays
 		return Collections.emptyMap();
@@ -825,10 +933,7 @@ private Set<MetaConstraint<?>> findTypeUseConstraints(Constrainable constrainabl
 		ConstraintLocation constraintLocation = ConstraintLocation.forTypeArgument( location.toConstraintLocation(), typeVariable, type );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescriptor : constraintDescriptors ) {
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor,
-					constraintLocation ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, constraintLocation ) );
 		}
 
 		return constraints;
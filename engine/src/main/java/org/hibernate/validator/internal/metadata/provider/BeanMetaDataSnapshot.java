@@ -0,0 +1,1060 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+import org.hibernate.validator.internal.metadata.provider.ConstraintIndex.ClassEntry;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanAnnotatedElement;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanExecutable;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
+import org.hibernate.validator.internal.util.Version;
+import org.hibernate.validator.internal.util.actions.GetAnnotationAttributes;
+import org.hibernate.validator.internal.util.actions.GetClassLoader;
+import org.hibernate.validator.internal.util.actions.GetDeclaredConstructors;
+import org.hibernate.validator.internal.util.actions.GetDeclaredFields;
+import org.hibernate.validator.internal.util.actions.GetDeclaredMethods;
+import org.hibernate.validator.internal.util.annotation.AnnotationDescriptor;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A snapshot of the annotations the {@link AnnotationMetaDataProvider} builds the metadata of a set of classes from,
+ * restored by the {@link SnapshotAnnotationMetaDataProvider} instead of inspecting the classes using reflection.
+ * <p>
+ * For each class, the snapshot contains the annotations of the class itself and of its fields, methods and
+ * constructors, including the type use annotations of their types and of the type arguments of these types. The
+ * annotations of the JDK, which can't be related to Bean Validation, are left out. The elements without any annotation
+ * are not part of the snapshot: as for the constraint index, their annotations are not inspected at all. The
+ * annotations of the parameters are not part of the snapshot as they are retrieved anyway when building the
+ * executables.
+ * <p>
+ * The snapshot is a versioned binary file. Its header, which is the same for all the format versions, is made of a
+ * magic number, the format version and the version of Hibernate Validator which wrote it: the snapshot is ignored as a
+ * whole if one of them differs from the current ones. Each class is stored with a fingerprint of its class file and of
+ * the class files of the annotation types it uses, as the annotations are stored with all their attributes, including
+ * the default ones: a class is inspected using reflection if one of these class files has changed since the snapshot
+ * was written. The fingerprints are computed once per class.
+ * <p>
+ * The strings and the annotations are stored once and referenced by their index from the descriptions of the classes.
+ * The description of a class is only parsed when its metadata are built, using the class loader of the class to load
+ * the annotation types and the classes and enums referenced by the annotations. An annotation shared by several
+ * elements is only restored once, as long as the classes it references are the same for all of them.
+ */
+public final class BeanMetaDataSnapshot {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	public static final BeanMetaDataSnapshot EMPTY = new BeanMetaDataSnapshot( new String[0], new byte[0][], Collections.emptyMap() );
+
+	/**
+	 * {@code HVMS} in ASCII.
+	 */
+	private static final int MAGIC = 0x48564d53;
+
+	static final int FORMAT_VERSION = 1;
+
+	private static final String ARRAY_COMPONENT_PATH_STEP = "[]";
+
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	private static final byte BOOLEAN = 'Z';
+	private static final byte BYTE = 'B';
+	private static final byte CHAR = 'C';
+	private static final byte SHORT = 'S';
+	private static final byte INT = 'I';
+	private static final byte LONG = 'J';
+	private static final byte FLOAT = 'F';
+	private static final byte DOUBLE = 'D';
+	private static final byte STRING = 's';
+	private static final byte CLASS = 'c';
+	private static final byte ENUM = 'e';
+	private static final byte ANNOTATION = '@';
+	private static final byte ARRAY = '[';
+
+	/**
+	 * The fingerprints of the bean classes and annotation types, computed once per class.
+	 */
+	private static final ClassValue<OptionalLong> FINGERPRINTS = new ClassValue<OptionalLong>() {
+
+		@Override
+		protected OptionalLong computeValue(Class<?> clazz) {
+			return computeFingerprint( clazz );
+		}
+	};
+
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+			boolean.class.getName(), boolean.class,
+			byte.class.getName(), byte.class,
+			char.class.getName(), char.class,
+			short.class.getName(), short.class,
+			int.class.getName(), int.class,
+			long.class.getName(), long.class,
+			float.class.getName(), float.class,
+			double.class.getName(), double.class,
+			void.class.getName(), void.class
+	);
+
+	private final String[] strings;
+
+	/**
+	 * The annotations, each distinct annotation being stored once and referenced by its index.
+	 */
+	private final byte[][] annotations;
+
+	/**
+	 * The annotations already restored, reused as long as the classes they reference are the same for the class loader
+	 * of the class being restored.
+	 */
+	private final AtomicReferenceArray<RestoredAnnotation> restoredAnnotations;
+
+	private final Map<String, ClassSnapshot> classSnapshots;
+
+	private BeanMetaDataSnapshot(String[] strings, byte[][] annotations, Map<String, ClassSnapshot> classSnapshots) {
+		this.strings = strings;
+		this.annotations = annotations;
+		this.restoredAnnotations = new AtomicReferenceArray<>( annotations.length );
+		this.classSnapshots = classSnapshots;
+	}
+
+	/**
+	 * Reads a snapshot written by {@link #write(OutputStream, Collection)}. The stream is not closed.
+	 *
+	 * @return The snapshot, or {@link #EMPTY} if the stream can't be read or has been written by another version.
+	 */
+	public static BeanMetaDataSnapshot read(InputStream inputStream) {
+		try {
+			ByteBuffer in = ByteBuffer.wrap( inputStream.readAllBytes() );
+			if ( in.getInt() != MAGIC ) {
+				throw new IOException( "Not a bean metadata snapshot" );
+			}
+
+			int formatVersion = in.getInt();
+			String version = readString( in );
+			if ( formatVersion != FORMAT_VERSION || !Version.getVersionString().equals( version ) ) {
+				LOG.ignoringIncompatibleBeanMetaDataSnapshot( version, formatVersion, Version.getVersionString(), FORMAT_VERSION );
+				return EMPTY;
+			}
+
+			String[] strings = new String[in.getInt()];
+			for ( int i = 0; i < strings.length; i++ ) {
+				strings[i] = readString( in );
+			}
+
+			byte[][] annotations = new byte[in.getInt()][];
+			for ( int i = 0; i < annotations.length; i++ ) {
+				annotations[i] = readBytes( in );
+			}
+
+			int classCount = in.getInt();
+			Map<String, ClassSnapshot> classSnapshots = newHashMap( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				String className = strings[in.getInt()];
+				long fingerprint = in.getLong();
+				String[] annotationTypeNames = new String[in.getInt()];
+				long[] annotationTypeFingerprints = new long[annotationTypeNames.length];
+				for ( int j = 0; j < annotationTypeNames.length; j++ ) {
+					annotationTypeNames[j] = strings[in.getInt()];
+					annotationTypeFingerprints[j] = in.getLong();
+				}
+				classSnapshots.put( className, new ClassSnapshot( fingerprint, annotationTypeNames, annotationTypeFingerprints, readBytes( in ) ) );
+			}
+
+			return new BeanMetaDataSnapshot( strings, annotations, classSnapshots );
+		}
+		catch (IOException | RuntimeException e) {
+			LOG.unableToReadBeanMetaDataSnapshot( e );
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Writes the snapshot of the given classes and of the classes and interfaces of their hierarchy, sorted by name so
+	 * that the snapshot is reproducible. The classes whose class file or the class file of one of the annotation types
+	 * they use can't be found, such as the classes generated at runtime, are left out. The stream is not closed.
+	 */
+	public static void write(OutputStream outputStream, Collection<Class<?>> beanClasses) throws IOException {
+		Map<String, Class<?>> classesToWrite = new TreeMap<>();
+		for ( Class<?> beanClass : beanClasses ) {
+			for ( Class<?> clazz : ClassHierarchyHelper.getHierarchy( beanClass ) ) {
+				if ( clazz != Object.class ) {
+					classesToWrite.put( clazz.getName(), clazz );
+				}
+			}
+		}
+
+		Pools pools = new Pools();
+		List<Integer> classNames = new ArrayList<>( classesToWrite.size() );
+		List<Long> fingerprints = new ArrayList<>( classesToWrite.size() );
+		List<Map<String, Long>> annotationTypeFingerprints = new ArrayList<>( classesToWrite.size() );
+		List<byte[]> descriptions = new ArrayList<>( classesToWrite.size() );
+		for ( Class<?> clazz : classesToWrite.values() ) {
+			OptionalLong fingerprint = FINGERPRINTS.get( clazz );
+			if ( fingerprint.isEmpty() ) {
+				continue;
+			}
+
+			Map<String, Class<?>> annotationTypes = new TreeMap<>();
+			byte[] description = describe( clazz, annotationTypes, pools );
+			Map<String, Long> classAnnotationTypeFingerprints = getFingerprints( annotationTypes.values() );
+			if ( classAnnotationTypeFingerprints != null ) {
+				classNames.add( pools.getStringIndex( clazz.getName() ) );
+				fingerprints.add( fingerprint.getAsLong() );
+				annotationTypeFingerprints.add( classAnnotationTypeFingerprints );
+				descriptions.add( description );
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream( new BufferedOutputStream( outputStream ) );
+		out.writeInt( MAGIC );
+		out.writeInt( FORMAT_VERSION );
+		writeString( out, Version.getVersionString() );
+		out.writeInt( pools.strings.size() );
+		for ( String string : pools.strings.keySet() ) {
+			writeString( out, string );
+		}
+		out.writeInt( pools.annotations.size() );
+		for ( ByteBuffer annotation : pools.annotations.keySet() ) {
+			writeBytes( out, annotation.array() );
+		}
+		out.writeInt( classNames.size() );
+		for ( int i = 0; i < classNames.size(); i++ ) {
+			out.writeInt( classNames.get( i ) );
+			out.writeLong( fingerprints.get( i ) );
+			out.writeInt( annotationTypeFingerprints.get( i ).size() );
+			for ( Map.Entry<String, Long> annotationTypeFingerprint : annotationTypeFingerprints.get( i ).entrySet() ) {
+				out.writeInt( pools.getStringIndex( annotationTypeFingerprint.getKey() ) );
+				out.writeLong( annotationTypeFingerprint.getValue() );
+			}
+			writeBytes( out, descriptions.get( i ) );
+		}
+		out.flush();
+	}
+
+	public boolean isEmpty() {
+		return classSnapshots.isEmpty();
+	}
+
+	/**
+	 * @return The entry restored from the snapshot for the given class, or {@code null} if the class is not part of
+	 * the snapshot, if the class or one of the annotation types it uses has changed since the snapshot was written or
+	 * if the class can't be restored.
+	 */
+	ClassEntry getClassEntry(Class<?> beanClass) {
+		ClassSnapshot classSnapshot = classSnapshots.get( beanClass.getName() );
+		if ( classSnapshot == null ) {
+			return null;
+		}
+
+		ClassLoader classLoader = GetClassLoader.fromClass( beanClass );
+		try {
+			if ( !classSnapshot.isUpToDate( beanClass, classLoader ) ) {
+				LOG.ignoringStaleBeanMetaDataSnapshot( beanClass );
+				return null;
+			}
+
+			return restore( ByteBuffer.wrap( classSnapshot.description ), classLoader );
+		}
+		catch (IOException | ClassNotFoundException | RuntimeException e) {
+			LOG.unableToRestoreBeanMetaDataSnapshot( beanClass, e );
+			return null;
+		}
+	}
+
+	/**
+	 * @return The fingerprints of the given annotation types keyed by their name, or {@code null} if the class file of
+	 * one of them can't be found.
+	 */
+	private static Map<String, Long> getFingerprints(Collection<Class<?>> annotationTypes) {
+		Map<String, Long> fingerprints = new TreeMap<>();
+		for ( Class<?> annotationType : annotationTypes ) {
+			OptionalLong fingerprint = FINGERPRINTS.get( annotationType );
+			if ( fingerprint.isEmpty() ) {
+				return null;
+			}
+			fingerprints.put( annotationType.getName(), fingerprint.getAsLong() );
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * @return The size of the class file combined with its CRC-32 checksum, or an empty value if the class file can't
+	 * be found.
+	 */
+	private static OptionalLong computeFingerprint(Class<?> clazz) {
+		try ( InputStream classFile = clazz.getResourceAsStream( "/" + clazz.getName().replace( '.', '/' ) + ".class" ) ) {
+			if ( classFile == null ) {
+				return OptionalLong.empty();
+			}
+
+			CRC32 checksum = new CRC32();
+			byte[] buffer = new byte[8192];
+			long size = 0;
+			int read;
+			while ( ( read = classFile.read( buffer ) ) != -1 ) {
+				checksum.update( buffer, 0, read );
+				size += read;
+			}
+			return OptionalLong.of( ( size << 32 ) | checksum.getValue() );
+		}
+		catch (IOException e) {
+			return OptionalLong.empty();
+		}
+	}
+
+	// writing
+
+	/**
+	 * Describes the annotations of the given class and collects the annotation types they use, including the ones of
+	 * the nested annotations.
+	 */
+	private static byte[] describe(Class<?> clazz, Map<String, Class<?>> annotationTypes, Pools pools) throws IOException {
+		Map<String, Annotation[]> elementAnnotations = new TreeMap<>();
+		Map<String, Map<String, Annotation[]>> elementTypeAnnotations = newHashMap();
+
+		for ( Field field : GetDeclaredFields.action( clazz ) ) {
+			if ( Modifier.isStatic( field.getModifiers() ) || field.isSynthetic() ) {
+				continue;
+			}
+			Annotation[] annotations = filterJdkAnnotations( field.getDeclaredAnnotations() );
+			Map<String, Annotation[]> typeAnnotations = getTypeAnnotations( field.getAnnotatedType() );
+			if ( annotations.length > 0 || !typeAnnotations.isEmpty() ) {
+				elementAnnotations.put( getKey( field ), annotations );
+				elementTypeAnnotations.put( getKey( field ), typeAnnotations );
+			}
+		}
+
+		List<Executable> executables = new ArrayList<>();
+		Collections.addAll( executables, GetDeclaredMethods.action( clazz ) );
+		Collections.addAll( executables, GetDeclaredConstructors.action( clazz ) );
+		for ( Executable executable : executables ) {
+			if ( Modifier.isStatic( executable.getModifiers() ) || executable.isSynthetic() ) {
+				continue;
+			}
+			Annotation[] annotations = filterJdkAnnotations( executable.getDeclaredAnnotations() );
+			Map<String, Annotation[]> typeAnnotations = getTypeAnnotations( executable.getAnnotatedReturnType() );
+			if ( annotations.length > 0 || !typeAnnotations.isEmpty() || hasAnnotatedParameter( executable ) ) {
+				elementAnnotations.put( getKey( executable ), annotations );
+				elementTypeAnnotations.put( getKey( executable ), typeAnnotations );
+			}
+		}
+
+		ByteArrayOutputStream description = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( description );
+		writeAnnotations( out, filterJdkAnnotations( clazz.getDeclaredAnnotations() ), annotationTypes, pools );
+		out.writeInt( elementAnnotations.size() );
+		for ( Map.Entry<String, Annotation[]> element : elementAnnotations.entrySet() ) {
+			out.writeInt( pools.getStringIndex( element.getKey() ) );
+			writeAnnotations( out, element.getValue(), annotationTypes, pools );
+
+			Map<String, Annotation[]> typeAnnotations = elementTypeAnnotations.get( element.getKey() );
+			out.writeInt( typeAnnotations.size() );
+			for ( Map.Entry<String, Annotation[]> typeAnnotation : typeAnnotations.entrySet() ) {
+				out.writeInt( pools.getStringIndex( typeAnnotation.getKey() ) );
+				writeAnnotations( out, typeAnnotation.getValue(), annotationTypes, pools );
+			}
+		}
+		out.flush();
+
+		return description.toByteArray();
+	}
+
+	private static boolean hasAnnotatedParameter(Executable executable) {
+		for ( Annotation[] parameterAnnotations : executable.getParameterAnnotations() ) {
+			if ( filterJdkAnnotations( parameterAnnotations ).length > 0 ) {
+				return true;
+			}
+		}
+		for ( AnnotatedType parameterType : executable.getAnnotatedParameterTypes() ) {
+			if ( !getTypeAnnotations( parameterType ).isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The type use annotations of the given type, of its type arguments and of its array components, keyed by
+	 * their path from the given type. The bounds of the wildcards and of the type variables are not taken into
+	 * account by the {@link AnnotationMetaDataProvider}.
+	 */
+	private static Map<String, Annotation[]> getTypeAnnotations(AnnotatedType annotatedType) {
+		Map<String, Annotation[]> typeAnnotations = new TreeMap<>();
+		collectTypeAnnotations( annotatedType, "", typeAnnotations );
+		return typeAnnotations;
+	}
+
+	private static void collectTypeAnnotations(AnnotatedType annotatedType, String path, Map<String, Annotation[]> typeAnnotations) {
+		Annotation[] annotations = filterJdkAnnotations( annotatedType.getDeclaredAnnotations() );
+		if ( annotations.length > 0 ) {
+			typeAnnotations.put( path, annotations );
+		}
+
+		if ( annotatedType instanceof AnnotatedParameterizedType ) {
+			AnnotatedType[] annotatedTypeArguments = ( (AnnotatedParameterizedType) annotatedType ).getAnnotatedActualTypeArguments();
+			for ( int i = 0; i < annotatedTypeArguments.length; i++ ) {
+				collectTypeAnnotations( annotatedTypeArguments[i], getChildPath( path, String.valueOf( i ) ), typeAnnotations );
+			}
+		}
+		else if ( annotatedType instanceof AnnotatedArrayType ) {
+			collectTypeAnnotations( ( (AnnotatedArrayType) annotatedType ).getAnnotatedGenericComponentType(),
+					getChildPath( path, ARRAY_COMPONENT_PATH_STEP ), typeAnnotations );
+		}
+	}
+
+	private static Annotation[] filterJdkAnnotations(Annotation[] annotations) {
+		List<Annotation> filteredAnnotations = new ArrayList<>( annotations.length );
+		for ( Annotation annotation : annotations ) {
+			String annotationTypeName = annotation.annotationType().getName();
+			if ( !annotationTypeName.startsWith( "java." ) && !annotationTypeName.startsWith( "jdk.internal" ) ) {
+				filteredAnnotations.add( annotation );
+			}
+		}
+		return filteredAnnotations.toArray( NO_ANNOTATIONS );
+	}
+
+	private static void writeAnnotations(DataOutputStream out, Annotation[] annotations, Map<String, Class<?>> annotationTypes, Pools pools)
+			throws IOException {
+		out.writeInt( annotations.length );
+		for ( Annotation annotation : annotations ) {
+			out.writeInt( pools.getAnnotationIndex( annotation ) );
+			collectAnnotationTypes( annotation, annotationTypes );
+		}
+	}
+
+	private static void collectAnnotationTypes(Object value, Map<String, Class<?>> annotationTypes) {
+		if ( value instanceof Annotation ) {
+			Annotation annotation = (Annotation) value;
+			annotationTypes.put( annotation.annotationType().getName(), annotation.annotationType() );
+			for ( Object attributeValue : GetAnnotationAttributes.action( annotation ).values() ) {
+				collectAnnotationTypes( attributeValue, annotationTypes );
+			}
+		}
+		else if ( value instanceof Annotation[] ) {
+			for ( Annotation annotation : (Annotation[]) value ) {
+				collectAnnotationTypes( annotation, annotationTypes );
+			}
+		}
+	}
+
+	private static void writeAnnotation(DataOutputStream out, Annotation annotation, Pools pools) throws IOException {
+		out.writeInt( pools.getStringIndex( annotation.annotationType().getName() ) );
+
+		Map<String, Object> attributes = new TreeMap<>( GetAnnotationAttributes.action( annotation ) );
+		out.writeInt( attributes.size() );
+		for ( Map.Entry<String, Object> attribute : attributes.entrySet() ) {
+			out.writeInt( pools.getStringIndex( attribute.getKey() ) );
+			writeValue( out, attribute.getValue(), pools );
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value, Pools pools) throws IOException {
+		if ( value instanceof Boolean ) {
+			out.writeByte( BOOLEAN );
+			out.writeBoolean( (Boolean) value );
+		}
+		else if ( value instanceof Byte ) {
+			out.writeByte( BYTE );
+			out.writeByte( (Byte) value );
+		}
+		else if ( value instanceof Character ) {
+			out.writeByte( CHAR );
+			out.writeChar( (Character) value );
+		}
+		else if ( value instanceof Short ) {
+			out.writeByte( SHORT );
+			out.writeShort( (Short) value );
+		}
+		else if ( value instanceof Integer ) {
+			out.writeByte( INT );
+			out.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			out.writeByte( LONG );
+			out.writeLong( (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			out.writeByte( FLOAT );
+			out.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Double ) {
+			out.writeByte( DOUBLE );
+			out.writeDouble( (Double) value );
+		}
+		else if ( value instanceof String ) {
+			out.writeByte( STRING );
+			out.writeInt( pools.getStringIndex( (String) value ) );
+		}
+		else if ( value instanceof Class ) {
+			out.writeByte( CLASS );
+			out.writeInt( pools.getStringIndex( ( (Class<?>) value ).getName() ) );
+		}
+		else if ( value instanceof Enum ) {
+			out.writeByte( ENUM );
+			out.writeInt( pools.getStringIndex( ( (Enum<?>) value ).getDeclaringClass().getName() ) );
+			out.writeInt( pools.getStringIndex( ( (Enum<?>) value ).name() ) );
+		}
+		else if ( value instanceof Annotation ) {
+			out.writeByte( ANNOTATION );
+			writeAnnotation( out, (Annotation) value, pools );
+		}
+		else if ( value.getClass().isArray() ) {
+			out.writeByte( ARRAY );
+			out.writeInt( pools.getStringIndex( value.getClass().getComponentType().getName() ) );
+			int length = Array.getLength( value );
+			out.writeInt( length );
+			for ( int i = 0; i < length; i++ ) {
+				writeValue( out, Array.get( value, i ), pools );
+			}
+		}
+		else {
+			throw new IOException( "Unsupported annotation attribute value " + value );
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes( out, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt( bytes.length );
+		out.write( bytes );
+	}
+
+	// reading
+
+	private ClassEntry restore(ByteBuffer in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		Annotation[] classAnnotations = readAnnotations( in, classLoader );
+
+		int elementCount = in.getInt();
+		Map<String, RestoredElement> elements = newHashMap( elementCount );
+		for ( int i = 0; i < elementCount; i++ ) {
+			String key = strings[in.getInt()];
+			Annotation[] annotations = readAnnotations( in, classLoader );
+
+			int typeAnnotationCount = in.getInt();
+			Map<String, Annotation[]> typeAnnotations = typeAnnotationCount == 0 ? Collections.emptyMap() : newHashMap( typeAnnotationCount );
+			for ( int j = 0; j < typeAnnotationCount; j++ ) {
+				String path = strings[in.getInt()];
+				typeAnnotations.put( path, readAnnotations( in, classLoader ) );
+			}
+
+			elements.put( key, new RestoredElement( annotations, typeAnnotations ) );
+		}
+
+		return new RestoredClassEntry( classAnnotations, elements );
+	}
+
+	private Annotation[] readAnnotations(ByteBuffer in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		int annotationCount = in.getInt();
+		if ( annotationCount == 0 ) {
+			return NO_ANNOTATIONS;
+		}
+
+		Annotation[] annotations = new Annotation[annotationCount];
+		for ( int i = 0; i < annotationCount; i++ ) {
+			annotations[i] = getAnnotation( in.getInt(), classLoader );
+		}
+		return annotations;
+	}
+
+	private Annotation getAnnotation(int index, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		RestoredAnnotation restoredAnnotation = restoredAnnotations.get( index );
+		if ( restoredAnnotation != null && restoredAnnotation.isVisibleFrom( classLoader ) ) {
+			return restoredAnnotation.annotation;
+		}
+
+		List<Class<?>> referencedClasses = new ArrayList<>();
+		Annotation annotation = readAnnotation( ByteBuffer.wrap( annotations[index] ), classLoader, referencedClasses );
+		restoredAnnotations.set( index, new RestoredAnnotation( classLoader, annotation, referencedClasses ) );
+		return annotation;
+	}
+
+	private Annotation readAnnotation(ByteBuffer in, ClassLoader classLoader, List<Class<?>> referencedClasses)
+			throws IOException, ClassNotFoundException {
+		Class<? extends Annotation> annotationType = readClass( in, classLoader, referencedClasses ).asSubclass( Annotation.class );
+
+		int attributeCount = in.getInt();
+		Map<String, Object> attributes = newHashMap( attributeCount );
+		for ( int i = 0; i < attributeCount; i++ ) {
+			String name = strings[in.getInt()];
+			attributes.put( name, readValue( in, classLoader, referencedClasses ) );
+		}
+
+		return new AnnotationDescriptor.Builder<>( annotationType, attributes ).build().getAnnotation();
+	}
+
+	private Object readValue(ByteBuffer in, ClassLoader classLoader, List<Class<?>> referencedClasses)
+			throws IOException, ClassNotFoundException {
+		byte tag = in.get();
+		switch ( tag ) {
+			case BOOLEAN:
+				return in.get() != 0;
+			case BYTE:
+				return in.get();
+			case CHAR:
+				return in.getChar();
+			case SHORT:
+				return in.getShort();
+			case INT:
+				return in.getInt();
+			case LONG:
+				return in.getLong();
+			case FLOAT:
+				return in.getFloat();
+			case DOUBLE:
+				return in.getDouble();
+			case STRING:
+				return strings[in.getInt()];
+			case CLASS:
+				return readClass( in, classLoader, referencedClasses );
+			case ENUM:
+				return getEnumConstant( readClass( in, classLoader, referencedClasses ), strings[in.getInt()] );
+			case ANNOTATION:
+				return readAnnotation( in, classLoader, referencedClasses );
+			case ARRAY:
+				Class<?> componentType = readClass( in, classLoader, referencedClasses );
+				int length = in.getInt();
+				Object array = Array.newInstance( componentType, length );
+				for ( int i = 0; i < length; i++ ) {
+					Array.set( array, i, readValue( in, classLoader, referencedClasses ) );
+				}
+				return array;
+			default:
+				throw new IOException( "Unknown annotation attribute value tag " + (char) tag );
+		}
+	}
+
+	private Class<?> readClass(ByteBuffer in, ClassLoader classLoader, List<Class<?>> referencedClasses) throws ClassNotFoundException {
+		Class<?> clazz = loadClass( strings[in.getInt()], classLoader );
+		referencedClasses.add( clazz );
+		return clazz;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object getEnumConstant(Class<?> enumType, String name) {
+		return Enum.valueOf( (Class<? extends Enum>) enumType, name );
+	}
+
+	private static Class<?> loadClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+		Class<?> primitiveType = PRIMITIVE_TYPES.get( className );
+		if ( primitiveType != null ) {
+			return primitiveType;
+		}
+		return Class.forName( className, false, classLoader );
+	}
+
+	private static String readString(ByteBuffer in) {
+		return new String( readBytes( in ), StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+		byte[] bytes = new byte[in.getInt()];
+		in.get( bytes );
+		return bytes;
+	}
+
+	// keys and paths shared by the writing and the reading
+
+	private static String getKey(Field field) {
+		return "F" + field.getName();
+	}
+
+	private static String getKey(Executable executable) {
+		StringBuilder key = new StringBuilder();
+		if ( executable instanceof Constructor ) {
+			key.append( 'C' );
+		}
+		else {
+			key.append( 'M' ).append( executable.getName() );
+		}
+		key.append( '(' );
+		Class<?>[] parameterTypes = executable.getParameterTypes();
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			if ( i > 0 ) {
+				key.append( ',' );
+			}
+			key.append( parameterTypes[i].getName() );
+		}
+		return key.append( ')' ).toString();
+	}
+
+	private static String getChildPath(String path, String step) {
+		return path.isEmpty() ? step : path + "." + step;
+	}
+
+	/**
+	 * The strings and the annotations shared by the descriptions of the classes, each one being written once.
+	 */
+	private static final class Pools {
+
+		private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+		private final Map<ByteBuffer, Integer> annotations = new LinkedHashMap<>();
+
+		private int getStringIndex(String string) {
+			Integer index = strings.get( string );
+			if ( index == null ) {
+				index = strings.size();
+				strings.put( string, index );
+			}
+			return index;
+		}
+
+		private int getAnnotationIndex(Annotation annotation) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream( bytes );
+			writeAnnotation( out, annotation, this );
+			out.flush();
+
+			ByteBuffer key = ByteBuffer.wrap( bytes.toByteArray() );
+			Integer index = annotations.get( key );
+			if ( index == null ) {
+				index = annotations.size();
+				annotations.put( key, index );
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * An annotation restored with a given class loader, along with the classes it references.
+	 */
+	private static final class RestoredAnnotation {
+
+		private final ClassLoader classLoader;
+
+		private final Annotation annotation;
+
+		private final List<Class<?>> referencedClasses;
+
+		private RestoredAnnotation(ClassLoader classLoader, Annotation annotation, List<Class<?>> referencedClasses) {
+			this.classLoader = classLoader;
+			this.annotation = annotation;
+			this.referencedClasses = referencedClasses;
+		}
+
+		/**
+		 * @return {@code true} if the annotation restored with the given class loader would be the same, i.e. if the
+		 * classes it references are the same from the given class loader.
+		 */
+		private boolean isVisibleFrom(ClassLoader otherClassLoader) {
+			if ( otherClassLoader == classLoader ) {
+				return true;
+			}
+			try {
+				for ( Class<?> referencedClass : referencedClasses ) {
+					if ( loadClass( referencedClass.getName(), otherClassLoader ) != referencedClass ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			catch (ClassNotFoundException e) {
+				return false;
+			}
+		}
+	}
+
+	private static final class ClassSnapshot {
+
+		private final long fingerprint;
+
+		private final String[] annotationTypeNames;
+
+		private final long[] annotationTypeFingerprints;
+
+		/**
+		 * The description of the class, parsed on demand as the metadata of a class are only built once.
+		 */
+		private final byte[] description;
+
+		private ClassSnapshot(long fingerprint, String[] annotationTypeNames, long[] annotationTypeFingerprints, byte[] description) {
+			this.fingerprint = fingerprint;
+			this.annotationTypeNames = annotationTypeNames;
+			this.annotationTypeFingerprints = annotationTypeFingerprints;
+			this.description = description;
+		}
+
+		/**
+		 * @return {@code true} if neither the given class nor the annotation types it uses have changed since the
+		 * snapshot was written.
+		 */
+		private boolean isUpToDate(Class<?> beanClass, ClassLoader classLoader) throws ClassNotFoundException {
+			if ( !hasFingerprint( beanClass, fingerprint ) ) {
+				return false;
+			}
+			for ( int i = 0; i < annotationTypeNames.length; i++ ) {
+				if ( !hasFingerprint( loadClass( annotationTypeNames[i], classLoader ), annotationTypeFingerprints[i] ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean hasFingerprint(Class<?> clazz, long expectedFingerprint) {
+			OptionalLong fingerprint = FINGERPRINTS.get( clazz );
+			return fingerprint.isPresent() && fingerprint.getAsLong() == expectedFingerprint;
+		}
+	}
+
+	/**
+	 * The annotations of a field or of an executable restored from the snapshot.
+	 */
+	private static final class RestoredElement {
+
+		private final Annotation[] annotations;
+
+		private final Map<String, Annotation[]> typeAnnotations;
+
+		private RestoredElement(Annotation[] annotations, Map<String, Annotation[]> typeAnnotations) {
+			this.annotations = annotations;
+			this.typeAnnotations = typeAnnotations;
+		}
+	}
+
+	/**
+	 * An entry giving access to the restored annotations: the elements which are not part of the snapshot don't hold
+	 * any annotation.
+	 */
+	private static final class RestoredClassEntry extends ClassEntry {
+
+		private final Annotation[] classAnnotations;
+
+		private final Map<String, RestoredElement> elements;
+
+		private RestoredClassEntry(Annotation[] classAnnotations, Map<String, RestoredElement> elements) {
+			super( classAnnotations.length > 0, Collections.emptyMap() );
+			this.classAnnotations = classAnnotations;
+			this.elements = elements;
+		}
+
+		@Override
+		boolean isAnnotated(Field field) {
+			return elements.containsKey( getKey( field ) );
+		}
+
+		@Override
+		boolean isAnnotated(Executable executable) {
+			return elements.containsKey( getKey( executable ) );
+		}
+
+		@Override
+		Annotation[] getDeclaredAnnotations(Class<?> beanClass) {
+			return classAnnotations;
+		}
+
+		@Override
+		JavaBeanAnnotatedElement getAnnotatedElement(Field field, JavaBeanField javaBeanField) {
+			RestoredElement element = elements.get( getKey( field ) );
+			if ( element == null ) {
+				return javaBeanField;
+			}
+			return new RestoredAnnotatedElement( javaBeanField, field.getGenericType(), element );
+		}
+
+		@Override
+		JavaBeanAnnotatedElement getAnnotatedElement(Executable executable, JavaBeanExecutable<?> javaBeanExecutable) {
+			RestoredElement element = elements.get( getKey( executable ) );
+			if ( element == null ) {
+				return javaBeanExecutable;
+			}
+			// as for Executable#getAnnotatedReturnType(), the type of a constructor is its declaring class
+			Type genericType = executable instanceof Method ? ( (Method) executable ).getGenericReturnType() : executable.getDeclaringClass();
+			return new RestoredAnnotatedElement( javaBeanExecutable, genericType, element );
+		}
+	}
+
+	/**
+	 * Gives access to the restored annotations of an element, the types being the ones of the actual element.
+	 */
+	private static final class RestoredAnnotatedElement implements JavaBeanAnnotatedElement {
+
+		private final JavaBeanAnnotatedElement delegate;
+
+		private final Annotation[] annotations;
+
+		private final AnnotatedType annotatedType;
+
+		private RestoredAnnotatedElement(JavaBeanAnnotatedElement delegate, Type genericType, RestoredElement element) {
+			this.delegate = delegate;
+			this.annotations = element.annotations;
+			this.annotatedType = RestoredAnnotatedType.of( genericType, "", element.typeAnnotations );
+		}
+
+		@Override
+		public Type getType() {
+			return delegate.getType();
+		}
+
+		@Override
+		public AnnotatedType getAnnotatedType() {
+			return annotatedType;
+		}
+
+		@Override
+		public Annotation[] getDeclaredAnnotations() {
+			return annotations.clone();
+		}
+
+		@Override
+		public Type getGenericType() {
+			return delegate.getGenericType();
+		}
+
+		@Override
+		public TypeVariable<?>[] getTypeParameters() {
+			return delegate.getTypeParameters();
+		}
+
+		@Override
+		public <A extends Annotation> A getAnnotation(Class<A> annotationClass) {
+			return findAnnotation( annotations, annotationClass );
+		}
+	}
+
+	/**
+	 * The annotated types rebuilt from the generic type of an element and from the restored type use annotations,
+	 * mirroring the structure of the annotated types returned by reflection for the parts the
+	 * {@link AnnotationMetaDataProvider} takes into account.
+	 */
+	private static class RestoredAnnotatedType implements AnnotatedType {
+
+		private final Type type;
+
+		private final Annotation[] annotations;
+
+		private RestoredAnnotatedType(Type type, Annotation[] annotations) {
+			this.type = type;
+			this.annotations = annotations;
+		}
+
+		private static AnnotatedType of(Type type, String path, Map<String, Annotation[]> typeAnnotations) {
+			Annotation[] annotations = typeAnnotations.getOrDefault( path, NO_ANNOTATIONS );
+
+			if ( type instanceof ParameterizedType ) {
+				Type[] typeArguments = ( (ParameterizedType) type ).getActualTypeArguments();
+				AnnotatedType[] annotatedTypeArguments = new AnnotatedType[typeArguments.length];
+				for ( int i = 0; i < typeArguments.length; i++ ) {
+					annotatedTypeArguments[i] = of( typeArguments[i], getChildPath( path, String.valueOf( i ) ), typeAnnotations );
+				}
+				return new RestoredAnnotatedParameterizedType( type, annotations, annotatedTypeArguments );
+			}
+			if ( type instanceof GenericArrayType ) {
+				return new RestoredAnnotatedArrayType( type, annotations, of( ( (GenericArrayType) type ).getGenericComponentType(),
+						getChildPath( path, ARRAY_COMPONENT_PATH_STEP ), typeAnnotations ) );
+			}
+			if ( type instanceof Class && ( (Class<?>) type ).isArray() ) {
+				return new RestoredAnnotatedArrayType( type, annotations, of( ( (Class<?>) type ).getComponentType(),
+						getChildPath( path, ARRAY_COMPONENT_PATH_STEP ), typeAnnotations ) );
+			}
+			return new RestoredAnnotatedType( type, annotations );
+		}
+
+		@Override
+		public Type getType() {
+			return type;
+		}
+
+		@Override
+		public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+			return findAnnotation( annotations, annotationClass );
+		}
+
+		@Override
+		public Annotation[] getAnnotations() {
+			return annotations.clone();
+		}
+
+		@Override
+		public Annotation[] getDeclaredAnnotations() {
+			return annotations.clone();
+		}
+	}
+
+	private static final class RestoredAnnotatedParameterizedType extends RestoredAnnotatedType implements AnnotatedParameterizedType {
+
+		private final AnnotatedType[] annotatedTypeArguments;
+
+		private RestoredAnnotatedParameterizedType(Type type, Annotation[] annotations, AnnotatedType[] annotatedTypeArguments) {
+			super( type, annotations );
+			this.annotatedTypeArguments = annotatedTypeArguments;
+		}
+
+		@Override
+		public AnnotatedType[] getAnnotatedActualTypeArguments() {
+			return annotatedTypeArguments.clone();
+		}
+
+		@Override
+		public AnnotatedType getAnnotatedOwnerType() {
+			return null;
+		}
+	}
+
+	private static final class RestoredAnnotatedArrayType extends RestoredAnnotatedType implements AnnotatedArrayType {
+
+		private final AnnotatedType annotatedComponentType;
+
+		private RestoredAnnotatedArrayType(Type type, Annotation[] annotations, AnnotatedType annotatedComponentType) {
+			super( type, annotations );
+			this.annotatedComponentType = annotatedComponentType;
+		}
+
+		@Override
+		public AnnotatedType getAnnotatedGenericComponentType() {
+			return annotatedComponentType;
+		}
+
+		@Override
+		public AnnotatedType getAnnotatedOwnerType() {
+			return null;
+		}
+	}
+
+	private static <A extends Annotation> A findAnnotation(Annotation[] annotations, Class<A> annotationClass) {
+		for ( Annotation annotation : annotations ) {
+			if ( annotation.annotationType() == annotationClass ) {
+				return annotationClass.cast( annotation );
+			}
+		}
+		return null;
+	}
+}
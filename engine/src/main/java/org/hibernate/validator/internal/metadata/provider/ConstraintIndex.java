@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+
+import org.hibernate.validator.internal.properties.javabean.JavaBeanAnnotatedElement;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanExecutable;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
+import org.hibernate.validator.internal.util.actions.GetResources;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The constraint index generated at build time by the annotation processor, listing, for each compiled class, the
+ * elements which hold annotations related to Bean Validation.
+ * <p>
+ * The index is stored in the {@code META-INF/hibernate-validator/constraint.index} resources. Each non-empty line not
+ * starting with {@code #} describes a class: its binary name followed by space-separated tokens, one for the class
+ * itself and one per field, method and constructor. The first character of a token is the kind of the element,
+ * uppercase if the element holds annotations related to Bean Validation (including type use annotations in its type),
+ * lowercase otherwise:
+ * <ul>
+ * <li>{@code T} or {@code t}: the class itself,</li>
+ * <li>{@code F<name>} or {@code f<name>}: a field,</li>
+ * <li>{@code M<name>/<parameter count>} or {@code m<name>/<parameter count>}: a method, the token being uppercase if
+ * any method with this name and parameter count is annotated,</li>
+ * <li>{@code C<parameter count>} or {@code c<parameter count>}: a constructor, the parameter count including the
+ * parameters added by the compiler.</li>
+ * </ul>
+ * <p>
+ * The elements which are not listed, for instance because they have been generated by another tool after the
+ * annotation processing, are considered annotated. Classes which are not listed, or which are described differently by
+ * several index files, are not indexed.
+ */
+final class ConstraintIndex {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	static final String CONSTRAINT_INDEX_RESOURCE = "META-INF/hibernate-validator/constraint.index";
+
+	static final ConstraintIndex EMPTY = new ConstraintIndex( Collections.emptyMap() );
+
+	/**
+	 * Marks the classes described differently by several index files: we can't know which description applies.
+	 */
+	private static final String CONFLICTING_DESCRIPTIONS = "?";
+
+	/**
+	 * The raw descriptions of the classes, parsed on demand as the metadata of a class are only built once.
+	 */
+	private final Map<String, String> classDescriptions;
+
+	private ConstraintIndex(Map<String, String> classDescriptions) {
+		this.classDescriptions = classDescriptions;
+	}
+
+	/**
+	 * Reads all the constraint index resources visible from the given class loader.
+	 */
+	static ConstraintIndex load(ClassLoader classLoader) {
+		Enumeration<URL> indexUrls = GetResources.action( classLoader, CONSTRAINT_INDEX_RESOURCE );
+		if ( !indexUrls.hasMoreElements() ) {
+			return EMPTY;
+		}
+
+		Map<String, String> classDescriptions = newHashMap();
+		while ( indexUrls.hasMoreElements() ) {
+			URL indexUrl = indexUrls.nextElement();
+			try ( InputStream inputStream = indexUrl.openStream();
+					BufferedReader reader = new BufferedReader( new InputStreamReader( inputStream, StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					line = line.trim();
+					if ( line.isEmpty() || line.charAt( 0 ) == '#' ) {
+						continue;
+					}
+
+					int classNameEnd = line.indexOf( ' ' );
+					String className = classNameEnd < 0 ? line : line.substring( 0, classNameEnd );
+					String description = classNameEnd < 0 ? "t" : line.substring( classNameEnd + 1 );
+
+					String previousDescription = classDescriptions.putIfAbsent( className, description );
+					if ( previousDescription != null && !previousDescription.equals( description ) ) {
+						classDescriptions.put( className, CONFLICTING_DESCRIPTIONS );
+					}
+				}
+			}
+			catch (IOException e) {
+				LOG.unableToReadConstraintIndex( indexUrl, e );
+			}
+		}
+
+		return new ConstraintIndex( classDescriptions );
+	}
+
+	ClassEntry getClassEntry(Class<?> beanClass) {
+		if ( beanClass.isLocalClass() || beanClass.isAnonymousClass() ) {
+			// their constructors also get the captured variables as parameters so they are never described by the index
+			return ClassEntry.NOT_INDEXED;
+		}
+
+		String description = classDescriptions.get( beanClass.getName() );
+		if ( description == null || CONFLICTING_DESCRIPTIONS.equals( description ) ) {
+			return ClassEntry.NOT_INDEXED;
+		}
+
+		return ClassEntry.parse( description );
+	}
+
+	/**
+	 * Tells which elements of a class may hold annotations related to Bean Validation and gives access to these
+	 * annotations.
+	 * <p>
+	 * The annotations are read using reflection, except for the entries restored from a
+	 * {@link BeanMetaDataSnapshot}.
+	 */
+	static class ClassEntry {
+
+		/**
+		 * The entry used for the classes which are not indexed: all their elements may be annotated.
+		 */
+		static final ClassEntry NOT_INDEXED = new ClassEntry( true, Collections.emptyMap() );
+
+		private final boolean classAnnotated;
+
+		/**
+		 * The annotated state of the listed members, keyed by the token without its kind.
+		 */
+		private final Map<String, Boolean> annotatedMembers;
+
+		ClassEntry(boolean classAnnotated, Map<String, Boolean> annotatedMembers) {
+			this.classAnnotated = classAnnotated;
+			this.annotatedMembers = annotatedMembers;
+		}
+
+		private static ClassEntry parse(String description) {
+			boolean classAnnotated = true;
+			Map<String, Boolean> annotatedMembers = newHashMap();
+
+			for ( String token : description.split( " " ) ) {
+				if ( token.isEmpty() ) {
+					continue;
+				}
+
+				char kind = token.charAt( 0 );
+				boolean annotated = Character.isUpperCase( kind );
+				switch ( Character.toUpperCase( kind ) ) {
+					case 'T':
+						classAnnotated = annotated;
+						break;
+					case 'F':
+					case 'M':
+					case 'C':
+						annotatedMembers.put( Character.toUpperCase( kind ) + token.substring( 1 ), annotated );
+						break;
+					default:
+						// an index generated by a more recent version: we can't rely on it
+						return NOT_INDEXED;
+				}
+			}
+
+			return new ClassEntry( classAnnotated, annotatedMembers );
+		}
+
+		boolean isClassAnnotated() {
+			return classAnnotated;
+		}
+
+		boolean isAnnotated(Field field) {
+			return isAnnotated( "F" + field.getName() );
+		}
+
+		boolean isAnnotated(Executable executable) {
+			if ( executable instanceof Constructor ) {
+				return isAnnotated( "C" + executable.getParameterCount() );
+			}
+			return isAnnotated( "M" + executable.getName() + "/" + executable.getParameterCount() );
+		}
+
+		private boolean isAnnotated(String memberKey) {
+			return annotatedMembers.getOrDefault( memberKey, Boolean.TRUE );
+		}
+
+		Annotation[] getDeclaredAnnotations(Class<?> beanClass) {
+			return beanClass.getDeclaredAnnotations();
+		}
+
+		/**
+		 * @return The element giving access to the declared annotations and to the annotated type of the given field.
+		 */
+		JavaBeanAnnotatedElement getAnnotatedElement(Field field, JavaBeanField javaBeanField) {
+			return javaBeanField;
+		}
+
+		/**
+		 * @return The element giving access to the declared annotations and to the annotated return type of the given
+		 * executable. The annotations of the parameters are always read from the {@link JavaBeanExecutable}.
+		 */
+		JavaBeanAnnotatedElement getAnnotatedElement(Executable executable, JavaBeanExecutable<?> javaBeanExecutable) {
+			return javaBeanExecutable;
+		}
+	}
+}
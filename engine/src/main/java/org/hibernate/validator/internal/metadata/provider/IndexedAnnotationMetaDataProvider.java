@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.util.EnumSet;
+
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
+import org.hibernate.validator.internal.metadata.provider.ConstraintIndex.ClassEntry;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.actions.GetClassLoader;
+
+/**
+ * {@code MetaDataProvider} which reads the metadata from annotations, only inspecting the elements which may hold
+ * annotations according to the constraint index generated at build time by the annotation processor.
+ * <p>
+ * The classes which are not described by a constraint index are fully inspected.
+ */
+public class IndexedAnnotationMetaDataProvider extends AnnotationMetaDataProvider {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 4;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 4;
+
+	/**
+	 * The constraint indexes, per class loader. The class loaders are weakly referenced so that the index doesn't
+	 * prevent them from being garbage collected.
+	 */
+	private final ConcurrentReferenceHashMap<ClassLoader, ConstraintIndex> constraintIndexes = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	public IndexedAnnotationMetaDataProvider(ConstraintCreationContext constraintCreationContext,
+			JavaBeanHelper javaBeanHelper,
+			AnnotationProcessingOptions annotationProcessingOptions) {
+		super( constraintCreationContext, javaBeanHelper, annotationProcessingOptions );
+	}
+
+	@Override
+	ClassEntry getConstraintIndexEntry(Class<?> beanClass) {
+		ClassLoader classLoader = GetClassLoader.fromClass( beanClass );
+		if ( classLoader == null ) {
+			// the JDK classes are not indexed
+			return ClassEntry.NOT_INDEXED;
+		}
+
+		return constraintIndexes.computeIfAbsent( classLoader, ConstraintIndex::load ).getClassEntry( beanClass );
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
+import org.hibernate.validator.internal.metadata.provider.ConstraintIndex.ClassEntry;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+
+/**
+ * {@code MetaDataProvider} which builds the metadata from the annotations restored from a {@link BeanMetaDataSnapshot}
+ * instead of reading them using reflection.
+ * <p>
+ * The classes which are not part of the snapshot, or which have changed since the snapshot was written, are inspected
+ * as usual, using the constraint index if enabled.
+ */
+public class SnapshotAnnotationMetaDataProvider extends IndexedAnnotationMetaDataProvider {
+
+	private final BeanMetaDataSnapshot beanMetaDataSnapshot;
+
+	private final boolean constraintIndex;
+
+	public SnapshotAnnotationMetaDataProvider(ConstraintCreationContext constraintCreationContext,
+			JavaBeanHelper javaBeanHelper,
+			AnnotationProcessingOptions annotationProcessingOptions,
+			BeanMetaDataSnapshot beanMetaDataSnapshot,
+			boolean constraintIndex) {
+		super( constraintCreationContext, javaBeanHelper, annotationProcessingOptions );
+		this.beanMetaDataSnapshot = beanMetaDataSnapshot;
+		this.constraintIndex = constraintIndex;
+	}
+
+	@Override
+	ClassEntry getConstraintIndexEntry(Class<?> beanClass) {
+		ClassEntry snapshotEntry = beanMetaDataSnapshot.getClassEntry( beanClass );
+		if ( snapshotEntry != null ) {
+			return snapshotEntry;
+		}
+
+		return constraintIndex ? super.getConstraintIndexEntry( beanClass ) : ClassEntry.NOT_INDEXED;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.properties.javabean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Creates the property accessors used by the {@link org.hibernate.validator.engine.PropertyAccessorStrategy#GENERATED}
+ * strategy.
+ * <p>
+ * Getters are bound to a {@link Function} spun by the {@link LambdaMetafactory}, so that they are invoked as regular
+ * virtual calls. As the {@code LambdaMetafactory} cannot target fields, fields are read through a method handle.
+ * <p>
+ * Both require a lookup with private access to the bean class. When such a lookup cannot be obtained, e.g. if the
+ * package of the bean is not open to Hibernate Validator, {@code null} is returned and the caller falls back to
+ * reflection.
+ */
+final class GeneratedPropertyAccessors {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType ACCESSOR_METHOD_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private GeneratedPropertyAccessors() {
+	}
+
+	static PropertyAccessor forField(Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( field.getDeclaringClass(), MethodHandles.lookup() );
+			return new FieldMethodHandleAccessor( field.getName(), lookup.unreflectGetter( field ).asType( ACCESSOR_METHOD_TYPE ) );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.unableToGeneratePropertyAccessor( field, e.getMessage() );
+			return null;
+		}
+	}
+
+	static PropertyAccessor forGetter(Method getter) {
+		MethodHandles.Lookup lookup;
+		MethodHandle getterHandle;
+		try {
+			lookup = MethodHandles.privateLookupIn( getter.getDeclaringClass(), MethodHandles.lookup() );
+			getterHandle = lookup.unreflect( getter );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.unableToGeneratePropertyAccessor( getter, e.getMessage() );
+			return null;
+		}
+
+		// the LambdaMetafactory requires a lookup with full privilege access, which is not the case when the bean
+		// lives in another module: we can still read the value through the method handle in this case
+		if ( lookup.hasFullPrivilegeAccess() ) {
+			try {
+				CallSite callSite = LambdaMetafactory.metafactory(
+						lookup,
+						"apply",
+						MethodType.methodType( Function.class ),
+						ACCESSOR_METHOD_TYPE,
+						getterHandle,
+						MethodType.methodType( Object.class, getter.getDeclaringClass() )
+				);
+				@SuppressWarnings("unchecked")
+				Function<Object, Object> function = (Function<Object, Object>) callSite.getTarget().invoke();
+				return new GetterFunctionAccessor( getter.getName(), function );
+			}
+			catch (Throwable e) {
+				LOG.unableToGeneratePropertyAccessor( getter, e.getMessage() );
+			}
+		}
+
+		return new GetterMethodHandleAccessor( getter.getName(), getterHandle.asType( ACCESSOR_METHOD_TYPE ) );
+	}
+
+	private static class FieldMethodHandleAccessor implements PropertyAccessor {
+
+		private final String name;
+
+		private final MethodHandle getter;
+
+		private FieldMethodHandleAccessor(String name, MethodHandle getter) {
+			this.name = name;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return getter.invokeExact( bean );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				throw LOG.getUnableToAccessMemberException( name, new InvocationTargetException( e ) );
+			}
+		}
+	}
+
+	private static class GetterFunctionAccessor implements PropertyAccessor {
+
+		private final String name;
+
+		private final Function<Object, Object> getter;
+
+		private GetterFunctionAccessor(String name, Function<Object, Object> getter) {
+			this.name = name;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return getter.apply( bean );
+			}
+			catch (Throwable e) {
+				// keep the behavior of the reflection based accessor which wraps whatever is thrown by the getter
+				throw LOG.getUnableToAccessMemberException( name, new InvocationTargetException( e ) );
+			}
+		}
+	}
+
+	private static class GetterMethodHandleAccessor implements PropertyAccessor {
+
+		private final String name;
+
+		private final MethodHandle getter;
+
+		private GetterMethodHandleAccessor(String name, MethodHandle getter) {
+			this.name = name;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return getter.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				// keep the behavior of the reflection based accessor which wraps whatever is thrown by the getter
+				throw LOG.getUnableToAccessMemberException( name, new InvocationTargetException( e ) );
+			}
+		}
+	}
+}
@@ -13,6 +13,7 @@
 import java.lang.reflect.TypeVariable;
 
 import org.hibernate.validator.engine.HibernateValidatorEnhancedBean;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
 import org.hibernate.validator.internal.properties.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.actions.GetDeclaredField;
@@ -26,12 +27,18 @@ public class JavaBeanField implements org.hibernate.validator.internal.propertie
 	private final String resolvedPropertyName;
 	private final Type typeForValidatorResolution;
 	private final Type type;
+	private final PropertyAccessorStrategy propertyAccessorStrategy;
 
 	public JavaBeanField(Field field, String resolvedPropertyName) {
+		this( field, resolvedPropertyName, PropertyAccessorStrategy.REFLECTION );
+	}
+
+	public JavaBeanField(Field field, String resolvedPropertyName, PropertyAccessorStrategy propertyAccessorStrategy) {
 		this.field = field;
 		this.type = ReflectionHelper.typeOf( field );
 		this.typeForValidatorResolution = ReflectionHelper.boxedType( this.type );
 		this.resolvedPropertyName = resolvedPropertyName;
+		this.propertyAccessorStrategy = propertyAccessorStrategy;
 	}
 
 	@Override
@@ -94,9 +101,13 @@ public PropertyAccessor createAccessor() {
 		if ( isHibernateValidatorEnhancedBean( field.getDeclaringClass() ) ) {
 			return new EnhancedBeanFieldAccessor( field.getName() );
 		}
-		else {
-			return new FieldAccessor( field );
+		if ( propertyAccessorStrategy == PropertyAccessorStrategy.GENERATED ) {
+			PropertyAccessor generatedAccessor = GeneratedPropertyAccessors.forField( field );
+			if ( generatedAccessor != null ) {
+				return generatedAccessor;
+			}
 		}
+		return new FieldAccessor( field );
 	}
 
 	@Override
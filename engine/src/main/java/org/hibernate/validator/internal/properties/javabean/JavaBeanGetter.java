@@ -9,6 +9,7 @@
 import java.lang.reflect.Method;
 
 import org.hibernate.validator.engine.HibernateValidatorEnhancedBean;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
 import org.hibernate.validator.internal.metadata.raw.ConstrainedElement.ConstrainedElementKind;
 import org.hibernate.validator.internal.properties.Getter;
 import org.hibernate.validator.internal.properties.PropertyAccessor;
@@ -33,13 +34,21 @@ public class JavaBeanGetter extends JavaBeanMethod implements Getter {
 	 */
 	private final Class<?> declaringClass;
 
+	private final PropertyAccessorStrategy propertyAccessorStrategy;
+
 	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName) {
+		this( declaringClass, method, propertyName, resolvedPropertyName, PropertyAccessorStrategy.REFLECTION );
+	}
+
+	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName,
+			PropertyAccessorStrategy propertyAccessorStrategy) {
 		super( method );
 		Contracts.assertNotNull( propertyName, "Property name cannot be null." );
 
 		this.declaringClass = declaringClass;
 		this.propertyName = propertyName;
 		this.resolvedPropertyName = resolvedPropertyName;
+		this.propertyAccessorStrategy = propertyAccessorStrategy;
 	}
 
 	@Override
@@ -84,10 +93,13 @@ public PropertyAccessor createAccessor() {
 		if ( isHibernateValidatorEnhancedBean( executable.getDeclaringClass() ) ) {
 			return new EnhancedBeanGetterAccessor( executable.getName() );
 		}
-		else {
-			return new GetterAccessor( executable );
+		if ( propertyAccessorStrategy == PropertyAccessorStrategy.GENERATED ) {
+			PropertyAccessor generatedAccessor = GeneratedPropertyAccessors.forGetter( executable );
+			if ( generatedAccessor != null ) {
+				return generatedAccessor;
+			}
 		}
-
+		return new GetterAccessor( executable );
 	}
 
 	@Override
@@ -12,6 +12,7 @@
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
 import org.hibernate.validator.internal.properties.Constrainable;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.actions.GetDeclaredConstructor;
@@ -34,10 +35,17 @@ public class JavaBeanHelper implements PropertyNodeNameProviderContext {
 
 	private final GetterPropertySelectionStrategy getterPropertySelectionStrategy;
 	private final PropertyNodeNameProvider propertyNodeNameProvider;
+	private final PropertyAccessorStrategy propertyAccessorStrategy;
 
 	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider) {
+		this( getterPropertySelectionStrategy, propertyNodeNameProvider, PropertyAccessorStrategy.REFLECTION );
+	}
+
+	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider,
+			PropertyAccessorStrategy propertyAccessorStrategy) {
 		this.getterPropertySelectionStrategy = getterPropertySelectionStrategy;
 		this.propertyNodeNameProvider = propertyNodeNameProvider;
+		this.propertyAccessorStrategy = propertyAccessorStrategy;
 	}
 
 	@Override
@@ -49,6 +57,10 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return propertyNodeNameProvider;
 	}
 
+	public PropertyAccessorStrategy getPropertyAccessorStrategy() {
+		return propertyAccessorStrategy;
+	}
+
 	public Optional<JavaBeanField> findDeclaredField(Class<?> declaringClass, String property) {
 		Contracts.assertNotNull( declaringClass, MESSAGES.classCannotBeNull() );
 
@@ -79,7 +91,7 @@ private Optional<JavaBeanGetter> findGetter(Class<?> declaringClass, String prop
 		}
 		else {
 			return Optional.of( new JavaBeanGetter( declaringClass, getter, property, propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, property, getter.getName() ), this ) ) );
+					new JavaBeanPropertyImpl( declaringClass, property, getter.getName() ), this ), propertyAccessorStrategy ) );
 		}
 	}
 
@@ -121,14 +133,15 @@ public JavaBeanMethod executable(Class<?> declaringClass, Method method) {
 		Optional<String> correspondingProperty = getterPropertySelectionStrategy.getProperty( executable );
 		if ( correspondingProperty.isPresent() ) {
 			return new JavaBeanGetter( declaringClass, method, correspondingProperty.get(), propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get(), method.getName() ), this ) );
+					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get(), method.getName() ), this ), propertyAccessorStrategy );
 		}
 
 		return new JavaBeanMethod( method );
 	}
 
 	public JavaBeanField field(Field field) {
-		return new JavaBeanField( field, propertyNodeNameProvider.getName( new JavaBeanPropertyImpl( field.getDeclaringClass(), field.getName(), field.getName() ), this ) );
+		return new JavaBeanField( field, propertyNodeNameProvider.getName( new JavaBeanPropertyImpl( field.getDeclaringClass(), field.getName(), field.getName() ), this ),
+				propertyAccessorStrategy );
 	}
 
 	private static class JavaBeanConstrainableExecutable implements ConstrainableExecutable {
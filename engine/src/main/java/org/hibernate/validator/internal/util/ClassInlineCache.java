@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util;
+
+import java.util.Arrays;
+
+/**
+ * A small cache associating values to the runtime classes observed at a given place of the metadata, e.g. the classes
+ * of the values cascaded from a given property.
+ * <p>
+ * Most of these places only ever see one class, or a few classes when the declared type is the root of a small
+ * hierarchy, so the classes are compared by identity in a linear scan, which is cheaper than a hash lookup. Once
+ * {@link #MAX_SIZE} classes have been observed, the additional classes are not cached anymore and the callers fall
+ * back to their regular lookup.
+ * <p>
+ * The entries are stored in an array which is replaced on each addition, so that the lookups do not take any lock.
+ * An entry might be lost if two threads add an entry concurrently: it is then added again on the next miss.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class ClassInlineCache<V> {
+
+	/**
+	 * The maximum number of classes cached.
+	 */
+	static final int MAX_SIZE = 4;
+
+	private static final Object[] EMPTY = new Object[0];
+
+	/**
+	 * The classes and their values, stored alternately.
+	 */
+	private volatile Object[] entries = EMPTY;
+
+	/**
+	 * @return the value cached for the given class or {@code null} if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(Class<?> clazz) {
+		Object[] entries = this.entries;
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( entries[i] == clazz ) {
+				return (V) entries[i + 1];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the given value for the given class, unless {@link #MAX_SIZE} classes are already cached.
+	 */
+	public void put(Class<?> clazz, V value) {
+		Contracts.assertNotNull( value, "value" );
+
+		Object[] entries = this.entries;
+		if ( entries.length >= MAX_SIZE * 2 ) {
+			return;
+		}
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( entries[i] == clazz ) {
+				return;
+			}
+		}
+
+		Object[] newEntries = Arrays.copyOf( entries, entries.length + 2 );
+		newEntries[entries.length] = clazz;
+		newEntries[entries.length + 1] = value;
+		this.entries = newEntries;
+	}
+
+	/**
+	 * @return the number of cached classes
+	 */
+	public int size() {
+		return entries.length / 2;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( "ClassInlineCache [" );
+		Object[] entries = this.entries;
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( i > 0 ) {
+				sb.append( ", " );
+			}
+			sb.append( ( (Class<?>) entries[i] ).getName() );
+		}
+		return sb.append( "]" ).toString();
+	}
+}
@@ -4,13 +4,16 @@
  */
 package org.hibernate.validator.internal.util;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.net.IDN;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Checks domain names with single-pass character scanners.
+ * <p>
+ * A domain name is made of labels separated by dots. A label starts and ends with a letter, a digit, one of the
+ * {@code !#$%&'*+/=?^_`{|}~} characters or a non ASCII character of the basic multilingual plane, and may contain
+ * dashes in between. An URL may also use an IPv6 address enclosed in brackets as domain, and an email an IPv4
+ * address enclosed in brackets or an IPv6 address enclosed in brackets and prefixed with {@code IPv6:}.
+ *
  * @author Marko Bekhta
  * @author Guillaume Smet
  */
@@ -22,31 +25,14 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
-	private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
-
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
-	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
-	private static final String IP_V6_DOMAIN =
-			"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
-
 	/**
-	 * Regular expression for the domain part of an URL
-	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The maximum length of a label, as checked by {@link IDN#toASCII(String)}.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int MAX_LABEL_LENGTH = 63;
 
-	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
-	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int IP_V6_MAX_GROUPS = 8;
+
+	private static final boolean[] ASCII_DOMAIN_CHARACTERS = asciiCharacters( "!#$%&'*+/=?^_`{|}~" );
 
 	private DomainNameUtil() {
 	}
@@ -59,7 +45,35 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, located between the given indexes of a character
+	 * sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index following the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 * @see #isValidEmailDomainAddress(String)
+	 */
+	public static boolean isValidEmailDomainAddress(CharSequence value, int start, int end) {
+		if ( !hasValidLength( value, start, end ) ) {
+			return false;
+		}
+
+		if ( value.charAt( start ) == '[' ) {
+			if ( end - start < 2 || value.charAt( end - 1 ) != ']' ) {
+				return false;
+			}
+			if ( regionMatchesIgnoreCase( value, start + 1, end - 1, "IPv6:" ) ) {
+				return isValidIpV6Address( value, start + 6, end - 1 );
+			}
+			return isValidIpV4Address( value, start + 1, end - 1 );
+		}
+
+		return isValidDomainName( value, start, end );
 	}
 
 	/**
@@ -69,12 +83,63 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length() );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+	/**
+	 * Checks validity of a domain name located between the given indexes of a character sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index following the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 * @see #isValidDomainAddress(String)
+	 */
+	public static boolean isValidDomainAddress(CharSequence value, int start, int end) {
+		if ( !hasValidLength( value, start, end ) ) {
+			return false;
+		}
+
+		if ( value.charAt( start ) == '[' ) {
+			if ( end - start < 2 || value.charAt( end - 1 ) != ']' ) {
+				return false;
+			}
+			return isValidIpV6Address( value, start + 1, end - 1 );
+		}
+
+		return isValidDomainName( value, start, end );
+	}
+
+	/**
+	 * Checks the length of the domain and of its labels once converted to ASCII, as {@link IDN#toASCII(String)} does.
+	 * <p>
+	 * An ASCII domain is left as is by the conversion, so it is only converted if it contains non ASCII characters.
+	 */
+	private static boolean hasValidLength(CharSequence value, int start, int end) {
+		int labelLength = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= 0x80 ) {
+				return hasValidConvertedLength( value.subSequence( start, end ).toString() );
+			}
+			if ( c == '.' ) {
+				if ( labelLength == 0 ) {
+					return false;
+				}
+				labelLength = 0;
+			}
+			else if ( ++labelLength > MAX_LABEL_LENGTH ) {
+				return false;
+			}
+		}
+
+		// this also rejects the trailing dot, which IDN.toASCII would drop
+		return labelLength > 0 && end - start <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	private static boolean hasValidConvertedLength(String domain) {
 		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
+		// the domain name check would take care of this, but IDN.toASCII drops the trailing '.'
 		if ( domain.endsWith( "." ) ) {
 			return false;
 		}
@@ -87,12 +152,313 @@ private static boolean isValidDomainAddress(String domain, Pattern pattern) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	private static boolean isValidDomainName(CharSequence value, int start, int end) {
+		boolean labelIsEmpty = true;
+		boolean previousIsDash = false;
+
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( labelIsEmpty || previousIsDash ) {
+					return false;
+				}
+				labelIsEmpty = true;
+			}
+			else if ( c == '-' ) {
+				if ( labelIsEmpty ) {
+					return false;
+				}
+				previousIsDash = true;
+			}
+			else if ( isDomainCharacter( value, i, end ) ) {
+				labelIsEmpty = false;
+				previousIsDash = false;
+			}
+			else {
+				return false;
+			}
+		}
+
+		return !labelIsEmpty && !previousIsDash;
+	}
+
+	private static boolean isDomainCharacter(CharSequence value, int index, int end) {
+		char c = value.charAt( index );
+		if ( c < 0x80 ) {
+			return ASCII_DOMAIN_CHARACTERS[c];
+		}
+		// the characters outside of the basic multilingual plane are not allowed, an unpaired surrogate is
+		return !isSurrogatePair( value, index, end );
+	}
+
+	/**
+	 * Checks an IPv4 address made of 4 groups of 1 to 3 digits, the value of the groups is not checked.
+	 */
+	private static boolean isValidIpV4Address(CharSequence value, int start, int end) {
+		int groups = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			while ( i < end && i - groupStart < 3 && isDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == groupStart ) {
+				return false;
+			}
+			if ( ++groups == 4 ) {
+				return i == end;
+			}
+			if ( i == end || value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * Checks an IPv6 address: 8 groups of hexadecimal digits, or less if consecutive groups are replaced by
+	 * {@code ::}, an address ending with an IPv4 address after {@code ::} or {@code ::ffff:}, or a link-local address
+	 * with a zone index.
+	 */
+	private static boolean isValidIpV6Address(CharSequence value, int start, int end) {
+		int lastColon = -1;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '%' ) {
+				return isValidLinkLocalIpV6Address( value, start, i, end );
+			}
+			if ( c == ':' ) {
+				lastColon = i;
+			}
+		}
+
+		if ( lastColon >= 0 && indexOf( value, lastColon + 1, end, '.' ) >= 0 ) {
+			return isValidIpV4SuffixedIpV6Address( value, start, lastColon, end );
+		}
+
+		int compression = indexOfCompression( value, start, end );
+		if ( compression < 0 ) {
+			return countGroups( value, start, end ) == IP_V6_MAX_GROUPS;
+		}
+
+		int leftGroups = countGroups( value, start, compression );
+		int rightGroups = countGroups( value, compression + 2, end );
+		return leftGroups >= 0 && rightGroups >= 0 && leftGroups + rightGroups < IP_V6_MAX_GROUPS;
+	}
+
+	/**
+	 * Checks {@code fe80:} followed by up to 4 groups of a colon and up to 4 hexadecimal digits, and by a zone index
+	 * made of letters and digits after the {@code %}.
+	 */
+	private static boolean isValidLinkLocalIpV6Address(CharSequence value, int start, int percent, int end) {
+		if ( !regionMatchesIgnoreCase( value, start, percent, "fe80:" ) ) {
+			return false;
+		}
+
+		int groups = 0;
+		int i = start + 5;
+		while ( i < percent ) {
+			if ( value.charAt( i ) != ':' || ++groups > 4 ) {
+				return false;
+			}
+			i++;
+			int groupStart = i;
+			while ( i < percent && i - groupStart < 4 && isHexDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+		}
+
+		if ( percent + 1 == end ) {
+			return false;
+		}
+		for ( i = percent + 1; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( !isDigit( c ) && !isAsciiLetter( c ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks {@code ::}, {@code ::ffff:} or {@code ::ffff:0:} (with 1 to 4 zeros), or 1 to 4 groups each followed by
+	 * a colon and by a second colon, followed by an IPv4 address.
+	 */
+	private static boolean isValidIpV4SuffixedIpV6Address(CharSequence value, int start, int lastColon, int end) {
+		if ( !isValidIpV4AddressOfIpV6Address( value, lastColon + 1, end ) ) {
 			return false;
 		}
 
-		Matcher matcher = pattern.matcher( domain );
-		return matcher.matches();
+		int prefixEnd = lastColon + 1;
+		if ( prefixEnd - start < 2 ) {
+			return false;
+		}
+		if ( value.charAt( start ) != ':' ) {
+			if ( value.charAt( prefixEnd - 2 ) != ':' ) {
+				return false;
+			}
+			int groups = countGroups( value, start, prefixEnd - 2 );
+			return groups >= 1 && groups <= 4;
+		}
+		if ( value.charAt( start + 1 ) != ':' ) {
+			return false;
+		}
+		if ( prefixEnd - start == 2 ) {
+			return true;
+		}
+		if ( !regionMatchesIgnoreCase( value, start + 2, prefixEnd, "ffff:" ) ) {
+			return false;
+		}
+		int zerosStart = start + 7;
+		if ( prefixEnd == zerosStart ) {
+			return true;
+		}
+		int zeros = prefixEnd - 1 - zerosStart;
+		if ( zeros < 1 || zeros > 4 ) {
+			return false;
+		}
+		for ( int i = zerosStart; i < prefixEnd - 1; i++ ) {
+			if ( value.charAt( i ) != '0' ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
+	/**
+	 * Checks an IPv4 address made of 4 groups of 1 or 2 digits, or of 3 digits between 100 and 255.
+	 */
+	private static boolean isValidIpV4AddressOfIpV6Address(CharSequence value, int start, int end) {
+		int groups = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			while ( i < end && i - groupStart < 3 && isDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == groupStart ) {
+				return false;
+			}
+			if ( i - groupStart == 3 ) {
+				char first = value.charAt( groupStart );
+				char second = value.charAt( groupStart + 1 );
+				char third = value.charAt( groupStart + 2 );
+				boolean valid = first == '1'
+						|| first == '2' && ( second < '5' || second == '5' && third <= '5' );
+				if ( !valid ) {
+					return false;
+				}
+			}
+			if ( ++groups == 4 ) {
+				return i == end;
+			}
+			if ( i == end || value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @return the number of groups of 1 to 4 hexadecimal digits separated by colons of the region, 0 if the region is
+	 * empty, or -1 if the region is not made of such groups
+	 */
+	private static int countGroups(CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return 0;
+		}
+
+		int groups = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			while ( i < end && i - groupStart < 4 && isHexDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == groupStart ) {
+				return -1;
+			}
+			groups++;
+			if ( i == end ) {
+				return groups;
+			}
+			if ( value.charAt( i ) != ':' ) {
+				return -1;
+			}
+			i++;
+			if ( i == end ) {
+				return -1;
+			}
+		}
+	}
+
+	private static boolean isSurrogatePair(CharSequence value, int index, int end) {
+		return Character.isHighSurrogate( value.charAt( index ) ) && index + 1 < end
+				&& Character.isLowSurrogate( value.charAt( index + 1 ) );
+	}
+
+	private static boolean[] asciiCharacters(String additionalCharacters) {
+		boolean[] characters = new boolean[0x80];
+		for ( char c = '0'; c <= '9'; c++ ) {
+			characters[c] = true;
+		}
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			characters[c] = true;
+			characters[c - 'a' + 'A'] = true;
+		}
+		for ( int i = 0; i < additionalCharacters.length(); i++ ) {
+			characters[additionalCharacters.charAt( i )] = true;
+		}
+		return characters;
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, int end, String prefix) {
+		if ( end - start < prefix.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < prefix.length(); i++ ) {
+			// only the ASCII letters are compared case-insensitively, as by Pattern.CASE_INSENSITIVE
+			if ( toLowerCaseAscii( value.charAt( start + i ) ) != toLowerCaseAscii( prefix.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(CharSequence value, int start, int end, char c) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOfCompression(CharSequence value, int start, int end) {
+		for ( int i = start; i < end - 1; i++ ) {
+			if ( value.charAt( i ) == ':' && value.charAt( i + 1 ) == ':' ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static char toLowerCaseAscii(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) ( c + ( 'a' - 'A' ) ) : c;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexDigit(char c) {
+		return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
 }
@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util;
+
+/**
+ * Single-pass character scanners for the components of hierarchical URLs of the form
+ * {@code scheme://host[:port][/path][?query][#fragment]}.
+ * <p>
+ * The URL validators use these scanners as a fast path for the common URLs: the scanners only accept the URLs made of
+ * characters which are valid for both {@link java.net.URI} and the regular expression of
+ * {@link org.hibernate.validator.constraintvalidators.RegexpURLValidator}. The validators fall back to their complete
+ * implementation for any other value.
+ */
+public final class URLScanner {
+
+	/**
+	 * The characters of a path segment besides letters and digits, as defined by RFC 2396 and RFC 3986. They are the
+	 * same for both specifications.
+	 */
+	private static final boolean[] ASCII_PATH_CHARACTERS = asciiCharacters( "-_.!~*'():@&=+$,;" );
+
+	private URLScanner() {
+	}
+
+	/**
+	 * @param value the character sequence to scan
+	 * @return the index of the colon following a valid scheme at the beginning of the character sequence, or -1 if
+	 * the character sequence does not start with a scheme
+	 */
+	public static int scanScheme(CharSequence value) {
+		int length = value.length();
+		if ( length == 0 || !isAsciiLetter( value.charAt( 0 ) ) ) {
+			return -1;
+		}
+
+		for ( int i = 1; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c == ':' ) {
+				return i;
+			}
+			if ( !isAsciiLetter( c ) && !isDigit( c ) && c != '+' && c != '-' && c != '.' ) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param value the character sequence to scan
+	 * @param schemeEnd the index of the colon following the scheme
+	 * @return {@code true} if the scheme is followed by {@code //} and thus by an authority
+	 */
+	public static boolean hasAuthority(CharSequence value, int schemeEnd) {
+		return schemeEnd + 2 < value.length() && value.charAt( schemeEnd + 1 ) == '/' && value.charAt( schemeEnd + 2 ) == '/';
+	}
+
+	/**
+	 * Scans a host name made of labels of letters, digits and inner dashes separated by dots, with an optional
+	 * trailing dot. If the host name has more than one label, the last one has to start with a letter.
+	 *
+	 * @param value the character sequence to scan
+	 * @param start the index of the first character of the host name
+	 * @return the index following the host name, or -1 if there is no such host name at the given index
+	 */
+	public static int scanHostName(CharSequence value, int start) {
+		int length = value.length();
+		int lastLabelStart = -1;
+		int i = start;
+		while ( i < length && isAlphanumeric( value.charAt( i ) ) ) {
+			lastLabelStart = i;
+			i++;
+			while ( i < length && ( isAlphanumeric( value.charAt( i ) ) || value.charAt( i ) == '-' ) ) {
+				i++;
+			}
+			if ( value.charAt( i - 1 ) == '-' ) {
+				return -1;
+			}
+			if ( i == length || value.charAt( i ) != '.' ) {
+				break;
+			}
+			i++;
+		}
+
+		if ( lastLabelStart < 0 ) {
+			return -1;
+		}
+		if ( lastLabelStart > start && !isAsciiLetter( value.charAt( lastLabelStart ) ) ) {
+			return -1;
+		}
+		return i;
+	}
+
+	/**
+	 * Scans the letters, digits, dots and dashes of a host.
+	 *
+	 * @param value the character sequence to scan
+	 * @param start the index of the first character of the host
+	 * @return the index following the host
+	 */
+	public static int scanHost(CharSequence value, int start) {
+		int length = value.length();
+		int i = start;
+		while ( i < length ) {
+			char c = value.charAt( i );
+			if ( !isAlphanumeric( c ) && c != '.' && c != '-' ) {
+				break;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Scans the optional port following the host.
+	 *
+	 * @param value the character sequence to scan
+	 * @param hostEnd the index following the host
+	 * @param maxDigits the maximum number of digits of the port
+	 * @return the index following the port, {@code hostEnd} if there is no port, or -1 if the port has more digits than
+	 * allowed
+	 */
+	public static int scanPort(CharSequence value, int hostEnd, int maxDigits) {
+		int length = value.length();
+		if ( hostEnd == length || value.charAt( hostEnd ) != ':' ) {
+			return hostEnd;
+		}
+
+		int i = hostEnd + 1;
+		while ( i < length && isDigit( value.charAt( i ) ) ) {
+			if ( i - hostEnd > maxDigits ) {
+				return -1;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * @param value the character sequence containing the port
+	 * @param hostEnd the index following the host
+	 * @param portEnd the index following the port
+	 * @return the value of the port scanned by {@link #scanPort(CharSequence, int, int)}, or -1 if the port is absent
+	 * or empty
+	 */
+	public static int getPort(CharSequence value, int hostEnd, int portEnd) {
+		int port = -1;
+		for ( int i = hostEnd + 1; i < portEnd; i++ ) {
+			port = ( port < 0 ? 0 : port * 10 ) + ( value.charAt( i ) - '0' );
+		}
+		return port;
+	}
+
+	/**
+	 * Checks the optional path, query and fragment following the authority. The path, query and fragment may only
+	 * contain ASCII letters and digits, the {@code -_.!~*'():@&=+$,;/} characters and escaped octets, and the query and
+	 * fragment may also contain question marks.
+	 *
+	 * @param value the character sequence to scan
+	 * @param start the index following the authority
+	 * @return {@code true} if the remainder of the character sequence is a path, query and fragment made of these
+	 * characters, {@code false} otherwise
+	 */
+	public static boolean isValidPathQueryAndFragment(CharSequence value, int start) {
+		int length = value.length();
+		if ( start == length ) {
+			return true;
+		}
+
+		char first = value.charAt( start );
+		if ( first != '/' && first != '?' && first != '#' ) {
+			return false;
+		}
+
+		boolean inFragment = false;
+		int i = start;
+		while ( i < length ) {
+			char c = value.charAt( i );
+			if ( c == '%' ) {
+				if ( i + 2 >= length || !isHexDigit( value.charAt( i + 1 ) ) || !isHexDigit( value.charAt( i + 2 ) ) ) {
+					return false;
+				}
+				i += 3;
+				continue;
+			}
+
+			if ( c == '#' ) {
+				if ( inFragment ) {
+					return false;
+				}
+				inFragment = true;
+			}
+			else if ( c != '/' && c != '?' && ( c >= 0x80 || !ASCII_PATH_CHARACTERS[c] ) ) {
+				return false;
+			}
+			i++;
+		}
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if the region of the character sequence is equal to the given string
+	 */
+	public static boolean regionEquals(CharSequence value, int start, int end, String string) {
+		if ( end - start != string.length() ) {
+			return false;
+		}
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) != string.charAt( i - start ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean[] asciiCharacters(String additionalCharacters) {
+		boolean[] characters = new boolean[0x80];
+		for ( char c = '0'; c <= '9'; c++ ) {
+			characters[c] = true;
+		}
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			characters[c] = true;
+			characters[c - 'a' + 'A'] = true;
+		}
+		for ( int i = 0; i < additionalCharacters.length(); i++ ) {
+			characters[additionalCharacters.charAt( i )] = true;
+		}
+		return characters;
+	}
+
+	private static boolean isAlphanumeric(char c) {
+		return isAsciiLetter( c ) || isDigit( c );
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexDigit(char c) {
+		return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+	}
+}
@@ -9,6 +9,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.invoke.MethodHandles.Lookup;
@@ -16,6 +17,7 @@
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URL;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
@@ -45,6 +47,8 @@
 import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
 import jakarta.validation.valueextraction.ValueExtractorDefinitionException;
 
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
@@ -63,6 +67,7 @@
 import org.hibernate.validator.internal.util.logging.formatter.TypeFormatter;
 import org.hibernate.validator.internal.xml.mapping.ContainerElementTypePath;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -968,4 +973,100 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 275, value = "The minRequired parameter (%1$d) cannot exceed the number of values (%2$d).")
 	IllegalArgumentException getMinRequiredCannotExceedNumberOfValuesException(int minRequired, int valuesLength);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 276, value = "Property accessor strategy set to %1$s.")
+	void logPropertyAccessorStrategy(PropertyAccessorStrategy propertyAccessorStrategy);
+
+	@Message(id = 277, value = "Unable to find a property accessor strategy for value %s.")
+	ValidationException invalidPropertyAccessorStrategyValue(String propertyAccessorStrategyName, @Cause IllegalArgumentException e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 278, value = "Unable to generate an accessor for %1$s, falling back to reflection: %2$s")
+	void unableToGeneratePropertyAccessor(Object member, String message);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 279, value = "Parallel cascaded validation enabled for containers of at least %1$d elements.")
+	void logParallelCascadedValidation(int threshold);
+
+	@Message(id = 280, value = "Unable to parse the parallel cascaded validation threshold property %s. It should be a strictly positive integer.")
+	ValidationException getUnableToParseParallelCascadedValidationThresholdException(String thresholdProperty, @Cause Exception e);
+
+	@Message(id = 281, value = "The parallel cascaded validation threshold must be strictly positive but was %1$d.")
+	IllegalArgumentException getInvalidParallelCascadedValidationThresholdException(int threshold);
+
+	@LogMessage(level = WARN)
+	@Message(id = 282, value = "Unable to interpolate EL expression '%s' as no Expression Language implementation is available and the expression is not simple enough to be evaluated without it.")
+	void expressionLanguageNotAvailable(String expression);
+
+	@LogMessage(level = WARN)
+	@Message(id = 283, value = "Unable to read the constraint index %s. The classes it describes will be inspected using reflection.")
+	void unableToReadConstraintIndex(URL indexUrl, @Cause IOException e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 284, value = "Ignoring the bean metadata snapshot written by Hibernate Validator %1$s with the format version %2$d as it is not compatible with Hibernate Validator %3$s and the format version %4$d. The metadata will be built from the annotations.")
+	void ignoringIncompatibleBeanMetaDataSnapshot(String snapshotVersion, int snapshotFormatVersion, String currentVersion, int currentFormatVersion);
+
+	@LogMessage(level = WARN)
+	@Message(id = 285, value = "Unable to read the bean metadata snapshot. The metadata will be built from the annotations.")
+	void unableToReadBeanMetaDataSnapshot(@Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 286, value = "Ignoring the bean metadata snapshot of %s as the class or one of the annotation types it uses has changed since the snapshot was written. The class will be inspected using reflection.")
+	void ignoringStaleBeanMetaDataSnapshot(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass);
+
+	@LogMessage(level = WARN)
+	@Message(id = 287, value = "Unable to restore the bean metadata snapshot of %s. The class will be inspected using reflection.")
+	void unableToRestoreBeanMetaDataSnapshot(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass, @Cause Exception e);
+
+	@Message(id = 288, value = "Unable to write the bean metadata snapshot.")
+	ValidationException getUnableToWriteBeanMetaDataSnapshotException(@Cause IOException e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 289, value = "Bean metadata retention set to %1$s.")
+	void logBeanMetaDataRetention(BeanMetaDataRetention beanMetaDataRetention);
+
+	@Message(id = 290, value = "Unable to find a bean metadata retention for value %s.")
+	ValidationException invalidBeanMetaDataRetentionValue(String beanMetaDataRetentionName, @Cause IllegalArgumentException e);
+
+	@Message(id = 291, value = "Unable to parse the bean metadata cache maximum size property %s. It should be a strictly positive integer.")
+	ValidationException getUnableToParseBeanMetaDataCacheMaxSizeException(String maxSizeProperty, @Cause Exception e);
+
+	@Message(id = 292, value = "The bean metadata cache maximum size must be strictly positive but was %1$d.")
+	IllegalArgumentException getInvalidBeanMetaDataCacheMaxSizeException(int maxSize);
+
+	@Message(id = 293, value = "Unable to parse the constraint validator cache maximum number of contexts property %s. It should be a strictly positive integer.")
+	ValidationException getUnableToParseConstraintValidatorCacheMaxContextsException(String maxContextsProperty, @Cause Exception e);
+
+	@Message(id = 294, value = "The constraint validator cache maximum number of contexts must be strictly positive but was %1$d.")
+	IllegalArgumentException getInvalidConstraintValidatorCacheMaxContextsException(int maxContexts);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 295, value = "Unable to interpolate the message template %s during the warm-up, it will be interpolated when validating.")
+	void unableToWarmUpMessageTemplate(String messageTemplate, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 296, value = "Warmed up %1$d beans in %2$d ms.")
+	void logWarmUp(int beanCount, long durationInMillis);
+
+	@Message(id = 297, value = "Invalid assertion expression \"%1$s\": %2$s at position %3$d.")
+	ConstraintDeclarationException getInvalidAssertionExpressionException(String expression, String reason, int position);
+
+	@Message(id = 298, value = "Unable to find a readable property %2$s in %3$s for the assertion expression \"%1$s\".")
+	ConstraintDeclarationException getUnknownAssertionExpressionPropertyException(String expression, String property,
+			@FormatWith(ClassObjectFormatter.class) Class<?> beanClass);
+
+	@Message(id = 299, value = "Unable to evaluate the assertion expression \"%1$s\": %2$s.")
+	ConstraintDeclarationException getUnableToEvaluateAssertionExpressionException(String expression, String reason);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 300, value = "Regular expression engine set to %1$s.")
+	void logRegularExpressionEngine(RegularExpressionEngine regularExpressionEngine);
+
+	@Message(id = 301, value = "Unable to find a regular expression engine for value %s.")
+	ValidationException invalidRegularExpressionEngineValue(String regularExpressionEngineName, @Cause IllegalArgumentException e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 302, value = "The regular expression %1$s is not supported by the linear engine, falling back to java.util.regex: %2$s.")
+	void unsupportedLinearRegularExpression(String regularExpression, String reason);
 }
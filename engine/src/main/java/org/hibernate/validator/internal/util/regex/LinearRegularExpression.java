@@ -0,0 +1,460 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+import org.hibernate.validator.engine.RegularExpressionEngine;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.AlternationNode;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.Assertion;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.AssertionNode;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.CharacterNode;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.Node;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.RepetitionNode;
+import org.hibernate.validator.internal.util.regex.LinearRegularExpressionParser.SequenceNode;
+
+/**
+ * A regular expression compiled to a non-deterministic finite automaton, matched in a time linear in the length of
+ * the input whatever the expression.
+ * <p>
+ * The automaton is built with the Thompson construction: each state either consumes a character matching a
+ * predicate, splits into two states, checks a boundary or accepts the input. The characters are code points, as for
+ * {@link java.util.regex.Pattern}.
+ * <p>
+ * If the automaton has no boundary state, which is the case of most expressions once the leading {@code ^} and
+ * trailing {@code $} are dropped, it is matched through a deterministic automaton built lazily: each deterministic
+ * state is a set of states of the non-deterministic automaton and its transitions are computed on first use. The
+ * number of deterministic states kept is bounded, the transitions from the states not kept being computed for each
+ * character. Otherwise, the set of current states is tracked for each character.
+ */
+final class LinearRegularExpression implements RegularExpression {
+
+	/**
+	 * The maximum number of states of the non-deterministic automaton, e.g. for large bounded repetitions.
+	 */
+	private static final int MAX_STATES = 10_000;
+
+	/**
+	 * The maximum number of deterministic states kept for a given expression.
+	 */
+	private static final int MAX_DETERMINISTIC_STATES = 1_000;
+
+	/**
+	 * The maximum number of transitions on non ASCII characters kept for a given deterministic state.
+	 */
+	private static final int MAX_NON_ASCII_TRANSITIONS = 256;
+
+	private static final int ASCII_SIZE = 128;
+
+	private static final byte CONSUME = 0;
+	private static final byte SPLIT = 1;
+	private static final byte ASSERT = 2;
+	private static final byte MATCH = 3;
+
+	private final String regexp;
+
+	private final byte[] kinds;
+
+	private final int[] nexts;
+
+	private final int[] alternatives;
+
+	private final IntPredicate[] predicates;
+
+	private final Assertion[] assertions;
+
+	private final int start;
+
+	private final boolean hasAssertions;
+
+	private final Map<StateSet, DeterministicState> deterministicStates;
+
+	private final DeterministicState initialState;
+
+	private LinearRegularExpression(String regexp, Builder builder, int start) {
+		this.regexp = regexp;
+		this.kinds = Arrays.copyOf( builder.kinds, builder.size );
+		this.nexts = Arrays.copyOf( builder.nexts, builder.size );
+		this.alternatives = Arrays.copyOf( builder.alternatives, builder.size );
+		this.predicates = Arrays.copyOf( builder.predicates, builder.size );
+		this.assertions = Arrays.copyOf( builder.assertions, builder.size );
+		this.start = start;
+
+		boolean hasAssertions = false;
+		for ( byte kind : kinds ) {
+			if ( kind == ASSERT ) {
+				hasAssertions = true;
+				break;
+			}
+		}
+		this.hasAssertions = hasAssertions;
+
+		if ( hasAssertions ) {
+			this.deterministicStates = null;
+			this.initialState = null;
+		}
+		else {
+			this.deterministicStates = new ConcurrentHashMap<>();
+			SparseSet closure = new SparseSet( kinds.length );
+			addClosure( closure, start, null, 0, new int[2 * kinds.length + 1] );
+			this.initialState = deterministicState( closure );
+		}
+	}
+
+	/**
+	 * @throws UnsupportedRegularExpressionException if the expression is not supported
+	 */
+	static LinearRegularExpression compile(String regexp, int flags) {
+		Node node = LinearRegularExpressionParser.parse( regexp, flags );
+		Builder builder = new Builder();
+		int match = builder.add( MATCH, -1, -1, null, null );
+		int start = builder.compile( node, match );
+		return new LinearRegularExpression( regexp, builder, start );
+	}
+
+	@Override
+	public boolean matches(CharSequence input) {
+		return hasAssertions ? simulate( input ) : matchDeterministically( input );
+	}
+
+	@Override
+	public RegularExpressionEngine getEngine() {
+		return RegularExpressionEngine.LINEAR;
+	}
+
+	private boolean matchDeterministically(CharSequence input) {
+		DeterministicState state = initialState;
+		int length = input.length();
+		int position = 0;
+		while ( position < length ) {
+			if ( state.dead ) {
+				return false;
+			}
+
+			char c = input.charAt( position );
+			if ( c < ASCII_SIZE ) {
+				DeterministicState next = state.asciiTransitions[c];
+				if ( next == null ) {
+					next = transition( state, c );
+					if ( next.kept ) {
+						// racy but safe: the transition is either seen or computed again
+						state.asciiTransitions[c] = next;
+					}
+				}
+				state = next;
+				position++;
+			}
+			else {
+				int codePoint = Character.codePointAt( input, position );
+				DeterministicState next = state.nonAsciiTransitions.get( codePoint );
+				if ( next == null ) {
+					next = transition( state, codePoint );
+					if ( next.kept && state.nonAsciiTransitions.size() < MAX_NON_ASCII_TRANSITIONS ) {
+						state.nonAsciiTransitions.put( codePoint, next );
+					}
+				}
+				state = next;
+				position += Character.charCount( codePoint );
+			}
+		}
+		return state.accepting;
+	}
+
+	private DeterministicState transition(DeterministicState state, int codePoint) {
+		SparseSet next = new SparseSet( kinds.length );
+		int[] stack = new int[2 * kinds.length + 1];
+		for ( int s : state.states ) {
+			if ( kinds[s] == CONSUME && predicates[s].test( codePoint ) ) {
+				addClosure( next, nexts[s], null, 0, stack );
+			}
+		}
+		return deterministicState( next );
+	}
+
+	private DeterministicState deterministicState(SparseSet closure) {
+		// only the consuming and accepting states tell deterministic states apart
+		int[] states = new int[closure.size];
+		int size = 0;
+		for ( int i = 0; i < closure.size; i++ ) {
+			int s = closure.dense[i];
+			if ( kinds[s] == CONSUME || kinds[s] == MATCH ) {
+				states[size++] = s;
+			}
+		}
+		states = Arrays.copyOf( states, size );
+		Arrays.sort( states );
+
+		StateSet stateSet = new StateSet( states );
+		DeterministicState state = deterministicStates.get( stateSet );
+		if ( state != null ) {
+			return state;
+		}
+
+		boolean accepting = hasMatch( states );
+		if ( deterministicStates.size() >= MAX_DETERMINISTIC_STATES ) {
+			return new DeterministicState( states, accepting, false );
+		}
+		return deterministicStates.computeIfAbsent( stateSet, key -> new DeterministicState( key.states(), accepting, true ) );
+	}
+
+	private boolean hasMatch(int[] states) {
+		for ( int s : states ) {
+			if ( kinds[s] == MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean simulate(CharSequence input) {
+		SparseSet current = new SparseSet( kinds.length );
+		SparseSet next = new SparseSet( kinds.length );
+		int[] stack = new int[2 * kinds.length + 1];
+
+		addClosure( current, start, input, 0, stack );
+		int length = input.length();
+		int position = 0;
+		while ( position < length ) {
+			int codePoint = Character.codePointAt( input, position );
+			int nextPosition = position + Character.charCount( codePoint );
+
+			next.clear();
+			for ( int i = 0; i < current.size; i++ ) {
+				int s = current.dense[i];
+				if ( kinds[s] == CONSUME && predicates[s].test( codePoint ) ) {
+					addClosure( next, nexts[s], input, nextPosition, stack );
+				}
+			}
+			if ( next.size == 0 ) {
+				return false;
+			}
+
+			SparseSet swap = current;
+			current = next;
+			next = swap;
+			position = nextPosition;
+		}
+
+		for ( int i = 0; i < current.size; i++ ) {
+			if ( kinds[current.dense[i]] == MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds a state and the states reachable from it without consuming a character.
+	 *
+	 * @param input the input, only used to check the boundaries, so {@code null} if the automaton has none
+	 */
+	private void addClosure(SparseSet set, int state, CharSequence input, int position, int[] stack) {
+		int top = 0;
+		stack[top++] = state;
+		while ( top > 0 ) {
+			int s = stack[--top];
+			if ( set.contains( s ) ) {
+				continue;
+			}
+			set.add( s );
+
+			if ( kinds[s] == SPLIT ) {
+				stack[top++] = alternatives[s];
+				stack[top++] = nexts[s];
+			}
+			else if ( kinds[s] == ASSERT && holds( assertions[s], input, position ) ) {
+				stack[top++] = nexts[s];
+			}
+		}
+	}
+
+	/**
+	 * @return whether the boundary holds at the given position, as checked by {@link java.util.regex.Pattern}
+	 */
+	private static boolean holds(Assertion assertion, CharSequence input, int position) {
+		int length = input.length();
+		switch ( assertion ) {
+			case BEGINNING:
+				return position == 0;
+			case END:
+				return position == length;
+			case END_BEFORE_UNIX_LINE_TERMINATOR:
+				return position == length || position == length - 1 && input.charAt( position ) == '\n';
+			default:
+				if ( position == length ) {
+					return true;
+				}
+				if ( position == length - 2 ) {
+					return input.charAt( position ) == '\r' && input.charAt( position + 1 ) == '\n';
+				}
+				if ( position == length - 1 ) {
+					char c = input.charAt( position );
+					if ( c == '\n' ) {
+						// not between \r and \n
+						return position == 0 || input.charAt( position - 1 ) != '\r';
+					}
+					return c == '\r' || c == '\u0085' || ( c | 1 ) == '\u2029';
+				}
+				return false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return regexp;
+	}
+
+	private static final class Builder {
+
+		private byte[] kinds = new byte[16];
+		private int[] nexts = new int[16];
+		private int[] alternatives = new int[16];
+		private IntPredicate[] predicates = new IntPredicate[16];
+		private Assertion[] assertions = new Assertion[16];
+		private int size;
+
+		/**
+		 * Compiles a node so that it continues with the given state.
+		 *
+		 * @return the first state of the node
+		 */
+		private int compile(Node node, int next) {
+			if ( node instanceof CharacterNode character ) {
+				return add( CONSUME, next, -1, character.predicate(), null );
+			}
+			if ( node instanceof SequenceNode sequence ) {
+				int first = next;
+				List<Node> nodes = sequence.nodes();
+				for ( int i = nodes.size() - 1; i >= 0; i-- ) {
+					first = compile( nodes.get( i ), first );
+				}
+				return first;
+			}
+			if ( node instanceof AlternationNode alternation ) {
+				List<Node> alternativeNodes = alternation.alternatives();
+				int first = compile( alternativeNodes.get( alternativeNodes.size() - 1 ), next );
+				for ( int i = alternativeNodes.size() - 2; i >= 0; i-- ) {
+					first = add( SPLIT, compile( alternativeNodes.get( i ), next ), first, null, null );
+				}
+				return first;
+			}
+			if ( node instanceof AssertionNode assertion ) {
+				return add( ASSERT, next, -1, null, assertion.assertion() );
+			}
+
+			RepetitionNode repetition = (RepetitionNode) node;
+			int first;
+			if ( repetition.max() == RepetitionNode.UNBOUNDED ) {
+				int loop = add( SPLIT, -1, next, null, null );
+				// compiling the repeated node may grow the arrays so it has to be done before accessing them
+				int body = compile( repetition.node(), loop );
+				nexts[loop] = body;
+				first = loop;
+			}
+			else {
+				// x{2,4} is compiled as x x (x (x)?)?
+				first = next;
+				for ( int i = repetition.min(); i < repetition.max(); i++ ) {
+					first = add( SPLIT, compile( repetition.node(), first ), next, null, null );
+				}
+			}
+			for ( int i = 0; i < repetition.min(); i++ ) {
+				first = compile( repetition.node(), first );
+			}
+			return first;
+		}
+
+		private int add(byte kind, int next, int alternative, IntPredicate predicate, Assertion assertion) {
+			if ( size == MAX_STATES ) {
+				throw new UnsupportedRegularExpressionException( "more than " + MAX_STATES + " states" );
+			}
+			if ( size == kinds.length ) {
+				int capacity = kinds.length * 2;
+				kinds = Arrays.copyOf( kinds, capacity );
+				nexts = Arrays.copyOf( nexts, capacity );
+				alternatives = Arrays.copyOf( alternatives, capacity );
+				predicates = Arrays.copyOf( predicates, capacity );
+				assertions = Arrays.copyOf( assertions, capacity );
+			}
+			kinds[size] = kind;
+			nexts[size] = next;
+			alternatives[size] = alternative;
+			predicates[size] = predicate;
+			assertions[size] = assertion;
+			return size++;
+		}
+	}
+
+	/**
+	 * A set of states, cleared in constant time.
+	 */
+	private static final class SparseSet {
+
+		private final int[] dense;
+		private final int[] sparse;
+		private int size;
+
+		private SparseSet(int capacity) {
+			this.dense = new int[capacity];
+			this.sparse = new int[capacity];
+		}
+
+		private boolean contains(int state) {
+			int index = sparse[state];
+			return index < size && dense[index] == state;
+		}
+
+		private void add(int state) {
+			sparse[state] = size;
+			dense[size++] = state;
+		}
+
+		private void clear() {
+			size = 0;
+		}
+	}
+
+	private record StateSet(int[] states) {
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof StateSet other && Arrays.equals( states, other.states );
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode( states );
+		}
+	}
+
+	private static final class DeterministicState {
+
+		private final int[] states;
+
+		private final boolean accepting;
+
+		private final boolean dead;
+
+		/**
+		 * Whether the state is kept, only the transitions to the kept states being cached.
+		 */
+		private final boolean kept;
+
+		private final DeterministicState[] asciiTransitions = new DeterministicState[ASCII_SIZE];
+
+		private final Map<Integer, DeterministicState> nonAsciiTransitions = new ConcurrentHashMap<>();
+
+		private DeterministicState(int[] states, boolean accepting, boolean kept) {
+			this.states = states;
+			this.accepting = accepting;
+			this.dead = states.length == 0;
+			this.kept = kept;
+		}
+	}
+}
@@ -0,0 +1,541 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the subset of the {@link Pattern} syntax supported by the {@link LinearRegularExpression}.
+ * <p>
+ * The expressions are expected to have been successfully compiled by {@link Pattern} beforehand: the parser only
+ * checks what it needs to tell the supported constructs apart. The characters are matched exactly as {@link Pattern}
+ * does, including for the case insensitive matching. Any construct not supported, or whose semantics would differ,
+ * raises an {@link UnsupportedRegularExpressionException}.
+ */
+final class LinearRegularExpressionParser {
+
+	private static final int UNSUPPORTED_FLAGS = Pattern.COMMENTS | Pattern.CANON_EQ | Pattern.LITERAL | Pattern.UNICODE_CHARACTER_CLASS;
+
+	/**
+	 * The maximum number of digits of the bounds of a repetition.
+	 */
+	private static final int MAX_REPETITION_DIGITS = 6;
+
+	private static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+
+	private static final IntPredicate WORD = c -> c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+
+	private static final IntPredicate SPACE = c -> c == ' ' || c >= '\t' && c <= '\r';
+
+	private final String regexp;
+
+	private final boolean caseInsensitive;
+
+	private final boolean unicodeCase;
+
+	private final boolean unixLines;
+
+	private final boolean multiline;
+
+	private final boolean dotAll;
+
+	private int position;
+
+	private LinearRegularExpressionParser(String regexp, int flags) {
+		this.regexp = regexp;
+		this.caseInsensitive = ( flags & Pattern.CASE_INSENSITIVE ) != 0;
+		this.unicodeCase = ( flags & Pattern.UNICODE_CASE ) != 0;
+		this.unixLines = ( flags & Pattern.UNIX_LINES ) != 0;
+		this.multiline = ( flags & Pattern.MULTILINE ) != 0;
+		this.dotAll = ( flags & Pattern.DOTALL ) != 0;
+	}
+
+	static Node parse(String regexp, int flags) {
+		if ( ( flags & UNSUPPORTED_FLAGS ) != 0 ) {
+			throw new UnsupportedRegularExpressionException( "unsupported flags" );
+		}
+		if ( regexp.contains( "\\Q" ) ) {
+			throw new UnsupportedRegularExpressionException( "quotation" );
+		}
+
+		LinearRegularExpressionParser parser = new LinearRegularExpressionParser( regexp, flags );
+		Node node = parser.alternation( true );
+		if ( parser.position < regexp.length() ) {
+			throw parser.unsupported( "unbalanced parenthesis" );
+		}
+		return node;
+	}
+
+	private Node alternation(boolean topLevel) {
+		List<Node> alternatives = new ArrayList<>();
+		alternatives.add( sequence( topLevel ) );
+		while ( peek() == '|' ) {
+			position++;
+			alternatives.add( sequence( topLevel ) );
+		}
+		return alternatives.size() == 1 ? alternatives.get( 0 ) : new AlternationNode( alternatives );
+	}
+
+	private Node sequence(boolean topLevel) {
+		List<Node> nodes = new ArrayList<>();
+		while ( position < regexp.length() && peek() != '|' && peek() != ')' ) {
+			nodes.add( quantifier( atom() ) );
+		}
+
+		if ( topLevel ) {
+			// a beginning boundary starting the expression always holds, an end boundary ending it holds whenever the
+			// entire input is matched: they are dropped so that most expressions are matched without boundaries
+			if ( !nodes.isEmpty() && nodes.get( 0 ) instanceof AssertionNode assertion && assertion.assertion() == Assertion.BEGINNING ) {
+				nodes.remove( 0 );
+			}
+			if ( !nodes.isEmpty() && nodes.get( nodes.size() - 1 ) instanceof AssertionNode assertion && assertion.assertion() != Assertion.BEGINNING ) {
+				nodes.remove( nodes.size() - 1 );
+			}
+		}
+
+		return nodes.size() == 1 ? nodes.get( 0 ) : new SequenceNode( nodes );
+	}
+
+	private Node atom() {
+		int c = nextCodePoint();
+		switch ( c ) {
+			case '(':
+				return group();
+			case '[':
+				return characterClass();
+			case '.':
+				return new CharacterNode( dot() );
+			case '^':
+				checkNotMultiline();
+				return new AssertionNode( Assertion.BEGINNING );
+			case '$':
+				checkNotMultiline();
+				return new AssertionNode( unixLines ? Assertion.END_BEFORE_UNIX_LINE_TERMINATOR : Assertion.END_BEFORE_LINE_TERMINATOR );
+			case '\\':
+				return escape();
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				throw unsupported( "dangling quantifier" );
+			default:
+				return new CharacterNode( single( c ) );
+		}
+	}
+
+	private Node quantifier(Node atom) {
+		int min;
+		int max;
+		switch ( peek() ) {
+			case '*':
+				min = 0;
+				max = RepetitionNode.UNBOUNDED;
+				break;
+			case '+':
+				min = 1;
+				max = RepetitionNode.UNBOUNDED;
+				break;
+			case '?':
+				min = 0;
+				max = 1;
+				break;
+			case '{':
+				position++;
+				min = repetitionBound();
+				if ( peek() == ',' ) {
+					position++;
+					max = peek() == '}' ? RepetitionNode.UNBOUNDED : repetitionBound();
+				}
+				else {
+					max = min;
+				}
+				if ( peek() != '}' || max != RepetitionNode.UNBOUNDED && max < min ) {
+					throw unsupported( "invalid repetition" );
+				}
+				break;
+			default:
+				return atom;
+		}
+		position++;
+
+		if ( atom instanceof AssertionNode ) {
+			throw unsupported( "quantified boundary" );
+		}
+		if ( peek() == '+' ) {
+			throw unsupported( "possessive quantifier" );
+		}
+		if ( peek() == '?' ) {
+			// a reluctant quantifier matches the same inputs as a greedy one
+			position++;
+		}
+
+		return new RepetitionNode( atom, min, max );
+	}
+
+	private int repetitionBound() {
+		int start = position;
+		while ( position < regexp.length() && regexp.charAt( position ) >= '0' && regexp.charAt( position ) <= '9' ) {
+			position++;
+		}
+		if ( position == start || position - start > MAX_REPETITION_DIGITS ) {
+			throw unsupported( "invalid repetition" );
+		}
+		return Integer.parseInt( regexp, start, position, 10 );
+	}
+
+	private Node group() {
+		if ( peek() == '?' ) {
+			position++;
+			int c = nextCodePoint();
+			if ( c == '<' && isAsciiLetter( peek() ) ) {
+				// named capturing group, the name is irrelevant as back references are not supported
+				while ( position < regexp.length() && regexp.charAt( position ) != '>' ) {
+					position++;
+				}
+				position++;
+			}
+			else if ( c != ':' ) {
+				throw unsupported( "group construct" );
+			}
+		}
+
+		Node node = alternation( false );
+		if ( peek() != ')' ) {
+			throw unsupported( "unbalanced parenthesis" );
+		}
+		position++;
+		return node;
+	}
+
+	private Node escape() {
+		int c = nextCodePoint();
+		switch ( c ) {
+			case 'A':
+				return new AssertionNode( Assertion.BEGINNING );
+			case 'z':
+				return new AssertionNode( Assertion.END );
+			case 'Z':
+				return new AssertionNode( unixLines ? Assertion.END_BEFORE_UNIX_LINE_TERMINATOR : Assertion.END_BEFORE_LINE_TERMINATOR );
+			default:
+				IntPredicate predefinedClass = predefinedClass( c );
+				if ( predefinedClass != null ) {
+					return new CharacterNode( predefinedClass );
+				}
+				return new CharacterNode( single( escapedCharacter( c ) ) );
+		}
+	}
+
+	private Node characterClass() {
+		boolean negated = false;
+		if ( peek() == '^' ) {
+			position++;
+			negated = true;
+		}
+		if ( peek() == ']' ) {
+			throw unsupported( "']' starting a class" );
+		}
+
+		// as for Pattern, the characters lower than 256 are kept in a table, the other ones in predicates
+		boolean[] latin1 = new boolean[256];
+		boolean hasLatin1 = false;
+		List<IntPredicate> predicates = new ArrayList<>();
+
+		while ( true ) {
+			if ( position >= regexp.length() ) {
+				throw unsupported( "unterminated class" );
+			}
+			int c = nextCodePoint();
+			if ( c == ']' ) {
+				break;
+			}
+			if ( c == '[' ) {
+				throw unsupported( "nested class" );
+			}
+			if ( c == '&' && peek() == '&' ) {
+				throw unsupported( "class intersection" );
+			}
+			if ( c == '\\' ) {
+				int escaped = nextCodePoint();
+				IntPredicate predefinedClass = predefinedClass( escaped );
+				if ( predefinedClass != null ) {
+					predicates.add( predefinedClass );
+					continue;
+				}
+				c = escapedCharacter( escaped );
+			}
+			checkNotSurrogate( c );
+
+			if ( peek() == '-' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+				if ( regexp.charAt( position + 1 ) == '[' || regexp.charAt( position + 1 ) == '&' ) {
+					throw unsupported( "ambiguous range" );
+				}
+				position++;
+				int end = nextCodePoint();
+				if ( end == '\\' ) {
+					end = escapedCharacter( nextCodePoint() );
+				}
+				checkNotSurrogate( end );
+				if ( end < c ) {
+					throw unsupported( "invalid range" );
+				}
+				predicates.add( range( c, end ) );
+			}
+			else if ( c < 256 && !( caseInsensitive && unicodeCase && hasSpecialUnicodeCase( c ) ) ) {
+				addLatin1( latin1, c );
+				hasLatin1 = true;
+			}
+			else {
+				predicates.add( single( c ) );
+			}
+		}
+
+		if ( hasLatin1 ) {
+			predicates.add( c -> c < 256 && latin1[c] );
+		}
+		IntPredicate predicate = union( predicates );
+		return new CharacterNode( negated ? predicate.negate() : predicate );
+	}
+
+	private IntPredicate dot() {
+		if ( dotAll ) {
+			return c -> true;
+		}
+		if ( unixLines ) {
+			return c -> c != '\n';
+		}
+		return c -> c != '\n' && c != '\r' && ( c | 1 ) != '\u2029' && c != '\u0085';
+	}
+
+	/**
+	 * @return the predicate of a single character, as built by {@code Pattern.single()}
+	 */
+	private IntPredicate single(int c) {
+		checkNotSurrogate( c );
+		if ( caseInsensitive ) {
+			if ( unicodeCase ) {
+				int upper = Character.toUpperCase( c );
+				int lower = Character.toLowerCase( upper );
+				if ( upper != lower ) {
+					return ch -> ch == lower || Character.toLowerCase( Character.toUpperCase( ch ) ) == lower;
+				}
+			}
+			else if ( isAsciiLetter( c ) ) {
+				int lower = asciiToLowerCase( c );
+				int upper = asciiToUpperCase( c );
+				return ch -> ch == lower || ch == upper;
+			}
+		}
+		return ch -> ch == c;
+	}
+
+	/**
+	 * @return the predicate of a range of characters, as built by {@code Pattern.range()}
+	 */
+	private IntPredicate range(int lower, int upper) {
+		if ( caseInsensitive ) {
+			if ( unicodeCase ) {
+				return ch -> {
+					if ( ch >= lower && ch <= upper ) {
+						return true;
+					}
+					int upperCase = Character.toUpperCase( ch );
+					int lowerCase = Character.toLowerCase( upperCase );
+					return upperCase >= lower && upperCase <= upper || lowerCase >= lower && lowerCase <= upper;
+				};
+			}
+			return ch -> ch >= lower && ch <= upper
+					|| ch < 128 && ( asciiToUpperCase( ch ) >= lower && asciiToUpperCase( ch ) <= upper
+							|| asciiToLowerCase( ch ) >= lower && asciiToLowerCase( ch ) <= upper );
+		}
+		return ch -> ch >= lower && ch <= upper;
+	}
+
+	/**
+	 * Adds a character lower than 256 to the table of a class, as done by {@code Pattern.BitClass.add()}.
+	 */
+	private void addLatin1(boolean[] latin1, int c) {
+		if ( caseInsensitive ) {
+			if ( c < 128 ) {
+				latin1[asciiToUpperCase( c )] = true;
+				latin1[asciiToLowerCase( c )] = true;
+			}
+			else if ( unicodeCase ) {
+				latin1[Character.toLowerCase( c )] = true;
+				latin1[Character.toUpperCase( c )] = true;
+			}
+		}
+		latin1[c] = true;
+	}
+
+	private int escapedCharacter(int c) {
+		switch ( c ) {
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 'f':
+				return '\f';
+			case 'a':
+				return '\u0007';
+			case 'e':
+				return '\u001B';
+			case 'x':
+				if ( peek() == '{' ) {
+					position++;
+					int end = regexp.indexOf( '}', position );
+					if ( end < 0 ) {
+						throw unsupported( "invalid hexadecimal escape" );
+					}
+					int codePoint = hexadecimal( end - position );
+					position++;
+					return codePoint;
+				}
+				return hexadecimal( 2 );
+			case 'u':
+				return hexadecimal( 4 );
+			default:
+				if ( c < 128 && Character.isLetterOrDigit( c ) ) {
+					throw unsupported( "escape \\" + (char) c );
+				}
+				return c;
+		}
+	}
+
+	private int hexadecimal(int digits) {
+		if ( digits < 1 || digits > 6 || position + digits > regexp.length() ) {
+			throw unsupported( "invalid hexadecimal escape" );
+		}
+		int value = 0;
+		for ( int i = 0; i < digits; i++ ) {
+			int digit = Character.digit( regexp.charAt( position++ ), 16 );
+			if ( digit < 0 ) {
+				throw unsupported( "invalid hexadecimal escape" );
+			}
+			value = value * 16 + digit;
+		}
+		if ( value > Character.MAX_CODE_POINT ) {
+			throw unsupported( "invalid hexadecimal escape" );
+		}
+		return value;
+	}
+
+	private static IntPredicate predefinedClass(int c) {
+		switch ( c ) {
+			case 'd':
+				return DIGIT;
+			case 'D':
+				return DIGIT.negate();
+			case 'w':
+				return WORD;
+			case 'W':
+				return WORD.negate();
+			case 's':
+				return SPACE;
+			case 'S':
+				return SPACE.negate();
+			default:
+				return null;
+		}
+	}
+
+	private static IntPredicate union(List<IntPredicate> predicates) {
+		if ( predicates.isEmpty() ) {
+			return c -> false;
+		}
+		IntPredicate union = predicates.get( 0 );
+		for ( int i = 1; i < predicates.size(); i++ ) {
+			union = union.or( predicates.get( i ) );
+		}
+		return union;
+	}
+
+	/**
+	 * @return whether the case variants of the given character lower than 256 are not all lower than 256, in which
+	 * case {@link Pattern} matches it as a single character rather than through the table of the class
+	 */
+	private static boolean hasSpecialUnicodeCase(int c) {
+		return c == 0xff || c == 0xb5 || c == 'I' || c == 'i' || c == 'S' || c == 's' || c == 'K' || c == 'k' || c == 0xc5 || c == 0xe5;
+	}
+
+	private static boolean isAsciiLetter(int c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
+
+	private static int asciiToLowerCase(int c) {
+		return c >= 'A' && c <= 'Z' ? c + 0x20 : c;
+	}
+
+	private static int asciiToUpperCase(int c) {
+		return c >= 'a' && c <= 'z' ? c - 0x20 : c;
+	}
+
+	private void checkNotMultiline() {
+		if ( multiline ) {
+			throw unsupported( "multiline boundary" );
+		}
+	}
+
+	private void checkNotSurrogate(int c) {
+		if ( c <= Character.MAX_VALUE && Character.isSurrogate( (char) c ) ) {
+			throw unsupported( "surrogate character" );
+		}
+	}
+
+	private int peek() {
+		return position < regexp.length() ? regexp.charAt( position ) : -1;
+	}
+
+	private int nextCodePoint() {
+		if ( position >= regexp.length() ) {
+			throw unsupported( "unexpected end" );
+		}
+		int c = regexp.codePointAt( position );
+		position += Character.charCount( c );
+		return c;
+	}
+
+	private UnsupportedRegularExpressionException unsupported(String construct) {
+		return new UnsupportedRegularExpressionException( construct + " at index " + position );
+	}
+
+	interface Node {
+	}
+
+	record CharacterNode(IntPredicate predicate) implements Node {
+	}
+
+	record SequenceNode(List<Node> nodes) implements Node {
+	}
+
+	record AlternationNode(List<Node> alternatives) implements Node {
+	}
+
+	record RepetitionNode(Node node, int min, int max) implements Node {
+
+		static final int UNBOUNDED = -1;
+	}
+
+	record AssertionNode(Assertion assertion) implements Node {
+	}
+
+	enum Assertion {
+		BEGINNING,
+		END,
+		/**
+		 * The end of the input or before a line terminator ending the input, as {@code $} without the
+		 * {@code MULTILINE} flag.
+		 */
+		END_BEFORE_LINE_TERMINATOR,
+		/**
+		 * As {@link #END_BEFORE_LINE_TERMINATOR} with the {@code UNIX_LINES} flag.
+		 */
+		END_BEFORE_UNIX_LINE_TERMINATOR
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import org.hibernate.validator.engine.RegularExpressionEngine;
+
+/**
+ * A compiled regular expression, matched by one of the {@link RegularExpressionEngine}s.
+ * <p>
+ * Implementations are thread-safe.
+ *
+ * @see RegularExpressions#compile(String, int, RegularExpressionEngine)
+ */
+public interface RegularExpression {
+
+	/**
+	 * @param input the character sequence to match
+	 * @return {@code true} if the entire input matches the regular expression, as for
+	 * {@link java.util.regex.Matcher#matches()}
+	 */
+	boolean matches(CharSequence input);
+
+	/**
+	 * @return the engine matching this regular expression, which is {@link RegularExpressionEngine#BACKTRACKING} for
+	 * the expressions not supported by the linear engine
+	 */
+	RegularExpressionEngine getEngine();
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.validation.Payload;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.RegularExpressionEngine;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Compiles the regular expressions of the constraints with a given {@link RegularExpressionEngine}.
+ */
+public final class RegularExpressions {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private RegularExpressions() {
+	}
+
+	/**
+	 * Compiles a regular expression.
+	 * <p>
+	 * The expression is always compiled by {@link Pattern} first, so that an invalid expression is reported the same
+	 * way whatever the engine. With the {@link RegularExpressionEngine#LINEAR} engine, the expressions not supported
+	 * by the linear engine are matched by {@link Pattern}.
+	 *
+	 * @param regexp the regular expression, using the {@link Pattern} syntax
+	 * @param flags the {@link Pattern} flags
+	 * @param engine the engine to use
+	 * @return the compiled regular expression
+	 * @throws PatternSyntaxException if the expression is invalid
+	 */
+	public static RegularExpression compile(String regexp, int flags, RegularExpressionEngine engine) {
+		Pattern pattern = Pattern.compile( regexp, flags );
+
+		if ( engine == RegularExpressionEngine.LINEAR ) {
+			try {
+				return LinearRegularExpression.compile( regexp, flags );
+			}
+			catch (UnsupportedRegularExpressionException e) {
+				LOG.unsupportedLinearRegularExpression( regexp, e.getMessage() );
+			}
+		}
+
+		return new BacktrackingRegularExpression( pattern );
+	}
+
+	/**
+	 * @return the engine set for the given constraint with the {@link RegularExpressionEngine.Linear} or
+	 * {@link RegularExpressionEngine.Backtracking} payloads if any, the engine of the initialization context otherwise
+	 */
+	public static RegularExpressionEngine getEngine(ConstraintDescriptor<?> constraintDescriptor,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		Set<Class<? extends Payload>> payload = constraintDescriptor.getPayload();
+		if ( payload.contains( RegularExpressionEngine.Linear.class ) ) {
+			return RegularExpressionEngine.LINEAR;
+		}
+		if ( payload.contains( RegularExpressionEngine.Backtracking.class ) ) {
+			return RegularExpressionEngine.BACKTRACKING;
+		}
+		return initializationContext.getRegularExpressionEngine();
+	}
+
+	private record BacktrackingRegularExpression(Pattern pattern) implements RegularExpression {
+
+		@Override
+		public boolean matches(CharSequence input) {
+			return pattern.matcher( input ).matches();
+		}
+
+		@Override
+		public RegularExpressionEngine getEngine() {
+			return RegularExpressionEngine.BACKTRACKING;
+		}
+
+		@Override
+		public String toString() {
+			return pattern.pattern();
+		}
+	}
+}
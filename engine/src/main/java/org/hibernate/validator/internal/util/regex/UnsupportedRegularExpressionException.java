@@ -0,0 +1,15 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+/**
+ * Thrown when a regular expression uses a construct not supported by the linear engine.
+ */
+final class UnsupportedRegularExpressionException extends RuntimeException {
+
+	UnsupportedRegularExpressionException(String reason) {
+		super( reason, null, false, false );
+	}
+}
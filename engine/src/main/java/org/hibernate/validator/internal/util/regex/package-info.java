@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Contains the engines matching the regular expressions of the constraints.
+ */
+package org.hibernate.validator.internal.util.regex;
@@ -140,13 +140,11 @@ <A extends Annotation> MetaConstraint<A> build(ConstraintLocation constraintLoca
 
 		// we set initially ConstraintOrigin.DEFINED_LOCALLY for all xml configured constraints
 		// later we will make copies of this constraint descriptor when needed and adjust the ConstraintOrigin
-		ConstraintDescriptorImpl<A> constraintDescriptor = new ConstraintDescriptorImpl<>(
+		ConstraintDescriptorImpl<A> constraintDescriptor = constraintCreationContext.getConstraintMetaDataInterner().getConstraintDescriptor(
 				constraintCreationContext.getConstraintHelper(), constraintLocation.getConstrainable(), annotationDescriptor, kind, constraintType
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, constraintLocation );
+		return MetaConstraints.create( constraintCreationContext, constraintDescriptor, constraintLocation );
 	}
 
 	private static class MessageStaxBuilder extends AbstractOneLineStringStaxBuilder {
@@ -137,6 +137,10 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 	}
 
 	/**
+	 * The expression factory may be {@code null} if no Expression Language implementation is available: the simple
+	 * expressions such as {@code ${validatedValue}} or {@code ${formatter.format('%1$.2f', validatedValue)}} are
+	 * still interpolated, the other ones are left as is.
+	 *
 	 * @since 6.1.1
 	 */
 	@Incubating
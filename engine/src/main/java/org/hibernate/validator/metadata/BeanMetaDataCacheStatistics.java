@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Statistics of the cache holding the metadata of the beans validated by a validator factory.
+ * <p>
+ * The statistics are a snapshot taken when
+ * {@link org.hibernate.validator.HibernateValidatorFactory#getBeanMetaDataCacheStatistics()} is called.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface BeanMetaDataCacheStatistics {
+
+	/**
+	 * @return the retention of the bean metadata
+	 */
+	BeanMetaDataRetention getRetention();
+
+	/**
+	 * @return the number of bean metadata currently cached
+	 */
+	int getSize();
+
+	/**
+	 * @return the number of bean metadata built and added to the cache since the validator factory was created,
+	 * including the ones built again after having been evicted
+	 */
+	long getBuildCount();
+
+	/**
+	 * Returns the number of bean metadata evicted from the cache since the validator factory was created, either
+	 * because they were collected by the garbage collector with the {@link BeanMetaDataRetention#SOFT soft}
+	 * retention, or because the maximum size of the cache was reached with the
+	 * {@link BeanMetaDataRetention#BOUNDED bounded} retention.
+	 *
+	 * @return the number of evicted bean metadata
+	 */
+	long getEvictionCount();
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Defines how long the metadata of the validated beans are kept once built.
+ * <p>
+ * The predefined scope validator factory always keeps the metadata of all its beans, whatever the retention.
+ *
+ * @since 9.2
+ */
+@Incubating
+public enum BeanMetaDataRetention {
+
+	/**
+	 * The metadata are kept until the validator factory is closed.
+	 * <p>
+	 * This avoids building the metadata of a bean more than once but the classes of the validated beans cannot be
+	 * unloaded before the validator factory is closed.
+	 */
+	STRONG( "strong" ),
+
+	/**
+	 * The metadata are softly referenced: they might be collected by the garbage collector under memory pressure, in
+	 * which case they are built again the next time the bean is validated.
+	 * <p>
+	 * This is the default retention.
+	 */
+	SOFT( "soft" ),
+
+	/**
+	 * The metadata of at most {@code maxSize} beans are kept, the metadata of the beans which were not validated
+	 * recently being evicted first.
+	 */
+	BOUNDED( "bounded" );
+
+	private final String externalRepresentation;
+
+	BeanMetaDataRetention(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static BeanMetaDataRetention of(String value) {
+		for ( BeanMetaDataRetention retention : values() ) {
+			if ( retention.externalRepresentation.equals( value ) ) {
+				return retention;
+			}
+		}
+
+		return BeanMetaDataRetention.valueOf( value );
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * The footprint of the constraint metadata currently kept by a validator factory.
+ * <p>
+ * Structurally equal constraint metadata are shared by the constrained elements, so the numbers of distinct
+ * constraint descriptors, constraint trees and constraint validators are usually much lower than the number of
+ * constraints.
+ * <p>
+ * The footprint covers the constraints of the beans and of their properties. The constraints of the methods and
+ * constructors are not included as their metadata are only built when the executables are validated.
+ * <p>
+ * The footprint is a snapshot taken when {@link org.hibernate.validator.HibernateValidatorFactory#getMetaDataFootprint()}
+ * is called.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface MetaDataFootprint {
+
+	/**
+	 * @return the number of beans whose metadata are currently kept
+	 */
+	int getBeanCount();
+
+	/**
+	 * @return the number of distinct constraints of the beans and their properties, each one being specific to the
+	 * constrained element
+	 */
+	int getConstraintCount();
+
+	/**
+	 * @return the number of distinct constraint descriptors referenced by the constraints, including the descriptors
+	 * of the composing constraints
+	 */
+	int getConstraintDescriptorCount();
+
+	/**
+	 * @return the number of distinct constraint trees referenced by the constraints, including the trees of the
+	 * composing constraints
+	 */
+	int getConstraintTreeCount();
+
+	/**
+	 * @return the number of distinct initialized constraint validators referenced by the constraint trees
+	 */
+	int getConstraintValidatorCount();
+
+	/**
+	 * @return the number of times an existing annotation descriptor, constraint descriptor or constraint tree was
+	 * reused instead of a new one being kept since the validator factory was created
+	 */
+	long getDeduplicatedInstanceCount();
+
+	/**
+	 * Returns a rough estimate of the heap retained by the metadata, computed from average sizes of the instances
+	 * counted above on a 64-bit JVM with compressed references.
+	 * <p>
+	 * The estimate is meant to compare configurations and to follow the evolution of the footprint, not to be exact.
+	 *
+	 * @return the estimated retained size in bytes
+	 */
+	long getEstimatedRetainedSize();
+}
@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.scripting;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.SimpleBindings;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A wrapper around JSR 223 {@link ScriptEngine}s compiling each script once, if the engine implements
+ * {@link Compilable}. This class is thread-safe.
+ * <p>
+ * Contrary to {@link ScriptEngineScriptEvaluator}, the evaluations are never synchronized on a single engine:
+ * <ul>
+ * <li>if the engine allows concurrent evaluations, i.e. if its {@code THREADING} parameter is
+ * {@code MULTITHREADED}, {@code THREAD-ISOLATED} or {@code STATELESS}, a single engine is used by all the threads and
+ * the compiled scripts are shared;</li>
+ * <li>otherwise, the engines are pooled: each evaluation borrows an engine, with its own compiled scripts, from a pool
+ * of at most {@code maxPoolSize} engines, waiting for an engine to be returned when they are all in use.</li>
+ * </ul>
+ * <p>
+ * The bindings of each evaluation are in a new engine scope, so that an evaluation does not see the variables of
+ * another one.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class CompiledScriptEngineScriptEvaluator implements ScriptEvaluator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final Supplier<ScriptEngine> engineSupplier;
+
+	/**
+	 * The engine used by all the threads if it allows concurrent evaluations, {@code null} otherwise.
+	 */
+	private final CompilingEngine sharedEngine;
+
+	private final BlockingQueue<CompilingEngine> idleEngines;
+
+	private final AtomicInteger createdEngineCount = new AtomicInteger();
+
+	private final int maxPoolSize;
+
+	/**
+	 * Creates a new script evaluator.
+	 *
+	 * @param engineSupplier provides a new engine each time it is called, e.g.
+	 * {@code () -> scriptEngineManager.getEngineByName( "groovy" )}
+	 * @param maxPoolSize the maximum number of engines created if the engines do not allow concurrent evaluations
+	 */
+	public CompiledScriptEngineScriptEvaluator(Supplier<ScriptEngine> engineSupplier, int maxPoolSize) {
+		Contracts.assertNotNull( engineSupplier, "engineSupplier" );
+		Contracts.assertTrue( maxPoolSize > 0, "maxPoolSize must be positive" );
+
+		this.engineSupplier = engineSupplier;
+		this.maxPoolSize = maxPoolSize;
+
+		ScriptEngine engine = newEngine();
+		CompilingEngine firstEngine = new CompilingEngine( engine,
+				allowsConcurrentEvaluations( (String) engine.getFactory().getParameter( "THREADING" ) ) );
+		if ( firstEngine.concurrent ) {
+			this.sharedEngine = firstEngine;
+			this.idleEngines = null;
+		}
+		else {
+			this.sharedEngine = null;
+			this.idleEngines = new ArrayBlockingQueue<>( maxPoolSize );
+			this.idleEngines.add( firstEngine );
+			this.createdEngineCount.set( 1 );
+		}
+	}
+
+	/**
+	 * Evaluates the given script, using the given variable bindings. The script is compiled the first time it is
+	 * evaluated by a given engine.
+	 *
+	 * @param script the script to be executed
+	 * @param bindings the bindings to be used
+	 *
+	 * @return the script's result
+	 *
+	 * @throws ScriptEvaluationException in case an error occurred during the script evaluation
+	 */
+	@Override
+	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+		if ( sharedEngine != null ) {
+			return sharedEngine.evaluate( script, bindings );
+		}
+
+		CompilingEngine engine = borrowEngine( script );
+		try {
+			return engine.evaluate( script, bindings );
+		}
+		finally {
+			idleEngines.offer( engine );
+		}
+	}
+
+	/**
+	 * @return the number of engines created by this evaluator
+	 */
+	public int getEngineCount() {
+		return sharedEngine != null ? 1 : createdEngineCount.get();
+	}
+
+	private CompilingEngine borrowEngine(String script) {
+		CompilingEngine engine = idleEngines.poll();
+		if ( engine != null ) {
+			return engine;
+		}
+
+		int engineCount = createdEngineCount.get();
+		while ( engineCount < maxPoolSize ) {
+			if ( createdEngineCount.compareAndSet( engineCount, engineCount + 1 ) ) {
+				return new CompilingEngine( newEngine(), false );
+			}
+			engineCount = createdEngineCount.get();
+		}
+
+		try {
+			return idleEngines.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw LOG.getErrorExecutingScriptException( script, e );
+		}
+	}
+
+	private ScriptEngine newEngine() {
+		ScriptEngine engine = engineSupplier.get();
+		Contracts.assertNotNull( engine, "The engine supplier returned a null engine" );
+		return engine;
+	}
+
+	private static boolean allowsConcurrentEvaluations(String threading) {
+		return "MULTITHREADED".equals( threading ) || "THREAD-ISOLATED".equals( threading ) || "STATELESS".equals( threading );
+	}
+
+	/**
+	 * An engine with the scripts it compiled.
+	 */
+	private static final class CompilingEngine {
+
+		private final ScriptEngine engine;
+
+		private final boolean concurrent;
+
+		private final Map<String, CompiledScript> compiledScripts;
+
+		private CompilingEngine(ScriptEngine engine, boolean concurrent) {
+			this.engine = engine;
+			this.concurrent = concurrent;
+			// a pooled engine is only used by one thread at a time
+			this.compiledScripts = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+		}
+
+		private Object evaluate(String script, Map<String, Object> bindings) {
+			try {
+				if ( engine instanceof Compilable compilable ) {
+					CompiledScript compiledScript = compiledScripts.get( script );
+					if ( compiledScript == null ) {
+						compiledScript = compilable.compile( script );
+						compiledScripts.put( script, compiledScript );
+					}
+					return compiledScript.eval( new SimpleBindings( bindings ) );
+				}
+				return engine.eval( script, new SimpleBindings( bindings ) );
+			}
+			catch (Exception e) {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.scripting;
+
+import java.lang.invoke.MethodHandles;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.actions.GetClassLoader;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Factory creating {@link CompiledScriptEngineScriptEvaluator}s, which compile each script once and do not
+ * synchronize the evaluations on a single engine. This class is thread-safe.
+ * <p>
+ * It can be selected with the {@code hibernate.validator.script_evaluator_factory} property, in which case the
+ * engines are looked up with the class loader of Hibernate Validator, then with the thread context class loader, and
+ * at most one engine per available processor is created for the engines not allowing concurrent evaluations.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class CompiledScriptEvaluatorFactory extends AbstractCachingScriptEvaluatorFactory {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final int maxPoolSize;
+
+	private ClassLoader classLoader;
+
+	private volatile ScriptEngineManager scriptEngineManager;
+
+	private volatile ScriptEngineManager threadContextClassLoaderScriptEngineManager;
+
+	public CompiledScriptEvaluatorFactory() {
+		this( null, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * @param externalClassLoader the class loader used to look up the engines, the class loader of Hibernate Validator
+	 * being used if {@code null}
+	 * @param maxPoolSize the maximum number of engines created per language if the engines do not allow concurrent
+	 * evaluations
+	 */
+	public CompiledScriptEvaluatorFactory(ClassLoader externalClassLoader, int maxPoolSize) {
+		Contracts.assertTrue( maxPoolSize > 0, "maxPoolSize must be positive" );
+
+		this.classLoader = externalClassLoader == null ? CompiledScriptEvaluatorFactory.class.getClassLoader() : externalClassLoader;
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+
+		classLoader = null;
+		scriptEngineManager = null;
+		threadContextClassLoaderScriptEngineManager = null;
+	}
+
+	@Override
+	protected ScriptEvaluator createNewScriptEvaluator(String languageName) throws ScriptEvaluatorNotFoundException {
+		ScriptEngine engine = getScriptEngineManager().getEngineByName( languageName );
+
+		// fall back to the TCCL
+		if ( engine == null ) {
+			engine = getThreadContextClassLoaderScriptEngineManager().getEngineByName( languageName );
+		}
+
+		if ( engine == null ) {
+			throw LOG.getUnableToFindScriptEngineException( languageName );
+		}
+
+		// the evaluator creates its engines directly from the factory of the engine found
+		ScriptEngineFactory engineFactory = engine.getFactory();
+		return new CompiledScriptEngineScriptEvaluator( engineFactory::getScriptEngine, maxPoolSize );
+	}
+
+	private ScriptEngineManager getScriptEngineManager() {
+		if ( scriptEngineManager == null ) {
+			synchronized (this) {
+				if ( scriptEngineManager == null ) {
+					scriptEngineManager = new ScriptEngineManager( classLoader );
+				}
+			}
+		}
+		return scriptEngineManager;
+	}
+
+	private ScriptEngineManager getThreadContextClassLoaderScriptEngineManager() {
+		if ( threadContextClassLoaderScriptEngineManager == null ) {
+			synchronized (this) {
+				if ( threadContextClassLoaderScriptEngineManager == null ) {
+					threadContextClassLoaderScriptEngineManager = new ScriptEngineManager( GetClassLoader.fromContext() );
+				}
+			}
+		}
+		return threadContextClassLoaderScriptEngineManager;
+	}
+}
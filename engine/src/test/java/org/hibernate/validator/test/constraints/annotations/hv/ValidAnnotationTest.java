@@ -211,7 +211,7 @@ public void setEmail(String email) {
 	}
 
 	@Test
-	public void onGetter() {
+	public void onGetter() throws NoSuchMethodException {
 		class Foo {
 
 			private List<String> prop;
@@ -228,6 +228,12 @@ public Foo(List<String> prop) {
 		Foo foo = new Foo( List.of( "K1" ) );
 		validator.validate( foo );
 
+		// the executable metadata are only built when the executables are validated, so the getter is only processed
+		// as a property for now:
+		assertThat( logAppender.getMessages() ).hasSize( 1 ).allMatch( ValidAnnotationTest::deprecatedUsedOfValueCode );
+
+		validator.forExecutables().validateReturnValue( foo, Foo.class.getMethod( "getProp" ), foo.getProp() );
+
 		// getter is processed as a property an as an executable so there will be 2 warnings:
 		assertThat( logAppender.getMessages() ).hasSize( 2 ).allMatch( ValidAnnotationTest::deprecatedUsedOfValueCode );
 	}
@@ -51,6 +51,7 @@
 import org.hibernate.validator.constraints.Currency;
 import org.hibernate.validator.constraints.DateTimeFormat;
 import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.ExpressionAssert;
 import org.hibernate.validator.constraints.ISBN;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -158,6 +159,7 @@ public void testMessageProperties() throws NoSuchMethodException, SecurityExcept
 							violationOf( Currency.class ),
 							violationOf( DateTimeFormat.class ),
 							violationOf( EAN.class ),
+							violationOf( ExpressionAssert.class ),
 							violationOf( ISBN.class ),
 							violationOf( Length.class ),
 							violationOf( CodePointLength.class ),
@@ -221,6 +223,7 @@ private void collectInvalidMessages(Locale locale, List<String> invalidMessages,
 	}
 
 	@ScriptAssert(lang = "groovy", script = "_this.scriptAssert")
+	@ExpressionAssert(expression = "scriptAssert")
 	private static class Bean {
 
 		@AssertFalse
@@ -50,6 +50,7 @@
 import org.hibernate.validator.constraints.Currency;
 import org.hibernate.validator.constraints.DateTimeFormat;
 import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.ExpressionAssert;
 import org.hibernate.validator.constraints.ISBN;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -116,6 +117,7 @@ public void testConstraints() throws NoSuchMethodException, SecurityException {
 		testConstraint( CreditCardNumber.class, new CreditCardNumberBean() );
 		testConstraint( Currency.class, new CurrencyBean() );
 		testConstraint( EAN.class, new EANBean() );
+		testConstraint( ExpressionAssert.class, new ExpressionAssertBean() );
 		testConstraint( ISBN.class, new ISBNBean() );
 		testConstraint( Length.class, new LengthBean() );
 		testConstraint( CodePointLength.class, new CodePointLengthBean() );
@@ -488,6 +490,13 @@ private static class ScriptAssertBean {
 		private boolean scriptAssert = false;
 	}
 
+	@ExpressionAssert(expression = "expressionAssert")
+	private static class ExpressionAssertBean {
+
+		@SuppressWarnings("unused")
+		private boolean expressionAssert = false;
+	}
+
 	private static class ParameterScriptAssertBean {
 
 		@ParameterScriptAssert(lang = "groovy", script = "test")
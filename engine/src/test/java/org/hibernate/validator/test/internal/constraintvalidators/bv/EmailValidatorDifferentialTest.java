@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.testng.Assert.assertEquals;
+
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the scanners of {@link EmailValidator} accept the same emails as the regular expressions they replaced.
+ */
+public class EmailValidatorDifferentialTest {
+
+	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+	private static final String LOCAL_PART = "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+			"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*";
+	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile( LOCAL_PART, CASE_INSENSITIVE );
+
+	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+	private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
+	private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
+	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+	private static final String IP_V6_DOMAIN =
+			"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+	);
+
+	private static final String[] EMAILS = {
+			"", "@", "a@", "@b", "a@b", "emmanuel@hibernate.org", "emma-n_uel@hibernate", "emma+nuel@hibernate.org",
+			"emma=nuel@hibernate.org", "emmanuel@[123.12.2.11]", "*@example.net", "fred&barny@example.com",
+			"---@example.com", "foo-bar@example.net", "mailbox.sub1.sub2@this-domain", "prettyandsimple@example.com",
+			"very.common@example.com", "disposable.style.email.with+symbol@example.com", "other.email-with-dash@example.com",
+			"x@example.com", "\"much.more unusual\"@example.com", "\"very.unusual.@.unusual.com\"@example.com",
+			"\"very.(),:;<>[]\\\".VERY.\\\"very@\\\\ \\\"very\\\".unusual\"@strange.example.com", "example-indeed@strange-example.com",
+			"admin@mailserver1", "#!$%&'*+-/=?^_`{}|~@example.org", "\"()<>[]:,;@\\\\\\\"!#$%&'-/=?^_`{}| ~.a\"@example.org",
+			"\" \"@example.org", "example@localhost", "example@s.solutions", "user@localserver", "user@tt", "user@[IPv6:2001:DB8::1]",
+			"Abc.example.com", "A@b@c@example.com", "a\"b(c)d,e:f;g<h>i[j\\k]l@example.com", "just\"not\"right@example.com",
+			"this is\"not\\allowed@example.com", "this\\ still\\\"not\\\\allowed@example.com", "john..doe@example.com",
+			"john.doe@example..com", " john.doe@example.com", "john.doe@example.com ", "me.@example.com", ".me@example.com",
+			"\"\"@example.com", "\"a\"b@example.com", "\"a\".b@example.com", "a.\"b\"@example.com", "\"a\\\"@example.com",
+			"\"a\\\\\"@example.com", "\"a\\b\"@example.com", "\"a@b\"@example.com", "a@example.com.", "a@.example.com",
+			"a@-example.com", "a@example-.com", "a@ex--ample.com", "a@exa_mple.com", "a@xn--fken-gra.no", "a@\u00f6stereich.at",
+			"\u03b8\u03c3\u03b5\u03c1@\u03b5\u03c7\u03b1\u03bc\u03c0\u03bb\u03b5.\u03c8\u03bf\u03bc", "\u0130@example.com",
+			"a@\u0130.com", "a@ex\u3002ample.com", "a@example\u3002", "a@ex\uff0eample.com", "a@\ud83d\ude00.com", "\ud83d\ude00@example.com",
+			"a@\ud83d.com", "a@x\ude00.com", "\ud83d@example.com", "\"\ud83d\ude00\"@example.com", "\"\ud83d\"@example.com",
+			"a@\u212a.com", "\u212a@example.com", "a@\u00a0.com", "\"\u00a0\"@example.com", "a\tb@example.com", "a@exam\tple.com",
+			"a@[1.2.3.4]", "a@[1.2.3]", "a@[1.2.3.4.5]", "a@[1234.2.3.4]", "a@[999.999.999.999]", "a@[.1.2.3]", "a@[1.2.3.4",
+			"a@1.2.3.4]", "a@[]", "a@[", "a@]", "a@[IPv6:]", "a@[IPv6:::]", "a@[IPv6:::1]", "a@[IPv6:1::]", "a@[ipv6:1::]",
+			"a@[IPV6:1::]", "a@[IPv6:1:2:3:4:5:6:7:8]", "a@[IPv6:1:2:3:4:5:6:7:8:9]", "a@[IPv6:1:2:3:4:5:6:7]",
+			"a@[IPv6:1:2:3:4:5:6:7::]", "a@[IPv6:1:2:3:4:5:6::7]", "a@[IPv6:1:2:3:4:5:6:7::8]", "a@[IPv6:::1:2:3:4:5:6:7]",
+			"a@[IPv6:::1:2:3:4:5:6:7:8]", "a@[IPv6:1::2::3]", "a@[IPv6::::1]", "a@[IPv6:1:::2]", "a@[IPv6:12345::]",
+			"a@[IPv6:g::]", "a@[IPv6:fe80::1%eth0]", "a@[IPv6:FE80::1%eth0]", "a@[IPv6:fe80:%eth0]", "a@[IPv6:fe80::%]",
+			"a@[IPv6:fe80::1%eth0%1]", "a@[IPv6:fe80:1:2:3:4:5%eth0]", "a@[IPv6:fe80::1:2:3%eth0]", "a@[IPv6:fe80:::::%e]",
+			"a@[IPv6:fe80::12345%e]", "a@[IPv6:fe8::1%e]", "a@[IPv6:fe80::1%\u00e9]", "a@[IPv6:::1.2.3.4]",
+			"a@[IPv6:::ffff:1.2.3.4]", "a@[IPv6:::FFFF:1.2.3.4]", "a@[IPv6:::ffff:0:1.2.3.4]", "a@[IPv6:::ffff:0000:1.2.3.4]",
+			"a@[IPv6:::ffff:00000:1.2.3.4]", "a@[IPv6:::ffff:1:1.2.3.4]", "a@[IPv6:::fff:1.2.3.4]", "a@[IPv6:::ffff::1.2.3.4]",
+			"a@[IPv6:1::1.2.3.4]", "a@[IPv6:1:2:3:4::1.2.3.4]", "a@[IPv6:1:2:3:4:5::1.2.3.4]", "a@[IPv6:1:2::3.4.5.6]",
+			"a@[IPv6:::255.255.255.255]", "a@[IPv6:::256.1.1.1]", "a@[IPv6:::249.1.1.1]", "a@[IPv6:::199.01.1.1]",
+			"a@[IPv6:::099.1.1.1]", "a@[IPv6:::1.2.3]", "a@[IPv6:::1.2.3.4.5]", "a@[IPv6:1.2.3.4]", "a@[IPv6:::1.2.3.]",
+			"a@[IPv6:1:2:3:4:5:6:1.2.3.4]", "a@[IPv6:\u0130::]", "a@[\u0130Pv6:1::]",
+	};
+
+	@Test
+	public void testScannersAcceptTheSameEmailsAsTheRegularExpressions() {
+		EmailValidator validator = new EmailValidator();
+
+		for ( String email : corpus() ) {
+			boolean expected = isValidWithRegularExpressions( email );
+			assertEquals( validator.isValid( email, null ), expected, escape( email ) );
+			assertEquals( validator.isValid( new MyCustomStringImpl( email ), null ), expected, escape( email ) );
+			assertEquals( validator.isValid( new StringBuilder( "<" ).append( email ).append( '>' ).subSequence( 1, email.length() + 1 ), null ),
+					expected, escape( email ) );
+		}
+	}
+
+	@Test
+	public void testScannersAcceptTheSameDomainsAsTheRegularExpressions() {
+		for ( String email : corpus() ) {
+			String domain = email.substring( email.lastIndexOf( '@' ) + 1 );
+			assertEquals( DomainNameUtil.isValidEmailDomainAddress( domain ), isValidEmailDomainWithRegularExpressions( domain ), escape( domain ) );
+		}
+	}
+
+	private static List<String> corpus() {
+		List<String> corpus = new ArrayList<>();
+		for ( String email : EMAILS ) {
+			corpus.add( email );
+		}
+
+		// length limits of the local part, of the labels and of the domain
+		for ( int length = 60; length <= 66; length++ ) {
+			corpus.add( "a".repeat( length ) + "@example.com" );
+			corpus.add( "\"" + "a".repeat( length - 2 ) + "\"@example.com" );
+			corpus.add( "a@" + "b".repeat( length ) + ".com" );
+			corpus.add( "a@example." + "b".repeat( length ) );
+			corpus.add( "a@" + "\u00e9".repeat( length / 4 ) + ".com" );
+		}
+		for ( int length = 250; length <= 258; length++ ) {
+			corpus.add( "a@" + domainOfLength( length, "b" ) );
+			corpus.add( "a@" + domainOfLength( length, "\u00e9" ) );
+		}
+
+		Random random = new Random( 24 );
+		String localPartAlphabet = "aZ9.-_+\"\\ @()[]:;,<>!#\u00e9\u00a0\t\u0130\u212a\ud83d\ude00";
+		String domainAlphabet = "aZ9.--_!#@[]\u00e9\u3002\uff0e\u0130\ud83d\ude00 ";
+		String ipAlphabet = "0129aAfF::..%e";
+		for ( int i = 0; i < 20_000; i++ ) {
+			String localPart = randomString( random, localPartAlphabet, 12 );
+			String domain = randomString( random, domainAlphabet, 12 );
+			corpus.add( localPart );
+			corpus.add( localPart + "@example.com" );
+			corpus.add( "user@" + domain );
+			corpus.add( localPart + "@" + domain );
+			corpus.add( "user@[" + randomString( random, ipAlphabet, 20 ) + "]" );
+			corpus.add( "user@[IPv6:" + randomString( random, ipAlphabet, 24 ) + "]" );
+			corpus.add( "user@[IPv6:" + randomIpV6Address( random ) + "]" );
+			corpus.add( mutate( random, EMAILS[random.nextInt( EMAILS.length )], localPartAlphabet + domainAlphabet + ipAlphabet ) );
+		}
+		return corpus;
+	}
+
+	private static boolean isValidWithRegularExpressions(String email) {
+		if ( email.length() == 0 ) {
+			return true;
+		}
+
+		int splitPosition = email.lastIndexOf( '@' );
+		if ( splitPosition < 0 ) {
+			return false;
+		}
+
+		String localPart = email.substring( 0, splitPosition );
+		if ( localPart.length() > 64 || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+			return false;
+		}
+
+		return isValidEmailDomainWithRegularExpressions( email.substring( splitPosition + 1 ) );
+	}
+
+	private static boolean isValidEmailDomainWithRegularExpressions(String domain) {
+		if ( domain.endsWith( "." ) ) {
+			return false;
+		}
+
+		String asciiString;
+		try {
+			asciiString = IDN.toASCII( domain );
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+
+		if ( asciiString.length() > 255 ) {
+			return false;
+		}
+
+		return EMAIL_DOMAIN_PATTERN.matcher( domain ).matches();
+	}
+
+	private static String domainOfLength(int length, String character) {
+		StringBuilder domain = new StringBuilder();
+		while ( domain.length() < length ) {
+			if ( domain.length() > 0 ) {
+				domain.append( '.' );
+			}
+			domain.append( character.repeat( Math.min( 50, length - domain.length() ) ) );
+		}
+		return domain.toString();
+	}
+
+	private static String randomIpV6Address(Random random) {
+		StringBuilder address = new StringBuilder();
+		int groups = random.nextInt( 10 );
+		for ( int i = 0; i < groups; i++ ) {
+			if ( i > 0 || random.nextInt( 4 ) == 0 ) {
+				address.append( random.nextInt( 5 ) == 0 ? "::" : ":" );
+			}
+			address.append( Integer.toHexString( random.nextInt( random.nextBoolean() ? 0x10000 : 0x100000 ) ) );
+		}
+		switch ( random.nextInt( 4 ) ) {
+			case 0:
+				address.append( ':' ).append( random.nextInt( 300 ) ).append( '.' ).append( random.nextInt( 300 ) )
+						.append( '.' ).append( random.nextInt( 10 ) ).append( '.' ).append( random.nextInt( 260 ) );
+				break;
+			case 1:
+				address.append( "%eth" ).append( random.nextInt( 3 ) );
+				break;
+			default:
+				break;
+		}
+		return address.toString();
+	}
+
+	private static String randomString(Random random, String alphabet, int maxLength) {
+		StringBuilder string = new StringBuilder();
+		int length = random.nextInt( maxLength + 1 );
+		for ( int i = 0; i < length; i++ ) {
+			string.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+		}
+		return string.toString();
+	}
+
+	private static String mutate(Random random, String string, String alphabet) {
+		StringBuilder mutated = new StringBuilder( string );
+		int mutations = 1 + random.nextInt( 3 );
+		for ( int i = 0; i < mutations; i++ ) {
+			int index = mutated.length() == 0 ? 0 : random.nextInt( mutated.length() );
+			char c = alphabet.charAt( random.nextInt( alphabet.length() ) );
+			switch ( mutated.length() == 0 ? 0 : random.nextInt( 3 ) ) {
+				case 0:
+					mutated.insert( index, c );
+					break;
+				case 1:
+					mutated.setCharAt( index, c );
+					break;
+				default:
+					mutated.deleteCharAt( index );
+					break;
+			}
+		}
+		return mutated.toString();
+	}
+
+	private static String escape(String value) {
+		StringBuilder escaped = new StringBuilder();
+		for ( char c : value.toCharArray() ) {
+			if ( c < 0x20 || c > 0x7e ) {
+				escaped.append( String.format( "\\u%04x", (int) c ) );
+			}
+			else {
+				escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+}
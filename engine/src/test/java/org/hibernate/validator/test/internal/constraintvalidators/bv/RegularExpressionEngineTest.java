@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getConstraintValidatorInitializationContext;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.initialize;
+import static org.testng.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.engine.RegularExpressionEngine;
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.hibernate.validator.internal.constraintvalidators.bv.PatternValidator;
+import org.hibernate.validator.internal.engine.DefaultClockProvider;
+import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link RegularExpressionEngine}s used by the {@code @Pattern} and {@code @Email} constraints.
+ */
+public class RegularExpressionEngineTest {
+
+	private static final String ADVERSARIAL_INPUT = "a".repeat( 64 );
+
+	@Test
+	public void testEmailValidatorMatchesTheSameEmailsWithBothEngines() {
+		EmailValidator backtrackingValidator = emailValidator( RegularExpressionEngine.BACKTRACKING );
+		EmailValidator linearValidator = emailValidator( RegularExpressionEngine.LINEAR );
+
+		for ( String email : emails() ) {
+			assertEquals( linearValidator.isValid( email, null ), backtrackingValidator.isValid( email, null ), email );
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void testPatternValidatorWithLinearEngine() {
+		PatternValidator validator = new PatternValidator();
+		initialize( validator, patternDescriptor( "(a|aa)+b" ), getConstraintValidatorInitializationContext(
+				new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ZERO, RegularExpressionEngine.LINEAR
+		) );
+
+		assertEquals( validator.isValid( ADVERSARIAL_INPUT, null ), false );
+		assertEquals( validator.isValid( "aab", null ), true );
+	}
+
+	@Test(timeOut = 10_000)
+	public void testRegularExpressionEngineSetProgrammatically() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.regularExpressionEngine( RegularExpressionEngine.LINEAR )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Bean( ADVERSARIAL_INPUT ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class )
+		);
+		assertThat( validator.validate( new Bean( "aab" ) ) ).isEmpty();
+	}
+
+	@Test(timeOut = 10_000)
+	public void testRegularExpressionEngineSetWithProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE, "linear" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( validator.validate( new Bean( ADVERSARIAL_INPUT ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class )
+		);
+	}
+
+	@Test(timeOut = 10_000)
+	public void testRegularExpressionEngineSetWithPayload() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( validator.validate( new LinearBean( ADVERSARIAL_INPUT, ADVERSARIAL_INPUT + "@example.org" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class ),
+				violationOf( Email.class )
+		);
+		assertThat( validator.validate( new LinearBean( "aab", "aaa@example.com" ) ) ).isEmpty();
+	}
+
+	@Test
+	public void testBacktrackingPayloadOverridesTheLinearEngine() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.regularExpressionEngine( RegularExpressionEngine.LINEAR )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new BacktrackingBean( "ab" ) ) ).isEmpty();
+		assertThat( validator.validate( new BacktrackingBean( "ac" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class )
+		);
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000301:.*")
+	public void testInvalidRegularExpressionEngine() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE, "re2" );
+		configuration.buildValidatorFactory();
+	}
+
+	private static EmailValidator emailValidator(RegularExpressionEngine regularExpressionEngine) {
+		EmailValidator validator = new EmailValidator();
+		initialize( validator, new ConstraintAnnotationDescriptor.Builder<>( Email.class ).build(), getConstraintValidatorInitializationContext(
+				new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ZERO, regularExpressionEngine
+		) );
+		return validator;
+	}
+
+	private static ConstraintAnnotationDescriptor<Pattern> patternDescriptor(String regexp) {
+		ConstraintAnnotationDescriptor.Builder<Pattern> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Pattern.class );
+		descriptorBuilder.setAttribute( "regexp", regexp );
+		return descriptorBuilder.build();
+	}
+
+	private static List<String> emails() {
+		List<String> emails = new ArrayList<>( List.of(
+				"emmanuel@hibernate.org", "emma-n_uel@hibernate", "emmanuel@[123.12.2.11]", "*@example.net",
+				"---@example.com", "mailbox.sub1.sub2@this-domain", "\"much.more unusual\"@example.com",
+				"\"very.(),:;<>[]\\\".VERY.\\\"very@\\\\ \\\"very\\\".unusual\"@strange.example.com",
+				"#!$%&'*+-/=?^_`{}|~@example.org", "user@[IPv6:2001:db8::1]", "θσερ@εχαμπλε.ψομ",
+				"emmanuel.hibernate.org", "emma nuel@hibernate.org", "emma\nnuel@hibernate.org", "me.@example.com",
+				".me@example.com", "me@example..com", "john..doe@example.com", "just\"not\"right@example.com",
+				"a\"b(c)d,e:f;g<h>i[j\\k]l@example.com", "a".repeat( 65 ) + "@example.com", "a@" + "b".repeat( 64 ) + ".com"
+		) );
+
+		// random emails built from the characters which are significant for the local part and domain expressions
+		String alphabet = "aZ9.-_\"\\ @[]:";
+		Random random = new Random( 7 );
+		for ( int i = 0; i < 2_000; i++ ) {
+			StringBuilder email = new StringBuilder();
+			int length = 1 + random.nextInt( 16 );
+			for ( int j = 0; j < length; j++ ) {
+				email.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+			}
+			emails.add( email.toString() );
+			emails.add( email + "@example.com" );
+			emails.add( "user@" + email );
+		}
+		return emails;
+	}
+
+	private static class Bean {
+
+		@Pattern(regexp = "(a|aa)+b")
+		private final String value;
+
+		private Bean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class LinearBean {
+
+		@Pattern(regexp = "(a|aa)+b", payload = RegularExpressionEngine.Linear.class)
+		private final String value;
+
+		@Email(regexp = "(a|aa)+@example\\.com", payload = RegularExpressionEngine.Linear.class)
+		private final String email;
+
+		private LinearBean(String value, String email) {
+			this.value = value;
+			this.email = email;
+		}
+	}
+
+	private static class BacktrackingBean {
+
+		@Pattern(regexp = "a(?=b).", payload = RegularExpressionEngine.Backtracking.class)
+		private final String value;
+
+		private BacktrackingBean(String value) {
+			this.value = value;
+		}
+	}
+}
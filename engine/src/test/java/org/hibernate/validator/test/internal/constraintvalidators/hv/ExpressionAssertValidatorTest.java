@@ -0,0 +1,355 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.initialize;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.ExpressionAssertDef;
+import org.hibernate.validator.constraints.ExpressionAssert;
+import org.hibernate.validator.internal.constraintvalidators.hv.ExpressionAssertValidator;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.test.constraints.annotations.AbstractConstrainedTest;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ExpressionAssert} and {@link ExpressionAssertValidator}.
+ */
+public class ExpressionAssertValidatorTest extends AbstractConstrainedTest {
+
+	@Test
+	public void literalExpressions() {
+		@ExpressionAssert(expression = "true")
+		class Valid {
+		}
+		@ExpressionAssert(expression = "1 + 2 * 3 == 7 && (1 + 2) * 3 == 9 && 7 % 4 == 3 && -(2 - 5) == 3")
+		class ValidArithmetic {
+		}
+		@ExpressionAssert(expression = "!(1 < 2) || 'a' == \"b\"")
+		class Invalid {
+		}
+
+		assertNoViolations( validator.validate( new Valid() ) );
+		assertNoViolations( validator.validate( new ValidArithmetic() ) );
+		assertThat( validator.validate( new Invalid() ) ).containsOnlyViolations( violationOf( ExpressionAssert.class ) );
+	}
+
+	@Test
+	public void comparisonOfProperties() {
+		assertNoViolations( validator.validate( new CalendarEvent( LocalDate.of( 2009, 8, 20 ), LocalDate.of( 2009, 8, 21 ) ) ) );
+		assertNoViolations( validator.validate( new CalendarEvent( LocalDate.of( 2009, 8, 20 ), null ) ) );
+		assertThat( validator.validate( new CalendarEvent( LocalDate.of( 2009, 8, 21 ), LocalDate.of( 2009, 8, 20 ) ) ) )
+				.containsOnlyViolations(
+						violationOf( ExpressionAssert.class )
+								.withMessage( "expression \"endDate == null || startDate < endDate\" didn't evaluate to true" )
+								.withPropertyPath( pathWith().property( "endDate" ) )
+				);
+	}
+
+	@Test
+	public void numbersOfDifferentTypesAreComparedByValue() {
+		assertNoViolations( validator.validate( new Order( 3, 2.5, new BigDecimal( "7.50" ), 3L ) ) );
+		assertThat( validator.validate( new Order( 4, 2.5, new BigDecimal( "7.50" ), 3L ) ) )
+				.containsOnlyViolations( violationOf( ExpressionAssert.class ), violationOf( ExpressionAssert.class ) );
+	}
+
+	@Test
+	public void comparisonWithNullOperandIsFalse() {
+		assertThat( validator.validate( new Order( null, 2.5, new BigDecimal( "7.50" ), null ) ) )
+				.containsOnlyViolations( violationOf( ExpressionAssert.class ) );
+	}
+
+	@Test
+	public void propertyPaths() {
+		assertNoViolations( validator.validate( new Customer( "Jane", new Address( "Paris" ), Status.ACTIVE, List.of( "a", "b" ) ) ) );
+		assertThat( validator.validate( new Customer( "Jane", null, Status.ACTIVE, new ArrayList<>() ) ) )
+				.containsOnlyViolations( violationOf( ExpressionAssert.class ), violationOf( ExpressionAssert.class ) );
+		assertThat( validator.validate( new Customer( "Jane", new Address( null ), Status.INACTIVE, List.of( "a" ) ) ) )
+				.containsOnlyViolations( violationOf( ExpressionAssert.class ), violationOf( ExpressionAssert.class ) );
+	}
+
+	@Test
+	public void propertiesAreResolvedForEachRuntimeClass() {
+		List<Shape> shapes = List.of( new Square( 1 ), new Square( 3 ), new Rectangle( 1, 2 ), new Rectangle( 4, 1 ), new Circle( 1 ),
+				new Circle( 2 ), new Triangle( 1 ), new Triangle( 5 ), new Hexagon( 1 ), new Hexagon( 2 ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			for ( int j = 0; j < shapes.size(); j++ ) {
+				if ( j % 2 == 0 ) {
+					assertNoViolations( validator.validate( shapes.get( j ) ) );
+				}
+				else {
+					assertThat( validator.validate( shapes.get( j ) ) ).containsOnlyViolations( violationOf( ExpressionAssert.class ) );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void programmaticDefinition() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Address.class )
+				.constraint( new ExpressionAssertDef().expression( "city != null" ).reportOn( "city" ) );
+		Validator validator = configuration.addMapping( mapping ).buildValidatorFactory().getValidator();
+
+		assertNoViolations( validator.validate( new Address( "Paris" ) ) );
+		assertThat( validator.validate( new Address( null ) ) ).containsOnlyViolations(
+				violationOf( ExpressionAssert.class ).withPropertyPath( pathWith().property( "city" ) )
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyExpressionRaisesException() {
+		getInitializedValidator( "" );
+	}
+
+	@Test
+	public void invalidExpressionsRaiseExceptionAtInitialization() {
+		assertInvalidExpression( "a <", "unexpected end of expression at position 3" );
+		assertInvalidExpression( "a = b", "unexpected character '=' at position 2" );
+		assertInvalidExpression( "(a", "expected ) but got end of expression at position 2" );
+		assertInvalidExpression( "a b", "unexpected 'b' at position 2" );
+		assertInvalidExpression( "a.", "expected a property name but got end of expression at position 2" );
+		assertInvalidExpression( "'a", "unterminated string at position 0" );
+		assertInvalidExpression( "a + 1", "the expression requires a boolean but got a number at position 0" );
+		assertInvalidExpression( "'a' && b", "operator && requires a boolean but got a string at position 4" );
+		assertInvalidExpression( "!1", "operator ! requires a boolean but got a number at position 0" );
+		assertInvalidExpression( "a + 'b' > 1", "operator + requires numbers but got a string at position 2" );
+		assertInvalidExpression( "1 < 'a'", "operator < cannot compare a number and a string at position 2" );
+		assertInvalidExpression( "a < true", "operator < cannot be applied to a boolean at position 2" );
+		assertInvalidExpression( "true == 1", "operator == cannot compare a boolean and a number at position 5" );
+		assertInvalidExpression( "a < b < c", "unexpected '<' at position 6" );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000298: Unable to find a readable property unknown in .*Unknown for the assertion expression \"unknown != null\".")
+	public void unknownPropertyRaisesException() {
+		@ExpressionAssert(expression = "unknown != null")
+		class Unknown {
+		}
+
+		validator.validate( new Unknown() );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000299: Unable to evaluate the assertion expression \"name\": a boolean was expected but got a value of type java.lang.String.")
+	public void propertyNotEvaluatingToBooleanRaisesException() {
+		@ExpressionAssert(expression = "name")
+		class NotBoolean {
+
+			@SuppressWarnings("unused")
+			private final String name = "Jane";
+		}
+
+		validator.validate( new NotBoolean() );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000299: Unable to evaluate the assertion expression \"name > 1\": operator > cannot compare a value of type java.lang.String and a value of type java.lang.Long.")
+	public void incomparableValuesRaiseException() {
+		@ExpressionAssert(expression = "name > 1")
+		class Incomparable {
+
+			@SuppressWarnings("unused")
+			private final String name = "Jane";
+		}
+
+		validator.validate( new Incomparable() );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000299: Unable to evaluate the assertion expression \"value / 0 > 1\": unable to compute 3 / 0 .*")
+	public void divisionByZeroRaisesException() {
+		@ExpressionAssert(expression = "value / 0 > 1")
+		class DivisionByZero {
+
+			@SuppressWarnings("unused")
+			private final int value = 3;
+		}
+
+		validator.validate( new DivisionByZero() );
+	}
+
+	private void assertInvalidExpression(String expression, String expectedReason) {
+		try {
+			getInitializedValidator( expression );
+			fail( "Expression " + expression + " should be invalid" );
+		}
+		catch (ConstraintDeclarationException e) {
+			assertEquals( e.getMessage(), "HV000297: Invalid assertion expression \"" + expression + "\": " + expectedReason + "." );
+		}
+	}
+
+	private ExpressionAssertValidator getInitializedValidator(String expression) {
+		ConstraintAnnotationDescriptor.Builder<ExpressionAssert> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( ExpressionAssert.class );
+		descriptorBuilder.setAttribute( "expression", expression );
+
+		ExpressionAssertValidator validator = new ExpressionAssertValidator();
+		initialize( validator, descriptorBuilder.build() );
+		return validator;
+	}
+
+	@ExpressionAssert(expression = "endDate == null || startDate < endDate", reportOn = "endDate")
+	private static class CalendarEvent {
+
+		private final LocalDate startDate;
+
+		private final LocalDate endDate;
+
+		private CalendarEvent(LocalDate startDate, LocalDate endDate) {
+			this.startDate = startDate;
+			this.endDate = endDate;
+		}
+
+		public LocalDate getStartDate() {
+			return startDate;
+		}
+
+		public LocalDate getEndDate() {
+			return endDate;
+		}
+	}
+
+	@ExpressionAssert(expression = "quantity * unitPrice <= budget")
+	@ExpressionAssert(expression = "maxQuantity == null || quantity <= maxQuantity")
+	private static class Order {
+
+		private final Integer quantity;
+
+		private final double unitPrice;
+
+		private final BigDecimal budget;
+
+		private final Long maxQuantity;
+
+		private Order(Integer quantity, double unitPrice, BigDecimal budget, Long maxQuantity) {
+			this.quantity = quantity;
+			this.unitPrice = unitPrice;
+			this.budget = budget;
+			this.maxQuantity = maxQuantity;
+		}
+	}
+
+	@ExpressionAssert(expression = "this.address.city != null && name != 'It\\'s me'")
+	@ExpressionAssert(expression = "status == 'ACTIVE' && !tags.empty && tags.size >= 2")
+	private static class Customer {
+
+		private final String name;
+
+		private final Address address;
+
+		private final Status status;
+
+		private final List<String> tags;
+
+		private Customer(String name, Address address, Status status, List<String> tags) {
+			this.name = name;
+			this.address = address;
+			this.status = status;
+			this.tags = tags;
+		}
+	}
+
+	private static class Address {
+
+		private final String city;
+
+		private Address(String city) {
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	private enum Status {
+		ACTIVE,
+		INACTIVE
+	}
+
+	@ExpressionAssert(expression = "area <= 4")
+	private abstract static class Shape {
+	}
+
+	private static class Square extends Shape {
+
+		private final int side;
+
+		private Square(int side) {
+			this.side = side;
+		}
+
+		public int getArea() {
+			return side * side;
+		}
+	}
+
+	private static class Rectangle extends Square {
+
+		private final int width;
+
+		private Rectangle(int side, int width) {
+			super( side );
+			this.width = width;
+		}
+
+		@Override
+		public int getArea() {
+			return super.getArea() * width;
+		}
+	}
+
+	private static class Circle extends Shape {
+
+		@SuppressWarnings("unused")
+		private final double area;
+
+		private Circle(double radius) {
+			this.area = Math.PI * radius * radius;
+		}
+	}
+
+	private static class Triangle extends Shape {
+
+		private final long area;
+
+		private Triangle(long area) {
+			this.area = area;
+		}
+
+		public Long getArea() {
+			return area;
+		}
+	}
+
+	private static class Hexagon extends Shape {
+
+		private final int side;
+
+		private Hexagon(int side) {
+			this.side = side;
+		}
+
+		public BigDecimal area() {
+			return BigDecimal.valueOf( side ).multiply( BigDecimal.valueOf( 2.6 ) );
+		}
+	}
+}
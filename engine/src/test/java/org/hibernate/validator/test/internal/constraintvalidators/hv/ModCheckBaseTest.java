@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.hibernate.validator.constraints.Mod10Check;
+import org.hibernate.validator.constraints.Mod11Check.ProcessingDirection;
+import org.hibernate.validator.constraints.pl.NIP;
+import org.hibernate.validator.constraints.pl.PESEL;
+import org.hibernate.validator.constraints.pl.REGON;
+import org.hibernate.validator.internal.constraintvalidators.hv.LuhnCheckValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.Mod10CheckValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
+import org.hibernate.validator.internal.constraintvalidators.hv.pl.NIPValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.pl.PESELValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.pl.REGONValidator;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the checksums computed by the built-in {@link ModCheckBase} validators while scanning the value give the
+ * same results as the ones computed from the list of digits, used by the subclasses only implementing
+ * {@link ModCheckBase#isCheckDigitValid(List, char)}.
+ */
+public class ModCheckBaseTest {
+
+	private static final int NUMBER_OF_VALUES = 5000;
+
+	private static final String DIGITS = "0123456789";
+
+	private static final String DIGITS_AND_DELIMITERS = "0123456789012345678901234567890123456789 -./X";
+
+	private final Random random = new Random( 42 );
+
+	@Test
+	public void testLuhnCheck() {
+		for ( boolean ignoreNonDigitCharacters : new boolean[] { false, true } ) {
+			for ( int[] range : new int[][] { { 0, Integer.MAX_VALUE, -1 }, { 2, 8, -1 }, { 0, 8, 9 } } ) {
+				LuhnCheckValidator validator = new LuhnCheckValidator();
+				validator.initialize( createAnnotation( LuhnCheck.class, range, ignoreNonDigitCharacters ) );
+
+				assertSameResults( validator, new ListBasedModCheck( validator, range, ignoreNonDigitCharacters ), DIGITS_AND_DELIMITERS, 0, 20 );
+			}
+		}
+	}
+
+	@Test
+	public void testMod10Check() {
+		for ( boolean ignoreNonDigitCharacters : new boolean[] { false, true } ) {
+			for ( int[] range : new int[][] { { 0, Integer.MAX_VALUE, -1 }, { 1, 6, -1 }, { 0, 6, 8 } } ) {
+				Mod10CheckValidator validator = new Mod10CheckValidator();
+				validator.initialize( createAnnotation( Mod10Check.class, range, ignoreNonDigitCharacters ) );
+
+				assertSameResults( validator, new ListBasedModCheck( validator, range, ignoreNonDigitCharacters ), DIGITS_AND_DELIMITERS, 0, 20 );
+			}
+		}
+	}
+
+	@Test
+	public void testMod11Check() {
+		for ( boolean ignoreNonDigitCharacters : new boolean[] { false, true } ) {
+			for ( ProcessingDirection direction : ProcessingDirection.values() ) {
+				for ( int[] weights : new int[][] { { }, { 2, 7, 6, 5 } } ) {
+					for ( int threshold : new int[] { 5, Integer.MAX_VALUE } ) {
+						Mod11CheckValidator validator = new Mod11CheckValidator();
+						validator.initialize( 0, Integer.MAX_VALUE, -1, ignoreNonDigitCharacters, threshold, 'X', '0', direction, weights );
+
+						assertSameResults( validator, new ListBasedModCheck( validator, new int[] { 0, Integer.MAX_VALUE, -1 }, ignoreNonDigitCharacters ),
+								DIGITS_AND_DELIMITERS + "XXXX", 0, 20 );
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPolishNumbers() {
+		NIPValidator nipValidator = new NIPValidator();
+		nipValidator.initialize( createAnnotation( NIP.class ) );
+		assertSameResults( nipValidator, new ListBasedModCheck( nipValidator, new int[] { 0, Integer.MAX_VALUE, -1 }, true ), DIGITS + "-", 9, 13 );
+
+		REGONValidator regonValidator = new REGONValidator();
+		regonValidator.initialize( createAnnotation( REGON.class ) );
+		assertSameResults( regonValidator, new ListBasedModCheck( regonValidator, new int[] { 0, Integer.MAX_VALUE, -1 }, false ), DIGITS, 8, 15 );
+
+		PESELValidator peselValidator = new PESELValidator();
+		peselValidator.initialize( createAnnotation( PESEL.class ) );
+		assertSameResults( peselValidator, new ListBasedModCheck( peselValidator, new int[] { 0, Integer.MAX_VALUE, -1 }, false ), DIGITS, 10, 12 );
+		assertEquals( peselValidator.isValid( "92041903790", null ), true );
+	}
+
+	private void assertSameResults(ModCheckBase validator, ModCheckBase listBasedValidator, String characters, int minLength, int maxLength) {
+		for ( int i = 0; i < NUMBER_OF_VALUES; i++ ) {
+			String value = randomValue( characters, minLength + random.nextInt( maxLength - minLength + 1 ) );
+			assertEquals( validator.isValid( value, null ), listBasedValidator.isValid( value, null ), "Wrong result for " + value );
+		}
+	}
+
+	private String randomValue(String characters, int length) {
+		StringBuilder value = new StringBuilder( length );
+		for ( int i = 0; i < length; i++ ) {
+			value.append( characters.charAt( random.nextInt( characters.length() ) ) );
+		}
+		return value.toString();
+	}
+
+	private static <A extends Annotation> A createAnnotation(Class<A> annotationType, int[] range, boolean ignoreNonDigitCharacters) {
+		ConstraintAnnotationDescriptor.Builder<A> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( annotationType );
+		descriptorBuilder.setAttribute( "startIndex", range[0] );
+		descriptorBuilder.setAttribute( "endIndex", range[1] );
+		descriptorBuilder.setAttribute( "checkDigitIndex", range[2] );
+		descriptorBuilder.setAttribute( "ignoreNonDigitCharacters", ignoreNonDigitCharacters );
+		return descriptorBuilder.build().getAnnotation();
+	}
+
+	private static <A extends Annotation> A createAnnotation(Class<A> annotationType) {
+		return new ConstraintAnnotationDescriptor.Builder<>( annotationType ).build().getAnnotation();
+	}
+
+	/**
+	 * A subclass only implementing the {@code List}-based method, delegating to a built-in validator.
+	 */
+	private static class ListBasedModCheck extends ModCheckBase {
+
+		private final ModCheckBase delegate;
+
+		private ListBasedModCheck(ModCheckBase delegate, int[] range, boolean ignoreNonDigitCharacters) {
+			this.delegate = delegate;
+			initialize( range[0], range[1], range[2], ignoreNonDigitCharacters );
+		}
+
+		@Override
+		public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+			return delegate.isCheckDigitValid( digits, checkDigit );
+		}
+	}
+}
@@ -7,6 +7,7 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -21,8 +22,10 @@
 import jakarta.validation.Validator;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorValidator;
 import org.hibernate.validator.constraints.UniqueElements;
 import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.internal.constraintvalidators.hv.UniqueElementsValidator;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.resourceloading.AggregateResourceBundleLocator;
 import org.hibernate.validator.testutils.ValidatorUtil;
@@ -133,6 +136,113 @@ public void testDymanicPayloadContainsDuplicatedValue() {
 				.containsOnly( duplicate );
 	}
 
+	@Test
+	public void testBoxedPrimitivesAreComparedWithEquals() {
+		List<List<Object>> valid = new ArrayList<>();
+		valid.add( Arrays.asList( 1, 1L ) );
+		valid.add( Arrays.asList( 1, 2, 3, 1L ) );
+		valid.add( Arrays.asList( (short) 1, (byte) 1, 'a', 97 ) );
+		valid.add( Arrays.asList( 0.0d, -0.0d ) );
+		valid.add( Arrays.asList( 0.0f, -0.0f, 0.0d ) );
+		valid.add( Arrays.asList( 1, null, 2 ) );
+
+		for ( List<Object> value : valid ) {
+			Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( value ) );
+			assertNoViolations( violations, "Validation should have passed for " + value );
+		}
+
+		List<List<Object>> invalid = new ArrayList<>();
+		invalid.add( Arrays.asList( 1, 2, 1 ) );
+		invalid.add( Arrays.asList( Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE ) );
+		invalid.add( Arrays.asList( Double.NaN, 0.0d, Double.NaN ) );
+		invalid.add( Arrays.asList( Float.NaN, Float.NaN ) );
+		invalid.add( Arrays.asList( 'a', 'b', 'a' ) );
+		invalid.add( Arrays.asList( 1, 1L, 1 ) );
+		invalid.add( Arrays.asList( null, 1, null ) );
+
+		for ( List<Object> value : invalid ) {
+			Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( value ) );
+			assertThat( violations )
+					.describedAs( "Validation should have failed for " + value )
+					.containsOnlyViolations( violationOf( UniqueElements.class ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLargeCollections() {
+		List<Object> integers = new ArrayList<>();
+		List<Object> strings = new ArrayList<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			integers.add( i * 31 );
+			strings.add( "element-" + i );
+		}
+		assertNoViolations( ValidatorUtil.getValidator().validate( new AnnotationContainer( integers ) ) );
+		assertNoViolations( ValidatorUtil.getValidator().validate( new AnnotationContainer( strings ) ) );
+
+		integers.add( 31 );
+		integers.add( "31" );
+		integers.add( 62 );
+		Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( integers ) );
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+		Assertions.assertThat( ( (HibernateConstraintViolation<UniqueElements>) violations.iterator().next()
+				.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class ) )
+				.containsExactly( 31, 62 );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMessageOnlyListsTheFirstDuplicates() {
+		List<Object> fails = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			fails.add( "d" + i );
+			fails.add( "d" + i );
+		}
+		fails.add( "d0" );
+
+		Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( fails ) );
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+
+		HibernateConstraintViolation<UniqueElements> violation = violations.iterator().next().unwrap( HibernateConstraintViolation.class );
+		Assertions.assertThat( violation.getDynamicPayload( List.class ) )
+				.hasSize( 51 )
+				.startsWith( "d0", "d1" )
+				.endsWith( "d49", "d0" );
+
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( new ResourceBundleMessageInterpolator(
+						new AggregateResourceBundleLocator(
+								Arrays.asList( "org/hibernate/validator/test/internal/constraintvalidators/hv/UniqueElementsMessages" ),
+								ValidatorUtil.getConfiguration().getDefaultResourceBundleLocator(),
+								getClass().getClassLoader()
+						)
+				) )
+				.buildValidatorFactory().getValidator();
+		String message = validator.validate( new AnnotationContainer( fails ) ).iterator().next().getMessage();
+		Assertions.assertThat( message )
+				.endsWith( "d0, d1, d2, d3, d4, d5, d6, d7, d8, d9, d10, d11, d12, d13, d14, d15, d16, d17, d18, d19, ..." );
+	}
+
+	@Test
+	public void testValidityCheck() {
+		HibernateValidatorValidator validator = ValidatorUtil.getValidator().unwrap( HibernateValidatorValidator.class );
+
+		assertTrue( validator.isValid( new AnnotationContainer( Arrays.asList( "a", "b", 1, 2L ) ) ) );
+		assertFalse( validator.isValid( new AnnotationContainer( Arrays.asList( "a", "b", "a" ) ) ) );
+		assertFalse( validator.isValid( new AnnotationContainer( Arrays.asList( 1, 2, 1 ) ) ) );
+	}
+
+	@Test
+	public void testWithoutConstraintValidatorContext() {
+		UniqueElementsValidator validator = new UniqueElementsValidator();
+
+		assertTrue( validator.isValid( Arrays.asList( 1, 2, 3 ), null ) );
+		assertTrue( validator.isValid( Arrays.asList( "a", "b", null ), null ) );
+		assertFalse( validator.isValid( Arrays.asList( 1, 2, 1 ), null ) );
+		assertFalse( validator.isValid( Arrays.asList( "a", null, null ), null ) );
+		assertFalse( validator.isValid( Arrays.asList( 1, "a", "a" ), null ) );
+	}
+
 	private static class TestObject {
 
 		private final int value;
@@ -32,12 +32,16 @@
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
 import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForInteger;
@@ -124,6 +128,40 @@ public void testConstraintValidatorInstancesAreCachedPerConstraintValidatorFacto
 		constraintValidatorFactory2.assertAllConstraintValidatorInstancesReleased();
 	}
 
+	@Test
+	public void testConstraintValidatorInstancesAreCachedForAlternatingConstraintValidatorFactories() {
+		OnceInstanceOnlyConstraintValidatorFactory constraintValidatorFactory1 = new OnceInstanceOnlyConstraintValidatorFactory();
+		OnceInstanceOnlyConstraintValidatorFactory constraintValidatorFactory2 = new OnceInstanceOnlyConstraintValidatorFactory();
+		HibernateValidatorFactory factory = getConfiguration( HibernateValidator.class )
+				.constraintValidatorCacheMaxContexts( 2 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		Person john = new Person( "John Doe" );
+		john.setAge( 36 );
+		john.addAddress( new Address( "Mysterious Lane", "Mysterious" ) );
+
+		// the factories fail if the instances are not cached
+		for ( int i = 0; i < 3; i++ ) {
+			assertNoViolations( factory.usingContext().constraintValidatorFactory( constraintValidatorFactory1 ).getValidator().validate( john ) );
+			assertNoViolations( factory.usingContext().constraintValidatorFactory( constraintValidatorFactory2 ).getValidator().validate( john ) );
+		}
+		constraintValidatorFactory1.assertSize( 3 );
+		constraintValidatorFactory2.assertSize( 3 );
+
+		factory.close();
+		constraintValidatorFactory1.assertAllConstraintValidatorInstancesReleased();
+		constraintValidatorFactory2.assertAllConstraintValidatorInstancesReleased();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000293:.*")
+	public void testInvalidMaxContextsProperty() {
+		Configuration<?> config = getConfiguration();
+		config.addProperty( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_CONTEXTS, "none" );
+
+		config.buildValidatorFactory();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-243")
 	public void testConstraintValidatorInstancesAreCachedPerConstraint() {
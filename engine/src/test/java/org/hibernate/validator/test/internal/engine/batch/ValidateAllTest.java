@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.BatchValidationResult;
+import org.hibernate.validator.HibernateValidatorValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@code validateAll()} methods of {@link HibernateValidatorValidator}.
+ */
+public class ValidateAllTest {
+
+	private HibernateValidatorValidator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator().unwrap( HibernateValidatorValidator.class );
+	}
+
+	@Test
+	public void testValidateAllIsConsistentWithValidate() {
+		List<Row> rows = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			rows.add( i % 10 == 3 ? new Row( null, i ) : new Row( "row-" + i, i % 20 == 7 ? -1 : 1 ) );
+		}
+
+		BatchValidationResult<Row> result = validator.validateAll( rows );
+
+		assertThat( result.size() ).isEqualTo( 100 );
+		assertThat( result.isValid() ).isFalse();
+		assertThat( result.getInvalidIndexes() ).containsExactly( 3, 7, 13, 23, 27, 33, 43, 47, 53, 63, 67, 73, 83, 87, 93 );
+		assertThat( result.getInvalidCount() ).isEqualTo( 15 );
+
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertThat( result.isValid( i ) ).isEqualTo( validator.validate( rows.get( i ) ).isEmpty() );
+			assertThat( result.getConstraintViolations( i ) ).isEqualTo( validator.validate( rows.get( i ) ) );
+		}
+
+		assertThat( result.getConstraintViolations( 3 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+		assertThat( result.getConstraintViolations( 7 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+	}
+
+	@Test
+	public void testValidateAllWithValidBeans() {
+		BatchValidationResult<Row> result = validator.validateAll( Arrays.asList( new Row( "a", 1 ), new Row( "b", 2 ) ) );
+
+		assertThat( result.size() ).isEqualTo( 2 );
+		assertThat( result.isValid() ).isTrue();
+		assertThat( result.isValid( 1 ) ).isTrue();
+		assertThat( result.getInvalidCount() ).isEqualTo( 0 );
+		assertThat( result.getInvalidIndexes() ).isEmpty();
+		assertThat( result.getConstraintViolations( 0 ) ).isEmpty();
+	}
+
+	@Test
+	public void testValidateAllWithEmptyBatch() {
+		BatchValidationResult<Row> result = validator.validateAll( Collections.<Row>emptyList() );
+
+		assertThat( result.size() ).isEqualTo( 0 );
+		assertThat( result.isValid() ).isTrue();
+	}
+
+	@Test
+	public void testValidateAllWithStream() {
+		BatchValidationResult<Row> result = validator.validateAll(
+				IntStream.range( 0, 1000 ).mapToObj( i -> new Row( i % 100 == 0 ? null : "row-" + i, 1 ) )
+		);
+
+		assertThat( result.size() ).isEqualTo( 1000 );
+		assertThat( result.getInvalidIndexes() ).containsExactly( 0, 100, 200, 300, 400, 500, 600, 700, 800, 900 );
+	}
+
+	@Test
+	public void testValidateAllWithGroups() {
+		List<Row> rows = Arrays.asList( new Row( "a", 1 ), new Row( "b", 200 ) );
+
+		assertThat( validator.validateAll( rows ).isValid() ).isTrue();
+
+		BatchValidationResult<Row> result = validator.validateAll( rows, Strict.class );
+		assertThat( result.getInvalidIndexes() ).containsExactly( 1 );
+		assertThat( result.getConstraintViolations( 1 ) ).containsOnlyViolations(
+				violationOf( Max.class ).withProperty( "quantity" )
+		);
+	}
+
+	@Test
+	public void testValidateAllWithHeterogeneousBeans() {
+		BatchValidationResult<Object> result = validator.validateAll( Arrays.asList(
+				new Row( null, 1 ),
+				new Unconstrained(),
+				new Row( "a", 1 ),
+				new Order( new Row( "a", -1 ) ),
+				new Row( "b", -1 )
+		) );
+
+		assertThat( result.getInvalidIndexes() ).containsExactly( 0, 3, 4 );
+		assertThat( result.getConstraintViolations( 3 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "row" )
+						.property( "quantity" ) )
+		);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testIndexOutOfBatch() {
+		validator.validateAll( Arrays.asList( new Row( "a", 1 ) ) ).isValid( 1 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateAllWithNullElement() {
+		validator.validateAll( Arrays.asList( new Row( "a", 1 ), null ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateAllWithNullIterable() {
+		validator.validateAll( (Iterable<Row>) null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateAllWithNullGroup() {
+		validator.validateAll( Stream.of( new Row( "a", 1 ) ), (Class<?>) null );
+	}
+
+	private interface Strict {
+	}
+
+	private static class Row {
+
+		@NotNull
+		private final String name;
+
+		@Min(0)
+		@Max(value = 100, groups = Strict.class)
+		private final int quantity;
+
+		private Row(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Order {
+
+		@Valid
+		private final Row row;
+
+		private Order(Row row) {
+			this.row = row;
+		}
+	}
+
+	private static class Unconstrained {
+	}
+}
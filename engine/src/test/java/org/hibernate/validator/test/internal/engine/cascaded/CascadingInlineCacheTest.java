@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of cascaded values whose runtime classes vary, the metadata and value extractors of these
+ * classes being kept in inline caches by the cascading metadata with the strong retention of the bean metadata.
+ */
+public class CascadingInlineCacheTest {
+
+	@Test
+	public void testCascadedValuesOfASealedHierarchy() {
+		Validator validator = getStrongRetentionValidator();
+		Drawing drawing = new Drawing( new Circle( 0 ), new Square( 1 ), new Circle( 1 ), new Square( 0 ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( drawing ) ).containsOnlyPaths(
+					pathWith()
+							.property( "shapes" )
+							.property( "radius", true, null, 0, List.class, 0 ),
+					pathWith()
+							.property( "shapes" )
+							.property( "side", true, null, 3, List.class, 0 )
+			);
+		}
+	}
+
+	@Test
+	public void testCascadedValuesOfMoreClassesThanCached() {
+		Validator validator = getStrongRetentionValidator();
+		Drawing drawing = new Drawing( new Circle( 0 ), new Square( 0 ), new Triangle( 0 ), new Hexagon( 0 ), new Star( 0 ), new Circle( 0 ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( getPaths( validator.validate( drawing ) ) ).containsExactlyInAnyOrder(
+					"shapes[0].radius", "shapes[1].side", "shapes[2].base", "shapes[3].edge", "shapes[4].branches", "shapes[5].radius"
+			);
+		}
+	}
+
+	@Test
+	public void testCascadedValueWhoseClassChanges() {
+		Validator validator = getStrongRetentionValidator();
+		Frame frame = new Frame();
+
+		frame.content = new Circle( 0 );
+		assertThat( getPaths( validator.validate( frame ) ) ).containsExactly( "content.radius" );
+
+		frame.content = new Caption( "" );
+		assertThat( getPaths( validator.validate( frame ) ) ).containsExactly( "content.text" );
+
+		frame.content = new ArrayList<>( Arrays.asList( new Circle( 0 ), new Caption( "" ) ) );
+		assertThat( getPaths( validator.validate( frame ) ) ).containsExactlyInAnyOrder( "content[0].radius", "content[1].text" );
+
+		frame.content = new LinkedList<>( Arrays.asList( new Square( 0 ) ) );
+		assertThat( getPaths( validator.validate( frame ) ) ).containsExactly( "content[0].side" );
+
+		frame.content = new Circle( 0 );
+		assertThat( getPaths( validator.validate( frame ) ) ).containsExactly( "content.radius" );
+	}
+
+	@Test
+	public void testCascadedValuesWithASoftRetention() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataRetention( BeanMetaDataRetention.SOFT )
+				.buildValidatorFactory()
+				.getValidator();
+		Drawing drawing = new Drawing( new Circle( 0 ), new Square( 0 ), new Triangle( 0 ), new Hexagon( 0 ), new Star( 0 ), new Circle( 0 ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( getPaths( validator.validate( drawing ) ) ).containsExactlyInAnyOrder(
+					"shapes[0].radius", "shapes[1].side", "shapes[2].base", "shapes[3].edge", "shapes[4].branches", "shapes[5].radius"
+			);
+		}
+	}
+
+	@Test
+	public void testCascadedValuesWithABoundedRetention() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataRetention( BeanMetaDataRetention.BOUNDED )
+				.beanMetaDataCacheMaxSize( 2 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+		Drawing drawing = new Drawing( new Circle( 0 ), new Square( 0 ), new Triangle( 0 ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( getPaths( validator.validate( drawing ) ) ).containsExactlyInAnyOrder(
+					"shapes[0].radius", "shapes[1].side", "shapes[2].base"
+			);
+		}
+		assertThat( validatorFactory.getBeanMetaDataCacheStatistics().getSize() ).isLessThanOrEqualTo( 2 );
+
+		validatorFactory.close();
+	}
+
+	private static Validator getStrongRetentionValidator() {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataRetention( BeanMetaDataRetention.STRONG )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static List<String> getPaths(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath().toString() )
+				.collect( Collectors.toList() );
+	}
+
+	private static class Drawing {
+
+		@NotNull
+		private final List<@Valid Shape> shapes;
+
+		private Drawing(Shape... shapes) {
+			this.shapes = Arrays.asList( shapes );
+		}
+	}
+
+	private static class Frame {
+
+		@Valid
+		private Object content;
+	}
+
+	private sealed interface Shape permits Circle, Square, Triangle, Hexagon, Star {
+	}
+
+	private static final class Circle implements Shape {
+
+		@Min(1)
+		private final int radius;
+
+		private Circle(int radius) {
+			this.radius = radius;
+		}
+	}
+
+	private static final class Square implements Shape {
+
+		@Min(1)
+		private final int side;
+
+		private Square(int side) {
+			this.side = side;
+		}
+	}
+
+	private static final class Triangle implements Shape {
+
+		@Min(1)
+		private final int base;
+
+		private Triangle(int base) {
+			this.base = base;
+		}
+	}
+
+	private static final class Hexagon implements Shape {
+
+		@Min(1)
+		@Max(100)
+		private final int edge;
+
+		private Hexagon(int edge) {
+			this.edge = edge;
+		}
+	}
+
+	private static final class Star implements Shape {
+
+		@Min(1)
+		private final int branches;
+
+		private Star(int branches) {
+			this.branches = branches;
+		}
+	}
+
+	private static class Caption {
+
+		@NotBlank
+		private final String text;
+
+		private Caption(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the parallel validation of the elements of large cascaded containers.
+ */
+public class ParallelCascadedValidationTest {
+
+	private static final int SIZE = 2_000;
+
+	@Test
+	public void testParallelValidationReportsTheSameViolationsAsSequentialValidation() {
+		Order order = new Order( SIZE );
+
+		assertThat( describe( parallelValidator( new CountingExecutor() ).validate( order ) ) )
+				.isNotEmpty()
+				.isEqualTo( describe( sequentialValidator().validate( order ) ) );
+	}
+
+	@Test
+	public void testParallelValidationOfListSetArrayAndNestedContainers() {
+		CountingExecutor executor = new CountingExecutor();
+		Order order = new Order( SIZE );
+
+		Set<ConstraintViolation<Order>> violations = parallelValidator( executor ).validate( order );
+
+		assertThat( executor.executions.get() ).isGreaterThan( 0 );
+		assertThat( violations ).containsPaths(
+				pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 7, List.class, 0 ),
+				pathWith()
+						.property( "linesAsArray" )
+						.property( "quantity", true, null, 14, Object[].class, null ),
+				pathWith()
+						.property( "tags" )
+						.property( "name", true, null, null, Set.class, 0 ),
+				pathWith()
+						.property( "batches" )
+						.containerElement( "<list element>", true, null, 0, List.class, 0 )
+						.property( "quantity", true, null, 0, List.class, 0 )
+		);
+	}
+
+	@Test
+	public void testBelowThresholdContainersAreValidatedSequentially() {
+		CountingExecutor executor = new CountingExecutor();
+
+		Set<ConstraintViolation<Order>> violations = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.parallelCascadedValidation( true )
+				.parallelCascadedValidationThreshold( SIZE + 1 )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator()
+				.validate( new Order( SIZE ) );
+
+		assertThat( executor.executions.get() ).isEqualTo( 0 );
+		assertThat( describe( violations ) ).isEqualTo( describe( sequentialValidator().validate( new Order( SIZE ) ) ) );
+	}
+
+	@Test
+	public void testGroupSequenceAndGroupConversion() {
+		Order order = new Order( SIZE );
+
+		assertThat( describe( parallelValidator( new CountingExecutor() ).validate( order, Checks.class ) ) )
+				.isNotEmpty()
+				.isEqualTo( describe( sequentialValidator().validate( order, Checks.class ) ) );
+	}
+
+	@Test
+	public void testCycleThroughTheContainerElements() {
+		Order order = new Order( SIZE );
+		for ( Line line : order.lines ) {
+			line.order = order;
+		}
+
+		assertThat( describe( parallelValidator( new CountingExecutor() ).validate( order ) ) )
+				.isEqualTo( describe( sequentialValidator().validate( order ) ) );
+	}
+
+	@Test
+	public void testRejectedExecutionFallsBackToTheCallingThread() {
+		Executor rejectingExecutor = new ForkJoinPool( 3 ) {
+			@Override
+			public void execute(Runnable task) {
+				throw new RejectedExecutionException();
+			}
+		};
+		Order order = new Order( SIZE );
+
+		assertThat( describe( parallelValidator( rejectingExecutor ).validate( order ) ) )
+				.isEqualTo( describe( sequentialValidator().validate( order ) ) );
+	}
+
+	@Test
+	public void testExceptionThrownWhileValidatingAnElementIsPropagated() {
+		Order order = new Order( SIZE );
+		order.lines.get( SIZE - 3 ).failing = true;
+
+		try {
+			parallelValidator( new CountingExecutor() ).validate( order );
+		}
+		catch (ValidationException e) {
+			assertThat( e.getMessage() ).startsWith( "HV000090" );
+			return;
+		}
+		throw new AssertionError( "A ValidationException should have been thrown" );
+	}
+
+	@Test
+	public void testFailFastDisablesParallelValidation() {
+		CountingExecutor executor = new CountingExecutor();
+
+		Set<ConstraintViolation<Order>> violations = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.parallelCascadedValidation( true )
+				.parallelCascadedValidationThreshold( 100 )
+				.parallelCascadedValidationExecutor( executor )
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator()
+				.validate( new Order( SIZE ) );
+
+		assertThat( executor.executions.get() ).isEqualTo( 0 );
+		assertThat( violations ).hasSize( 1 );
+	}
+
+	@Test
+	public void testParallelValidationUsingProperties() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION, "true" );
+		configuration.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, "100" );
+		CountingExecutor executor = new CountingExecutor();
+		configuration.parallelCascadedValidationExecutor( executor );
+
+		Order order = new Order( SIZE );
+
+		assertThat( describe( configuration.buildValidatorFactory().getValidator().validate( order ) ) )
+				.isEqualTo( describe( sequentialValidator().validate( order ) ) );
+		assertThat( executor.executions.get() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testParallelValidationEnabledPerValidator() {
+		CountingExecutor executor = new CountingExecutor();
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.parallelCascadedValidation( true )
+				.parallelCascadedValidationThreshold( 100 )
+				.parallelCascadedValidationExecutor( executor )
+				.getValidator();
+
+		Order order = new Order( SIZE );
+
+		assertThat( describe( validator.validate( order ) ) ).isEqualTo( describe( sequentialValidator().validate( order ) ) );
+		assertThat( executor.executions.get() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testParallelValidationWithPredefinedScope() {
+		CountingExecutor executor = new CountingExecutor();
+		Validator validator = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( ConstraintHelper.getBuiltinConstraints() )
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Order.class, Line.class, Tag.class ) ) )
+				.parallelCascadedValidation( true )
+				.parallelCascadedValidationThreshold( 100 )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Order order = new Order( SIZE );
+
+		assertThat( describe( validator.validate( order ) ) ).isEqualTo( describe( sequentialValidator().validate( order ) ) );
+		assertThat( executor.executions.get() ).isGreaterThan( 0 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000280:.*")
+	public void testInvalidThresholdProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, "0" );
+
+		configuration.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000281:.*")
+	public void testInvalidThreshold() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class ).parallelCascadedValidationThreshold( -1 );
+	}
+
+	private static Validator parallelValidator(Executor executor) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.parallelCascadedValidation( true )
+				.parallelCascadedValidationThreshold( 100 )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static Validator sequentialValidator() {
+		return ValidatorUtil.getValidator();
+	}
+
+	private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath() + " " + violation.getMessageTemplate() + " " + violation.getInvalidValue() )
+				.collect( Collectors.toSet() );
+	}
+
+	private static class CountingExecutor extends ForkJoinPool {
+
+		private final AtomicInteger executions = new AtomicInteger();
+
+		private CountingExecutor() {
+			super( 3 );
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			executions.incrementAndGet();
+			super.execute( task );
+		}
+	}
+
+	private interface Checks {
+	}
+
+	private interface Strict {
+	}
+
+	@GroupSequence({ Strict.class, Checks.class })
+	private interface StrictThenChecks {
+	}
+
+	private static class Order {
+
+		private final List<@Valid Line> lines = new ArrayList<>();
+
+		@Valid
+		private final Line[] linesAsArray;
+
+		private final Set<@Valid Tag> tags = new LinkedHashSet<>();
+
+		private final List<List<@Valid Line>> batches = new ArrayList<>();
+
+		private final List<@Valid @ConvertGroup(from = Checks.class, to = StrictThenChecks.class) Line> convertedLines;
+
+		private Order(int size) {
+			for ( int i = 0; i < size; i++ ) {
+				lines.add( new Line( i ) );
+				tags.add( new Tag( i % 13 == 0 ? null : "tag" + i ) );
+			}
+			linesAsArray = lines.toArray( new Line[0] );
+			batches.add( new ArrayList<>( lines ) );
+			convertedLines = new ArrayList<>( lines );
+		}
+	}
+
+	private static class Line {
+
+		@Min(value = 1, groups = { Default.class, Checks.class })
+		private final int quantity;
+
+		@Max(value = 10, groups = Strict.class)
+		private final int strictQuantity;
+
+		@Valid
+		private Order order;
+
+		private boolean failing;
+
+		private Line(int index) {
+			this.quantity = index % 7 == 0 ? 0 : 1;
+			this.strictQuantity = index % 3 == 0 ? 11 : 1;
+		}
+
+		@Max(value = 0, groups = Default.class)
+		public Integer getOverflow() {
+			if ( failing ) {
+				throw new IllegalStateException( "failing getter" );
+			}
+			return null;
+		}
+	}
+
+	private static class Tag {
+
+		@NotNull
+		private final String name;
+
+		private Tag(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -16,7 +16,15 @@
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidator;
@@ -166,6 +174,7 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	@Test
 	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 1 );
 
 		for ( int i = 0; i < 10; i++ ) {
 			constraintValidatorManager.getInitializedValidator(
@@ -189,6 +198,130 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 		);
 	}
 
+	@Test
+	public void testInstancesOfAlternatingCustomFactoriesAreCached() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		CountingValidatorFactory[] factories = new CountingValidatorFactory[4];
+		for ( int i = 0; i < factories.length; i++ ) {
+			factories[i] = new CountingValidatorFactory();
+		}
+
+		for ( int i = 0; i < 10; i++ ) {
+			for ( CountingValidatorFactory factory : factories ) {
+				constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory,
+						getDummyConstraintValidatorInitializationContext() );
+			}
+		}
+
+		assertThat( constraintValidatorManager.numberOfCachedNonDefaultContexts() ).isEqualTo( factories.length );
+		assertThat( constraintValidatorManager.numberOfCachedConstraintValidatorInstances() ).isEqualTo( factories.length );
+		for ( CountingValidatorFactory factory : factories ) {
+			assertThat( factory.instanceCount ).isEqualTo( 1 );
+			assertThat( factory.releaseCount ).isZero();
+		}
+
+		constraintValidatorManager.clear();
+		for ( CountingValidatorFactory factory : factories ) {
+			assertThat( factory.releaseCount ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testInstancesOfEvictedCustomFactoriesAreReleased() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 2 );
+		CountingValidatorFactory[] factories = new CountingValidatorFactory[3];
+		for ( int i = 0; i < factories.length; i++ ) {
+			factories[i] = new CountingValidatorFactory();
+			constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factories[i],
+					getDummyConstraintValidatorInitializationContext() );
+		}
+
+		assertThat( constraintValidatorManager.numberOfCachedNonDefaultContexts() ).isEqualTo( 2 );
+		assertThat( constraintValidatorManager.numberOfCachedConstraintValidatorInstances() ).isEqualTo( 2 );
+		// the last factory is never evicted as its validators are about to be used
+		assertThat( factories[2].releaseCount ).isZero();
+		assertThat( factories[0].releaseCount + factories[1].releaseCount ).isEqualTo( 1 );
+
+		constraintValidatorManager.clear();
+		for ( CountingValidatorFactory factory : factories ) {
+			assertThat( factory.releaseCount ).isEqualTo( factory.instanceCount );
+		}
+	}
+
+	@Test
+	public void testReleasedInstancesOfConcurrentlyEvictedCustomFactoriesAreNotReturned() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 1 );
+		CountingValidatorFactory otherFactory = new CountingValidatorFactory();
+		// simulates another thread evicting the factory while its validator is being created
+		EvictingValidatorFactory factory = new EvictingValidatorFactory( () -> constraintValidatorManager.getInitializedValidator( String.class,
+				constraintDescriptor, otherFactory, getDummyConstraintValidatorInitializationContext() ) );
+
+		ConstraintValidator<?, ?> constraintValidator = constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor,
+				factory, getDummyConstraintValidatorInitializationContext() );
+
+		assertThat( factory.instanceCount ).isEqualTo( 2 );
+		assertThat( factory.releasedInstances ).hasSize( 1 );
+		assertThat( factory.releasedInstances ).doesNotContain( constraintValidator );
+		assertThat( constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory,
+				getDummyConstraintValidatorInitializationContext() ) ).isSameAs( constraintValidator );
+	}
+
+	@Test(timeOut = 10_000)
+	public void testInstancesOfContinuouslyEvictedCustomFactoriesAreNotCached() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 1 );
+		CountingValidatorFactory otherFactory = new CountingValidatorFactory();
+		// simulates another thread evicting the factory each time one of its validators is being created
+		EvictingValidatorFactory factory = new EvictingValidatorFactory( () -> constraintValidatorManager.getInitializedValidator( String.class,
+				constraintDescriptor, otherFactory, getDummyConstraintValidatorInitializationContext() ), true );
+
+		ConstraintValidator<?, ?> constraintValidator = constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor,
+				factory, getDummyConstraintValidatorInitializationContext() );
+
+		assertThat( constraintValidator ).isInstanceOf( NotNullValidator.class );
+		assertThat( factory.releasedInstances ).hasSize( factory.instanceCount - 1 );
+		assertThat( factory.releasedInstances ).doesNotContain( constraintValidator );
+
+		constraintValidatorManager.clear();
+		assertThat( factory.releasedInstances ).doesNotContain( constraintValidator );
+	}
+
+	@Test(timeOut = 60_000)
+	public void testMoreConcurrentCustomFactoriesThanCachedOnes() throws Exception {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 2 );
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			CyclicBarrier barrier = new CyclicBarrier( threadCount );
+			List<Future<Boolean>> results = new ArrayList<>();
+			for ( int i = 0; i < threadCount; i++ ) {
+				ConstraintValidatorFactory factory = new DefaultConstraintValidatorFactory();
+				results.add( executor.submit( () -> {
+					barrier.await();
+					for ( int j = 0; j < 1_000; j++ ) {
+						ConstraintValidator<?, ?> constraintValidator = constraintValidatorManager.getInitializedValidator( String.class,
+								constraintDescriptor, factory, getDummyConstraintValidatorInitializationContext() );
+						if ( !( constraintValidator instanceof NotNullValidator ) ) {
+							return false;
+						}
+					}
+					return true;
+				} ) );
+			}
+
+			for ( Future<Boolean> result : results ) {
+				assertTrue( result.get() );
+			}
+			assertThat( constraintValidatorManager.numberOfCachedNonDefaultContexts() ).isLessThanOrEqualTo( threadCount );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-662")
 	public void testValidatorsAreCachedPerConstraint() {
@@ -500,4 +633,59 @@ public void releaseInstance(ConstraintValidator<?, ?> instance) {
 			delegate.releaseInstance( instance );
 		}
 	}
+
+	public static class CountingValidatorFactory implements ConstraintValidatorFactory {
+		private final ConstraintValidatorFactory delegate = new DefaultConstraintValidatorFactory();
+		private int instanceCount;
+		private int releaseCount;
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			instanceCount++;
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releaseCount++;
+			delegate.releaseInstance( instance );
+		}
+	}
+
+	public static class EvictingValidatorFactory implements ConstraintValidatorFactory {
+		private final ConstraintValidatorFactory delegate = new DefaultConstraintValidatorFactory();
+		private final Set<ConstraintValidator<?, ?>> releasedInstances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final boolean continuous;
+		private Runnable eviction;
+		private int instanceCount;
+
+		public EvictingValidatorFactory(Runnable eviction) {
+			this( eviction, false );
+		}
+
+		public EvictingValidatorFactory(Runnable eviction, boolean continuous) {
+			this.eviction = eviction;
+			this.continuous = continuous;
+		}
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			instanceCount++;
+			if ( eviction != null ) {
+				Runnable currentEviction = eviction;
+				eviction = null;
+				currentEviction.run();
+				if ( continuous ) {
+					eviction = currentEviction;
+				}
+			}
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances.add( instance );
+			delegate.releaseInstance( instance );
+		}
+	}
 }
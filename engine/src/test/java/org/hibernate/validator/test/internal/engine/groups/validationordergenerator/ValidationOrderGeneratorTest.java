@@ -5,9 +5,16 @@
 package org.hibernate.validator.test.internal.engine.groups.validationordergenerator;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -129,6 +136,73 @@ public void testSequenceResolution() {
 		assertEquals( sequence.get( 1 ).getDefiningClass(), Address.HighLevelCoherence.class, "Wrong group" );
 	}
 
+	@Test
+	public void testValidationOrdersAreCached() {
+		ValidationOrderGenerator generator = new ValidationOrderGenerator();
+
+		ValidationOrder validationOrder = generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Sequence4.class ) );
+
+		assertSame( generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Sequence4.class ) ), validationOrder );
+		assertSame( generator.getValidationOrder( new LinkedHashSet<>( Arrays.<Class<?>>asList( First.class, Sequence4.class ) ) ), validationOrder );
+		assertNotSame( generator.getValidationOrder( Arrays.<Class<?>>asList( Sequence4.class, First.class ) ), validationOrder );
+		assertSame( generator.getValidationOrder( First.class, true ), generator.getValidationOrder( Collections.singletonList( First.class ) ) );
+		assertSame( generator.getValidationOrder( First.class, false ), generator.getValidationOrder( First.class, false ) );
+	}
+
+	@Test
+	public void testPreloadValidationOrdersIgnoresSequences() {
+		ValidationOrderGenerator generator = new ValidationOrderGenerator();
+
+		generator.preloadValidationOrders( Arrays.<Class<?>>asList( Default.class, First.class, CyclicGroupSequence.class ) );
+
+		assertEquals( countGroups( generator.getValidationOrder( Collections.singletonList( First.class ) ) ), 1 );
+		try {
+			generator.getValidationOrder( Collections.singletonList( CyclicGroupSequence.class ) );
+			fail( "The cyclic group sequence should have been detected" );
+		}
+		catch (GroupDefinitionException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testValidationOrderCacheIsClearedWhenFull() {
+		ValidationOrderGenerator generator = new ValidationOrderGenerator();
+		List<Class<?>> availableGroups = Arrays.asList( First.class, Second.class, Last.class, GroupA.class, GroupB.class,
+				Address.HighLevelCoherence.class, Default.class );
+
+		// 7 * 6 * 5 * 4 = 840 lists of 4 groups and 7 * 6 * 5 = 210 lists of 3 groups, more than the cache can hold
+		List<List<Class<?>>> combinations = new ArrayList<>();
+		for ( Class<?> first : availableGroups ) {
+			for ( Class<?> second : availableGroups ) {
+				for ( Class<?> third : availableGroups ) {
+					if ( first == second || first == third || second == third ) {
+						continue;
+					}
+					combinations.add( Arrays.asList( first, second, third ) );
+					for ( Class<?> fourth : availableGroups ) {
+						if ( fourth != first && fourth != second && fourth != third ) {
+							combinations.add( Arrays.asList( first, second, third, fourth ) );
+						}
+					}
+				}
+			}
+		}
+		List<ValidationOrder> validationOrders = new ArrayList<>();
+		for ( List<Class<?>> combination : combinations ) {
+			validationOrders.add( generator.getValidationOrder( combination ) );
+		}
+
+		// the cache has been cleared when full, the combinations used since then are cached again
+		List<Class<?>> firstCombination = combinations.get( 0 );
+		assertNotSame( generator.getValidationOrder( firstCombination ), validationOrders.get( 0 ) );
+
+		List<Class<?>> lastCombination = combinations.get( combinations.size() - 1 );
+		ValidationOrder validationOrder = generator.getValidationOrder( lastCombination );
+		assertSame( validationOrder, validationOrders.get( validationOrders.size() - 1 ) );
+		assertEquals( countGroups( validationOrder ), lastCombination.size() );
+	}
+
 	private int countGroups(ValidationOrder chain) {
 		Iterator<Group> groupIterator = chain.getGroupIterator();
 		int count = 0;
@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.lazyviolation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the lazy interpolation of the messages of the constraint violations.
+ *
+ * @see HibernateValidatorConfiguration#lazyConstraintViolations(boolean)
+ */
+public class LazyConstraintViolationTest {
+
+	private CountingMessageInterpolator messageInterpolator;
+
+	@BeforeMethod
+	public void setUp() {
+		messageInterpolator = new CountingMessageInterpolator();
+	}
+
+	@Test
+	public void testMessageIsInterpolatedOnFirstAccess() {
+		Validator validator = getValidator( true );
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer( null, "K" ) );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Size.class ).withProperty( "nickname" )
+		);
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+
+		for ( ConstraintViolation<Customer> violation : violations ) {
+			if ( violation.getConstraintDescriptor().getAnnotation() instanceof NotNull ) {
+				assertThat( violation.getMessage() ).isEqualTo( "must not be null" );
+			}
+			else {
+				assertThat( violation.getMessage() ).isEqualTo( "size must be between 2 and 10" );
+			}
+		}
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 2 );
+
+		// the message is interpolated only once
+		violations.forEach( ConstraintViolation::getMessage );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMessagesAreInterpolatedEagerlyByDefault() {
+		Validator validator = getValidator( false );
+
+		validator.validate( new Customer( null, "K" ) );
+
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEqualsAndHashCodeDoNotDependOnMessageAccess() {
+		Validator validator = getValidator( true );
+		Customer customer = new Customer( null, "K" );
+
+		ConstraintViolation<Customer> violation = validator.validateProperty( customer, "name" ).iterator().next();
+		ConstraintViolation<Customer> sameViolation = validator.validateProperty( customer, "name" ).iterator().next();
+		int hashCode = violation.hashCode();
+
+		assertThat( violation ).isEqualTo( sameViolation );
+		assertThat( sameViolation.hashCode() ).isEqualTo( hashCode );
+
+		violation.getMessage();
+
+		assertThat( violation.hashCode() ).isEqualTo( hashCode );
+		assertThat( violation ).isEqualTo( sameViolation );
+		assertThat( sameViolation ).isEqualTo( violation );
+	}
+
+	@Test
+	public void testViolationsDifferingByMessageParametersAreNotEqual() {
+		Validator validator = getValidator( true );
+
+		Set<ConstraintViolation<Reservation>> violations = validator.validate( new Reservation() );
+
+		assertThat( violations ).hasSize( 2 );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+
+		Set<String> messages = new HashSet<>();
+		violations.forEach( violation -> messages.add( violation.getMessage() ) );
+		assertThat( messages ).containsOnly( "seat 1 is not available", "seat 2 is not available" );
+	}
+
+	@Test
+	public void testLazyConstraintViolationsEnabledWithProperty() {
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.addProperty( HibernateValidatorConfiguration.LAZY_CONSTRAINT_VIOLATIONS, "true" )
+				.buildValidatorFactory();
+
+		Set<ConstraintViolation<Customer>> violations = validatorFactory.getValidator().validate( new Customer( null, "Kermit" ) );
+
+		assertThat( violations ).hasSize( 1 );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+		assertThat( violations.iterator().next().getMessage() ).isEqualTo( "must not be null" );
+	}
+
+	@Test
+	public void testLazyConstraintViolationsEnabledWithContext() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.lazyConstraintViolations( true )
+				.getValidator();
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer( null, "Kermit" ) );
+
+		assertThat( violations ).hasSize( 1 );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+		assertThat( violations.iterator().next().getMessage() ).isEqualTo( "must not be null" );
+	}
+
+	@Test
+	public void testInterpolationExceptionIsThrownOnMessageAccess() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( new FailingMessageInterpolator() )
+				.lazyConstraintViolations( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer( null, "Kermit" ) );
+
+		assertThat( violations ).hasSize( 1 );
+		ConstraintViolation<Customer> violation = violations.iterator().next();
+		try {
+			violation.getMessage();
+		}
+		catch (ValidationException e) {
+			assertThat( e ).hasCauseInstanceOf( IllegalStateException.class );
+			return;
+		}
+		throw new AssertionError( "A ValidationException should have been thrown" );
+	}
+
+	@Test
+	public void testSerializationInterpolatesTheMessage() throws Exception {
+		Validator validator = getValidator( true );
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer( null, "Kermit" ) );
+
+		ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( byteOutput ) ) {
+			out.writeObject( violations.iterator().next() );
+		}
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 1 );
+
+		ConstraintViolation<?> deserializedViolation;
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( byteOutput.toByteArray() ) ) ) {
+			deserializedViolation = (ConstraintViolation<?>) in.readObject();
+		}
+
+		assertThat( deserializedViolation.getMessage() ).isEqualTo( "must not be null" );
+		assertThat( deserializedViolation.getMessageTemplate() ).isEqualTo( "{jakarta.validation.constraints.NotNull.message}" );
+		assertThat( deserializedViolation.getPropertyPath().toString() ).isEqualTo( "name" );
+	}
+
+	private Validator getValidator(boolean lazyConstraintViolations) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.lazyConstraintViolations( lazyConstraintViolations )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static class Customer implements Serializable {
+
+		@NotNull
+		private final String name;
+
+		@Size(min = 2, max = 10)
+		private final String nickname;
+
+		private Customer(String name, String nickname) {
+			this.name = name;
+			this.nickname = nickname;
+		}
+	}
+
+	private static class Reservation {
+
+		@AvailableSeat(seat = 1)
+		private final String firstSeat = "taken";
+
+		@AvailableSeat(seat = 2)
+		private final String secondSeat = "taken";
+	}
+
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = AvailableSeatValidator.class)
+	public @interface AvailableSeat {
+
+		String message() default "seat {seat} is not available";
+
+		int seat();
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class AvailableSeatValidator implements ConstraintValidator<AvailableSeat, String> {
+
+		private int seat;
+
+		@Override
+		public void initialize(AvailableSeat constraintAnnotation) {
+			this.seat = constraintAnnotation.seat();
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			// both violations share the same template, only the message parameter differs
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.disableDefaultConstraintViolation();
+			hibernateContext.addMessageParameter( "seat", seat )
+					.buildConstraintViolationWithTemplate( "seat {seat} is not available" )
+					.addConstraintViolation();
+			return false;
+		}
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = ValidatorUtil.getConfiguration().getDefaultMessageInterpolator();
+
+		private final AtomicInteger interpolations = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class FailingMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			throw new IllegalStateException( "Interpolation failure" );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			throw new IllegalStateException( "Interpolation failure" );
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.el.ELException;
+import jakarta.el.ELProcessor;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the expressions of messages which are evaluated without the Expression Language.
+ */
+public class CompiledExpressionInterpolationTest {
+
+	private static final List<String> EXPRESSIONS = Arrays.asList(
+			"${validatedValue}",
+			"${ validatedValue }",
+			"${'literal'}",
+			"${\"it\\\"s\"}",
+			"${'it\\'s'}",
+			"${42}",
+			"${4.2}",
+			"${formatter.format('%1$.2f', validatedValue)}",
+			"${formatter.format('%s and %s', validatedValue, 'more')}",
+			"${formatter.format('%d', 42)}",
+			"${formatter.format('%s', max)}",
+			"${validatedValue == null ? 'nothing' : validatedValue}",
+			"${null != validatedValue ? validatedValue : 'nothing'}",
+			"${validatedValue eq null ? 'nothing' : formatter.format('[%s]', validatedValue)}",
+			"${validatedValue ? 'yes' : 'no'}",
+			"${variable}",
+			"${variable == null ? 'no variable' : variable}"
+	);
+
+	private static final List<Object> VALIDATED_VALUES = Arrays.asList(
+			null, "", "abc", "true", Boolean.TRUE, 42L, 3.14159d, Color.RED
+	);
+
+	private ResourceBundleMessageInterpolator interpolator;
+
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	@BeforeMethod
+	public void setUp() {
+		ConstraintAnnotationDescriptor.Builder<Size> sizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		sizeAnnotationDescriptorBuilder.setAttribute( "max", 10 );
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				sizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		interpolator = new ResourceBundleMessageInterpolator();
+	}
+
+	@Test
+	public void testCompiledExpressionsGiveTheSameResultsAsTheExpressionLanguage() {
+		for ( String expression : EXPRESSIONS ) {
+			for ( Object validatedValue : VALIDATED_VALUES ) {
+				for ( Map<String, Object> expressionVariables : Arrays.asList( Collections.<String, Object>emptyMap(), Collections.<String, Object>singletonMap( "variable", "var" ) ) ) {
+					String expected = evaluateWithExpressionLanguage( expression, validatedValue, expressionVariables );
+					if ( expected == null ) {
+						// unknown variables and invalid conversions are left to the Expression Language
+						continue;
+					}
+
+					assertEquals(
+							interpolator.interpolate( expression, createContext( validatedValue, expressionVariables, ExpressionLanguageFeatureLevel.VARIABLES ), Locale.US ),
+							expected,
+							"Wrong interpolation of " + expression + " for " + validatedValue
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testExpressionsAreInterpolatedWithoutExpressionLanguageImplementation() {
+		ResourceBundleMessageInterpolator interpolatorWithoutExpressionFactory = new ResourceBundleMessageInterpolator(
+				new PlatformResourceBundleLocator( ResourceBundleMessageInterpolator.USER_VALIDATION_MESSAGES ),
+				Collections.singleton( Locale.US ),
+				Locale.US,
+				new DefaultLocaleResolver(),
+				false,
+				true,
+				null
+		);
+		MessageInterpolator.Context context = createContext( 3.14159d, Collections.emptyMap(), ExpressionLanguageFeatureLevel.BEAN_PROPERTIES );
+
+		assertEquals(
+				interpolatorWithoutExpressionFactory.interpolate( "${formatter.format('%1$.2f', validatedValue)} is above ${max + 0}", context ),
+				"3.14 is above ${max + 0}"
+		);
+		assertEquals(
+				interpolatorWithoutExpressionFactory.interpolate( "${validatedValue == null ? 'nothing' : validatedValue}", context ),
+				"3.14159"
+		);
+	}
+
+	@Test
+	public void testUnresolvedExpressionsFallBackToTheExpressionLanguage() {
+		MessageInterpolator.Context context = createContext( "abc", Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES );
+
+		assertEquals( interpolator.interpolate( "${unknown}", context ), "${unknown}" );
+		assertEquals( interpolator.interpolate( "${formatter.format('%d', validatedValue)}", context ), "${formatter.format('%d', validatedValue)}" );
+		assertEquals( interpolator.interpolate( "${validatedValue.length()}", context ), "${validatedValue.length()}" );
+	}
+
+	@Test
+	public void testCompiledExpressionsAreNotInterpolatedWhenExpressionLanguageIsDisabled() {
+		assertEquals(
+				interpolator.interpolate( "${validatedValue}", createContext( "abc", Collections.emptyMap(), ExpressionLanguageFeatureLevel.NONE ) ),
+				"${validatedValue}"
+		);
+	}
+
+	private MessageInterpolator.Context createContext(Object validatedValue, Map<String, Object> expressionVariables,
+			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.emptyMap(),
+				expressionVariables,
+				expressionLanguageFeatureLevel,
+				false,
+				null
+		);
+	}
+
+	private String evaluateWithExpressionLanguage(String expression, Object validatedValue, Map<String, Object> expressionVariables) {
+		ELProcessor elProcessor = new ELProcessor();
+		elProcessor.getELManager().addELResolver( new RootResolver() );
+		elProcessor.defineBean( "validatedValue", validatedValue );
+		elProcessor.defineBean( "formatter", new FormatterWrapper( Locale.US ) );
+		elProcessor.defineBean( "max", sizeDescriptor.getAttributes().get( "max" ) );
+		for ( Map.Entry<String, Object> expressionVariable : expressionVariables.entrySet() ) {
+			elProcessor.defineBean( expressionVariable.getKey(), expressionVariable.getValue() );
+		}
+
+		try {
+			return elProcessor.getValue( expression.substring( 2, expression.length() - 1 ), String.class );
+		}
+		catch (ELException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private enum Color {
+		RED;
+
+		@Override
+		public String toString() {
+			return "red";
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.constraints.NotNull;
@@ -372,6 +373,51 @@ public void testSingleEscapedQuoteInELExpression() {
 		);
 	}
 
+	@Test
+	public void testParsedExpressionIsReusedWithTheValuesOfEachInterpolation() {
+		String template = "${validatedValue} must be between ${min + 1} and ${max < 10 ? 'ten' : max}, ${unit}";
+
+		for ( ExpressionLanguageFeatureLevel featureLevel : new ExpressionLanguageFeatureLevel[] {
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+				ExpressionLanguageFeatureLevel.BEAN_METHODS } ) {
+			for ( int i = 0; i < 3; i++ ) {
+				MessageInterpolator.Context context = new MessageInterpolatorContext(
+						sizeDescriptor,
+						"value-" + i,
+						null,
+						null,
+						Collections.<String, Object>emptyMap(),
+						Collections.<String, Object>singletonMap( "unit", "unit-" + i ),
+						featureLevel,
+						false,
+						null );
+
+				assertEquals(
+						interpolatorUnderTest.interpolate( template, context ),
+						"value-" + i + " must be between 1 and 2147483647, unit-" + i,
+						"Wrong substitution for " + featureLevel
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testExpressionVariablesTakePrecedenceOverAttributesAndValidatedValue() {
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				sizeDescriptor,
+				"value",
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Map.of( "min", 42, "validatedValue", "overridden" ),
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				false,
+				null );
+
+		assertEquals( interpolatorUnderTest.interpolate( "${min + 0} ${max - 0} ${validatedValue}", context ), "42 2147483647 overridden" );
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContextELBeanMethods(ConstraintDescriptorImpl<?> descriptor) {
 		return createMessageInterpolatorContext( descriptor, ExpressionLanguageFeatureLevel.BEAN_METHODS );
 	}
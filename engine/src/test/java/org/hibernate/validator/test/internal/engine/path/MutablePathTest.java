@@ -43,6 +43,7 @@
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.testutils.ValidatorUtil;
 
 import org.testng.annotations.Test;
@@ -246,7 +247,10 @@ public void testCreationOfExecutablePath() throws Exception {
 				new ValidationOrderGenerator(),
 				Collections.<MetaDataProvider>emptyList(),
 				new MethodValidationConfiguration.Builder().build(),
-				new DefaultProcessedBeansTrackingVoter()
+				new DefaultProcessedBeansTrackingVoter(),
+				false,
+				BeanMetaDataRetention.SOFT,
+				1000
 		);
 
 		ExecutableMetaData executableMetaData = beanMetaDataManager.getBeanMetaData( Container.class )
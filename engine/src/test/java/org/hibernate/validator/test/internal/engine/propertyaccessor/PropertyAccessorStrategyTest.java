@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.propertyaccessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the different {@link PropertyAccessorStrategy}s.
+ */
+public class PropertyAccessorStrategyTest {
+
+	@Test
+	public void testGeneratedAccessorsUsingProgrammaticConfiguration() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.propertyAccessorStrategy( PropertyAccessorStrategy.GENERATED )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertViolations( validator );
+	}
+
+	@Test
+	public void testGeneratedAccessorsUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PROPERTY_ACCESSOR_STRATEGY, "generated" );
+
+		assertViolations( configuration.buildValidatorFactory().getValidator() );
+	}
+
+	@Test
+	public void testReflectionAccessorsUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PROPERTY_ACCESSOR_STRATEGY, "reflection" );
+
+		assertViolations( configuration.buildValidatorFactory().getValidator() );
+	}
+
+	@Test
+	public void testGeneratedAccessorsWithPredefinedScope() {
+		Validator validator = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( ConstraintHelper.getBuiltinConstraints() )
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Car.class, Wheel.class ) ) )
+				.propertyAccessorStrategy( PropertyAccessorStrategy.GENERATED )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertViolations( validator );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000277:.*")
+	public void testInvalidPropertyValue() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PROPERTY_ACCESSOR_STRATEGY, "bytecode" );
+
+		configuration.buildValidatorFactory();
+	}
+
+	@Test
+	public void testExceptionThrownByGetterIsWrappedAsWithReflection() {
+		for ( PropertyAccessorStrategy strategy : PropertyAccessorStrategy.values() ) {
+			Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+					.propertyAccessorStrategy( strategy )
+					.buildValidatorFactory()
+					.getValidator();
+
+			try {
+				validator.validate( new FailingGetter() );
+			}
+			catch (ValidationException e) {
+				assertThat( e.getMessage() ).startsWith( "HV000090" );
+				assertThat( e.getCause().getCause() ).isInstanceOf( IllegalStateException.class );
+				continue;
+			}
+			throw new AssertionError( "A ValidationException should have been thrown for strategy " + strategy );
+		}
+	}
+
+	@Test
+	public void testGeneratedAccessorsReadTheSameValuesAsReflection() {
+		JavaBeanHelper reflection = new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider(),
+				PropertyAccessorStrategy.REFLECTION );
+		JavaBeanHelper generated = new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider(),
+				PropertyAccessorStrategy.GENERATED );
+
+		Car car = new Car();
+
+		for ( String field : Arrays.asList( "brand", "seats", "wheels" ) ) {
+			assertThat( generated.findDeclaredField( Car.class, field ).get().createAccessor().getValueFrom( car ) )
+					.isEqualTo( reflection.findDeclaredField( Car.class, field ).get().createAccessor().getValueFrom( car ) );
+		}
+		assertThat( generated.findDeclaredGetter( Car.class, "registered" ).get().createAccessor().getValueFrom( car ) )
+				.isEqualTo( reflection.findDeclaredGetter( Car.class, "registered" ).get().createAccessor().getValueFrom( car ) );
+		assertThat( generated.findDeclaredGetter( Vehicle.class, "model" ).get().createAccessor().getValueFrom( car ) )
+				.isEqualTo( reflection.findDeclaredGetter( Vehicle.class, "model" ).get().createAccessor().getValueFrom( car ) );
+		assertThat( generated.findDeclaredGetter( Identifiable.class, "identifier" ).get().createAccessor().getValueFrom( car ) )
+				.isEqualTo( reflection.findDeclaredGetter( Identifiable.class, "identifier" ).get().createAccessor().getValueFrom( car ) );
+	}
+
+	private static void assertViolations(Validator validator) {
+		assertThat( validator.validate( new Car() ) ).containsOnlyViolations(
+				violationOf( NotBlank.class ).withProperty( "brand" ),
+				violationOf( Min.class ).withProperty( "seats" ),
+				violationOf( AssertTrue.class ).withProperty( "registered" ),
+				violationOf( Size.class ).withProperty( "model" ),
+				violationOf( NotNull.class ).withProperty( "identifier" ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "wheels" ).property( "diameter", true, null, 0, List.class, 0 ) )
+		);
+	}
+
+	private interface Identifiable {
+
+		@NotNull
+		default String getIdentifier() {
+			return null;
+		}
+	}
+
+	private abstract static class Vehicle implements Identifiable {
+
+		@Size(min = 5)
+		protected String getModel() {
+			return "T";
+		}
+	}
+
+	private static class Car extends Vehicle {
+
+		@NotBlank
+		private final String brand = "";
+
+		@Min(2)
+		private final int seats = 1;
+
+		private final List<@Valid Wheel> wheels = Arrays.asList( new Wheel() );
+
+		@AssertTrue
+		private boolean isRegistered() {
+			return false;
+		}
+	}
+
+	private static class Wheel {
+
+		@Min(10)
+		private long diameter = 5L;
+	}
+
+	private static class FailingGetter {
+
+		@NotNull
+		public String getValue() {
+			throw new IllegalStateException( "failing getter" );
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.spi.scripting.CompiledScriptEngineScriptEvaluator;
+import org.hibernate.validator.spi.scripting.CompiledScriptEvaluatorFactory;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.hibernate.validator.spi.scripting.ScriptEvaluator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link CompiledScriptEngineScriptEvaluator} and {@link CompiledScriptEvaluatorFactory}.
+ */
+public class CompiledScriptEvaluatorTest {
+
+	@Test
+	public void testScriptAssertWithTheCompiledScriptEvaluatorFactory() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.SCRIPT_EVALUATOR_FACTORY_CLASSNAME, CompiledScriptEvaluatorFactory.class.getName() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNoViolations( validator.validate( new Range( 1, 2 ) ) );
+			assertThat( validator.validate( new Range( 2, 1 ) ) ).containsOnlyViolations( violationOf( ScriptAssert.class ) );
+		}
+	}
+
+	@Test
+	public void testThreadSafeEngineIsShared() {
+		ScriptEvaluator scriptEvaluator = new CompiledScriptEvaluatorFactory().getScriptEvaluatorByLanguageName( "groovy" );
+
+		assertThat( scriptEvaluator.evaluate( "a < b", Map.of( "a", 1, "b", 2 ) ) ).isEqualTo( true );
+		assertThat( scriptEvaluator.evaluate( "a < b", Map.of( "a", 2, "b", 1 ) ) ).isEqualTo( false );
+		assertThat( ( (CompiledScriptEngineScriptEvaluator) scriptEvaluator ).getEngineCount() ).isEqualTo( 1 );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000233.*")
+	public void testInvalidScriptRaisesException() {
+		new CompiledScriptEvaluatorFactory().getScriptEvaluatorByLanguageName( "groovy" ).evaluate( "a <", Collections.emptyMap() );
+	}
+
+	@Test
+	public void testEnginesNotAllowingConcurrentEvaluationsArePooled() throws Exception {
+		AtomicInteger compilationCount = new AtomicInteger();
+		CompiledScriptEngineScriptEvaluator scriptEvaluator = new CompiledScriptEngineScriptEvaluator(
+				() -> new BindingScriptEngine( compilationCount ), 2 );
+
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < 200; j++ ) {
+						assertThat( scriptEvaluator.evaluate( "valid", Map.of( "valid", j % 2 == 0 ) ) ).isEqualTo( j % 2 == 0 );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( scriptEvaluator.getEngineCount() ).isBetween( 1, 2 );
+		// each engine compiles the script once
+		assertThat( compilationCount.get() ).isEqualTo( scriptEvaluator.getEngineCount() );
+	}
+
+	@ScriptAssert(lang = "groovy", script = "_this.start < _this.end")
+	private static class Range {
+
+		private final int start;
+
+		private final int end;
+
+		private Range(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		public int getStart() {
+			return start;
+		}
+
+		public int getEnd() {
+			return end;
+		}
+	}
+
+	/**
+	 * A compilable engine not allowing concurrent evaluations, failing if it is used by several threads at the same
+	 * time. A script is the name of the binding it returns.
+	 */
+	private static class BindingScriptEngine extends AbstractScriptEngine implements Compilable {
+
+		private final AtomicInteger compilationCount;
+
+		private final AtomicBoolean inUse = new AtomicBoolean();
+
+		private BindingScriptEngine(AtomicInteger compilationCount) {
+			this.compilationCount = compilationCount;
+		}
+
+		@Override
+		public CompiledScript compile(String script) {
+			compilationCount.incrementAndGet();
+			return new CompiledScript() {
+
+				@Override
+				public Object eval(ScriptContext context) throws ScriptException {
+					return BindingScriptEngine.this.eval( script, context );
+				}
+
+				@Override
+				public ScriptEngine getEngine() {
+					return BindingScriptEngine.this;
+				}
+			};
+		}
+
+		@Override
+		public CompiledScript compile(Reader script) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object eval(String script, ScriptContext context) throws ScriptException {
+			if ( !inUse.compareAndSet( false, true ) ) {
+				throw new ScriptException( "Concurrent evaluation" );
+			}
+			try {
+				Thread.yield();
+				return context.getAttribute( script );
+			}
+			finally {
+				inUse.set( false );
+			}
+		}
+
+		@Override
+		public Object eval(Reader reader, ScriptContext context) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Bindings createBindings() {
+			return new SimpleBindings();
+		}
+
+		@Override
+		public ScriptEngineFactory getFactory() {
+			return new BindingScriptEngineFactory();
+		}
+	}
+
+	private static class BindingScriptEngineFactory implements ScriptEngineFactory {
+
+		@Override
+		public String getEngineName() {
+			return "binding";
+		}
+
+		@Override
+		public String getEngineVersion() {
+			return "1.0";
+		}
+
+		@Override
+		public List<String> getExtensions() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getMimeTypes() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getNames() {
+			return Collections.singletonList( "binding" );
+		}
+
+		@Override
+		public String getLanguageName() {
+			return "binding";
+		}
+
+		@Override
+		public String getLanguageVersion() {
+			return "1.0";
+		}
+
+		@Override
+		public Object getParameter(String key) {
+			// not thread-safe
+			return "THREADING".equals( key ) ? null : getNames().get( 0 );
+		}
+
+		@Override
+		public String getMethodCallSyntax(String obj, String m, String... args) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getOutputStatement(String toDisplay) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getProgram(String... statements) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ScriptEngine getScriptEngine() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
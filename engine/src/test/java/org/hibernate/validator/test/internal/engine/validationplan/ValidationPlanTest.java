@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.validationplan;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the validation plans compiled and cached on the bean metadata lead to the same results when a bean type
+ * is validated repeatedly, for the default group, explicit groups and redefined default group sequences.
+ */
+public class ValidationPlanTest {
+
+	@Test
+	public void testRepeatedValidationOfHierarchyWithDefaultGroup() {
+		Validator validator = getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( new Child() ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "name" ),
+					violationOf( NotNull.class ).withProperty( "parentName" ),
+					violationOf( NotNull.class ).withProperty( "identifier" )
+			);
+		}
+	}
+
+	@Test
+	public void testRepeatedValidationWithExplicitGroups() {
+		Validator validator = getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( new Child(), Strict.class ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "nickname" ),
+					violationOf( Max.class ).withProperty( "parentAge" )
+			);
+			assertThat( validator.validate( new Child(), Strict.class, Default.class ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "name" ),
+					violationOf( NotNull.class ).withProperty( "parentName" ),
+					violationOf( NotNull.class ).withProperty( "identifier" ),
+					violationOf( Size.class ).withProperty( "nickname" ),
+					violationOf( Max.class ).withProperty( "parentAge" )
+			);
+		}
+	}
+
+	@Test
+	public void testRepeatedValidationWithRedefinedDefaultGroupSequenceInHierarchy() {
+		Validator validator = getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			// the sequence redefined on the super class stops at its first failing group, the sub class constraints are validated separately
+			assertThat( validator.validate( new SequencedChild() ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "childName" ),
+					violationOf( NotNull.class ).withProperty( "parentName" )
+			);
+
+			SequencedChild valid = new SequencedChild();
+			valid.childName = "child";
+			valid.parentName = "parent";
+			assertThat( validator.validate( valid ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "parentName" )
+			);
+		}
+	}
+
+	@Test
+	public void testRepeatedValidationWithGroupConversion() {
+		Validator validator = getValidator();
+
+		Holder holder = new Holder();
+		holder.children = Arrays.asList( new Child(), new Child() );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( holder ) ).containsOnlyViolations(
+					violationOf( Size.class ).withPropertyPath( pathWith().property( "children" ).property( "nickname", true, null, 0, List.class, 0 ) ),
+					violationOf( Max.class ).withPropertyPath( pathWith().property( "children" ).property( "parentAge", true, null, 0, List.class, 0 ) ),
+					violationOf( Size.class ).withPropertyPath( pathWith().property( "children" ).property( "nickname", true, null, 1, List.class, 0 ) ),
+					violationOf( Max.class ).withPropertyPath( pathWith().property( "children" ).property( "parentAge", true, null, 1, List.class, 0 ) )
+			);
+		}
+	}
+
+	@Test
+	public void testRepeatedValidationWithPredefinedScope() {
+		Validator validator = ValidatorUtil.getPredefinedValidator( new HashSet<>( Arrays.asList( Parent.class, Child.class ) ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( new Child() ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "name" ),
+					violationOf( NotNull.class ).withProperty( "parentName" ),
+					violationOf( NotNull.class ).withProperty( "identifier" )
+			);
+			assertThat( validator.validate( new Child(), Strict.class ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "nickname" ),
+					violationOf( Max.class ).withProperty( "parentAge" )
+			);
+		}
+	}
+
+	private interface Strict {
+	}
+
+	private interface Identifiable {
+
+		@NotNull
+		String getIdentifier();
+	}
+
+	private static class Parent implements Identifiable {
+
+		@NotNull
+		private String parentName;
+
+		@Max(value = 10, groups = Strict.class)
+		private int parentAge = 42;
+
+		@Override
+		public String getIdentifier() {
+			return null;
+		}
+	}
+
+	private static class Child extends Parent implements Identifiable {
+
+		@NotNull
+		private String name;
+
+		@Size(min = 5, groups = Strict.class)
+		private String nickname = "Bob";
+	}
+
+	@GroupSequence({ Strict.class, SequencedParent.class })
+	private static class SequencedParent {
+
+		@NotNull(groups = Strict.class)
+		@Size(max = 3)
+		protected String parentName;
+	}
+
+	private static class SequencedChild extends SequencedParent {
+
+		@NotNull
+		private String childName;
+
+		@NotNull(groups = Strict.class)
+		private String ignoredName;
+	}
+
+	private static class Holder {
+
+		@Valid
+		@ConvertGroup(to = Strict.class)
+		private List<Child> children;
+	}
+}
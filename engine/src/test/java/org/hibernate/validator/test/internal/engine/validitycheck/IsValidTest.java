@@ -0,0 +1,453 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.validitycheck;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.constraints.CompositionType.ALL_FALSE;
+import static org.hibernate.validator.constraints.CompositionType.OR;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.ReportAsSingleViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.HibernateValidatorValidator;
+import org.hibernate.validator.constraints.ConstraintComposition;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@code isValid()} methods of {@link HibernateValidatorValidator}.
+ */
+public class IsValidTest {
+
+	private CountingMessageInterpolator messageInterpolator;
+
+	private HibernateValidatorValidator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		messageInterpolator = new CountingMessageInterpolator();
+		validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.getValidator()
+				.unwrap( HibernateValidatorValidator.class );
+		CountingValidator.invocations.set( 0 );
+		CountingValidator.validityCheckModeInvocations.set( 0 );
+	}
+
+	@Test
+	public void testUnwrap() {
+		Validator plainValidator = ValidatorUtil.getValidator();
+
+		assertThat( plainValidator.unwrap( HibernateValidatorValidator.class ) ).isSameAs( plainValidator );
+		assertThat( ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.failFast( true )
+				.getValidator() ).isInstanceOf( HibernateValidatorValidator.class );
+	}
+
+	@Test
+	public void testIsValidIsConsistentWithValidate() {
+		Order validOrder = new Order( "ORD-1", 1 );
+		Order invalidOrder = new Order( null, 1 );
+		Order invalidLineOrder = new Order( "ORD-1", 0 );
+
+		assertThat( validator.isValid( validOrder ) ).isTrue();
+		assertThat( validator.validate( validOrder ) ).isEmpty();
+
+		assertThat( validator.isValid( invalidOrder ) ).isFalse();
+		assertThat( validator.validate( invalidOrder ) ).isNotEmpty();
+
+		assertThat( validator.isValid( invalidLineOrder ) ).isFalse();
+		assertThat( validator.validate( invalidLineOrder ) ).isNotEmpty();
+
+		assertThat( validator.isValid( new Unconstrained() ) ).isTrue();
+	}
+
+	@Test
+	public void testIsValidNeitherInterpolatesMessagesNorContinuesAfterFirstFailure() {
+		Counted counted = new Counted();
+
+		assertThat( validator.isValid( counted ) ).isFalse();
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+		assertThat( CountingValidator.invocations.get() ).isEqualTo( 1 );
+
+		assertThat( validator.validate( counted ) ).hasSize( 4 );
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 4 );
+		assertThat( CountingValidator.invocations.get() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testConstraintValidatorContextExposesValidityCheckMode() {
+		Counted counted = new Counted();
+
+		assertThat( validator.isValid( counted ) ).isFalse();
+		assertThat( CountingValidator.validityCheckModeInvocations.get() ).isEqualTo( 1 );
+
+		assertThat( validator.validate( counted ) ).hasSize( 4 );
+		assertThat( CountingValidator.validityCheckModeInvocations.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIsValidWithComposingConstraints() {
+		String[][] values = {
+				{ "abc", "abc", "ab" },
+				{ "", "", "" },
+				{ null, null, null },
+				{ "ABC", "123", "a" },
+				{ "abc", "abc1", "abcdefghijk" },
+				{ "a1", "abc", "ab" }
+		};
+
+		for ( String[] value : values ) {
+			Composed composed = new Composed( value[0], value[1], value[2] );
+			assertThat( validator.isValid( composed ) )
+					.describedAs( Arrays.toString( value ) )
+					.isEqualTo( validator.validate( composed ).isEmpty() );
+		}
+	}
+
+	@Test
+	public void testIsValidWithCustomViolations() {
+		assertThat( validator.isValid( new CustomViolations( "valid", "valid" ) ) ).isTrue();
+		assertThat( validator.isValid( new CustomViolations( "invalid", "valid" ) ) ).isFalse();
+		assertThat( validator.validate( new CustomViolations( "invalid", "valid" ) ) ).hasSize( 1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000033.*")
+	public void testIsValidWithDisabledDefaultViolationAndNoCustomViolation() {
+		validator.isValid( new CustomViolations( "valid", "invalid" ) );
+	}
+
+	@Test
+	public void testIsValidWithGroups() {
+		Order order = new Order( "ORD-1", 1 );
+		order.quantity = 20;
+
+		assertThat( validator.isValid( order ) ).isTrue();
+		assertThat( validator.isValid( order, Strict.class ) ).isFalse();
+		assertThat( validator.isValid( order, Default.class, Strict.class ) ).isFalse();
+
+		// the Default group fails so the Strict group is never validated
+		order.reference = null;
+		order.quantity = 5;
+		assertThat( validator.isValid( order, DefaultThenStrict.class ) ).isFalse();
+		order.reference = "ORD-1";
+		assertThat( validator.isValid( order, DefaultThenStrict.class ) ).isTrue();
+		order.quantity = 20;
+		assertThat( validator.isValid( order, DefaultThenStrict.class ) ).isFalse();
+	}
+
+	@Test
+	public void testIsValidProperty() {
+		Order order = new Order( null, 0 );
+
+		assertThat( validator.isValidProperty( order, "reference" ) ).isFalse();
+		assertThat( validator.isValidProperty( order, "lines[0].quantity" ) ).isTrue();
+		assertThat( validator.isValidProperty( order, "lines[1].quantity" ) ).isFalse();
+		assertThat( validator.isValidProperty( new Order( null, 1 ), "quantity" ) ).isTrue();
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testIsValidValue() {
+		assertThat( validator.isValidValue( Order.class, "reference", "ORD-1" ) ).isTrue();
+		assertThat( validator.isValidValue( Order.class, "reference", "O" ) ).isFalse();
+		assertThat( validator.isValidValue( Order.class, "quantity", 20 ) ).isTrue();
+		assertThat( validator.isValidValue( Order.class, "quantity", 20, Strict.class ) ).isFalse();
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testIsValidParameters() throws Exception {
+		OrderService service = new OrderService();
+		Method method = OrderService.class.getMethod( "placeOrder", String.class, int.class );
+
+		assertThat( validator.isValidParameters( service, method, new Object[] { "ORD-1", 1 } ) ).isTrue();
+		assertThat( validator.isValidParameters( service, method, new Object[] { null, 1 } ) ).isFalse();
+		assertThat( validator.isValidParameters( service, method, new Object[] { "ORD-1", 0 } ) ).isFalse();
+
+		Constructor<OrderService> constructor = OrderService.class.getConstructor( String.class );
+
+		assertThat( validator.isValidConstructorParameters( constructor, new Object[] { "shop" } ) ).isTrue();
+		assertThat( validator.isValidConstructorParameters( constructor, new Object[] { null } ) ).isFalse();
+		assertThat( messageInterpolator.interpolations.get() ).isEqualTo( 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testIsValidWithNullObject() {
+		validator.isValid( null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testIsValidWithNullGroup() {
+		validator.isValid( new Order( "ORD-1", 1 ), (Class<?>) null );
+	}
+
+	private interface Strict {
+	}
+
+	@GroupSequence({ Default.class, Strict.class })
+	private interface DefaultThenStrict {
+	}
+
+	private static class Order {
+
+		@NotNull
+		@Size(min = 3)
+		private String reference;
+
+		@Max(value = 10, groups = Strict.class)
+		private int quantity = 1;
+
+		private final List<@Valid Line> lines;
+
+		private Order(String reference, int lineQuantity) {
+			this.reference = reference;
+			this.lines = Arrays.asList( new Line( 1 ), new Line( lineQuantity ) );
+		}
+	}
+
+	private static class Line {
+
+		@Min(1)
+		private final int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Unconstrained {
+	}
+
+	public static class OrderService {
+
+		public OrderService() {
+		}
+
+		public OrderService(@NotNull String shop) {
+		}
+
+		public void placeOrder(@NotNull String reference, @Min(1) int quantity) {
+		}
+	}
+
+	private static class Composed {
+
+		@LowerCaseOrEmpty
+		private final String lowerCase;
+
+		@NotNumeric
+		private final String notNumeric;
+
+		@Code
+		private final String code;
+
+		private Composed(String lowerCase, String notNumeric, String code) {
+			this.lowerCase = lowerCase;
+			this.notNumeric = notNumeric;
+			this.code = code;
+		}
+	}
+
+	@ConstraintComposition(OR)
+	@Pattern(regexp = "[a-z]+")
+	@Size(max = 0)
+	@ReportAsSingleViolation
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface LowerCaseOrEmpty {
+
+		String message() default "must be lower case or empty";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(ALL_FALSE)
+	@Pattern(regexp = "[0-9]+")
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface NotNumeric {
+
+		String message() default "must not be numeric";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@NotNull
+	@Size(min = 2)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = CodeValidator.class)
+	public @interface Code {
+
+		String message() default "must be a code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class CodeValidator implements ConstraintValidator<Code, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return value == null || value.length() <= 10;
+		}
+	}
+
+	private static class CustomViolations {
+
+		@CustomViolation
+		private final String withCustomViolation;
+
+		@CustomViolation(addCustomViolation = false)
+		private final String withoutCustomViolation;
+
+		private CustomViolations(String withCustomViolation, String withoutCustomViolation) {
+			this.withCustomViolation = withCustomViolation;
+			this.withoutCustomViolation = withoutCustomViolation;
+		}
+	}
+
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = CustomViolationValidator.class)
+	public @interface CustomViolation {
+
+		String message() default "must be valid";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+
+		boolean addCustomViolation() default true;
+	}
+
+	public static class CustomViolationValidator implements ConstraintValidator<CustomViolation, String> {
+
+		private boolean addCustomViolation;
+
+		@Override
+		public void initialize(CustomViolation constraintAnnotation) {
+			this.addCustomViolation = constraintAnnotation.addCustomViolation();
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			if ( "valid".equals( value ) ) {
+				return true;
+			}
+			context.disableDefaultConstraintViolation();
+			if ( addCustomViolation ) {
+				context.buildConstraintViolationWithTemplate( "is {value}" )
+						.addPropertyNode( "value" )
+						.addConstraintViolation();
+			}
+			return false;
+		}
+	}
+
+	private static class Counted {
+
+		@CountingConstraint
+		private String first;
+
+		@CountingConstraint
+		private String second;
+
+		@CountingConstraint
+		private String third;
+
+		@CountingConstraint
+		private String fourth;
+	}
+
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = CountingValidator.class)
+	public @interface CountingConstraint {
+
+		String message() default "must not be null";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class CountingValidator implements ConstraintValidator<CountingConstraint, String> {
+
+		private static final AtomicInteger invocations = new AtomicInteger();
+
+		private static final AtomicInteger validityCheckModeInvocations = new AtomicInteger();
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			invocations.incrementAndGet();
+			if ( context.unwrap( HibernateConstraintValidatorContext.class ).isValidityCheckModeEnabled() ) {
+				validityCheckModeInvocations.incrementAndGet();
+			}
+			return value != null;
+		}
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = ValidatorUtil.getConfiguration().getDefaultMessageInterpolator();
+
+		private final AtomicInteger interpolations = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.UnexpectedTypeException;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.WarmUpOptions;
+import org.hibernate.validator.WarmUpStatistics;
+import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link HibernateValidatorFactory#warmUp(Set, WarmUpOptions)}.
+ */
+public class ValidatorFactoryWarmUpTest {
+
+	@Test
+	public void testWarmUpInitializesTheConstraintValidators() {
+		CountingConstraintValidatorFactory constraintValidatorFactory = new CountingConstraintValidatorFactory();
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.constraintValidatorFactory( constraintValidatorFactory )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( Order.class ),
+				WarmUpOptions.builder().includeExecutables( false ).build() );
+
+		// Order and the cascaded OrderLine
+		assertThat( statistics.getBeanCount() ).isEqualTo( 2 );
+		assertThat( statistics.getConstraintCount() ).isEqualTo( 3 );
+		assertThat( statistics.getInitializedConstraintValidatorCount() ).isEqualTo( 3 );
+		assertThat( statistics.getInterpolatedMessageCount() ).isEqualTo( 3 );
+		assertThat( statistics.getTotalDuration() ).isPositive();
+		assertThat( constraintValidatorFactory.instanceCount ).isEqualTo( 3 );
+		long buildCount = validatorFactory.getBeanMetaDataCacheStatistics().getBuildCount();
+
+		assertThat( validatorFactory.getValidator().validate( new Order( null, new OrderLine( 0 ) ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class ),
+				violationOf( Min.class )
+		);
+		assertThat( constraintValidatorFactory.instanceCount ).isEqualTo( 3 );
+
+		statistics = validatorFactory.warmUp( Collections.singleton( Order.class ) );
+		assertThat( statistics.getInitializedConstraintValidatorCount() ).isZero();
+		assertThat( validatorFactory.getBeanMetaDataCacheStatistics().getBuildCount() ).isEqualTo( buildCount );
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testWarmUpOfTheExecutables() {
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( OrderService.class ) );
+
+		// the parameter of the method and the cascaded return value
+		assertThat( statistics.getConstraintCount() ).isEqualTo( 4 );
+		assertThat( statistics.getBeanCount() ).isEqualTo( 3 );
+
+		statistics = validatorFactory.warmUp( Collections.singleton( OrderService.class ), WarmUpOptions.builder().includeExecutables( false ).build() );
+		assertThat( statistics.getConstraintCount() ).isZero();
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testWarmUpResolvesTheValueExtractorsOfContainersDeclaredWithInterfaces() {
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( Shipment.class ) );
+
+		// the value extractors are resolved for the declared types and the common implementations assignable to them
+		assertThat( statistics.getResolvedValueExtractorCount() ).isGreaterThan( 4 );
+
+		assertThat( validatorFactory.getValidator().validate( new Shipment( new OrderLine( 0 ) ) ) ).containsOnlyViolations(
+				violationOf( Min.class ),
+				violationOf( Min.class ),
+				violationOf( Min.class ),
+				violationOf( Min.class )
+		);
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testWarmUpOfTheCascadedTypesCanBeDisabled() {
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( Order.class ),
+				WarmUpOptions.builder().includeCascadedTypes( false ).build() );
+
+		assertThat( statistics.getBeanCount() ).isEqualTo( 1 );
+		assertThat( statistics.getConstraintCount() ).isEqualTo( 2 );
+		assertThat( statistics.getResolvedValueExtractorCount() ).isEqualTo( 1 );
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testMessagesAreInterpolatedInTheGivenLocales() {
+		RecordingMessageInterpolator messageInterpolator = new RecordingMessageInterpolator();
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( OrderLine.class ),
+				WarmUpOptions.builder().locales( Locale.FRENCH, Locale.GERMAN ).build() );
+
+		assertThat( statistics.getInterpolatedMessageCount() ).isEqualTo( 2 );
+		assertThat( messageInterpolator.interpolations ).containsExactly(
+				"{jakarta.validation.constraints.Min.message}:fr",
+				"{jakarta.validation.constraints.Min.message}:de"
+		);
+
+		messageInterpolator.interpolations.clear();
+		validatorFactory.warmUp( Collections.singleton( OrderLine.class ), WarmUpOptions.builder().interpolateMessages( false ).build() );
+		assertThat( messageInterpolator.interpolations ).isEmpty();
+
+		validatorFactory.close();
+	}
+
+	@Test(expectedExceptions = UnexpectedTypeException.class, expectedExceptionsMessageRegExp = "HV000030.*")
+	public void testWarmUpReportsTheInvalidConstraints() {
+		HibernateValidatorFactory validatorFactory = getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		validatorFactory.warmUp( Collections.singleton( InvalidBean.class ) );
+	}
+
+	@Test
+	public void testWarmUpOfAPredefinedScopeFactory() {
+		HibernateValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( ConstraintHelper.getBuiltinConstraints() )
+				.initializeBeanMetaData( Set.of( Order.class, OrderLine.class ) )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		WarmUpStatistics statistics = validatorFactory.warmUp( Collections.singleton( Order.class ) );
+
+		assertThat( statistics.getBeanCount() ).isEqualTo( 2 );
+		assertThat( statistics.getConstraintCount() ).isEqualTo( 3 );
+		// the constraint validators are initialized when the factory is built
+		assertThat( statistics.getInitializedConstraintValidatorCount() ).isZero();
+		assertThat( statistics.getInterpolatedMessageCount() ).isEqualTo( 3 );
+
+		validatorFactory.close();
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String customer;
+
+		@Size(min = 1)
+		private final ArrayList<@Valid OrderLine> lines = new ArrayList<>();
+
+		private Order(String customer, OrderLine line) {
+			this.customer = customer;
+			this.lines.add( line );
+		}
+	}
+
+	private static class OrderLine {
+
+		@Min(1)
+		private final int quantity;
+
+		private OrderLine(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Shipment {
+
+		private final List<@Valid OrderLine> lines;
+
+		private final Map<String, @Valid OrderLine> linesByReference;
+
+		private final Collection<@Valid OrderLine> lineCollection;
+
+		private final Set<@Valid OrderLine> lineSet;
+
+		private Shipment(OrderLine line) {
+			this.lines = List.of( line );
+			this.linesByReference = Map.of( "line", line );
+			this.lineCollection = new ArrayList<>( List.of( line ) );
+			this.lineSet = Set.of( line );
+		}
+	}
+
+	private static class OrderService {
+
+		@Valid
+		public Order placeOrder(@NotNull String customer) {
+			return new Order( customer, new OrderLine( 1 ) );
+		}
+	}
+
+	private static class InvalidBean {
+
+		@Future
+		private String date;
+	}
+
+	private static class CountingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate = new DefaultConstraintValidatorFactory();
+
+		private int instanceCount;
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			instanceCount++;
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			delegate.releaseInstance( instance );
+		}
+	}
+
+	private static class RecordingMessageInterpolator implements MessageInterpolator {
+
+		private final List<String> interpolations = new ArrayList<>();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return interpolate( messageTemplate, context, Locale.getDefault() );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.add( messageTemplate + ":" + locale.getLanguage() );
+			return messageTemplate;
+		}
+	}
+}
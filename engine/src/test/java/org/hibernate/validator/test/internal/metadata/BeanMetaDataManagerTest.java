@@ -36,6 +36,7 @@
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -62,7 +63,10 @@ public void setUpBeanMetaDataManager() {
 				new ValidationOrderGenerator(),
 				Collections.<MetaDataProvider>emptyList(),
 				new MethodValidationConfiguration.Builder().build(),
-				new DefaultProcessedBeansTrackingVoter()
+				new DefaultProcessedBeansTrackingVoter(),
+				false,
+				BeanMetaDataRetention.SOFT,
+				1000
 		);
 	}
 
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the different {@link BeanMetaDataRetention}s and the statistics of the bean metadata cache.
+ */
+public class BeanMetaDataRetentionTest {
+
+	@Test
+	public void testSoftRetentionIsTheDefault() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		validatorFactory.getValidator().validate( new Foo() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getRetention() ).isEqualTo( BeanMetaDataRetention.SOFT );
+		assertThat( statistics.getSize() ).isGreaterThanOrEqualTo( 1 );
+		assertThat( statistics.getBuildCount() ).isGreaterThanOrEqualTo( 1 );
+	}
+
+	@Test
+	public void testStrongRetention() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataRetention( BeanMetaDataRetention.STRONG )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertThat( validator.validate( new Foo() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+
+		assertThat( validator.validate( new Foo() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+
+		BeanMetaDataCacheStatistics newStatistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( newStatistics.getRetention() ).isEqualTo( BeanMetaDataRetention.STRONG );
+		assertThat( newStatistics.getSize() ).isEqualTo( statistics.getSize() );
+		assertThat( newStatistics.getBuildCount() ).isEqualTo( statistics.getBuildCount() );
+		assertThat( newStatistics.getEvictionCount() ).isZero();
+
+		validatorFactory.close();
+		assertThat( validatorFactory.getBeanMetaDataCacheStatistics().getSize() ).isZero();
+	}
+
+	@Test
+	public void testBoundedRetentionEvictsMetaData() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataRetention( BeanMetaDataRetention.BOUNDED )
+				.beanMetaDataCacheMaxSize( 2 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertThat( validator.validate( new Foo() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		assertThat( validator.validate( new Bar() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		assertThat( validator.validate( new Baz() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+
+		// the metadata of the superclasses are cached as well
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getRetention() ).isEqualTo( BeanMetaDataRetention.BOUNDED );
+		assertThat( statistics.getSize() ).isEqualTo( 2 );
+		assertThat( statistics.getEvictionCount() ).isPositive();
+		assertThat( statistics.getBuildCount() - statistics.getEvictionCount() ).isEqualTo( 2 );
+
+		// the evicted metadata are built again
+		for ( Object bean : Arrays.asList( new Foo(), new Bar(), new Baz() ) ) {
+			assertThat( validator.validate( bean ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		}
+
+		statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getSize() ).isEqualTo( 2 );
+		assertThat( statistics.getBuildCount() - statistics.getEvictionCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testRetentionUsingProperties() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_RETENTION, "bounded" );
+		configuration.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "1" );
+		HibernateValidatorFactory validatorFactory = configuration.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		validator.validate( new Bar() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getRetention() ).isEqualTo( BeanMetaDataRetention.BOUNDED );
+		assertThat( statistics.getSize() ).isEqualTo( 1 );
+		assertThat( statistics.getEvictionCount() ).isPositive();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000290:.*")
+	public void testInvalidRetentionProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_RETENTION, "weak" );
+
+		configuration.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000291:.*")
+	public void testInvalidMaxSizeProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "0" );
+
+		configuration.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000292:.*")
+	public void testInvalidMaxSize() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataCacheMaxSize( -1 );
+	}
+
+	@Test
+	public void testPredefinedScopeKeepsAllTheMetaData() {
+		HibernateValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( ConstraintHelper.getBuiltinConstraints() )
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Foo.class, Bar.class ) ) )
+				.beanMetaDataRetention( BeanMetaDataRetention.BOUNDED )
+				.beanMetaDataCacheMaxSize( 1 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		validatorFactory.getValidator().validate( new Foo() );
+		validatorFactory.getValidator().validate( new Bar() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getRetention() ).isEqualTo( BeanMetaDataRetention.STRONG );
+		assertThat( statistics.getSize() ).isGreaterThanOrEqualTo( 2 );
+		assertThat( statistics.getEvictionCount() ).isZero();
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private String foo;
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private String bar;
+	}
+
+	private static class Baz {
+
+		@NotNull
+		private String baz;
+	}
+}
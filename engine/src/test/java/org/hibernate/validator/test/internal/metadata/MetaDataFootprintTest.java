@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.metadata.MetaDataFootprint;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the sharing of the structurally equal constraint metadata and the {@link MetaDataFootprint}.
+ */
+public class MetaDataFootprintTest {
+
+	@Test
+	public void testEqualConstraintsShareTheirMetaData() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertThat( validator.validate( new Foo() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		assertThat( validator.validate( new Bar() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+
+		assertThat( getConstraintDescriptor( validator, Foo.class, "name" ) )
+				.isSameAs( getConstraintDescriptor( validator, Bar.class, "name" ) );
+		assertThat( getConstraintDescriptor( validator, Foo.class, "description" ) )
+				.isSameAs( getConstraintDescriptor( validator, Bar.class, "description" ) );
+
+		MetaDataFootprint footprint = validatorFactory.getMetaDataFootprint();
+		assertThat( footprint.getConstraintCount() ).isEqualTo( 4 );
+		assertThat( footprint.getConstraintDescriptorCount() ).isEqualTo( 2 );
+		assertThat( footprint.getConstraintTreeCount() ).isEqualTo( 2 );
+		assertThat( footprint.getConstraintValidatorCount() ).isEqualTo( 2 );
+		assertThat( footprint.getDeduplicatedInstanceCount() ).isPositive();
+		assertThat( footprint.getEstimatedRetainedSize() ).isPositive();
+	}
+
+	@Test
+	public void testConstraintsWithDifferentAttributesAreNotShared() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( getConstraintDescriptor( validator, Foo.class, "description" ) )
+				.isNotSameAs( getConstraintDescriptor( validator, Baz.class, "description" ) );
+	}
+
+	@Test
+	public void testInheritedConstraintsShareTheirMetaData() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertThat( validator.validate( new FooChild() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+		assertThat( validator.validate( new OtherFooChild() ) ).containsOnlyViolations( violationOf( NotNull.class ) );
+
+		assertThat( getConstraintDescriptor( validator, FooChild.class, "name" ) )
+				.isSameAs( getConstraintDescriptor( validator, OtherFooChild.class, "name" ) );
+	}
+
+	@Test
+	public void testPredefinedScopeSharesTheConstraintValidators() {
+		HibernateValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( ConstraintHelper.getBuiltinConstraints() )
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Foo.class, Bar.class ) ) )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		MetaDataFootprint footprint = validatorFactory.getMetaDataFootprint();
+		assertThat( footprint.getBeanCount() ).isGreaterThanOrEqualTo( 2 );
+		assertThat( footprint.getConstraintCount() ).isEqualTo( 4 );
+		assertThat( footprint.getConstraintTreeCount() ).isEqualTo( 2 );
+		// the validators are initialized eagerly
+		assertThat( footprint.getConstraintValidatorCount() ).isEqualTo( 2 );
+
+		validatorFactory.close();
+		assertThat( validatorFactory.getMetaDataFootprint().getConstraintCount() ).isZero();
+	}
+
+	private static ConstraintDescriptor<?> getConstraintDescriptor(Validator validator, Class<?> beanClass, String property) {
+		return validator.getConstraintsForClass( beanClass )
+				.getConstraintsForProperty( property )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private String name;
+
+		@Size(max = 255)
+		private String description;
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private String name;
+
+		@Size(max = 255)
+		private String description;
+	}
+
+	private static class Baz {
+
+		@Size(max = 10)
+		private String description;
+	}
+
+	private static class FooChild extends Foo {
+	}
+
+	private static class OtherFooChild extends Foo {
+	}
+}
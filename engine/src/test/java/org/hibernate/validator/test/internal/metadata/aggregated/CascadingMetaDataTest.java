@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.validation.Valid;
+
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
+import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the caching of the runtime dependent parts of the {@link CascadingMetaData}.
+ */
+public class CascadingMetaDataTest {
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	private ValueExtractorManager valueExtractorManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		ConstraintCreationContext constraintCreationContext = getDummyConstraintCreationContext();
+		valueExtractorManager = constraintCreationContext.getValueExtractorManager();
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				constraintCreationContext,
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new DefaultBeanMetaDataClassNormalizer(),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build(),
+				new DefaultProcessedBeansTrackingVoter(),
+				false,
+				BeanMetaDataRetention.STRONG,
+				1000
+		);
+	}
+
+	@Test
+	public void testRuntimeContainerSupportIsCachedForEachRuntimeClass() {
+		CascadingMetaData cascadingMetaData = getCascadingMetaData( "content" );
+
+		CascadingMetaData arrayListCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, ArrayList.class );
+		assertThat( arrayListCascadingMetaData.isContainer() ).isTrue();
+		assertThat( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, ArrayList.class ) ).isSameAs( arrayListCascadingMetaData );
+
+		CascadingMetaData hashMapCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, HashMap.class );
+		assertThat( hashMapCascadingMetaData ).isNotSameAs( arrayListCascadingMetaData );
+		assertThat( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, HashMap.class ) ).isSameAs( hashMapCascadingMetaData );
+
+		assertThat( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, Item.class ) ).isSameAs( cascadingMetaData );
+		assertThat( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, Item.class ) ).isSameAs( cascadingMetaData );
+	}
+
+	@Test
+	public void testValueExtractorIsResolvedForEachRuntimeClass() {
+		ContainerCascadingMetaData containerElement = getCascadingMetaData( "items" ).as( ContainerCascadingMetaData.class )
+				.getContainerElementTypesCascadingMetaData()
+				.get( 0 );
+
+		ValueExtractorDescriptor arrayListValueExtractor = containerElement.getValueExtractor( valueExtractorManager, ArrayList.class );
+		assertThat( arrayListValueExtractor ).isNotNull();
+		assertThat( containerElement.getValueExtractor( valueExtractorManager, ArrayList.class ) ).isSameAs( arrayListValueExtractor );
+		assertThat( containerElement.getValueExtractor( valueExtractorManager, LinkedList.class ) ).isNotNull();
+	}
+
+	@Test
+	public void testBeanMetaDataAreCachedForEachRuntimeClass() {
+		CascadingMetaData cascadingMetaData = getCascadingMetaData( "optionalItem" ).as( ContainerCascadingMetaData.class )
+				.getContainerElementTypesCascadingMetaData()
+				.get( 0 );
+
+		assertThat( cascadingMetaData.getBeanMetaData( beanMetaDataManager, Item.class ) )
+				.isSameAs( beanMetaDataManager.getBeanMetaData( Item.class ) );
+		assertThat( cascadingMetaData.getBeanMetaData( beanMetaDataManager, SpecialItem.class ) )
+				.isSameAs( beanMetaDataManager.getBeanMetaData( SpecialItem.class ) );
+	}
+
+	private CascadingMetaData getCascadingMetaData(String property) {
+		return beanMetaDataManager.getBeanMetaData( Basket.class )
+				.getMetaDataFor( property )
+				.getCascadables()
+				.iterator()
+				.next()
+				.getCascadingMetaData();
+	}
+
+	private static class Basket {
+
+		@Valid
+		private Object content;
+
+		private List<@Valid Item> items;
+
+		private Optional<@Valid Item> optionalItem;
+	}
+
+	private static class Item {
+	}
+
+	private static class SpecialItem extends Item {
+	}
+}
@@ -9,6 +9,7 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
@@ -17,6 +18,7 @@
 import java.util.Collections;
 import java.util.UUID;
 
+import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ElementKind;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.groups.Default;
@@ -39,6 +41,7 @@
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
 import org.hibernate.validator.test.internal.metadata.ConsistentDateParameters;
 import org.hibernate.validator.test.internal.metadata.Customer;
 import org.hibernate.validator.test.internal.metadata.CustomerRepository.ValidationGroup;
@@ -69,7 +72,10 @@ public void setupBeanMetaData() {
 				new ValidationOrderGenerator(),
 				Collections.<MetaDataProvider>emptyList(),
 				new MethodValidationConfiguration.Builder().build(),
-				new DefaultProcessedBeansTrackingVoter()
+				new DefaultProcessedBeansTrackingVoter(),
+				false,
+				BeanMetaDataRetention.SOFT,
+				1000
 		);
 
 		beanMetaData = beanMetaDataManager.getBeanMetaData( CustomerRepositoryExt.class );
@@ -355,4 +361,34 @@ public void unconstrainedMethod() throws Exception {
 
 		assertFalse( beanMetaData.getMetaDataFor( method ).isPresent() );
 	}
+
+	@Test
+	public void executableMetaDataAreBuiltOnFirstAccess() throws Exception {
+		BeanMetaData<IllegalCustomerService> illegalBeanMetaData = beanMetaDataManager.getBeanMetaData( IllegalCustomerService.class );
+
+		// the executables are taken into account without building their metadata
+		assertTrue( illegalBeanMetaData.hasConstraints() );
+
+		Method method = IllegalCustomerService.class.getMethod( "findCustomer", String.class );
+		try {
+			illegalBeanMetaData.getMetaDataFor( method );
+			fail( "The illegal parameter constraint should have been reported when building the executable metadata" );
+		}
+		catch (ConstraintDeclarationException e) {
+			assertThat( e.getMessage() ).startsWith( "HV000151" );
+		}
+	}
+
+	public interface CustomerService {
+
+		Customer findCustomer(String name);
+	}
+
+	public static class IllegalCustomerService implements CustomerService {
+
+		@Override
+		public Customer findCustomer(@NotNull String name) {
+			return null;
+		}
+	}
 }
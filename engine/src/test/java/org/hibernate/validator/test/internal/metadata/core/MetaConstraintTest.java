@@ -13,7 +13,7 @@
 import jakarta.validation.constraints.NotNull;
 
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
-import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -35,18 +35,16 @@
  */
 public class MetaConstraintTest {
 	private ConstraintHelper constraintHelper;
-	private TypeResolutionHelper typeResolutionHelper;
-	private ValueExtractorManager valueExtractorManager;
-	private ConstraintValidatorManager constraintValidatorManager;
+	private ConstraintCreationContext constraintCreationContext;
 	private Method barMethod;
 	private ConstraintAnnotationDescriptor<NotNull> constraintAnnotationDescriptor;
 
 	@BeforeClass
 	public void setUp() throws Exception {
 		constraintHelper = ConstraintHelper.forAllBuiltinConstraints();
-		typeResolutionHelper = new TypeResolutionHelper();
-		valueExtractorManager = new ValueExtractorManager( Collections.emptySet() );
-		constraintValidatorManager = new ConstraintValidatorManagerImpl( new DefaultConstraintValidatorFactory(), getDummyConstraintValidatorInitializationContext() );
+		constraintCreationContext = new ConstraintCreationContext( constraintHelper,
+				new ConstraintValidatorManagerImpl( new DefaultConstraintValidatorFactory(), getDummyConstraintValidatorInitializationContext() ),
+				new TypeResolutionHelper(), new ValueExtractorManager( Collections.emptySet() ) );
 		barMethod = Foo.class.getMethod( "getBar" );
 		constraintAnnotationDescriptor = new ConstraintAnnotationDescriptor.Builder<>( barMethod.getAnnotation( NotNull.class ) ).build();
 	}
@@ -59,15 +57,13 @@ public void two_meta_constraints_for_the_same_constraint_should_be_equal() throw
 				constraintHelper, javaBeanGetter, constraintAnnotationDescriptor, ConstraintLocationKind.METHOD
 		);
 		ConstraintLocation location1 = ConstraintLocation.forClass( Foo.class );
-		MetaConstraint<NotNull> metaConstraint1 = MetaConstraints.create( typeResolutionHelper, valueExtractorManager, constraintValidatorManager,
-				constraintDescriptor1, location1 );
+		MetaConstraint<NotNull> metaConstraint1 = MetaConstraints.create( constraintCreationContext, constraintDescriptor1, location1 );
 
 		ConstraintDescriptorImpl<NotNull> constraintDescriptor2 = new ConstraintDescriptorImpl<>(
 				constraintHelper, javaBeanGetter, constraintAnnotationDescriptor, ConstraintLocationKind.METHOD
 		);
 		ConstraintLocation location2 = ConstraintLocation.forClass( Foo.class );
-		MetaConstraint<NotNull> metaConstraint2 = MetaConstraints.create( typeResolutionHelper, valueExtractorManager, constraintValidatorManager,
-				constraintDescriptor2, location2 );
+		MetaConstraint<NotNull> metaConstraint2 = MetaConstraints.create( constraintCreationContext, constraintDescriptor2, location2 );
 
 		assertEquals(
 				metaConstraint1, metaConstraint2, "Two MetaConstraint instances for the same constraint should be equal"
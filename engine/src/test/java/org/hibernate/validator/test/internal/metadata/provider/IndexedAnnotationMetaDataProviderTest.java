@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.provider;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptionsImpl;
+import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.IndexedAnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedElement;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedExecutable;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedField;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedParameter;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedType;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that {@link IndexedAnnotationMetaDataProvider} gives the same metadata as {@link AnnotationMetaDataProvider}
+ * for the classes described by the constraint index of the test resources.
+ */
+public class IndexedAnnotationMetaDataProviderTest {
+
+	@Test
+	public void testIndexedClassesGiveTheSameMetaData() {
+		AnnotationMetaDataProvider provider = new AnnotationMetaDataProvider(
+				getDummyConstraintCreationContext(),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new AnnotationProcessingOptionsImpl()
+		);
+		AnnotationMetaDataProvider indexedProvider = new IndexedAnnotationMetaDataProvider(
+				getDummyConstraintCreationContext(),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new AnnotationProcessingOptionsImpl()
+		);
+
+		for ( Class<?> beanClass : new Class<?>[] { Customer.class, PremiumCustomer.class, Container.class, Container.Inner.class, Status.class,
+				getLocalBeanClass( "prefix" ) } ) {
+			assertEquals(
+					describe( indexedProvider.getBeanConfiguration( beanClass ) ),
+					describe( provider.getBeanConfiguration( beanClass ) ),
+					"Wrong metadata for " + beanClass
+			);
+		}
+	}
+
+	@Test
+	public void testValidationWithConstraintIndex() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.constraintIndex( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		PremiumCustomer customer = new PremiumCustomer();
+		customer.addresses = Collections.singletonList( new Address() );
+
+		assertThat( validator.validate( customer ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Size.class ).withProperty( "nickname" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "addresses" )
+						.property( "city", true, null, 0, List.class, 0 ) )
+		);
+		assertThat( validator.forExecutables().validateReturnValue( customer, getMethod( Customer.class, "getNickname" ), customer.getNickname() ) )
+				.containsOnlyViolations( violationOf( Size.class ) );
+	}
+
+	@Test
+	public void testElementsListedAsUnannotatedAreNotInspected() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+
+		assertThat( configuration.buildValidatorFactory().getValidator().validate( new MisindexedBean() ) )
+				.containsOnlyViolations( violationOf( NotNull.class ).withProperty( "value" ) );
+
+		configuration.addProperty( HibernateValidatorConfiguration.CONSTRAINT_INDEX, "true" );
+		assertNoViolations( configuration.buildValidatorFactory().getValidator().validate( new MisindexedBean() ) );
+	}
+
+	private static Map<String, String> describe(BeanConfiguration<?> beanConfiguration) {
+		Map<String, String> description = new TreeMap<>();
+		description.put( "defaultGroupSequence", String.valueOf( beanConfiguration.getDefaultGroupSequence() ) );
+		description.put( "defaultGroupSequenceProvider", String.valueOf( beanConfiguration.getDefaultGroupSequenceProvider() ) );
+
+		for ( ConstrainedElement constrainedElement : beanConfiguration.getConstrainedElements() ) {
+			if ( constrainedElement instanceof ConstrainedField ) {
+				description.put( "field " + ( (ConstrainedField) constrainedElement ).getField(), describe( constrainedElement ) );
+			}
+			else if ( constrainedElement instanceof ConstrainedExecutable ) {
+				ConstrainedExecutable constrainedExecutable = (ConstrainedExecutable) constrainedElement;
+				StringBuilder executableDescription = new StringBuilder( describe( constrainedExecutable ) );
+				executableDescription.append( constrainedExecutable.getCrossParameterConstraints() );
+				for ( ConstrainedParameter constrainedParameter : constrainedExecutable.getAllParameterMetaData() ) {
+					executableDescription.append( describe( constrainedParameter ) );
+				}
+				description.put( "executable " + constrainedExecutable.getCallable(), executableDescription.toString() );
+			}
+			else if ( constrainedElement instanceof ConstrainedType ) {
+				description.put( "type", describe( constrainedElement ) );
+			}
+		}
+
+		return description;
+	}
+
+	private static String describe(ConstrainedElement constrainedElement) {
+		List<String> constraints = new ArrayList<>();
+		constrainedElement.getConstraints().forEach( constraint -> constraints.add( constraint.toString() ) );
+		constrainedElement.getTypeArgumentConstraints().forEach( constraint -> constraints.add( constraint.toString() ) );
+		Collections.sort( constraints );
+
+		return constraints + " " + constrainedElement.getCascadingMetaDataBuilder();
+	}
+
+	/**
+	 * The constructors of the returned local class get the captured variable as an additional parameter: if the class
+	 * was described by the index, the annotated constructor would be mistaken for the unannotated one.
+	 */
+	private static Class<?> getLocalBeanClass(String prefix) {
+		class LocalBean {
+
+			private final String value;
+
+			LocalBean(@NotNull String value) {
+				this.value = prefix + value;
+			}
+
+			LocalBean(String value, int count) {
+				this.value = prefix + value.repeat( count );
+			}
+		}
+
+		return LocalBean.class;
+	}
+
+	private static Method getMethod(Class<?> clazz, String name) {
+		try {
+			return clazz.getMethod( name );
+		}
+		catch (NoSuchMethodException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static class Customer {
+
+		@NotNull
+		protected String name;
+
+		protected Optional<String> nickname = Optional.of( "" );
+
+		protected Map<String, List<Integer>> scores;
+
+		protected String[] tags;
+
+		@SuppressWarnings("rawtypes")
+		protected List rawList;
+
+		Customer() {
+		}
+
+		Customer(String name, Optional<String> nickname) {
+			this.name = name;
+			this.nickname = nickname;
+		}
+
+		@Size(min = 1)
+		public String getNickname() {
+			return nickname.orElse( "" );
+		}
+
+		public Map<String, List<Integer>> getScores() {
+			return scores;
+		}
+
+		public void rename(String name) {
+			this.name = name;
+		}
+
+		public void rename(@NotNull String name, boolean force) {
+			this.name = name;
+		}
+	}
+
+	@GroupSequence({ PremiumCustomer.class, Extended.class })
+	private static class PremiumCustomer extends Customer {
+
+		@Valid
+		@ConvertGroup(from = Default.class, to = Extended.class)
+		private List<Address> addresses;
+
+		private List<Address>[] history;
+
+		@Override
+		public void rename(String name) {
+			super.rename( name );
+		}
+	}
+
+	private static class Address {
+
+		@NotNull(groups = Extended.class)
+		private String city;
+	}
+
+	private static class Container<T> {
+
+		private T value;
+
+		private List<? extends T> values;
+
+		private Map<String, Optional<List<T>>> nestedValues;
+
+		Container(T value) {
+			this.value = value;
+		}
+
+		public <U> U transform(List<U> input, T[] array) {
+			return null;
+		}
+
+		public List<@NotNull T> getValues() {
+			return null;
+		}
+
+		private class Inner {
+
+			private List<T> innerValues;
+
+			Inner(List<T> innerValues) {
+				this.innerValues = innerValues;
+			}
+		}
+	}
+
+	private enum Status {
+
+		ACTIVE( "active" );
+
+		private final String label;
+
+		Status(String label) {
+			this.label = label;
+		}
+	}
+
+	/**
+	 * Listed in the index as if its field didn't hold any constraint.
+	 */
+	private static class MisindexedBean {
+
+		@NotNull
+		private String value;
+	}
+
+	private interface Extended {
+	}
+}
@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.provider;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptionsImpl;
+import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.BeanMetaDataSnapshot;
+import org.hibernate.validator.internal.metadata.provider.SnapshotAnnotationMetaDataProvider;
+import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedElement;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedExecutable;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedField;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedParameter;
+import org.hibernate.validator.internal.metadata.raw.ConstrainedType;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the metadata built from a {@link BeanMetaDataSnapshot} are the same as the ones built from the
+ * annotations read using reflection and that incompatible or stale snapshots are ignored.
+ */
+public class SnapshotAnnotationMetaDataProviderTest {
+
+	private static final Set<Class<?>> BEAN_CLASSES = new HashSet<>( Arrays.asList( Customer.class, Order.class, Address.class ) );
+
+	@Test
+	public void testRestoredClassesGiveTheSameMetaData() {
+		AnnotationMetaDataProvider provider = new AnnotationMetaDataProvider(
+				getDummyConstraintCreationContext(),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new AnnotationProcessingOptionsImpl()
+		);
+		AnnotationMetaDataProvider snapshotProvider = new SnapshotAnnotationMetaDataProvider(
+				getDummyConstraintCreationContext(),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new AnnotationProcessingOptionsImpl(),
+				BeanMetaDataSnapshot.read( new ByteArrayInputStream( writeSnapshot( BEAN_CLASSES ) ) ),
+				false
+		);
+
+		for ( Class<?> beanClass : BEAN_CLASSES ) {
+			assertEquals(
+					describe( snapshotProvider.getBeanConfiguration( beanClass ) ),
+					describe( provider.getBeanConfiguration( beanClass ) ),
+					"Wrong metadata for " + beanClass
+			);
+		}
+	}
+
+	@Test
+	public void testValidationWithSnapshot() {
+		byte[] snapshot = writeSnapshot( BEAN_CLASSES );
+		Validator validator = buildValidatorFactory( snapshot ).getValidator();
+
+		Customer customer = new Customer();
+		customer.name = "too long";
+		customer.orders = Collections.singletonList( new Order() );
+
+		assertThat( validator.validate( customer ) ).containsOnlyViolations(
+				violationOf( Size.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "orders" )
+						.property( "reference", true, null, 0, List.class, 0 ) ),
+				violationOf( NotNull.class ).withProperty( "address" )
+		);
+	}
+
+	@Test
+	public void testRestoredAnnotationsAreUsed() {
+		byte[] snapshot = replace( writeSnapshot( BEAN_CLASSES ), "original", "restored" );
+
+		assertThat( buildValidatorFactory( snapshot ).getValidator().validateProperty( new Customer( "too long" ), "name" ) )
+				.containsOnlyViolations( violationOf( Size.class ).withMessage( "restored" ) );
+	}
+
+	@Test
+	public void testStaleClassIsInspectedUsingReflection() {
+		byte[] snapshot = replace( writeSnapshot( BEAN_CLASSES ), "original", "restored" );
+		alterFingerprint( snapshot, Customer.class );
+
+		assertThat( buildValidatorFactory( snapshot ).getValidator().validateProperty( new Customer( "too long" ), "name" ) )
+				.containsOnlyViolations( violationOf( Size.class ).withMessage( "original" ) );
+	}
+
+	@Test
+	public void testClassUsingAStaleAnnotationTypeIsInspectedUsingReflection() {
+		// the attributes with a default value are stored too, so a change of the annotation type makes them stale
+		byte[] snapshot = replace( writeSnapshot( BEAN_CLASSES ), "original", "restored" );
+		alterFingerprint( snapshot, Size.class );
+
+		assertThat( buildValidatorFactory( snapshot ).getValidator().validateProperty( new Customer( "too long" ), "name" ) )
+				.containsOnlyViolations( violationOf( Size.class ).withMessage( "original" ) );
+	}
+
+	@Test
+	public void testIncompatibleSnapshotIsIgnored() {
+		byte[] snapshot = replace( writeSnapshot( BEAN_CLASSES ), "original", "restored" );
+		// the format version follows the magic number
+		ByteBuffer.wrap( snapshot ).putInt( 4, Integer.MAX_VALUE );
+
+		assertTrue( BeanMetaDataSnapshot.read( new ByteArrayInputStream( snapshot ) ).isEmpty() );
+		assertThat( buildValidatorFactory( snapshot ).getValidator().validateProperty( new Customer( "too long" ), "name" ) )
+				.containsOnlyViolations( violationOf( Size.class ).withMessage( "original" ) );
+	}
+
+	@Test
+	public void testInvalidSnapshotIsIgnored() {
+		byte[] snapshot = "not a snapshot".getBytes( StandardCharsets.UTF_8 );
+
+		assertTrue( BeanMetaDataSnapshot.read( new ByteArrayInputStream( snapshot ) ).isEmpty() );
+		assertThat( buildValidatorFactory( snapshot ).getValidator().validateProperty( new Customer( "too long" ), "name" ) )
+				.containsOnlyViolations( violationOf( Size.class ).withMessage( "original" ) );
+	}
+
+	private static byte[] writeSnapshot(Set<Class<?>> beanClasses) {
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		buildConfiguration( beanClasses )
+				.buildValidatorFactory()
+				.unwrap( PredefinedScopeHibernateValidatorFactory.class )
+				.writeBeanMetaDataSnapshot( snapshot );
+		return snapshot.toByteArray();
+	}
+
+	private static PredefinedScopeHibernateValidatorFactory buildValidatorFactory(byte[] snapshot) {
+		return buildConfiguration( BEAN_CLASSES )
+				.beanMetaDataSnapshot( new ByteArrayInputStream( snapshot ) )
+				.buildValidatorFactory()
+				.unwrap( PredefinedScopeHibernateValidatorFactory.class );
+	}
+
+	private static PredefinedScopeHibernateValidatorConfiguration buildConfiguration(Set<Class<?>> beanClasses) {
+		return Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( new HashSet<>( Arrays.asList( NotNull.class.getName(), Pattern.class.getName(), Size.class.getName() ) ) )
+				.initializeBeanMetaData( beanClasses );
+	}
+
+	private static byte[] replace(byte[] bytes, String target, String replacement) {
+		byte[] targetBytes = target.getBytes( StandardCharsets.UTF_8 );
+		byte[] replacementBytes = replacement.getBytes( StandardCharsets.UTF_8 );
+		assertEquals( replacementBytes.length, targetBytes.length );
+
+		byte[] result = bytes.clone();
+		int index = indexOf( result, targetBytes );
+		assertTrue( index >= 0 );
+		System.arraycopy( replacementBytes, 0, result, index, replacementBytes.length );
+		return result;
+	}
+
+	/**
+	 * Alters the first occurrence of the fingerprint of the given class, which is the size of its class file combined
+	 * with its CRC-32 checksum.
+	 */
+	private static void alterFingerprint(byte[] snapshot, Class<?> clazz) {
+		byte[] classFile = readClassFile( clazz );
+		CRC32 checksum = new CRC32();
+		checksum.update( classFile );
+		byte[] fingerprint = ByteBuffer.allocate( Long.BYTES ).putLong( ( (long) classFile.length << 32 ) | checksum.getValue() ).array();
+		int fingerprintIndex = indexOf( snapshot, fingerprint );
+		assertTrue( fingerprintIndex >= 0 );
+		snapshot[fingerprintIndex] = (byte) ~snapshot[fingerprintIndex];
+	}
+
+	private static byte[] readClassFile(Class<?> clazz) {
+		try ( InputStream classFile = clazz.getResourceAsStream( "/" + clazz.getName().replace( '.', '/' ) + ".class" ) ) {
+			return classFile.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static int indexOf(byte[] bytes, byte[] target) {
+		for ( int i = 0; i <= bytes.length - target.length; i++ ) {
+			if ( Arrays.equals( bytes, i, i + target.length, target, 0, target.length ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static Map<String, String> describe(BeanConfiguration<?> beanConfiguration) {
+		Map<String, String> description = new TreeMap<>();
+		description.put( "defaultGroupSequence", String.valueOf( beanConfiguration.getDefaultGroupSequence() ) );
+		description.put( "defaultGroupSequenceProvider", String.valueOf( beanConfiguration.getDefaultGroupSequenceProvider() ) );
+
+		for ( ConstrainedElement constrainedElement : beanConfiguration.getConstrainedElements() ) {
+			if ( constrainedElement instanceof ConstrainedField ) {
+				description.put( "field " + ( (ConstrainedField) constrainedElement ).getField(), describe( constrainedElement ) );
+			}
+			else if ( constrainedElement instanceof ConstrainedExecutable ) {
+				ConstrainedExecutable constrainedExecutable = (ConstrainedExecutable) constrainedElement;
+				StringBuilder executableDescription = new StringBuilder( describe( constrainedExecutable ) );
+				executableDescription.append( constrainedExecutable.getCrossParameterConstraints() );
+				for ( ConstrainedParameter constrainedParameter : constrainedExecutable.getAllParameterMetaData() ) {
+					executableDescription.append( describe( constrainedParameter ) );
+				}
+				description.put( "executable " + constrainedExecutable.getCallable(), executableDescription.toString() );
+			}
+			else if ( constrainedElement instanceof ConstrainedType ) {
+				// the class level elements are never cascading
+				description.put( "type", String.valueOf( constrainedElement.getConstraints() ) );
+			}
+		}
+
+		return description;
+	}
+
+	private static String describe(ConstrainedElement constrainedElement) {
+		List<String> constraints = new ArrayList<>();
+		constrainedElement.getConstraints().forEach( constraint -> constraints.add( constraint.toString() ) );
+		constrainedElement.getTypeArgumentConstraints().forEach( constraint -> constraints.add( constraint.toString() ) );
+		Collections.sort( constraints );
+
+		return constraints + " " + constrainedElement.getCascadingMetaDataBuilder();
+	}
+
+	@GroupSequence({ Customer.class, Extended.class })
+	@ConsistentCustomer
+	private static class Customer {
+
+		@Size(max = 5, message = "original")
+		private String name;
+
+		@Pattern.List({
+				@Pattern(regexp = "[a-z]*", flags = Pattern.Flag.CASE_INSENSITIVE),
+				@Pattern(regexp = ".+", groups = Extended.class)
+		})
+		private String nickname = "nick";
+
+		private List<@Valid Order> orders;
+
+		private Map<String, List<@NotNull @Size(min = 1) String>> tags;
+
+		private String[] aliases;
+
+		@Valid
+		@ConvertGroup(from = Default.class, to = Extended.class)
+		private Address address;
+
+		Customer() {
+		}
+
+		Customer(@NotNull String name) {
+			this.name = name;
+		}
+
+		@NotNull
+		public Address getAddress() {
+			return address;
+		}
+
+		public Optional<@Size(max = 3) String> getShortName() {
+			return Optional.empty();
+		}
+
+		public void rename(@NotNull String name, boolean force) {
+			this.name = name;
+		}
+
+		public String[] getAliases() {
+			return aliases;
+		}
+	}
+
+	private static class Order {
+
+		@NotNull
+		private String reference;
+	}
+
+	private static class Address {
+
+		@NotNull(groups = Extended.class)
+		private String city;
+	}
+
+	private interface Extended {
+	}
+
+	@Target(TYPE)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = ConsistentCustomerValidator.class)
+	@interface ConsistentCustomer {
+
+		String message() default "inconsistent";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ConsistentCustomerValidator implements ConstraintValidator<ConsistentCustomer, Customer> {
+
+		@Override
+		public boolean isValid(Customer value, ConstraintValidatorContext context) {
+			return true;
+		}
+	}
+}
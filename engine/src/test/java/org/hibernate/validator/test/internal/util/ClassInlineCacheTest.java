@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.TreeMap;
+
+import org.hibernate.validator.internal.util.ClassInlineCache;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ClassInlineCache}.
+ */
+public class ClassInlineCacheTest {
+
+	@Test
+	public void testValuesAreCachedByClass() {
+		ClassInlineCache<String> cache = new ClassInlineCache<>();
+
+		assertThat( cache.get( String.class ) ).isNull();
+
+		cache.put( String.class, "string" );
+		cache.put( Integer.class, "integer" );
+		cache.put( String.class, "other string" );
+
+		assertThat( cache.size() ).isEqualTo( 2 );
+		assertThat( cache.get( String.class ) ).isEqualTo( "string" );
+		assertThat( cache.get( Integer.class ) ).isEqualTo( "integer" );
+		assertThat( cache.get( CharSequence.class ) ).isNull();
+	}
+
+	@Test
+	public void testOnlyTheFirstClassesAreCached() {
+		ClassInlineCache<String> cache = new ClassInlineCache<>();
+
+		cache.put( ArrayList.class, "arrayList" );
+		cache.put( LinkedList.class, "linkedList" );
+		cache.put( HashMap.class, "hashMap" );
+		cache.put( TreeMap.class, "treeMap" );
+		cache.put( String.class, "string" );
+
+		assertThat( cache.size() ).isEqualTo( 4 );
+		assertThat( cache.get( TreeMap.class ) ).isEqualTo( "treeMap" );
+		assertThat( cache.get( String.class ) ).isNull();
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.util.regex;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.hibernate.validator.engine.RegularExpressionEngine;
+import org.hibernate.validator.internal.util.regex.RegularExpression;
+import org.hibernate.validator.internal.util.regex.RegularExpressions;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the linear engine matches the same inputs as {@link Pattern}.
+ */
+public class RegularExpressionsTest {
+
+	private static final String[] INPUTS = {
+			"", "a", "A", "b", "ab", "aB", "aab", "abab", "abc", "aaaa", "aaaab", "ba", "-", "a-b", "a.b", "1", "12", "123",
+			"1a", "a1", "_", " ", "\t", "\n", "a\n", "a\r\n", "a\r", "a\u0085", "a\u2028", "\n\n", "foo", "FOO", "foobar",
+			"foo bar", "x@y.z", "\u00e9", "\u00c9", "\u0131", "I", "i", "\u017f", "s", "S", "k", "\u212a", "\u00ff", "\u0178",
+			"\u0430", "\u0410", "\ud83d\ude00", "a\ud83d\ude00b", "\u0000", "\u007f", "\u0080"
+	};
+
+	@Test
+	public void testSupportedExpressionsMatchLikePattern() {
+		String[] regexps = {
+				"", "a", "ab", "a|b", "a|", "|a", "(a|b)*", "(?:ab)+", "a*?", "a+?b", "a??b", "a{2}", "a{1,3}", "a{2,}b",
+				"a{0}", "(a{1,2}){2}", "[abc]+", "[^a]*", "[a-c1-2]*", "[-a]", "[a-]", "[\\-\\]\\[]", "[\\w.-]+",
+				"\\d+", "\\D*", "\\w+", "\\W", "\\s", "\\S+", ".", ".*", ".+bar", "\\.", "a\\.b", "\\t|\\n", "\\x41",
+				"\\u00e9", "^a$", "^ab", "ab$", "\\Aa\\z", "a\\Z", "a$", "(?<name>a)b",
+				"(a)|(b)|", "(a|ab)(c|bcd)", "(?:a*)*", "(?:a*)+b", "(a?){3}", "[\\u0430-\\u044f]+", "[\u00e0-\u00ff]",
+				"[^\\n]*", "[^\\d\\s]+", "[\\D]", "\\$", "\\^a", "[$^]", "\\\\", "\\e|\\a|\\f",
+				"(?:abcdefghijklmnopqrstuvwxyz)*", "(?:a|b|c|d|e|f|g|h|i|j|k|l|m|n|o|p|q)+foo"
+		};
+
+		int[] flagCombinations = {
+				0,
+				Pattern.CASE_INSENSITIVE,
+				Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE,
+				Pattern.DOTALL,
+				Pattern.UNIX_LINES,
+				Pattern.UNIX_LINES | Pattern.DOTALL
+		};
+
+		for ( String regexp : regexps ) {
+			for ( int flags : flagCombinations ) {
+				assertMatchesLikePattern( regexp, flags, INPUTS );
+			}
+		}
+	}
+
+	@Test
+	public void testRandomExpressionsMatchLikePattern() {
+		Random random = new Random( 42 );
+		String[] inputs = allStrings( new char[] { 'a', 'b', 'A', '-', '\n' }, 4 );
+
+		for ( int i = 0; i < 300; i++ ) {
+			String regexp = randomExpression( random, 3 );
+			int flags = random.nextBoolean() ? 0 : Pattern.CASE_INSENSITIVE;
+			if ( random.nextInt( 4 ) == 0 ) {
+				flags |= Pattern.DOTALL;
+			}
+			assertMatchesLikePattern( regexp, flags, inputs );
+		}
+	}
+
+	@Test
+	public void testMultilineWithoutBoundaries() {
+		assertMatchesLikePattern( "a.b", Pattern.MULTILINE, new String[] { "a-b", "a\nb", "ab" } );
+	}
+
+	@Test
+	public void testUnsupportedExpressionsFallBackToPattern() {
+		String[][] unsupported = {
+				{ "(a)\\1", "aa" },
+				{ "a(?=b)b", "ab" },
+				{ "a(?!c)b", "ab" },
+				{ "a(?<=a)b", "ab" },
+				{ "a++b", "aab" },
+				{ "(?i)a", "A" },
+				{ "(?>a)", "a" },
+				{ "[a-z&&[^b]]", "c" },
+				{ "[a[b]]", "b" },
+				{ "\\bfoo\\b", "foo" },
+				{ "\\Qa.b\\E", "a.b" },
+				{ "\\p{Lu}", "A" },
+				{ "\\R", "\n" },
+				{ "\\h", " " },
+				{ "^a", "a" }
+		};
+
+		for ( String[] regexpAndInput : unsupported ) {
+			int flags = "^a".equals( regexpAndInput[0] ) ? Pattern.MULTILINE : 0;
+			RegularExpression regularExpression = RegularExpressions.compile( regexpAndInput[0], flags, RegularExpressionEngine.LINEAR );
+
+			assertEquals( regularExpression.getEngine(), RegularExpressionEngine.BACKTRACKING, regexpAndInput[0] );
+			assertTrue( regularExpression.matches( regexpAndInput[1] ), regexpAndInput[0] );
+		}
+
+		assertEquals( RegularExpressions.compile( "a", Pattern.COMMENTS, RegularExpressionEngine.LINEAR ).getEngine(), RegularExpressionEngine.BACKTRACKING );
+		assertEquals( RegularExpressions.compile( "a", Pattern.LITERAL, RegularExpressionEngine.LINEAR ).getEngine(), RegularExpressionEngine.BACKTRACKING );
+		assertEquals( RegularExpressions.compile( "a{1000}", 0, RegularExpressionEngine.LINEAR ).getEngine(), RegularExpressionEngine.LINEAR );
+		assertEquals( RegularExpressions.compile( "(a{1000}){1000}", 0, RegularExpressionEngine.LINEAR ).getEngine(), RegularExpressionEngine.BACKTRACKING );
+	}
+
+	@Test(expectedExceptions = PatternSyntaxException.class)
+	public void testInvalidExpressionIsReportedByPattern() {
+		RegularExpressions.compile( "(a", 0, RegularExpressionEngine.LINEAR );
+	}
+
+	@Test(timeOut = 10_000)
+	public void testCatastrophicBacktrackingExpressionsAreMatchedInLinearTime() {
+		String as = "a".repeat( 100_000 );
+
+		assertNotMatchedByLinearEngine( "(a+)+$", as + "!" );
+		assertNotMatchedByLinearEngine( "(a|aa)+b", as );
+		assertNotMatchedByLinearEngine( "(a*)*b", as );
+		assertNotMatchedByLinearEngine( "(x+x+)+y", "x".repeat( 100_000 ) );
+		assertNotMatchedByLinearEngine( "^(\\w+\\s?)*$", "an adversarial input with a trailing character".repeat( 2_000 ) + "!" );
+		assertNotMatchedByLinearEngine( "([a-zA-Z0-9])(([\\-.]|[_]+)?([a-zA-Z0-9]+))*(@)", as + "." );
+	}
+
+	@Test
+	public void testLargeAlphabetInputs() {
+		RegularExpression linear = RegularExpressions.compile( "[\\u0400-\\u04ff]+[^a]*", 0, RegularExpressionEngine.LINEAR );
+		assertEquals( linear.getEngine(), RegularExpressionEngine.LINEAR );
+
+		StringBuilder input = new StringBuilder();
+		for ( char c = '\u0400'; c < '\u3000'; c++ ) {
+			input.append( c );
+			assertEquals( linear.matches( input ), Pattern.compile( "[\\u0400-\\u04ff]+[^a]*" ).matcher( input ).matches() );
+		}
+	}
+
+	private static void assertNotMatchedByLinearEngine(String regexp, String input) {
+		RegularExpression regularExpression = RegularExpressions.compile( regexp, 0, RegularExpressionEngine.LINEAR );
+
+		assertEquals( regularExpression.getEngine(), RegularExpressionEngine.LINEAR, regexp );
+		assertFalse( regularExpression.matches( input ), regexp );
+	}
+
+	private static void assertMatchesLikePattern(String regexp, int flags, String[] inputs) {
+		Pattern pattern = Pattern.compile( regexp, flags );
+		RegularExpression regularExpression = RegularExpressions.compile( regexp, flags, RegularExpressionEngine.LINEAR );
+
+		assertEquals( regularExpression.getEngine(), RegularExpressionEngine.LINEAR, regexp + " (flags " + flags + ")" );
+
+		// the same expression is matched twice to exercise the cached deterministic states
+		for ( int i = 0; i < 2; i++ ) {
+			for ( String input : inputs ) {
+				assertEquals(
+						regularExpression.matches( input ),
+						pattern.matcher( input ).matches(),
+						"Regular expression " + regexp + " (flags " + flags + ") on input " + escape( input )
+				);
+			}
+		}
+	}
+
+	private static String randomExpression(Random random, int depth) {
+		int choice = depth == 0 ? random.nextInt( 3 ) : random.nextInt( 9 );
+		switch ( choice ) {
+			case 0:
+				return String.valueOf( "abA-".charAt( random.nextInt( 4 ) ) );
+			case 1:
+				return new String[] { "[ab]", "[^a]", "[a-b]", "\\w", "\\W", "." }[random.nextInt( 6 )];
+			case 2:
+				return new String[] { "a", "b", "\\-", "\\n" }[random.nextInt( 4 )];
+			case 3:
+			case 4:
+				return randomExpression( random, depth - 1 ) + randomExpression( random, depth - 1 );
+			case 5:
+				return "(?:" + randomExpression( random, depth - 1 ) + "|" + randomExpression( random, depth - 1 ) + ")";
+			case 6:
+				return "(" + randomExpression( random, depth - 1 ) + ")" + new String[] { "*", "+", "?", "*?", "+?" }[random.nextInt( 5 )];
+			case 7:
+				return "(?:" + randomExpression( random, depth - 1 ) + ")" + new String[] { "{2}", "{0,2}", "{1,}", "{1,2}?" }[random.nextInt( 4 )];
+			default:
+				return new String[] { "^", "" }[random.nextInt( 2 )] + randomExpression( random, depth - 1 ) + new String[] { "$", "\\z", "\\Z", "" }[random.nextInt( 4 )];
+		}
+	}
+
+	private static String[] allStrings(char[] alphabet, int maxLength) {
+		List<String> strings = new ArrayList<>();
+		strings.add( "" );
+		int start = 0;
+		for ( int length = 1; length <= maxLength; length++ ) {
+			int end = strings.size();
+			for ( int i = start; i < end; i++ ) {
+				for ( char c : alphabet ) {
+					strings.add( strings.get( i ) + c );
+				}
+			}
+			start = end;
+		}
+		return strings.toArray( new String[0] );
+	}
+
+	private static String escape(String input) {
+		StringBuilder escaped = new StringBuilder();
+		for ( char c : input.toCharArray() ) {
+			if ( c < 0x20 || c > 0x7e ) {
+				escaped.append( String.format( "\\u%04x", (int) c ) );
+			}
+			else {
+				escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+}
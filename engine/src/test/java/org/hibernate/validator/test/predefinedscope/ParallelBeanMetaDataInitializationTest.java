@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.predefinedscope;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.internal.engine.PredefinedScopeValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.tracking.ProcessedBeansTrackingStrategy;
+import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that building the metadata of the predefined scope beans in parallel gives the same result as building them
+ * sequentially.
+ */
+public class ParallelBeanMetaDataInitializationTest {
+
+	private static final Set<Class<?>> BEAN_CLASSES = new HashSet<>( Arrays.asList(
+			Customer.class, PremiumCustomer.class, Address.class, Order.class, Item.class
+	) );
+
+	@Test
+	public void testParallelInitializationGivesTheSameMetaData() {
+		ValidatorFactory sequentialFactory = buildValidatorFactory( BEAN_CLASSES, false );
+		ValidatorFactory parallelFactory = buildValidatorFactory( BEAN_CLASSES, true );
+
+		PredefinedScopeBeanMetaDataManager sequentialManager = ( (PredefinedScopeValidatorFactoryImpl) sequentialFactory ).getBeanMetaDataManager();
+		PredefinedScopeBeanMetaDataManager parallelManager = ( (PredefinedScopeValidatorFactoryImpl) parallelFactory ).getBeanMetaDataManager();
+
+		assertEquals( describe( parallelManager ), describe( sequentialManager ) );
+
+		for ( BeanMetaData<?> beanMetaData : sequentialManager.getBeanMetaData() ) {
+			assertEquals(
+					parallelManager.getBeanMetaData( beanMetaData.getBeanClass() ).isTrackingEnabled(),
+					beanMetaData.isTrackingEnabled(),
+					"Wrong tracking information for " + beanMetaData.getBeanClass()
+			);
+		}
+
+		ProcessedBeansTrackingStrategy sequentialStrategy = sequentialManager.getProcessedBeansTrackingStrategy();
+		ProcessedBeansTrackingStrategy parallelStrategy = parallelManager.getProcessedBeansTrackingStrategy();
+		for ( Class<?> beanClass : BEAN_CLASSES ) {
+			assertEquals( parallelStrategy.isEnabledForBean( beanClass, true ), sequentialStrategy.isEnabledForBean( beanClass, true ) );
+		}
+	}
+
+	@Test
+	public void testParallelInitializationValidation() {
+		Validator validator = buildValidatorFactory( BEAN_CLASSES, true ).getValidator();
+
+		PremiumCustomer customer = new PremiumCustomer();
+		customer.address = new Address();
+		customer.orders = Arrays.asList( new Order( new Item( null ) ) );
+
+		assertThat( validator.validate( customer ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "address" ).property( "city" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "orders" )
+						.property( "item", true, null, 0, List.class, 0 )
+						.property( "name" ) ),
+				violationOf( Email.class ).withProperty( "email" )
+		);
+	}
+
+	@Test
+	public void testParallelInitializationThrowsTheSameException() {
+		Set<Class<?>> beanClasses = new HashSet<>( BEAN_CLASSES );
+		beanClasses.add( InvalidOrderService.class );
+
+		String sequentialMessage = getInitializationFailureMessage( beanClasses, false );
+		String parallelMessage = getInitializationFailureMessage( beanClasses, true );
+
+		assertEquals( parallelMessage, sequentialMessage );
+	}
+
+	private static String getInitializationFailureMessage(Set<Class<?>> beanClasses, boolean parallel) {
+		try {
+			buildValidatorFactory( beanClasses, parallel );
+			fail( "The initialization of the metadata should have failed" );
+			return null;
+		}
+		catch (ConstraintDeclarationException e) {
+			return e.getMessage();
+		}
+	}
+
+	private static Map<String, String> describe(PredefinedScopeBeanMetaDataManager beanMetaDataManager) {
+		Map<String, String> description = new TreeMap<>();
+		for ( BeanMetaData<?> beanMetaData : beanMetaDataManager.getBeanMetaData() ) {
+			description.put( beanMetaData.getBeanClass().getName(), beanMetaData.toString() );
+		}
+		return description;
+	}
+
+	private static ValidatorFactory buildValidatorFactory(Set<Class<?>> beanClasses, boolean parallel) {
+		return Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( new HashSet<>( Arrays.asList( NotNull.class.getName(), Email.class.getName(), Size.class.getName() ) ) )
+				.initializeBeanMetaData( beanClasses )
+				.parallelBeanMetaDataInitialization( parallel )
+				.buildValidatorFactory();
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private String name;
+
+		@Valid
+		protected Address address;
+
+		@Email
+		public String getEmail() {
+			return "invalid";
+		}
+	}
+
+	@GroupSequence({ PremiumCustomer.class, Extended.class })
+	private static class PremiumCustomer extends Customer {
+
+		@Size(min = 1, groups = Extended.class)
+		private List<@Valid Order> orders;
+	}
+
+	private static class Address {
+
+		@NotNull
+		private String city;
+
+		@Valid
+		private Customer owner;
+	}
+
+	private static class Order {
+
+		@Valid
+		private final Item item;
+
+		private Order(Item item) {
+			this.item = item;
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private final String name;
+
+		private Item(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class OrderService {
+
+		@SuppressWarnings("unused")
+		public void placeOrder(Order order) {
+		}
+	}
+
+	private static class InvalidOrderService extends OrderService {
+
+		@Override
+		public void placeOrder(@NotNull Order order) {
+		}
+	}
+
+	private interface Extended {
+	}
+}
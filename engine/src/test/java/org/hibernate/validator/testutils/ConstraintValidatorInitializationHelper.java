@@ -15,6 +15,7 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
+import org.hibernate.validator.engine.RegularExpressionEngine;
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.DefaultClockProvider;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
@@ -80,6 +81,13 @@ public static ConstraintCreationContext getDummyConstraintCreationContext() {
 
 	public static HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext(
 			ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider, Duration duration
+	) {
+		return getConstraintValidatorInitializationContext( scriptEvaluatorFactory, clockProvider, duration, RegularExpressionEngine.BACKTRACKING );
+	}
+
+	public static HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext(
+			ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider, Duration duration,
+			RegularExpressionEngine regularExpressionEngine
 	) {
 		return new HibernateConstraintValidatorInitializationContext() {
 
@@ -98,6 +106,11 @@ public Duration getTemporalValidationTolerance() {
 				return duration;
 			}
 
+			@Override
+			public RegularExpressionEngine getRegularExpressionEngine() {
+				return regularExpressionEngine;
+			}
+
 			@Override
 			public <C> C getSharedData(Class<C> type) {
 				return null;
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares validating the rows of an import one by one with {@code validate()} and as a batch with
+ * {@link HibernateValidatorValidator#validateAll(Iterable, Class[])}.
+ */
+public class BatchValidation {
+
+	@State(Scope.Benchmark)
+	public static class BatchValidationState {
+
+		@Param({ "10000" })
+		public int numberOfRows;
+
+		@Param({ "0", "10" })
+		public int invalidRowsPercentage;
+
+		public volatile HibernateValidatorValidator validator;
+
+		public volatile List<Row> rows;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.buildValidatorFactory()
+					.getValidator()
+					.unwrap( HibernateValidatorValidator.class );
+
+			rows = new ArrayList<>( numberOfRows );
+			for ( int i = 0; i < numberOfRows; i++ ) {
+				boolean invalid = i % 100 < invalidRowsPercentage;
+				rows.add( new Row( invalid ? null : "row-" + i, "REF-" + i, invalid ? -1 : i ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateEachRow(BatchValidationState state, Blackhole bh) {
+		for ( Row row : state.rows ) {
+			bh.consume( state.validator.validate( row ) );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateAll(BatchValidationState state, Blackhole bh) {
+		bh.consume( state.validator.validateAll( state.rows ) );
+	}
+
+	public static class Row {
+
+		@NotNull
+		@Size(min = 2, max = 50)
+		private final String name;
+
+		@NotNull
+		private final String reference;
+
+		@Min(0)
+		private final int quantity;
+
+		public Row(String name, String reference, int quantity) {
+			this.name = name;
+			this.reference = reference;
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public class Address {
+
+	@NotBlank
+	private String street;
+
+	@NotBlank
+	@Pattern(regexp = "[0-9]{5}")
+	private String zipCode;
+
+	@NotBlank
+	private String city;
+}
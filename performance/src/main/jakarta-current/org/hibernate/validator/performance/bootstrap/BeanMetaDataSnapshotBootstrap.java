@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrap.CopyingClassLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time needed to bootstrap a predefined scope validator factory, comparing the inspection of the bean
+ * classes using reflection with the loading of a bean metadata snapshot written beforehand.
+ * <p>
+ * The bean classes are copied the same way as in {@link PredefinedScopeBootstrap}. As all the copies share the same
+ * class files, the snapshot is written once and applies to all of them.
+ */
+public class BeanMetaDataSnapshotBootstrap {
+
+	@State(Scope.Benchmark)
+	public static class BeanMetaDataSnapshotBootstrapState {
+
+		@Param({ "false", "true" })
+		public boolean snapshot;
+
+		@Param({ "100", "1000" })
+		public int numberOfClasses;
+
+		public volatile Set<Class<?>> beanClasses;
+
+		public volatile Set<String> builtinConstraints;
+
+		public volatile byte[] snapshotBytes;
+
+		@Setup
+		public void setUp() {
+			beanClasses = new HashSet<>();
+			while ( beanClasses.size() < numberOfClasses ) {
+				CopyingClassLoader classLoader = new CopyingClassLoader();
+				for ( Class<?> beanClassTemplate : PredefinedScopeBootstrap.BEAN_CLASS_TEMPLATES ) {
+					if ( beanClasses.size() < numberOfClasses ) {
+						beanClasses.add( classLoader.loadCopy( beanClassTemplate ) );
+					}
+				}
+			}
+
+			builtinConstraints = new HashSet<>( Arrays.asList(
+					Email.class.getName(), Max.class.getName(), Min.class.getName(), NotBlank.class.getName(),
+					NotNull.class.getName(), Pattern.class.getName(), Size.class.getName()
+			) );
+
+			try ( ValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+					.configure()
+					.builtinConstraints( builtinConstraints )
+					.initializeBeanMetaData( new HashSet<>( PredefinedScopeBootstrap.BEAN_CLASS_TEMPLATES ) )
+					.buildValidatorFactory() ) {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				validatorFactory.unwrap( PredefinedScopeHibernateValidatorFactory.class ).writeBeanMetaDataSnapshot( outputStream );
+				snapshotBytes = outputStream.toByteArray();
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 10)
+	public void testBeanMetaDataSnapshotBootstrap(BeanMetaDataSnapshotBootstrapState state, Blackhole bh) {
+		PredefinedScopeHibernateValidatorConfiguration configuration = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( state.builtinConstraints )
+				.initializeBeanMetaData( state.beanClasses );
+		if ( state.snapshot ) {
+			configuration.beanMetaDataSnapshot( new ByteArrayInputStream( state.snapshotBytes ) );
+		}
+
+		try ( ValidatorFactory validatorFactory = configuration.buildValidatorFactory() ) {
+			assertThat( validatorFactory ).isNotNull();
+
+			bh.consume( validatorFactory.getValidator() );
+		}
+	}
+}
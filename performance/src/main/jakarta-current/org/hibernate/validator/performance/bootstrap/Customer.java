@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class Customer {
+
+	@NotBlank
+	@Size(max = 100)
+	private String name;
+
+	@Email
+	private String email;
+
+	@Valid
+	@NotNull
+	private Address billingAddress;
+
+	private List<@Valid @NotNull Order> orders;
+
+	@NotNull
+	public String getName() {
+		return name;
+	}
+
+	public void rename(@NotBlank @Size(max = 100) String name) {
+		this.name = name;
+	}
+}
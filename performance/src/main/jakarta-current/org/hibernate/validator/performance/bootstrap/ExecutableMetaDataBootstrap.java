@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrap.CopyingClassLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time needed to bootstrap a predefined scope validator factory whose beans are only validated as beans,
+ * in which case the metadata of the methods and constructors are never built, compared with the time needed when
+ * the executables of all the beans are validated as well.
+ * <p>
+ * Run it with {@code -prof gc} to compare the memory allocated for each bootstrap.
+ * <p>
+ * The bean classes are copied the same way as in {@link PredefinedScopeBootstrap}.
+ */
+public class ExecutableMetaDataBootstrap {
+
+	@State(Scope.Benchmark)
+	public static class ExecutableMetaDataBootstrapState {
+
+		@Param({ "false", "true" })
+		public boolean methodValidation;
+
+		@Param({ "100", "1000" })
+		public int numberOfClasses;
+
+		public volatile Set<Class<?>> beanClasses;
+
+		public volatile Set<String> builtinConstraints;
+
+		@Setup
+		public void setUp() {
+			beanClasses = new HashSet<>();
+			while ( beanClasses.size() < numberOfClasses ) {
+				CopyingClassLoader classLoader = new CopyingClassLoader();
+				for ( Class<?> beanClassTemplate : PredefinedScopeBootstrap.BEAN_CLASS_TEMPLATES ) {
+					if ( beanClasses.size() < numberOfClasses ) {
+						beanClasses.add( classLoader.loadCopy( beanClassTemplate ) );
+					}
+				}
+			}
+
+			builtinConstraints = new HashSet<>( Arrays.asList(
+					Email.class.getName(), Max.class.getName(), Min.class.getName(), NotBlank.class.getName(),
+					NotNull.class.getName(), Pattern.class.getName(), Size.class.getName()
+			) );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 10)
+	public void testExecutableMetaDataBootstrap(ExecutableMetaDataBootstrapState state, Blackhole bh) throws NoSuchMethodException {
+		try ( ValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( state.builtinConstraints )
+				.initializeBeanMetaData( state.beanClasses )
+				.buildValidatorFactory() ) {
+			assertThat( validatorFactory ).isNotNull();
+
+			Validator validator = validatorFactory.getValidator();
+			if ( state.methodValidation ) {
+				// validating an executable builds the metadata of all the executables of the bean
+				ExecutableValidator executableValidator = validator.forExecutables();
+				for ( Class<?> beanClass : state.beanClasses ) {
+					bh.consume( executableValidator.validateConstructorParameters( beanClass.getConstructor(), new Object[0] ) );
+				}
+			}
+
+			bh.consume( validator );
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.metadata.MetaDataFootprint;
+import org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrap.CopyingClassLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bootstrap of a predefined scope validator factory whose beans repeat the same constraints, the
+ * structurally equal constraint metadata being shared by all the copies of the bean classes.
+ * <p>
+ * Run it with {@code -prof gc} to follow the memory allocated for each bootstrap. The footprint of the metadata kept
+ * by the factory is checked so that the number of distinct constraint descriptors does not grow with the number of
+ * classes.
+ * <p>
+ * The bean classes are copied the same way as in {@link PredefinedScopeBootstrap}.
+ */
+public class MetaDataFootprintBootstrap {
+
+	@State(Scope.Benchmark)
+	public static class MetaDataFootprintBootstrapState {
+
+		@Param({ "100", "1000" })
+		public int numberOfClasses;
+
+		public volatile Set<Class<?>> beanClasses;
+
+		public volatile Set<String> builtinConstraints;
+
+		@Setup
+		public void setUp() {
+			beanClasses = new HashSet<>();
+			while ( beanClasses.size() < numberOfClasses ) {
+				CopyingClassLoader classLoader = new CopyingClassLoader();
+				for ( Class<?> beanClassTemplate : PredefinedScopeBootstrap.BEAN_CLASS_TEMPLATES ) {
+					if ( beanClasses.size() < numberOfClasses ) {
+						beanClasses.add( classLoader.loadCopy( beanClassTemplate ) );
+					}
+				}
+			}
+
+			builtinConstraints = new HashSet<>( Arrays.asList(
+					Email.class.getName(), Max.class.getName(), Min.class.getName(), NotBlank.class.getName(),
+					NotNull.class.getName(), Pattern.class.getName(), Size.class.getName()
+			) );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 10)
+	public void testMetaDataFootprintBootstrap(MetaDataFootprintBootstrapState state, Blackhole bh) {
+		try ( ValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( state.builtinConstraints )
+				.initializeBeanMetaData( state.beanClasses )
+				.buildValidatorFactory() ) {
+			MetaDataFootprint footprint = validatorFactory.unwrap( HibernateValidatorFactory.class ).getMetaDataFootprint();
+			assertThat( footprint.getConstraintDescriptorCount() ).isLessThan( footprint.getConstraintCount() );
+
+			bh.consume( footprint );
+		}
+	}
+}
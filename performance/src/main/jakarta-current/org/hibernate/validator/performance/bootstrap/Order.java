@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public class Order {
+
+	@NotNull
+	@Pattern(regexp = "[A-Z]{2}-[0-9]+")
+	private String reference;
+
+	@Size(min = 1)
+	private List<@Valid @NotNull OrderLine> lines;
+
+	@Valid
+	private Customer customer;
+}
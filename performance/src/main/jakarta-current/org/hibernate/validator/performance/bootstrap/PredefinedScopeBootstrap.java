@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time needed to bootstrap a predefined scope validator factory, comparing the sequential initialization
+ * of the bean metadata with the parallel one.
+ * <p>
+ * To scale the number of classes, the bean classes are loaded several times, each time by a new class loader, so that
+ * each copy is a distinct class for which the metadata have to be built.
+ */
+public class PredefinedScopeBootstrap {
+
+	static final List<Class<?>> BEAN_CLASS_TEMPLATES = Arrays.asList(
+			Customer.class, PremiumCustomer.class, Address.class, Order.class, OrderLine.class
+	);
+
+	@State(Scope.Benchmark)
+	public static class PredefinedScopeBootstrapState {
+
+		@Param({ "false", "true" })
+		public boolean parallel;
+
+		@Param({ "100", "1000" })
+		public int numberOfClasses;
+
+		public volatile Set<Class<?>> beanClasses;
+
+		public volatile Set<String> builtinConstraints;
+
+		@Setup
+		public void setUp() {
+			beanClasses = new HashSet<>();
+			while ( beanClasses.size() < numberOfClasses ) {
+				CopyingClassLoader classLoader = new CopyingClassLoader();
+				for ( Class<?> beanClassTemplate : BEAN_CLASS_TEMPLATES ) {
+					if ( beanClasses.size() < numberOfClasses ) {
+						beanClasses.add( classLoader.loadCopy( beanClassTemplate ) );
+					}
+				}
+			}
+
+			builtinConstraints = new HashSet<>( Arrays.asList(
+					Email.class.getName(), Max.class.getName(), Min.class.getName(), NotBlank.class.getName(),
+					NotNull.class.getName(), Pattern.class.getName(), Size.class.getName()
+			) );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 10)
+	public void testPredefinedScopeBootstrap(PredefinedScopeBootstrapState state, Blackhole bh) {
+		try ( ValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( state.builtinConstraints )
+				.initializeBeanMetaData( state.beanClasses )
+				.parallelBeanMetaDataInitialization( state.parallel )
+				.buildValidatorFactory() ) {
+			assertThat( validatorFactory ).isNotNull();
+
+			bh.consume( validatorFactory.getValidator() );
+		}
+	}
+
+	/**
+	 * Defines a new copy of the bean classes of this benchmark, delegating to the parent class loader for all the
+	 * other classes.
+	 */
+	static class CopyingClassLoader extends ClassLoader {
+
+		private static final Set<String> BEAN_CLASS_NAMES = BEAN_CLASS_TEMPLATES.stream()
+				.map( Class::getName )
+				.collect( Collectors.toSet() );
+
+		CopyingClassLoader() {
+			super( PredefinedScopeBootstrap.class.getClassLoader() );
+		}
+
+		Class<?> loadCopy(Class<?> beanClassTemplate) {
+			try {
+				return loadClass( beanClassTemplate.getName() );
+			}
+			catch (ClassNotFoundException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !BEAN_CLASS_NAMES.contains( name ) ) {
+				return super.loadClass( name, resolve );
+			}
+
+			synchronized ( getClassLoadingLock( name ) ) {
+				Class<?> loadedClass = findLoadedClass( name );
+				if ( loadedClass == null ) {
+					byte[] bytes = readClassFile( name );
+					loadedClass = defineClass( name, bytes, 0, bytes.length );
+				}
+				return loadedClass;
+			}
+		}
+
+		private byte[] readClassFile(String name) throws ClassNotFoundException {
+			try ( InputStream inputStream = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) ) {
+				if ( inputStream == null ) {
+					throw new ClassNotFoundException( name );
+				}
+				return inputStream.readAllBytes();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+	}
+}
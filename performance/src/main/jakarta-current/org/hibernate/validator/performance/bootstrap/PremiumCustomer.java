@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class PremiumCustomer extends Customer {
+
+	@Min(1)
+	@Max(5)
+	private int level;
+
+	@Valid
+	private Address shippingAddress;
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Same as {@link CascadedWithLotsOfItemsValidation} but comparing the sequential validation of the articles with their
+ * parallel validation using different executors.
+ * <p>
+ * As the goal is to measure the latency of the validation of a large object graph when there are idle cores, the
+ * benchmark runs with a single thread.
+ */
+public class ParallelCascadedWithLotsOfItemsValidation {
+
+	@State(Scope.Benchmark)
+	public static class ParallelCascadedWithLotsOfItemsValidationState {
+
+		@Param({ "sequential", "common-pool", "virtual-threads" })
+		public String mode;
+
+		@Param({ "2000", "20000" })
+		public int numberOfArticlesPerShop;
+
+		public volatile Validator validator;
+
+		public volatile Shop shop;
+
+		private ExecutorService executorService;
+
+		@Setup
+		public void setUp() {
+			HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class )
+					.configure();
+
+			switch ( mode ) {
+				case "sequential":
+					break;
+				case "common-pool":
+					configuration.parallelCascadedValidation( true )
+							.parallelCascadedValidationExecutor( ForkJoinPool.commonPool() );
+					break;
+				case "virtual-threads":
+					executorService = newVirtualThreadPerTaskExecutor();
+					configuration.parallelCascadedValidation( true )
+							.parallelCascadedValidationExecutor( executorService );
+					break;
+				default:
+					throw new IllegalArgumentException( "Unknown mode " + mode );
+			}
+
+			validator = configuration.buildValidatorFactory().getValidator();
+
+			shop = new Shop( 1 );
+			for ( int i = 0; i < numberOfArticlesPerShop; i++ ) {
+				shop.addArticle( new Article( i ) );
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			if ( executorService != null ) {
+				executorService.shutdown();
+			}
+		}
+
+		private static ExecutorService newVirtualThreadPerTaskExecutor() {
+			// virtual threads are only available as of JDK 21 and the performance tests are compiled for an older release
+			try {
+				return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+			}
+			catch (ReflectiveOperationException e) {
+				throw new IllegalStateException( "Virtual threads require JDK 21 or later", e );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testParallelCascadedValidationWithLotsOfItems(ParallelCascadedWithLotsOfItemsValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Shop>> violations = state.validator.validate( state.shop );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Shop {
+		@NotNull
+		private Integer id;
+
+		@NotNull
+		private List<@Valid @NotNull Article> articles = new ArrayList<>();
+
+		public Shop(Integer id) {
+			this.id = id;
+		}
+
+		public void addArticle(Article article) {
+			articles.add( article );
+		}
+	}
+
+	public static class Article {
+		@NotNull
+		private Integer id;
+
+		@NotNull
+		@Size(min = 3)
+		private String reference;
+
+		public Article(Integer id) {
+			this.id = id;
+			this.reference = "REF-" + id;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a large list of cascaded items whose runtime classes are either all the same or spread over the classes of
+ * a sealed hierarchy.
+ * <p>
+ * The metadata of the items are kept in the inline caches of the cascading metadata as long as there are at most 4
+ * classes: with 8 classes, the additional classes are looked up in the bean metadata manager. The inline caches are
+ * not used with the bounded retention, which thus gives the cost of the lookups in the manager.
+ */
+public class PolymorphicCascadedValidation {
+
+	@State(Scope.Benchmark)
+	public static class PolymorphicCascadedValidationState {
+
+		@Param({ "SOFT", "BOUNDED" })
+		public BeanMetaDataRetention retention;
+
+		@Param({ "1", "2", "4", "8" })
+		public int numberOfItemClasses;
+
+		public volatile Validator validator;
+
+		public volatile Basket basket;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.beanMetaDataRetention( retention )
+					.beanMetaDataCacheMaxSize( 100 )
+					.buildValidatorFactory()
+					.getValidator();
+
+			basket = new Basket();
+			for ( int i = 0; i < 10_000; i++ ) {
+				basket.items.add( newItem( i % numberOfItemClasses ) );
+			}
+		}
+
+		private static Item newItem(int itemClass) {
+			switch ( itemClass ) {
+				case 0:
+					return new Book();
+				case 1:
+					return new Pen();
+				case 2:
+					return new Notebook();
+				case 3:
+					return new Bag();
+				case 4:
+					return new Lamp();
+				case 5:
+					return new Chair();
+				case 6:
+					return new Desk();
+				default:
+					return new Shelf();
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testPolymorphicCascadedValidation(PolymorphicCascadedValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Basket>> violations = state.validator.validate( state.basket );
+		assertThat( violations ).isEmpty();
+
+		bh.consume( violations );
+	}
+
+	public static class Basket {
+
+		@NotNull
+		private final List<@Valid Item> items = new ArrayList<>();
+	}
+
+	public sealed interface Item permits Book, Pen, Notebook, Bag, Lamp, Chair, Desk, Shelf {
+	}
+
+	public abstract static class AbstractItem {
+
+		@NotNull
+		private final String reference = "REF";
+
+		@Min(1)
+		private final int quantity = 1;
+	}
+
+	public static final class Book extends AbstractItem implements Item {
+	}
+
+	public static final class Pen extends AbstractItem implements Item {
+	}
+
+	public static final class Notebook extends AbstractItem implements Item {
+	}
+
+	public static final class Bag extends AbstractItem implements Item {
+	}
+
+	public static final class Lamp extends AbstractItem implements Item {
+	}
+
+	public static final class Chair extends AbstractItem implements Item {
+	}
+
+	public static final class Desk extends AbstractItem implements Item {
+	}
+
+	public static final class Shelf extends AbstractItem implements Item {
+	}
+}
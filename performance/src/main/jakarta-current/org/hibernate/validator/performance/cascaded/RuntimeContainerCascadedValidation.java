@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates many small containers whose value extractor depends on their runtime class: the containers are either
+ * declared as {@code Object} and marked with {@code @Valid} or declared as a {@code Collection} whose elements are
+ * marked with {@code @Valid}, several value extractors being candidates in both cases.
+ * <p>
+ * The value extractors resolved for the runtime classes of the containers are kept by the cascading metadata, so the
+ * validation of a container does not look them up in the caches of the value extractor resolver.
+ */
+public class RuntimeContainerCascadedValidation {
+
+	@State(Scope.Benchmark)
+	public static class RuntimeContainerCascadedValidationState {
+
+		@Param({ "object", "collection" })
+		public String declaredType;
+
+		public volatile Validator validator;
+
+		public volatile Warehouse warehouse;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+			warehouse = new Warehouse();
+			for ( int i = 0; i < 1_000; i++ ) {
+				Collection<Item> items = i % 2 == 0 ? new ArrayList<>() : new LinkedHashSet<>();
+				for ( int j = 0; j < 5; j++ ) {
+					items.add( new Item( j + 1 ) );
+				}
+				warehouse.boxes.add( "object".equals( declaredType ) ? new ObjectBox( items ) : new CollectionBox( items ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testRuntimeContainerCascadedValidation(RuntimeContainerCascadedValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Warehouse>> violations = state.validator.validate( state.warehouse );
+		assertThat( violations ).isEmpty();
+
+		bh.consume( violations );
+	}
+
+	public static class Warehouse {
+
+		@NotNull
+		private final List<@Valid Box> boxes = new ArrayList<>();
+	}
+
+	public interface Box {
+	}
+
+	public static class ObjectBox implements Box {
+
+		@Valid
+		private final Object items;
+
+		public ObjectBox(Object items) {
+			this.items = items;
+		}
+	}
+
+	public static class CollectionBox implements Box {
+
+		private final Collection<@Valid Item> items;
+
+		public CollectionBox(Collection<Item> items) {
+			this.items = items;
+		}
+	}
+
+	public static class Item {
+
+		@Min(1)
+		private final int quantity;
+
+		public Item(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
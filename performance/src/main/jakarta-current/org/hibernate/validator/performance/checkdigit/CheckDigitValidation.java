@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.checkdigit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.hibernate.validator.constraints.Mod10Check;
+import org.hibernate.validator.constraints.Mod11Check;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.hibernate.validator.constraints.pl.NIP;
+import org.hibernate.validator.constraints.pl.PESEL;
+import org.hibernate.validator.constraints.pl.REGON;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates identifiers protected by a check digit, one algorithm at a time, to measure the cost of the check digit
+ * validators.
+ */
+public class CheckDigitValidation {
+
+	@State(Scope.Benchmark)
+	public static class CheckDigitValidationState {
+
+		@Param({ "luhn", "mod10", "mod11", "cpf", "cnpj", "pesel", "nip", "regon" })
+		public String algorithm;
+
+		public volatile Validator validator;
+
+		public volatile String value;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+			switch ( algorithm ) {
+				case "luhn":
+					value = "4012-8888-8888-1881";
+					break;
+				case "mod10":
+					value = "9780306406157";
+					break;
+				case "mod11":
+					value = "123456789X";
+					break;
+				case "cpf":
+					value = "134.241.313-00";
+					break;
+				case "cnpj":
+					value = "91.509.901/0001-69";
+					break;
+				case "pesel":
+					value = "92041903790";
+					break;
+				case "nip":
+					value = "123-456-32-18";
+					break;
+				case "regon":
+					value = "123456785";
+					break;
+				default:
+					throw new IllegalArgumentException( "Unsupported algorithm " + algorithm );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testCheckDigitValidation(CheckDigitValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Identifiers>> violations = state.validator.validateValue( Identifiers.class, state.algorithm, state.value );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Identifiers {
+
+		@LuhnCheck(ignoreNonDigitCharacters = true)
+		private String luhn;
+
+		@Mod10Check
+		private String mod10;
+
+		@Mod11Check
+		private String mod11;
+
+		@CPF
+		private String cpf;
+
+		@CNPJ
+		private String cnpj;
+
+		@PESEL
+		private String pesel;
+
+		@NIP
+		private String nip;
+
+		@REGON
+		private String regon;
+	}
+}
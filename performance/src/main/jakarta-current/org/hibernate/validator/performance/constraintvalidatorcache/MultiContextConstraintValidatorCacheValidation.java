@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.constraintvalidatorcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a bean with validators obtained via {@code usingContext()} with alternating constraint validator
+ * factories, as a multi-tenant application would do with one factory per tenant.
+ * <p>
+ * With a maximum of one cached context, which corresponds to the former single slot cache, the constraint validators
+ * are released and initialized again each time the factory changes. With a maximum at least equal to the number of
+ * factories, they are initialized once.
+ */
+public class MultiContextConstraintValidatorCacheValidation {
+
+	@State(Scope.Benchmark)
+	public static class MultiContextConstraintValidatorCacheValidationState {
+
+		@Param({ "2", "8", "32" })
+		public int numberOfContexts;
+
+		@Param({ "1", "32" })
+		public int maxContexts;
+
+		public volatile HibernateValidatorFactory validatorFactory;
+
+		public volatile Validator[] validators;
+
+		public volatile Tenant tenant;
+
+		@Setup
+		public void setUp() {
+			validatorFactory = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.constraintValidatorCacheMaxContexts( maxContexts )
+					.buildValidatorFactory()
+					.unwrap( HibernateValidatorFactory.class );
+
+			validators = new Validator[numberOfContexts];
+			for ( int i = 0; i < numberOfContexts; i++ ) {
+				validators[i] = validatorFactory.usingContext()
+						.constraintValidatorFactory( new TenantConstraintValidatorFactory() )
+						.getValidator();
+			}
+
+			tenant = new Tenant( "tenant", 42 );
+		}
+
+		@TearDown
+		public void tearDown() {
+			validatorFactory.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ContextState {
+
+		public int current;
+
+		public Validator next(Validator[] validators) {
+			current = ( current + 1 ) % validators.length;
+			return validators[current];
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testAlternatingContexts(MultiContextConstraintValidatorCacheValidationState state, ContextState contextState, Blackhole bh) {
+		Set<ConstraintViolation<Tenant>> violations = contextState.next( state.validators ).validate( state.tenant );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Tenant {
+
+		@NotNull
+		@Size(min = 1, max = 64)
+		private final String name;
+
+		@Min(1)
+		private final int users;
+
+		public Tenant(String name, int users) {
+			this.name = name;
+			this.users = users;
+		}
+	}
+
+	/**
+	 * A distinct factory instance per tenant, as the factories use identity for {@code equals()}.
+	 */
+	private static class TenantConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate = new DefaultConstraintValidatorFactory();
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			delegate.releaseInstance( instance );
+		}
+	}
+}
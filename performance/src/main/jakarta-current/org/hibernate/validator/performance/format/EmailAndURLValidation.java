@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraintvalidators.RegexpURLValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates typical signup and webhook values with the {@code @Email} and {@code @URL} constraints, the latter with
+ * both the default validator and the {@link RegexpURLValidator}, to measure the cost of the format validators.
+ */
+public class EmailAndURLValidation {
+
+	@State(Scope.Benchmark)
+	public static class EmailAndURLValidationState {
+
+		@Param({ "email", "url", "regexpUrl" })
+		public String constraint;
+
+		public volatile Validator validator;
+
+		public volatile String property;
+
+		public volatile String[] validValues;
+
+		public volatile String[] invalidValues;
+
+		@Setup
+		public void setUp() {
+			HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+			if ( "regexpUrl".equals( constraint ) ) {
+				ConstraintMapping constraintMapping = configuration.createConstraintMapping();
+				constraintMapping.constraintDefinition( URL.class )
+						.includeExistingValidators( false )
+						.validatedBy( RegexpURLValidator.class );
+				configuration.addMapping( constraintMapping );
+			}
+			validator = configuration.buildValidatorFactory().getValidator();
+
+			switch ( constraint ) {
+				case "email":
+					property = "email";
+					validValues = new String[] { "john.doe@example.com", "jane+newsletter@mail.example.org", "support@hibernate.org" };
+					invalidValues = new String[] { "john.doe@example..com", "jane.doe.example.com", "support@-hibernate.org" };
+					break;
+				case "url":
+				case "regexpUrl":
+					property = "url";
+					validValues = new String[] { "https://hooks.example.com/webhooks/42?token=a1b2c3", "http://localhost:8080/callback",
+							"https://hibernate.org/validator/" };
+					invalidValues = new String[] { "hooks.example.com/webhooks/42", "https://hooks.example.com:8080:80/",
+							"http://exa mple.com/" };
+					break;
+				default:
+					throw new IllegalArgumentException( "Unsupported constraint " + constraint );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testEmailAndURLValidation(EmailAndURLValidationState state, Blackhole bh) {
+		for ( String value : state.validValues ) {
+			Set<ConstraintViolation<Signup>> violations = state.validator.validateValue( Signup.class, state.property, value );
+			assertThat( violations ).isEmpty();
+			bh.consume( violations );
+		}
+
+		for ( String value : state.invalidValues ) {
+			Set<ConstraintViolation<Signup>> violations = state.validator.validateValue( Signup.class, state.property, value );
+			assertThat( violations ).hasSize( 1 );
+			bh.consume( violations );
+		}
+	}
+
+	public static class Signup {
+
+		@Email
+		private String email;
+
+		@URL
+		private String url;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.lazyviolation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the eager and the lazy interpolation of the messages of the constraint violations on a bulk input generating
+ * lots of violations.
+ * <p>
+ * {@code countViolations} is the typical case of a caller only interested in the number of violations or in their
+ * paths whereas {@code readMessages} accesses all the messages and shows the overhead of the lazy interpolation.
+ */
+public class LazyConstraintViolationValidation {
+
+	@State(Scope.Benchmark)
+	public static class LazyConstraintViolationValidationState {
+
+		@Param({ "eager", "lazy" })
+		public String interpolation;
+
+		@Param({ "100" })
+		public int numberOfCustomers;
+
+		public volatile Validator validator;
+
+		public volatile CustomerImport customerImport;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.lazyConstraintViolations( "lazy".equals( interpolation ) )
+					.buildValidatorFactory()
+					.getValidator();
+
+			customerImport = new CustomerImport();
+			for ( int i = 0; i < numberOfCustomers; i++ ) {
+				customerImport.customers.add( new Customer( null, "customer-" + i, i % 18 ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void countViolations(LazyConstraintViolationValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<CustomerImport>> violations = state.validator.validate( state.customerImport );
+		bh.consume( violations.size() );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void readMessages(LazyConstraintViolationValidationState state, Blackhole bh) {
+		for ( ConstraintViolation<CustomerImport> violation : state.validator.validate( state.customerImport ) ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	public static class CustomerImport {
+
+		private final List<@Valid Customer> customers = new ArrayList<>();
+	}
+
+	public static class Customer {
+
+		@NotNull
+		@Size(min = 2, max = 50)
+		private final String name;
+
+		@Email
+		private final String email;
+
+		@Min(18)
+		private final int age;
+
+		public Customer(String name, String email, int age) {
+			this.name = name;
+			this.email = email;
+			this.age = age;
+		}
+	}
+}
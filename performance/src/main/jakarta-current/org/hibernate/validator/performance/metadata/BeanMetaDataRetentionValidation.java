@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.metadata.BeanMetaDataRetention;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link BeanMetaDataRetention}s on a graph of small beans, whose validation cost is dominated by the
+ * lookup of the bean metadata performed for each cascaded element.
+ * <p>
+ * The maximum size of the bounded cache is large enough to hold the metadata of all the beans so that only the cost
+ * of the lookups is measured.
+ */
+public class BeanMetaDataRetentionValidation {
+
+	@State(Scope.Benchmark)
+	public static class BeanMetaDataRetentionValidationState {
+
+		@Param({ "strong", "soft", "bounded" })
+		public String retention;
+
+		public volatile Validator validator;
+		public volatile Order order;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.beanMetaDataRetention( BeanMetaDataRetention.of( retention ) )
+					.buildValidatorFactory()
+					.getValidator();
+
+			order = new Order();
+			for ( int i = 0; i < 100; i++ ) {
+				order.lines.add( new OrderLine( new Product( "product-" + i ), i + 1 ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testBeanMetaDataLookup(BeanMetaDataRetentionValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Order>> violations = state.validator.validate( state.order );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Order {
+
+		@Valid
+		private final List<OrderLine> lines = new ArrayList<>();
+	}
+
+	public static class OrderLine {
+
+		@Valid
+		@NotNull
+		private final Product product;
+
+		@Min(1)
+		private final int quantity;
+
+		public OrderLine(Product product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+
+	public static class Product {
+
+		@NotNull
+		private final String reference;
+
+		public Product(String reference) {
+			this.reference = reference;
+		}
+	}
+}
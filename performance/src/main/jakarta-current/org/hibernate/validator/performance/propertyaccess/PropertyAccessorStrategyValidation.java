@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.propertyaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.engine.PropertyAccessorStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link PropertyAccessorStrategy}s on a bean whose validation cost is dominated by reading the values of
+ * its fields and getters.
+ */
+public class PropertyAccessorStrategyValidation {
+
+	@State(Scope.Benchmark)
+	public static class PropertyAccessorStrategyValidationState {
+
+		@Param({ "reflection", "generated" })
+		public String propertyAccessorStrategy;
+
+		public volatile Validator validator;
+		public volatile Order order;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.propertyAccessorStrategy( PropertyAccessorStrategy.of( propertyAccessorStrategy ) )
+					.buildValidatorFactory()
+					.getValidator();
+
+			order = new Order();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testPropertyAccess(PropertyAccessorStrategyValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Order>> violations = state.validator.validate( state.order );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Order {
+
+		@NotNull
+		private String reference = "ORD-1";
+
+		@NotNull
+		@Size(max = 50)
+		private String customer = "kermit";
+
+		@Min(1)
+		private int quantity = 3;
+
+		@Min(0)
+		private long totalInCents = 4_200L;
+
+		@Max(100)
+		private double discount = 5.0d;
+
+		@NotNull
+		private Boolean paid = Boolean.TRUE;
+
+		@NotNull
+		public String getCurrency() {
+			return "EUR";
+		}
+
+		@Min(1)
+		public int getLineCount() {
+			return quantity;
+		}
+
+		@Size(min = 2)
+		public String getShippingCountry() {
+			return "FR";
+		}
+
+		@NotNull
+		public Long getCreatedAt() {
+			return 1_700_000_000_000L;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.engine.RegularExpressionEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates {@code @Pattern} and {@code @Email} constraints with the different {@link RegularExpressionEngine}s, for
+ * typical inputs and for adversarial inputs triggering catastrophic backtracking in {@link java.util.regex.Pattern}.
+ * <p>
+ * The adversarial input is kept short enough for the backtracking engine to complete: its matching time doubles
+ * roughly every two characters while the one of the linear engine grows linearly.
+ */
+public class RegularExpressionEngineValidation {
+
+	@State(Scope.Benchmark)
+	public static class RegularExpressionEngineValidationState {
+
+		@Param({ "backtracking", "linear" })
+		public String engine;
+
+		@Param({ "typical", "adversarial" })
+		public String input;
+
+		public volatile Validator validator;
+
+		public volatile Account validAccount;
+
+		public volatile Account invalidAccount;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.regularExpressionEngine( RegularExpressionEngine.of( engine ) )
+					.buildValidatorFactory()
+					.getValidator();
+
+			validAccount = new Account( "aaaab", "john.doe@example.com" );
+			if ( "typical".equals( input ) ) {
+				invalidAccount = new Account( "aaaac", "john.doe@example.org" );
+			}
+			else {
+				String as = "a".repeat( 24 );
+				invalidAccount = new Account( as, as + "@example.org" );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testRegularExpressionEngineValidation(RegularExpressionEngineValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Account>> violations = state.validator.validate( state.validAccount );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+
+		violations = state.validator.validate( state.invalidAccount );
+		assertThat( violations ).hasSize( 2 );
+		bh.consume( violations );
+	}
+
+	public static class Account {
+
+		@Pattern(regexp = "(a|aa)+b")
+		private final String code;
+
+		@Email(regexp = "(\\w|\\w\\w)+[.]\\w+@example\\.com")
+		private final String email;
+
+		public Account(String code, String email) {
+			this.code = code;
+			this.email = email;
+		}
+	}
+}
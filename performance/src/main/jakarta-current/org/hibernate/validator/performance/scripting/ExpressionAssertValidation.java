@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.constraints.ExpressionAssert;
+import org.hibernate.validator.constraints.ScriptAssert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates the same cross-field assertion expressed either with an {@code @ExpressionAssert}, compiled when the
+ * constraint validator is initialized, or with a Groovy {@code @ScriptAssert}.
+ */
+public class ExpressionAssertValidation {
+
+	@State(Scope.Benchmark)
+	public static class ExpressionAssertValidationState {
+
+		@Param({ "expression", "script" })
+		public String constraint;
+
+		public volatile Validator validator;
+
+		public volatile Object validEvent;
+
+		public volatile Object invalidEvent;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+			LocalDate today = LocalDate.of( 2025, 1, 1 );
+			if ( "expression".equals( constraint ) ) {
+				validEvent = new ExpressionAssertEvent( today, today.plusDays( 1 ), 10, 5 );
+				invalidEvent = new ExpressionAssertEvent( today.plusDays( 1 ), today, 10, 5 );
+			}
+			else {
+				validEvent = new ScriptAssertEvent( today, today.plusDays( 1 ), 10, 5 );
+				invalidEvent = new ScriptAssertEvent( today.plusDays( 1 ), today, 10, 5 );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testExpressionAssertValidation(ExpressionAssertValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Object>> violations = state.validator.validate( state.validEvent );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+
+		violations = state.validator.validate( state.invalidEvent );
+		assertThat( violations ).hasSize( 1 );
+		bh.consume( violations );
+	}
+
+	@ExpressionAssert(expression = "endDate == null || startDate < endDate && attendees + 1 <= capacity * 2")
+	public static class ExpressionAssertEvent extends Event {
+
+		public ExpressionAssertEvent(LocalDate startDate, LocalDate endDate, int capacity, int attendees) {
+			super( startDate, endDate, capacity, attendees );
+		}
+	}
+
+	@ScriptAssert(lang = "groovy", script = "_this.endDate == null || _this.startDate < _this.endDate && _this.attendees + 1 <= _this.capacity * 2")
+	public static class ScriptAssertEvent extends Event {
+
+		public ScriptAssertEvent(LocalDate startDate, LocalDate endDate, int capacity, int attendees) {
+			super( startDate, endDate, capacity, attendees );
+		}
+	}
+
+	public abstract static class Event {
+
+		private final LocalDate startDate;
+
+		private final LocalDate endDate;
+
+		private final int capacity;
+
+		private final int attendees;
+
+		protected Event(LocalDate startDate, LocalDate endDate, int capacity, int attendees) {
+			this.startDate = startDate;
+			this.endDate = endDate;
+			this.capacity = capacity;
+			this.attendees = attendees;
+		}
+
+		public LocalDate getStartDate() {
+			return startDate;
+		}
+
+		public LocalDate getEndDate() {
+			return endDate;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public int getAttendees() {
+			return attendees;
+		}
+	}
+}
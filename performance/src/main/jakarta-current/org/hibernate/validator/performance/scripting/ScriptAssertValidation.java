@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.spi.scripting.CompiledScriptEvaluatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates beans with a Groovy {@code @ScriptAssert} from one and several threads, either with the default script
+ * evaluator factory, which evaluates the scripts without compiling them, or with the
+ * {@link CompiledScriptEvaluatorFactory}, which compiles each script once.
+ */
+public class ScriptAssertValidation {
+
+	@State(Scope.Benchmark)
+	public static class ScriptAssertValidationState {
+
+		@Param({ "default", "compiled" })
+		public String scriptEvaluatorFactory;
+
+		public volatile Validator validator;
+
+		public volatile Range validRange;
+
+		public volatile Range invalidRange;
+
+		@Setup
+		public void setUp() {
+			HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+			if ( "compiled".equals( scriptEvaluatorFactory ) ) {
+				configuration.scriptEvaluatorFactory( new CompiledScriptEvaluatorFactory() );
+			}
+			validator = configuration.buildValidatorFactory().getValidator();
+
+			validRange = new Range( 1, 2 );
+			invalidRange = new Range( 2, 1 );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testScriptAssertValidation(ScriptAssertValidationState state, Blackhole bh) {
+		validate( state, bh );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(4)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testConcurrentScriptAssertValidation(ScriptAssertValidationState state, Blackhole bh) {
+		validate( state, bh );
+	}
+
+	private static void validate(ScriptAssertValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Range>> violations = state.validator.validate( state.validRange );
+		assertThat( violations ).isEmpty();
+		bh.consume( violations );
+
+		violations = state.validator.validate( state.invalidRange );
+		assertThat( violations ).hasSize( 1 );
+		bh.consume( violations );
+	}
+
+	@ScriptAssert(lang = "groovy", script = "_this.start < _this.end")
+	public static class Range {
+
+		private final int start;
+
+		private final int end;
+
+		public Range(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		public int getStart() {
+			return start;
+		}
+
+		public int getEnd() {
+			return end;
+		}
+	}
+}
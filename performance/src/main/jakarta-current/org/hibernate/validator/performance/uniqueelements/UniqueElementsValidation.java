@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.uniqueelements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidatorValidator;
+import org.hibernate.validator.constraints.UniqueElements;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates {@code @UniqueElements} constraints on collections of integers and strings of different sizes, with
+ * different ratios of duplicate elements, both with {@link Validator#validate(Object, Class[])} reporting the
+ * duplicates and with {@link HibernateValidatorValidator#isValid(Object, Class[])}.
+ */
+public class UniqueElementsValidation {
+
+	@State(Scope.Benchmark)
+	public static class UniqueElementsValidationState {
+
+		@Param({ "100", "10000", "100000" })
+		public int size;
+
+		@Param({ "0", "0.01", "0.5" })
+		public double duplicateRatio;
+
+		@Param({ "integer", "string" })
+		public String elementType;
+
+		public volatile Validator validator;
+
+		public volatile HibernateValidatorValidator hibernateValidator;
+
+		public volatile Container container;
+
+		public volatile boolean valid;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+			hibernateValidator = validator.unwrap( HibernateValidatorValidator.class );
+
+			Random random = new Random( 42L );
+			int duplicateCount = (int) Math.round( size * duplicateRatio );
+			int uniqueCount = size - duplicateCount;
+
+			List<Object> elements = new ArrayList<>( size );
+			for ( int i = 0; i < uniqueCount; i++ ) {
+				elements.add( element( random.nextInt() & Integer.MAX_VALUE, i ) );
+			}
+			for ( int i = 0; i < duplicateCount; i++ ) {
+				elements.add( elements.get( random.nextInt( uniqueCount ) ) );
+			}
+			Collections.shuffle( elements, random );
+
+			container = new Container( elements );
+			valid = duplicateCount == 0;
+		}
+
+		private Object element(int randomValue, int index) {
+			// the index keeps the elements unique
+			int value = randomValue / size * size + index;
+			return "integer".equals( elementType ) ? (Object) value : "element-" + value;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidate(UniqueElementsValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Container>> violations = state.validator.validate( state.container );
+		assertThat( violations ).hasSize( state.valid ? 0 : 1 );
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testIsValid(UniqueElementsValidationState state, Blackhole bh) {
+		boolean valid = state.hibernateValidator.isValid( state.container );
+		assertThat( valid ).isEqualTo( state.valid );
+		bh.consume( valid );
+	}
+
+	public static class Container {
+
+		@UniqueElements
+		private final List<Object> elements;
+
+		public Container(List<Object> elements) {
+			this.elements = elements;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.validitycheck;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares checking the validity of a bean with {@code validate().isEmpty()} and with
+ * {@link HibernateValidatorValidator#isValid(Object, Class[])}, which neither interpolates messages nor builds
+ * constraint violations.
+ */
+public class ValidityCheckValidation {
+
+	@State(Scope.Benchmark)
+	public static class ValidityCheckValidationState {
+
+		@Param({ "valid", "invalid" })
+		public String customer;
+
+		public volatile HibernateValidatorValidator validator;
+
+		public volatile Customer bean;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.buildValidatorFactory()
+					.getValidator()
+					.unwrap( HibernateValidatorValidator.class );
+
+			bean = "valid".equals( customer )
+					? new Customer( "Kermit", "kermit@muppets.org", 42, true, new Address( "Sesame Street", "10023" ) )
+					: new Customer( null, "kermit", 12, false, new Address( null, "1" ) );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateIsEmpty(ValidityCheckValidationState state, Blackhole bh) {
+		bh.consume( state.validator.validate( state.bean ).isEmpty() );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testIsValid(ValidityCheckValidationState state, Blackhole bh) {
+		bh.consume( state.validator.isValid( state.bean ) );
+	}
+
+	public static class Customer {
+
+		@NotNull
+		@Size(min = 2, max = 50)
+		private final String name;
+
+		@NotNull
+		@Email
+		private final String email;
+
+		@Min(18)
+		private final int age;
+
+		@AssertTrue
+		private final boolean termsAccepted;
+
+		private final List<@Valid Address> addresses;
+
+		public Customer(String name, String email, int age, boolean termsAccepted, Address address) {
+			this.name = name;
+			this.email = email;
+			this.age = age;
+			this.termsAccepted = termsAccepted;
+			this.addresses = List.of( address );
+		}
+	}
+
+	public static class Address {
+
+		@NotNull
+		private final String street;
+
+		@Size(min = 5, max = 5)
+		private final String zipCode;
+
+		public Address(String street, String zipCode) {
+			this.street = street;
+			this.zipCode = zipCode;
+		}
+	}
+}
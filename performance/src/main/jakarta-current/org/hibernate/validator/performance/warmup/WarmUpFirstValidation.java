@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.WarmUpStatistics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the first validation of an invalid bean with a new validator factory, the factory being warmed up or not
+ * before the validation.
+ * <p>
+ * The factory is built and warmed up before each invocation so only the first validation is measured.
+ */
+public class WarmUpFirstValidation {
+
+	@State(Scope.Thread)
+	public static class WarmUpFirstValidationState {
+
+		@Param({ "false", "true" })
+		public boolean warmUp;
+
+		public HibernateValidatorFactory validatorFactory;
+
+		public Order order;
+
+		@Setup(Level.Invocation)
+		public void setUp(Blackhole bh) {
+			validatorFactory = Validation.byProvider( HibernateValidator.class )
+					.configure()
+					.buildValidatorFactory()
+					.unwrap( HibernateValidatorFactory.class );
+
+			if ( warmUp ) {
+				WarmUpStatistics statistics = validatorFactory.warmUp( Set.of( Order.class ) );
+				bh.consume( statistics );
+			}
+
+			order = new Order( "", "not an email", new Product( "ab", BigDecimal.ZERO ), 0 );
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			validatorFactory.close();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public void testFirstValidation(WarmUpFirstValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Order>> violations = state.validatorFactory.getValidator().validate( state.order );
+		assertThat( violations ).hasSize( 5 );
+
+		bh.consume( violations );
+	}
+
+	public static class Order {
+
+		@NotBlank
+		private final String customer;
+
+		@Email
+		private final String email;
+
+		@NotNull
+		@Size(min = 1)
+		private final List<@Valid OrderLine> lines = new ArrayList<>();
+
+		public Order(String customer, String email, Product product, int quantity) {
+			this.customer = customer;
+			this.email = email;
+			this.lines.add( new OrderLine( product, quantity ) );
+		}
+	}
+
+	public static class OrderLine {
+
+		@NotNull
+		@Valid
+		private final Product product;
+
+		@Min(1)
+		private final int quantity;
+
+		public OrderLine(Product product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+
+	public static class Product {
+
+		@Pattern(regexp = "[A-Z]{3}-[0-9]{4}")
+		private final String reference;
+
+		@DecimalMin(value = "0.01")
+		private final BigDecimal price;
+
+		public Product(String reference, BigDecimal price) {
+			this.reference = reference;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a small bean with explicit groups: a single group or group sequences nesting other sequences, to measure
+ * how the per-call cost of resolving the validation order scales with the depth of the sequences.
+ */
+public class GroupSequenceDepthValidation {
+
+	@State(Scope.Benchmark)
+	public static class GroupSequenceDepthValidationState {
+
+		@Param({ "0", "1", "4", "8" })
+		public int depth;
+
+		public volatile Validator validator;
+
+		public volatile Account account;
+
+		public volatile Class<?> group;
+
+		@Setup
+		public void setUp() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+			account = new Account();
+
+			switch ( depth ) {
+				case 0:
+					group = Step1.class;
+					break;
+				case 1:
+					group = Depth1.class;
+					break;
+				case 4:
+					group = Depth4.class;
+					break;
+				case 8:
+					group = Depth8.class;
+					break;
+				default:
+					throw new IllegalArgumentException( "Unsupported depth " + depth );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testGroupSequenceValidation(GroupSequenceDepthValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Account>> violations = state.validator.validate( state.account, state.group );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public interface Step1 {
+	}
+
+	public interface Step2 {
+	}
+
+	public interface Step3 {
+	}
+
+	public interface Step4 {
+	}
+
+	public interface Step5 {
+	}
+
+	public interface Step6 {
+	}
+
+	public interface Step7 {
+	}
+
+	public interface Step8 {
+	}
+
+	@GroupSequence({ Step1.class })
+	public interface Depth1 {
+	}
+
+	@GroupSequence({ Depth1.class, Step2.class })
+	public interface Depth2 {
+	}
+
+	@GroupSequence({ Depth2.class, Step3.class })
+	public interface Depth3 {
+	}
+
+	@GroupSequence({ Depth3.class, Step4.class })
+	public interface Depth4 {
+	}
+
+	@GroupSequence({ Depth4.class, Step5.class })
+	public interface Depth5 {
+	}
+
+	@GroupSequence({ Depth5.class, Step6.class })
+	public interface Depth6 {
+	}
+
+	@GroupSequence({ Depth6.class, Step7.class })
+	public interface Depth7 {
+	}
+
+	@GroupSequence({ Depth7.class, Step8.class })
+	public interface Depth8 {
+	}
+
+	public static class Account {
+
+		@NotNull(groups = Step1.class)
+		private String login = "kermit";
+
+		@NotNull(groups = Step2.class)
+		private String email = "kermit@muppets.org";
+
+		@NotNull(groups = Step3.class)
+		private String firstName = "Kermit";
+
+		@NotNull(groups = Step4.class)
+		private String lastName = "The Frog";
+
+		@NotNull(groups = Step5.class)
+		private String street = "Sesame Street";
+
+		@NotNull(groups = Step6.class)
+		private String city = "New York";
+
+		@NotNull(groups = Step7.class)
+		private String zipCode = "10023";
+
+		@NotNull(groups = Step8.class)
+		private String country = "USA";
+	}
+}
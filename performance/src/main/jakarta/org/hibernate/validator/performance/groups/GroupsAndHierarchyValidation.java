@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a bean with a deep class hierarchy, constraints declared on interfaces and constraints spread across
+ * several groups, so that the traversal of the hierarchy and the group filtering dominate the validation cost.
+ */
+public class GroupsAndHierarchyValidation {
+
+	@State(Scope.Benchmark)
+	public static class GroupsAndHierarchyValidationState {
+		public volatile Validator validator;
+		public volatile Vehicle validVehicle;
+		public volatile SequencedVehicle validSequencedVehicle;
+
+		public GroupsAndHierarchyValidationState() {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			validVehicle = new Vehicle();
+			validSequencedVehicle = new SequencedVehicle();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testDefaultGroupValidation(GroupsAndHierarchyValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Vehicle>> violations = state.validator.validate( state.validVehicle );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testMultipleGroupsValidation(GroupsAndHierarchyValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Vehicle>> violations = state.validator.validate( state.validVehicle, Default.class, Registration.class,
+				Inspection.class );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testRedefinedDefaultGroupSequenceValidation(GroupsAndHierarchyValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<SequencedVehicle>> violations = state.validator.validate( state.validSequencedVehicle );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public interface Registration {
+	}
+
+	public interface Inspection {
+	}
+
+	public interface Identifiable {
+
+		@NotNull
+		@Size(min = 3, groups = Registration.class)
+		String getIdentifier();
+	}
+
+	public interface Owned {
+
+		@NotNull(groups = Registration.class)
+		String getOwner();
+	}
+
+	public static class Asset implements Identifiable {
+
+		@NotNull
+		private String identifier = "AST-42";
+
+		@Min(value = 0, groups = Inspection.class)
+		private int value = 1000;
+
+		@Override
+		public String getIdentifier() {
+			return identifier;
+		}
+	}
+
+	public static class MotorizedAsset extends Asset implements Owned {
+
+		@Min(1)
+		private int engineCount = 1;
+
+		@Max(value = 500, groups = Inspection.class)
+		private int horsePower = 120;
+
+		@Size(max = 20, groups = Registration.class)
+		private String owner = "kermit";
+
+		@Override
+		public String getOwner() {
+			return owner;
+		}
+	}
+
+	public static class Vehicle extends MotorizedAsset {
+
+		@NotNull
+		@Size(min = 2, max = 30)
+		private String brand = "Muppet Motors";
+
+		@Min(value = 2, groups = Inspection.class)
+		private int wheelCount = 4;
+
+		@NotNull(groups = Registration.class)
+		private String plate = "AB-123-CD";
+	}
+
+	@GroupSequence({ Registration.class, SequencedVehicle.class })
+	public static class SequencedVehicle extends Vehicle {
+
+		@NotNull
+		private String model = "Piggy";
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates an invalid bean whose constraint messages contain Expression Language expressions so that the
+ * interpolation of the messages dominates the validation cost.
+ */
+public class ExpressionLanguageMessageInterpolation {
+
+	@State(Scope.Benchmark)
+	public static class ExpressionLanguageMessageInterpolationState {
+		public volatile Validator validator;
+		public volatile Order invalidOrder;
+
+		public ExpressionLanguageMessageInterpolationState() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+			invalidOrder = new Order();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testExpressionLanguageMessageInterpolation(ExpressionLanguageMessageInterpolationState state, Blackhole bh) {
+		Set<ConstraintViolation<Order>> violations = state.validator.validate( state.invalidOrder );
+		assertThat( violations ).hasSize( 3 );
+
+		for ( ConstraintViolation<Order> violation : violations ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	public static class Order {
+
+		@Max(value = 10, message = "${validatedValue} must be below {value}")
+		private int quantity = 42;
+
+		@Size(min = 5, max = 10, message = "'${validatedValue}' must have between {min} and {max} characters")
+		private String reference = "REF";
+
+		@Pattern(regexp = "[A-Z]{3}", message = "${validatedValue == null ? 'the currency' : validatedValue} must be a three letter code")
+		private String currency = "euro";
+	}
+}
@@ -27,11 +27,36 @@ public final class BenchmarkRunner {
 	private static final Stream<? extends Class<?>> DEFAULT_TEST_CLASSES = Stream.of(
 			"org.hibernate.validator.performance.cascaded.CascadedValidation",
 			"org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation",
+			"org.hibernate.validator.performance.groups.GroupsAndHierarchyValidation",
+			"org.hibernate.validator.performance.groups.GroupSequenceDepthValidation",
+			"org.hibernate.validator.performance.messageinterpolation.ExpressionLanguageMessageInterpolation",
 			"org.hibernate.validator.performance.simple.SimpleValidation",
 			"org.hibernate.validator.performance.statistical.StatisticalValidation",
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
-			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"
+			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation",
+			// Benchmarks specific to the current version
+			// Tests are located in a separate source folder only added for the hv-current profile
+			"org.hibernate.validator.performance.batch.BatchValidation",
+			"org.hibernate.validator.performance.bootstrap.BeanMetaDataSnapshotBootstrap",
+			"org.hibernate.validator.performance.bootstrap.ExecutableMetaDataBootstrap",
+			"org.hibernate.validator.performance.bootstrap.MetaDataFootprintBootstrap",
+			"org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrap",
+			"org.hibernate.validator.performance.checkdigit.CheckDigitValidation",
+			"org.hibernate.validator.performance.cascaded.ParallelCascadedWithLotsOfItemsValidation",
+			"org.hibernate.validator.performance.cascaded.PolymorphicCascadedValidation",
+			"org.hibernate.validator.performance.cascaded.RuntimeContainerCascadedValidation",
+			"org.hibernate.validator.performance.constraintvalidatorcache.MultiContextConstraintValidatorCacheValidation",
+			"org.hibernate.validator.performance.format.EmailAndURLValidation",
+			"org.hibernate.validator.performance.lazyviolation.LazyConstraintViolationValidation",
+			"org.hibernate.validator.performance.metadata.BeanMetaDataRetentionValidation",
+			"org.hibernate.validator.performance.propertyaccess.PropertyAccessorStrategyValidation",
+			"org.hibernate.validator.performance.regex.RegularExpressionEngineValidation",
+			"org.hibernate.validator.performance.scripting.ExpressionAssertValidation",
+			"org.hibernate.validator.performance.scripting.ScriptAssertValidation",
+			"org.hibernate.validator.performance.uniqueelements.UniqueElementsValidation",
+			"org.hibernate.validator.performance.validitycheck.ValidityCheckValidation",
+			"org.hibernate.validator.performance.warmup.WarmUpFirstValidation"
 	).map( BenchmarkRunner::classForName ).filter( Objects::nonNull );
 
 	private BenchmarkRunner() {